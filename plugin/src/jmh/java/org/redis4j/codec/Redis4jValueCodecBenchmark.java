@@ -0,0 +1,103 @@
+package org.redis4j.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the allocations of {@link Redis4jValueCodec} encoding a value through an intermediate byte array,
+ * as Lettuce does with a plain codec, with those of encoding it straight into a pooled Netty buffer
+ * through {@link io.lettuce.core.codec.ToByteBufEncoder}, and likewise for decoding a value from a copy
+ * of a response buffer or from a view on it.
+ * <p>
+ * Run with ./gradlew jmh and compare gc.alloc.rate.norm, the bytes allocated per operation, of each pair.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class Redis4jValueCodecBenchmark {
+
+    @Param({"16", "256"})
+    public int fields;
+
+    protected final ByteBufAllocator allocator = PooledByteBufAllocator.DEFAULT;
+    protected Redis4jCodecSerializer serializer;
+    protected Redis4jValueCodec codec;
+    protected Map<String, Object> value;
+    protected ByteBuffer response;
+
+    @Setup
+    public void setup() {
+        Redis4jCodec json = new Redis4jJacksonCodec("json", Redis4jCodec.UNMARKED, new ObjectMapper());
+        Redis4jCodec smile = new Redis4jJacksonCodec("smile", Redis4jCodec.SMILE, new ObjectMapper(new SmileFactory()));
+        serializer = new Redis4jCodecSerializer(smile, json, Collections.singletonList(smile));
+        codec = new Redis4jValueCodec(serializer);
+        value = new LinkedHashMap<>();
+        for (int i = 0; i < fields; i++) {
+            value.put("field_" + i, i % 2 == 0 ? "value_" + i : i);
+        }
+        byte[] data = serializer.serialize(value);
+        response = ByteBuffer.allocateDirect(data.length);
+        response.put(data).flip();
+    }
+
+    /**
+     * Encodes the value into a byte array, then copies it into the command buffer.
+     */
+    @Benchmark
+    public int encodeCopy() {
+        ByteBuffer data = codec.encodeValue(value);
+        ByteBuf target = allocator.directBuffer(data.remaining());
+        try {
+            target.writeBytes(data);
+            return target.readableBytes();
+        } finally {
+            target.release();
+        }
+    }
+
+    /**
+     * Encodes the value straight into the command buffer.
+     */
+    @Benchmark
+    public int encodeByteBuf() {
+        ByteBuf target = allocator.directBuffer(codec.estimateSize(value));
+        try {
+            codec.encodeValue(value, target);
+            return target.readableBytes();
+        } finally {
+            target.release();
+        }
+    }
+
+    /**
+     * Copies the response buffer into a byte array, then decodes the value from it.
+     */
+    @Benchmark
+    public Object decodeCopy() {
+        ByteBuffer view = response.duplicate();
+        byte[] data = new byte[view.remaining()];
+        view.get(data);
+        return serializer.deserialize(data);
+    }
+
+    /**
+     * Decodes the value from a view on the response buffer.
+     */
+    @Benchmark
+    public Object decodeView() {
+        return codec.decodeValue(response.duplicate());
+    }
+}
@@ -0,0 +1,76 @@
+package org.redis4j.common;
+
+import org.openjdk.jmh.annotations.*;
+import org.redis4j.config.Redis4jBeanConfig;
+import org.redis4j.config.Redis4jStatusConfig;
+import org.redis4j.service.Redis4jService;
+import org.redis4j.service.impl.Redis4jServiceImpl;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of {@link Redis4j#getCacheObject(String)} from 1 to 64 threads, i.e. how the facade
+ * scales once its collaborators are resolved. The service answers from memory, so that the benchmark measures
+ * the resolution of the service and of the dispatch template on every call, not a round-trip to Redis.
+ * <p>
+ * Run with ./gradlew jmh; the throughput per thread should stay flat as threads are added.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class Redis4jFacadeBenchmark {
+    protected static final String KEY = "redis4j:benchmark:facade";
+    protected static final Object VALUE = "value";
+
+    protected GenericApplicationContext context;
+
+    @Setup
+    public void setup() {
+        context = new GenericApplicationContext();
+        context.addBeanFactoryPostProcessor(new Redis4jBeanConfig());
+        context.registerBean(Redis4jService.class, () -> new Redis4jServiceImpl(null, null) {
+            @SuppressWarnings({"unchecked"})
+            @Override
+            public <T> T getCacheObject(RedisTemplate<String, Object> dispatch, String key) {
+                return (T) VALUE;
+            }
+        });
+        context.registerBean(Redis4jStatusConfig.class, () -> new Redis4jStatusConfig(null, null, null, new RedisTemplate<>(), null));
+        context.refresh();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+        Redis4j.refresh();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Object getCacheObject1Thread() {
+        return Redis4j.getCacheObject(KEY);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Object getCacheObject4Threads() {
+        return Redis4j.getCacheObject(KEY);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public Object getCacheObject16Threads() {
+        return Redis4j.getCacheObject(KEY);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public Object getCacheObject64Threads() {
+        return Redis4j.getCacheObject(KEY);
+    }
+}
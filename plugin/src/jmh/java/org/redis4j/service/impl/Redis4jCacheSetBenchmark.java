@@ -0,0 +1,92 @@
+package org.redis4j.service.impl;
+
+import org.openjdk.jmh.annotations.*;
+import org.redis4j.config.props.Redis4jProperties;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.BoundSetOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares writing a cache set with one SADD per member, as {@link Redis4jServiceImpl#setCacheSet(RedisTemplate, String, Set)}
+ * used to, with the chunked variadic SADD it sends now, one command per chunk of set_write_chunk_size members
+ * and a single pipeline for several chunks, and with the MULTI/EXEC replace of the timeout overload.
+ * <p>
+ * Needs a Redis server, localhost:6379 unless the redis4j.benchmark.host and redis4j.benchmark.port system properties say otherwise.
+ * Run with ./gradlew jmh; the per-element time grows with the set size by one round-trip per member, the chunked one does not.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class Redis4jCacheSetBenchmark {
+    protected static final String KEY = "redis4j:benchmark:set";
+
+    @Param({"10", "1000", "10000"})
+    public int size;
+
+    protected LettuceConnectionFactory factory;
+    protected RedisTemplate<String, Object> dispatch;
+    protected Redis4jServiceImpl service;
+    protected Set<String> members;
+
+    @Setup
+    public void setup() {
+        RedisStandaloneConfiguration standalone = new RedisStandaloneConfiguration(
+                System.getProperty("redis4j.benchmark.host", "localhost"),
+                Integer.getInteger("redis4j.benchmark.port", 6379));
+        factory = new LettuceConnectionFactory(standalone);
+        factory.afterPropertiesSet();
+        dispatch = new RedisTemplate<>();
+        dispatch.setConnectionFactory(factory);
+        dispatch.setDefaultSerializer(StringRedisSerializer.UTF_8);
+        dispatch.afterPropertiesSet();
+        service = new Redis4jServiceImpl(new Redis4jConfigServiceImpl(new Redis4jProperties(), new RedisProperties(), null, null), null);
+        members = new LinkedHashSet<>(size);
+        for (int i = 0; i < size; i++) {
+            members.add("member_" + i);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        dispatch.delete(KEY);
+        factory.destroy();
+    }
+
+    /**
+     * Adds the members one SADD at a time, i.e. one round-trip per member.
+     */
+    @Benchmark
+    public Object perElement() {
+        BoundSetOperations<String, Object> ops = dispatch.boundSetOps(KEY);
+        for (String member : members) {
+            ops.add(member);
+        }
+        return ops;
+    }
+
+    /**
+     * Adds the members with variadic SADD commands in chunks, pipelined when there are several.
+     */
+    @Benchmark
+    public Object chunked() {
+        return service.setCacheSet(dispatch, KEY, members);
+    }
+
+    /**
+     * Replaces the set with DEL, the chunked SADDs and EXPIRE inside one MULTI/EXEC pipeline.
+     */
+    @Benchmark
+    public Object chunkedReplace() {
+        return service.setCacheSet(dispatch, KEY, members, 1, TimeUnit.MINUTES);
+    }
+}
@@ -0,0 +1,47 @@
+package org.redis4j.service.impl;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.redis4j.service.Redis4jWrapCallback;
+import org.unify4j.model.response.WrapResponse;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the allocations of the success path of a callback overload of {@link Redis4jServiceImpl},
+ * without a callback, where no response must be built at all, and with one, where a single success response is.
+ * The operation returns before reaching Redis, so that only the callback handling is measured.
+ * <p>
+ * Run with ./gradlew jmh and read gc.alloc.rate.norm, the bytes allocated per operation:
+ * withoutCallback should report 0.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class Redis4jCallbackBenchmark {
+    protected static final String KEY = "redis4j:benchmark:callback";
+
+    protected Redis4jServiceImpl service;
+    protected Redis4jWrapCallback callback;
+    protected WrapResponse<?> response;
+
+    @Setup
+    public void setup() {
+        service = new Redis4jServiceImpl(null, null);
+        callback = response -> this.response = response;
+    }
+
+    @Benchmark
+    public Object withoutCallback() {
+        return service.getCacheObject(null, KEY, (Redis4jWrapCallback) null);
+    }
+
+    @Benchmark
+    public void withCallback(Blackhole blackhole) {
+        blackhole.consume(service.getCacheObject(null, KEY, callback));
+        blackhole.consume(response);
+    }
+}
@@ -0,0 +1,74 @@
+package org.redis4j.service.impl;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of near cache hits of {@link Redis4jNearCacheServiceImpl#getCacheObject(String)} from 1 to 64 threads,
+ * all reading a single hot key, or keys spread over the whole cache. Every read is a hit, so that the benchmark measures
+ * how readers of the near cache contend with each other, not a round-trip to Redis.
+ * <p>
+ * Run with ./gradlew jmh; the throughput per thread should stay flat as threads are added, the hot key included.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class Redis4jNearCacheBenchmark {
+    protected static final String KEY = "redis4j:benchmark:near:";
+
+    @Param({"1", "1000"})
+    public int keys;
+
+    protected Redis4jNearCacheServiceImpl service;
+    protected String[] ids;
+
+    @SuppressWarnings({"unchecked"})
+    @Setup
+    public void setup() {
+        service = new Redis4jNearCacheServiceImpl(null);
+        service.maxSize = keys;
+        service.serializer = (RedisSerializer<Object>) (RedisSerializer<?>) RedisSerializer.byteArray();
+        ids = new String[keys];
+        for (int i = 0; i < keys; i++) {
+            ids[i] = KEY + i;
+            byte[] data = ("value " + i).getBytes(StandardCharsets.UTF_8);
+            service.store.put(ids[i], new Redis4jNearCacheServiceImpl.Entry(null, data, 0));
+            service.weight.addAndGet(data.length);
+        }
+    }
+
+    protected Object read() {
+        return service.getCacheObject(ids[keys == 1 ? 0 : ThreadLocalRandom.current().nextInt(keys)]);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Object getCacheObject1Thread() {
+        return this.read();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Object getCacheObject4Threads() {
+        return this.read();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public Object getCacheObject16Threads() {
+        return this.read();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public Object getCacheObject64Threads() {
+        return this.read();
+    }
+}
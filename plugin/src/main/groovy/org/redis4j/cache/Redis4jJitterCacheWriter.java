@@ -0,0 +1,91 @@
+package org.redis4j.cache;
+
+import org.springframework.data.redis.cache.CacheStatistics;
+import org.springframework.data.redis.cache.CacheStatisticsCollector;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A cache writer adding a random delay, bounded per cache name, to the time to live of every entry it writes,
+ * so that entries written together (e.g. on a warm-up) do not expire together and stampede the backing store.
+ * Entries without expiration are written as is.
+ */
+@SuppressWarnings({"NullableProblems"})
+public class Redis4jJitterCacheWriter implements RedisCacheWriter {
+    protected final RedisCacheWriter writer;
+    protected final Map<String, Duration> jitters;
+    protected final Duration defaultJitter;
+
+    /**
+     * @param writer        the writer performing the commands, class {@link RedisCacheWriter}
+     * @param jitters       the upper bound of the delay per cache name
+     * @param defaultJitter the upper bound of the delay of the cache names missing from jitters
+     */
+    public Redis4jJitterCacheWriter(RedisCacheWriter writer, Map<String, Duration> jitters, Duration defaultJitter) {
+        this.writer = writer;
+        this.jitters = jitters == null ? Collections.emptyMap() : jitters;
+        this.defaultJitter = defaultJitter;
+    }
+
+    @Override
+    public void put(String name, byte[] key, byte[] value, Duration ttl) {
+        writer.put(name, key, value, this.jitter(name, ttl));
+    }
+
+    @Override
+    public byte[] get(String name, byte[] key) {
+        return writer.get(name, key);
+    }
+
+    @Override
+    public byte[] putIfAbsent(String name, byte[] key, byte[] value, Duration ttl) {
+        return writer.putIfAbsent(name, key, value, this.jitter(name, ttl));
+    }
+
+    @Override
+    public void remove(String name, byte[] key) {
+        writer.remove(name, key);
+    }
+
+    @Override
+    public void clean(String name, byte[] pattern) {
+        writer.clean(name, pattern);
+    }
+
+    @Override
+    public void clearStatistics(String name) {
+        writer.clearStatistics(name);
+    }
+
+    @Override
+    public RedisCacheWriter withStatisticsCollector(CacheStatisticsCollector cacheStatisticsCollector) {
+        return new Redis4jJitterCacheWriter(writer.withStatisticsCollector(cacheStatisticsCollector), jitters, defaultJitter);
+    }
+
+    @Override
+    public CacheStatistics getCacheStatistics(String cacheName) {
+        return writer.getCacheStatistics(cacheName);
+    }
+
+    /**
+     * Adds a random delay, between 0 and the jitter of the cache name, to a time to live.
+     *
+     * @param name the cache name
+     * @param ttl  the time to live, null or not positive for no expiration
+     * @return the time to live to apply
+     */
+    protected Duration jitter(String name, Duration ttl) {
+        if (ttl == null || ttl.isZero() || ttl.isNegative()) {
+            return ttl;
+        }
+        Duration jitter = jitters.getOrDefault(name, defaultJitter);
+        if (jitter == null || jitter.toMillis() <= 0) {
+            return ttl;
+        }
+        return ttl.plusMillis(ThreadLocalRandom.current().nextLong(jitter.toMillis() + 1));
+    }
+}
@@ -0,0 +1,137 @@
+package org.redis4j.cache;
+
+import org.springframework.cache.Cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded, in-process store of cache values, evicting the least recently used entry once full and dropping
+ * entries older than their time to live on access.
+ * <p>
+ * Every write and invalidation bumps an epoch; a value loaded from Redis is only kept when the epoch did not move
+ * while it was being loaded, so that a load racing an invalidation cannot bring back the previous value.
+ */
+public class Redis4jLocalCacheStore {
+    protected final int maxSize;
+    protected final long ttlNanos;
+    protected final LinkedHashMap<String, Entry> store;
+    protected long epoch;
+
+    public Redis4jLocalCacheStore(int maxSize, long ttlNanos) {
+        this.maxSize = maxSize;
+        this.ttlNanos = ttlNanos;
+        this.store = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Retrieves the value of a key, unless it is absent or expired.
+     *
+     * @param key the key, in its string form
+     * @return the value wrapper, class {@link Cache.ValueWrapper}, or null if there is no live entry
+     */
+    public Cache.ValueWrapper get(String key) {
+        synchronized (store) {
+            Entry entry = store.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (ttlNanos > 0 && System.nanoTime() - entry.createdAt >= ttlNanos) {
+                store.remove(key);
+                return null;
+            }
+            return entry.value;
+        }
+    }
+
+    /**
+     * @return the current epoch, to be handed back to {@link #put(String, Cache.ValueWrapper, long)} after a load
+     */
+    public long epoch() {
+        synchronized (store) {
+            return epoch;
+        }
+    }
+
+    /**
+     * Stores a value written by this instance.
+     *
+     * @param key   the key, in its string form
+     * @param value the value wrapper, class {@link Cache.ValueWrapper}
+     */
+    public void put(String key, Cache.ValueWrapper value) {
+        synchronized (store) {
+            epoch++;
+            this.store(key, value);
+        }
+    }
+
+    /**
+     * Stores a value loaded from Redis, unless the store was written or invalidated since the given epoch.
+     *
+     * @param key   the key, in its string form
+     * @param value the value wrapper, class {@link Cache.ValueWrapper}
+     * @param epoch the epoch read before the load started
+     * @return true if the value was stored, false otherwise
+     */
+    public boolean put(String key, Cache.ValueWrapper value, long epoch) {
+        synchronized (store) {
+            if (this.epoch != epoch) {
+                return false;
+            }
+            this.store(key, value);
+            return true;
+        }
+    }
+
+    /**
+     * Drops the entry of a key.
+     *
+     * @param key the key, in its string form
+     */
+    public void invalidate(String key) {
+        synchronized (store) {
+            epoch++;
+            store.remove(key);
+        }
+    }
+
+    /**
+     * Drops every entry.
+     */
+    public void clear() {
+        synchronized (store) {
+            epoch++;
+            store.clear();
+        }
+    }
+
+    /**
+     * @return the number of entries, expired ones included until they are accessed or evicted
+     */
+    public int size() {
+        synchronized (store) {
+            return store.size();
+        }
+    }
+
+    protected void store(String key, Cache.ValueWrapper value) {
+        store.put(key, new Entry(value, System.nanoTime()));
+        Iterator<Map.Entry<String, Entry>> iterator = store.entrySet().iterator();
+        while (store.size() > maxSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    protected static class Entry {
+        protected final Cache.ValueWrapper value;
+        protected final long createdAt;
+
+        protected Entry(Cache.ValueWrapper value, long createdAt) {
+            this.value = value;
+            this.createdAt = createdAt;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package org.redis4j.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+
+/**
+ * A cache whose reads are served by an in-process L1 when possible, and by the Redis cache (L2) otherwise.
+ * Writes go to Redis first, then to the L1, and are broadcast by the {@link Redis4jTwoLevelCacheManager},
+ * so that the other instances drop their L1 copy of the key.
+ * <p>
+ * The L1 holds the values by reference, like any in-process cache: a caller mutating a returned value
+ * mutates the cached copy as well.
+ */
+@SuppressWarnings({"NullableProblems"})
+public class Redis4jTwoLevelCache implements Cache {
+    protected final Cache remote;
+    protected final Redis4jLocalCacheStore local;
+    protected final Redis4jTwoLevelCacheManager manager;
+
+    public Redis4jTwoLevelCache(Cache remote, Redis4jLocalCacheStore local, Redis4jTwoLevelCacheManager manager) {
+        this.remote = remote;
+        this.local = local;
+        this.manager = manager;
+    }
+
+    @Override
+    public String getName() {
+        return remote.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String id = this.localKey(key);
+        ValueWrapper value = local.get(id);
+        if (value != null) {
+            return value;
+        }
+        long epoch = local.epoch();
+        value = remote.get(key);
+        if (value != null) {
+            local.put(id, value, epoch);
+        }
+        return value;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = this.get(key);
+        Object value = wrapper == null ? null : wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String id = this.localKey(key);
+        ValueWrapper wrapper = local.get(id);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+        long epoch = local.epoch();
+        T value = remote.get(key, valueLoader);
+        local.put(id, new SimpleValueWrapper(value), epoch);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remote.put(key, value);
+        String id = this.localKey(key);
+        local.put(id, new SimpleValueWrapper(value));
+        manager.publish(this.getName(), id);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper previous = remote.putIfAbsent(key, value);
+        String id = this.localKey(key);
+        if (previous != null) {
+            local.put(id, previous);
+            return previous;
+        }
+        local.put(id, new SimpleValueWrapper(value));
+        manager.publish(this.getName(), id);
+        return null;
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        this.evictLocal(this.localKey(key), true);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean present = remote.evictIfPresent(key);
+        this.evictLocal(this.localKey(key), true);
+        return present;
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        this.clearLocal(true);
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean present = remote.invalidate();
+        this.clearLocal(true);
+        return present;
+    }
+
+    /**
+     * @return the L1 of this cache, class {@link Redis4jLocalCacheStore}
+     */
+    public Redis4jLocalCacheStore getLocal() {
+        return local;
+    }
+
+    /**
+     * Drops the L1 entry of a key.
+     *
+     * @param id        the key, in its string form
+     * @param broadcast true to have the other instances drop it as well
+     */
+    protected void evictLocal(String id, boolean broadcast) {
+        local.invalidate(id);
+        if (broadcast) {
+            manager.publish(this.getName(), id);
+        }
+    }
+
+    /**
+     * Drops every L1 entry.
+     *
+     * @param broadcast true to have the other instances drop theirs as well
+     */
+    protected void clearLocal(boolean broadcast) {
+        local.clear();
+        if (broadcast) {
+            manager.publish(this.getName(), null);
+        }
+    }
+
+    /**
+     * Converts a cache key to the string form shared by all instances, i.e. the form carried by invalidation messages.
+     * Like the Redis cache itself, keys other than strings rely on their toString implementation.
+     *
+     * @param key the cache key
+     * @return the string form of the key
+     */
+    protected String localKey(Object key) {
+        return key instanceof String ? (String) key : String.valueOf(key);
+    }
+}
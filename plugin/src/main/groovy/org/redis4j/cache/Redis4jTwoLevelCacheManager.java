@@ -0,0 +1,163 @@
+package org.redis4j.cache;
+
+import org.redis4j.config.props.Redis4jCacheProperties;
+import org.redis4j.config.props.Redis4jProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.unify4j.model.enums.IconType;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A two-level cache manager: every cache of the wrapped {@link RedisCacheManager} (L2) is fronted by a bounded,
+ * in-process {@link Redis4jLocalCacheStore} (L1), sized per cache name by spring.redis4j.caches.&lt;name&gt;.
+ * <p>
+ * Writes and evictions are broadcast on the pub/sub channel cache_invalidation_channel as
+ * origin NUL cache-name [NUL key], where a missing key stands for a clear. Each instance drops the matching
+ * L1 entries of the messages it did not send. A lost message leaves a stale L1 entry for at most its time to live.
+ */
+@SuppressWarnings({"NullableProblems"})
+public class Redis4jTwoLevelCacheManager implements CacheManager, InitializingBean, DisposableBean {
+    protected static final Logger logger = LoggerFactory.getLogger(Redis4jTwoLevelCacheManager.class);
+    protected static final String SEPARATOR = "\u0000";
+
+    protected final RedisCacheManager remote;
+    protected final RedisConnectionFactory factory;
+    protected final Redis4jProperties properties;
+    protected final String origin = UUID.randomUUID().toString();
+    protected final byte[] channel;
+    protected final ConcurrentMap<String, Cache> caches = new ConcurrentHashMap<>();
+    protected RedisMessageListenerContainer container;
+
+    public Redis4jTwoLevelCacheManager(RedisCacheManager remote, RedisConnectionFactory factory, Redis4jProperties properties) {
+        this.remote = remote;
+        this.factory = factory;
+        this.properties = properties;
+        this.channel = properties.getCacheInvalidationChannel().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        remote.afterPropertiesSet();
+        try {
+            container = new RedisMessageListenerContainer();
+            container.setConnectionFactory(factory);
+            container.addMessageListener(this::onMessage, new ChannelTopic(properties.getCacheInvalidationChannel()));
+            container.afterPropertiesSet();
+            container.start();
+        } catch (Exception e) {
+            logger.error("{} Redis4j, subscribing to the cache invalidation channel '{}' got an exception, L1 entries only expire by time to live: {}",
+                    IconType.ERROR.getCode(), properties.getCacheInvalidationChannel(), e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (container != null) {
+            container.destroy();
+            container = null;
+        }
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache l2 = remote.getCache(name);
+        if (l2 == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, n -> this.decorate(n, l2));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remote.getCacheNames();
+    }
+
+    /**
+     * @return the wrapped Redis cache manager, class {@link RedisCacheManager}
+     */
+    public RedisCacheManager getRemote() {
+        return remote;
+    }
+
+    /**
+     * Fronts a Redis cache with its L1, unless the local maximum size of the cache name is not positive.
+     *
+     * @param name the cache name
+     * @param l2   the Redis cache
+     * @return the two-level cache, or the Redis cache itself when the L1 is disabled for the name
+     */
+    protected Cache decorate(String name, Cache l2) {
+        Redis4jCacheProperties spec = properties.getCaches() == null ? null : properties.getCaches().get(name);
+        int maxSize = spec != null && spec.getLocalMaxSize() != null ? spec.getLocalMaxSize() : properties.getCacheLocalMaxSize();
+        Duration ttl = spec != null && spec.getLocalTtl() != null ? spec.getLocalTtl() : properties.getCacheLocalTtl();
+        if (maxSize <= 0) {
+            return l2;
+        }
+        if (properties.isDebugging()) {
+            logger.info("{} Redis4j, cache '{}' fronted by an L1 of max_size: {}, ttl: {}", IconType.DEBUG.getCode(), name, maxSize, ttl);
+        }
+        return new Redis4jTwoLevelCache(l2, new Redis4jLocalCacheStore(maxSize, ttl == null ? 0 : ttl.toNanos()), this);
+    }
+
+    /**
+     * Broadcasts that a key of a cache changed, so that the other instances drop their L1 entry.
+     * A failure is logged only, the L1 entries of the other instances then expire by time to live.
+     *
+     * @param name the cache name
+     * @param key  the key, in its string form, or null when the whole cache was cleared
+     */
+    protected void publish(String name, String key) {
+        String message = origin + SEPARATOR + name + (key == null ? "" : SEPARATOR + key);
+        try (RedisConnection connection = factory.getConnection()) {
+            connection.publish(channel, message.getBytes(StandardCharsets.UTF_8));
+        } catch (Exception e) {
+            logger.error("{} Redis4j, publishing the invalidation of cache '{}', key '{}' got an exception: {}", IconType.ERROR.getCode(), name, key, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Applies an invalidation broadcast by another instance.
+     *
+     * @param message the pub/sub message, class {@link Message}
+     * @param pattern the matching pattern, unused
+     */
+    protected void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = body.split(SEPARATOR, 3);
+        if (parts.length < 2 || origin.equals(parts[0])) {
+            return;
+        }
+        Cache cache = caches.get(parts[1]);
+        if (!(cache instanceof Redis4jTwoLevelCache)) {
+            return;
+        }
+        if (properties.isDebugging()) {
+            logger.info("{} Redis4j, invalidating L1 of cache '{}', key: '{}'", IconType.DEBUG.getCode(), parts[1], parts.length > 2 ? parts[2] : "");
+        }
+        if (parts.length == 2) {
+            ((Redis4jTwoLevelCache) cache).clearLocal(false);
+        } else {
+            ((Redis4jTwoLevelCache) cache).evictLocal(parts[2], false);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package org.redis4j.codec;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+
+/**
+ * A value format of Redis4j, i.e. how values are turned into the bytes stored in Redis and back.
+ * <p>
+ * Every format but the legacy one is identified by a marker byte written before its payload, so that
+ * a reader knowing every format decodes any value whatever the format of the writer; values without a known
+ * marker are read with the unmarked format (JSON). This lets the nodes switch formats while they share data.
+ * <p>
+ * Custom formats are registered through the service loader, i.e. listed in
+ * META-INF/services/org.redis4j.codec.Redis4jCodec, and selected by their name.
+ * Their marker must be unique, and neither {@link #UNMARKED}, one of the built-in markers, nor in the range
+ * reserved for compression, see {@link Redis4jCompressor}.
+ */
+public interface Redis4jCodec {
+
+    /**
+     * The marker of the format written without a marker byte, JSON.
+     */
+    byte UNMARKED = 0x00;
+
+    /**
+     * The marker of the Jackson Smile format.
+     */
+    byte SMILE = 0x01;
+
+    /**
+     * The marker of the Jackson CBOR format.
+     */
+    byte CBOR = 0x02;
+
+    /**
+     * @return the name of the format, as given to value_codec or to the codec of a cache
+     */
+    String name();
+
+    /**
+     * @return the marker byte written before the payload, {@link #UNMARKED} when no marker is written
+     */
+    byte marker();
+
+    /**
+     * Writes the payload of a value, the marker byte excluded.
+     *
+     * @param value the value, never null
+     * @param out   the output receiving the payload
+     * @throws IOException if the value cannot be encoded
+     */
+    void encode(Object value, OutputStream out) throws IOException;
+
+    /**
+     * Reads a value back from its payload.
+     *
+     * @param data   the bytes holding the payload
+     * @param offset the offset of the payload, i.e. past the marker byte, if any
+     * @param length the length of the payload
+     * @return the value
+     * @throws IOException if the payload cannot be decoded
+     */
+    Object decode(byte[] data, int offset, int length) throws IOException;
+
+    /**
+     * Reads a value back from the remaining bytes of a buffer, e.g. a view on a Netty buffer.
+     * The default implementation reads from the backing array when there is one and copies the bytes otherwise,
+     * formats able to read a stream should override it.
+     *
+     * @param buffer the buffer holding the payload, past the marker byte if any; its position is left untouched
+     * @return the value
+     * @throws IOException if the payload cannot be decoded
+     */
+    default Object decode(ByteBuffer buffer) throws IOException {
+        if (buffer.hasArray()) {
+            return this.decode(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        }
+        byte[] data = new byte[buffer.remaining()];
+        buffer.duplicate().get(data);
+        return this.decode(data, 0, data.length);
+    }
+
+    /**
+     * Reads a value back from its payload as a given type.
+     * The default implementation reads the value as {@link #decode(byte[], int, int)} does and checks its type,
+     * formats able to bind the payload to the type directly should override it.
+     *
+     * @param data   the bytes holding the payload
+     * @param offset the offset of the payload, i.e. past the marker byte, if any
+     * @param length the length of the payload
+     * @param type   the type to read the value as
+     * @param <T>    the type of the value
+     * @return the value
+     * @throws IOException if the payload cannot be decoded as the type
+     */
+    default <T> T decode(byte[] data, int offset, int length, Class<T> type) throws IOException {
+        Object value = this.decode(data, offset, length);
+        if (value != null && !type.isInstance(value)) {
+            throw new IOException("cannot read " + value.getClass().getName() + " as " + type.getName());
+        }
+        return type.cast(value);
+    }
+
+    /**
+     * Reads a value back from its payload as a generic type, e.g. a container class bound to the class of its content.
+     * The default implementation reads a class as {@link #decode(byte[], int, int, Class)} does, and otherwise reads
+     * the value as {@link #decode(byte[], int, int)} does and converts it to the type;
+     * formats able to bind the payload to the type directly should override it.
+     *
+     * @param data   the bytes holding the payload
+     * @param offset the offset of the payload, i.e. past the marker byte, if any
+     * @param length the length of the payload
+     * @param type   the type to read the value as
+     * @param <T>    the type of the value
+     * @return the value
+     * @throws IOException if the payload cannot be decoded as the type
+     */
+    @SuppressWarnings("unchecked")
+    default <T> T decode(byte[] data, int offset, int length, Type type) throws IOException {
+        if (type instanceof Class) {
+            return this.decode(data, offset, length, (Class<T>) type);
+        }
+        return Redis4jTypedSerializer.convert(this.decode(data, offset, length), type);
+    }
+}
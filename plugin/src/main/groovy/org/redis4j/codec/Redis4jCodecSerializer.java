@@ -0,0 +1,150 @@
+package org.redis4j.codec;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.util.Collection;
+
+/**
+ * A serializer writing values with one {@link Redis4jCodec}, prefixed with its marker byte unless unmarked,
+ * and reading values written with any of the known codecs, selected by their marker byte.
+ * Values without a known marker are read with the unmarked codec.
+ */
+public class Redis4jCodecSerializer implements RedisSerializer<Object>, Redis4jTypedSerializer, Redis4jStreamingSerializer {
+    protected static final byte[] EMPTY = new byte[0];
+
+    protected final Redis4jCodec writer;
+    protected final Redis4jCodec unmarked;
+    protected final Redis4jCodec[] readers = new Redis4jCodec[256]; // indexed by marker byte
+
+    /**
+     * @param writer   the codec writing values, class {@link Redis4jCodec}
+     * @param unmarked the codec reading values without a known marker, class {@link Redis4jCodec}
+     * @param readers  the codecs reading values by marker byte, unmarked codecs being ignored
+     */
+    public Redis4jCodecSerializer(Redis4jCodec writer, Redis4jCodec unmarked, Collection<Redis4jCodec> readers) {
+        this.writer = writer;
+        this.unmarked = unmarked;
+        if (readers != null) {
+            for (Redis4jCodec reader : readers) {
+                if (reader != null && reader.marker() != Redis4jCodec.UNMARKED) {
+                    this.readers[reader.marker() & 0xFF] = reader;
+                }
+            }
+        }
+        if (writer.marker() != Redis4jCodec.UNMARKED) {
+            this.readers[writer.marker() & 0xFF] = writer;
+        }
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return EMPTY;
+        }
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+            if (writer.marker() != Redis4jCodec.UNMARKED) {
+                out.write(writer.marker());
+            }
+            writer.encode(value, out);
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new SerializationException("Could not write " + writer.name() + ": " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        Redis4jCodec reader = readers[bytes[0] & 0xFF];
+        try {
+            if (reader != null) {
+                return reader.decode(bytes, 1, bytes.length - 1);
+            }
+            return unmarked.decode(bytes, 0, bytes.length);
+        } catch (IOException e) {
+            throw new SerializationException("Could not read " + (reader != null ? reader : unmarked).name() + ": " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public <T> T deserialize(byte[] bytes, Class<T> type) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        Redis4jCodec reader = readers[bytes[0] & 0xFF];
+        try {
+            if (reader != null) {
+                return reader.decode(bytes, 1, bytes.length - 1, type);
+            }
+            return unmarked.decode(bytes, 0, bytes.length, type);
+        } catch (IOException e) {
+            throw new SerializationException("Could not read " + (reader != null ? reader : unmarked).name() + " as " + type.getName() + ": " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public <T> T deserialize(byte[] bytes, Type type) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        Redis4jCodec reader = readers[bytes[0] & 0xFF];
+        try {
+            if (reader != null) {
+                return reader.decode(bytes, 1, bytes.length - 1, type);
+            }
+            return unmarked.decode(bytes, 0, bytes.length, type);
+        } catch (IOException e) {
+            throw new SerializationException("Could not read " + (reader != null ? reader : unmarked).name() + " as " + type.getTypeName() + ": " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public boolean isStreaming() {
+        return true;
+    }
+
+    @Override
+    public void serialize(Object value, OutputStream out) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (writer.marker() != Redis4jCodec.UNMARKED) {
+            out.write(writer.marker());
+        }
+        writer.encode(value, out);
+    }
+
+    @Override
+    public Object deserialize(ByteBuffer buffer) throws SerializationException {
+        if (buffer == null || !buffer.hasRemaining()) {
+            return null;
+        }
+        Redis4jCodec reader = readers[buffer.get(buffer.position()) & 0xFF];
+        try {
+            if (reader != null) {
+                ByteBuffer payload = buffer.duplicate();
+                payload.position(payload.position() + 1);
+                return reader.decode(payload);
+            }
+            return unmarked.decode(buffer.duplicate());
+        } catch (IOException e) {
+            throw new SerializationException("Could not read " + (reader != null ? reader : unmarked).name() + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @return the codec writing values, class {@link Redis4jCodec}
+     */
+    public Redis4jCodec getWriter() {
+        return writer;
+    }
+}
@@ -0,0 +1,175 @@
+package org.redis4j.codec;
+
+import org.redis4j.metrics.Redis4jMetrics;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.util.Collection;
+
+/**
+ * A serializer compressing the values of another serializer when they reach a size threshold.
+ * Compressed values are written behind the marker byte of their algorithm; smaller values, and values that
+ * do not shrink, are written as the delegate serialized them. Reads accept both forms whatever the settings
+ * of the writer, so compression can be enabled or disabled on live data.
+ *
+ * @param <T> the type of the values
+ */
+public class Redis4jCompressingSerializer<T> implements RedisSerializer<T>, Redis4jTypedSerializer, Redis4jStreamingSerializer {
+    protected final RedisSerializer<T> delegate;
+    protected final Redis4jCompressor writer; // null to write uncompressed
+    protected final int threshold;
+    protected final Redis4jCompressor[] readers = new Redis4jCompressor[256]; // indexed by marker byte
+    protected final Redis4jCompressionCounters counters;
+
+    /**
+     * @param delegate  the serializer of the values, class {@link RedisSerializer}
+     * @param writer    the algorithm compressing values, or null to write every value uncompressed
+     * @param threshold the size from which values are compressed, in bytes
+     * @param readers   the algorithms reading values by marker byte
+     * @param counters  the counters to record into, class {@link Redis4jCompressionCounters}
+     */
+    public Redis4jCompressingSerializer(RedisSerializer<T> delegate, Redis4jCompressor writer, int threshold, Collection<Redis4jCompressor> readers, Redis4jCompressionCounters counters) {
+        this.delegate = delegate;
+        this.writer = writer;
+        this.threshold = Math.max(1, threshold);
+        this.counters = counters;
+        if (readers != null) {
+            for (Redis4jCompressor reader : readers) {
+                if (reader != null) {
+                    this.readers[reader.marker() & 0xFF] = reader;
+                }
+            }
+        }
+        if (writer != null) {
+            this.readers[writer.marker() & 0xFF] = writer;
+        }
+    }
+
+    @Override
+    public byte[] serialize(T value) throws SerializationException {
+        byte[] data = delegate.serialize(value);
+        if (writer == null || data == null || data.length < threshold) {
+            Redis4jMetrics.recordBytesOut(data != null ? data.length : 0);
+            return data;
+        }
+        long start = System.nanoTime();
+        byte[] compressed = writer.compress(data);
+        if (compressed.length + 1 >= data.length) {
+            counters.recordSkipped(System.nanoTime() - start);
+            Redis4jMetrics.recordBytesOut(data.length);
+            return data;
+        }
+        byte[] out = new byte[compressed.length + 1];
+        out[0] = writer.marker();
+        System.arraycopy(compressed, 0, out, 1, compressed.length);
+        counters.recordCompressed(data.length, out.length, System.nanoTime() - start);
+        Redis4jMetrics.recordBytesOut(out.length);
+        return out;
+    }
+
+    @Override
+    public T deserialize(byte[] bytes) throws SerializationException {
+        return delegate.deserialize(this.decompress(bytes));
+    }
+
+    /**
+     * Reads a value straight into a type when the delegate is a {@link Redis4jTypedSerializer},
+     * otherwise reads it as the delegate does and checks its type.
+     */
+    @Override
+    public <V> V deserialize(byte[] bytes, Class<V> type) throws SerializationException {
+        byte[] data = this.decompress(bytes);
+        if (delegate instanceof Redis4jTypedSerializer) {
+            return ((Redis4jTypedSerializer) delegate).deserialize(data, type);
+        }
+        Object value = delegate.deserialize(data);
+        if (value != null && !type.isInstance(value)) {
+            throw new SerializationException("Could not read " + value.getClass().getName() + " as " + type.getName());
+        }
+        return type.cast(value);
+    }
+
+    /**
+     * Reads a value straight into a generic type when the delegate is a {@link Redis4jTypedSerializer},
+     * otherwise reads it as the delegate does and converts it.
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public <V> V deserialize(byte[] bytes, Type type) throws SerializationException {
+        if (type instanceof Class) {
+            return this.deserialize(bytes, (Class<V>) type);
+        }
+        return Redis4jTypedSerializer.read(delegate, this.decompress(bytes), type);
+    }
+
+    /**
+     * Values stream through only while compression is disabled, since deciding on compression needs their size.
+     */
+    @Override
+    public boolean isStreaming() {
+        return writer == null && delegate instanceof Redis4jStreamingSerializer && ((Redis4jStreamingSerializer) delegate).isStreaming();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void serialize(Object value, OutputStream out) throws IOException {
+        if (this.isStreaming()) {
+            ((Redis4jStreamingSerializer) delegate).serialize(value, out);
+            return;
+        }
+        byte[] data = this.serialize((T) value);
+        if (data != null) {
+            out.write(data);
+        }
+    }
+
+    @Override
+    public Object deserialize(ByteBuffer buffer) throws SerializationException {
+        if (buffer == null || !buffer.hasRemaining()) {
+            return null;
+        }
+        if (readers[buffer.get(buffer.position()) & 0xFF] == null && delegate instanceof Redis4jStreamingSerializer) {
+            return ((Redis4jStreamingSerializer) delegate).deserialize(buffer);
+        }
+        byte[] data = new byte[buffer.remaining()];
+        buffer.duplicate().get(data);
+        return this.deserialize(data);
+    }
+
+    /**
+     * Also attributes the size of the stored value to the operation reading it, see {@link Redis4jMetrics}.
+     *
+     * @param bytes the stored value
+     * @return the serialized value, decompressed when the stored value starts with the marker of a known algorithm
+     */
+    protected byte[] decompress(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return bytes;
+        }
+        Redis4jMetrics.recordBytesIn(bytes.length);
+        Redis4jCompressor reader = readers[bytes[0] & 0xFF];
+        if (reader == null) {
+            return bytes;
+        }
+        long start = System.nanoTime();
+        byte[] data;
+        try {
+            data = reader.decompress(bytes, 1, bytes.length - 1);
+        } catch (IOException e) {
+            throw new SerializationException("Could not decompress " + reader.name() + ": " + e.getMessage(), e);
+        }
+        counters.recordDecompressed(System.nanoTime() - start);
+        return data;
+    }
+
+    /**
+     * @return the serializer of the values, class {@link RedisSerializer}
+     */
+    public RedisSerializer<T> getDelegate() {
+        return delegate;
+    }
+}
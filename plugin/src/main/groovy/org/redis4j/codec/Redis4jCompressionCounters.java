@@ -0,0 +1,60 @@
+package org.redis4j.codec;
+
+import org.redis4j.model.Redis4jCompressionStats;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The counters of the compressing serializers, shared by every serializer created by the configuration service.
+ */
+public class Redis4jCompressionCounters {
+    protected final LongAdder compressed = new LongAdder();
+    protected final LongAdder skipped = new LongAdder();
+    protected final LongAdder rawBytes = new LongAdder();
+    protected final LongAdder compressedBytes = new LongAdder();
+    protected final LongAdder compressNanos = new LongAdder();
+    protected final LongAdder decompressed = new LongAdder();
+    protected final LongAdder decompressNanos = new LongAdder();
+
+    /**
+     * Records a value written compressed.
+     *
+     * @param raw        the size of the serialized value
+     * @param compressed the size of the compressed value, marker byte included
+     * @param nanos      the time spent compressing
+     */
+    public void recordCompressed(int raw, int compressed, long nanos) {
+        this.compressed.increment();
+        this.rawBytes.add(raw);
+        this.compressedBytes.add(compressed);
+        this.compressNanos.add(nanos);
+    }
+
+    /**
+     * Records a value at or above the threshold written uncompressed, because compressing did not shrink it.
+     *
+     * @param nanos the time spent compressing
+     */
+    public void recordSkipped(long nanos) {
+        this.skipped.increment();
+        this.compressNanos.add(nanos);
+    }
+
+    /**
+     * Records a value read back from its compressed form.
+     *
+     * @param nanos the time spent decompressing
+     */
+    public void recordDecompressed(long nanos) {
+        this.decompressed.increment();
+        this.decompressNanos.add(nanos);
+    }
+
+    /**
+     * @return a point-in-time snapshot of the counters, class {@link Redis4jCompressionStats}
+     */
+    public Redis4jCompressionStats snapshot() {
+        return new Redis4jCompressionStats(compressed.sum(), skipped.sum(), rawBytes.sum(), compressedBytes.sum(),
+                compressNanos.sum(), decompressed.sum(), decompressNanos.sum());
+    }
+}
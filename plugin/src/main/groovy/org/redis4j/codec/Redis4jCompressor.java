@@ -0,0 +1,63 @@
+package org.redis4j.codec;
+
+import java.io.IOException;
+
+/**
+ * A compression algorithm applied to the serialized values of Redis4j, see {@link Redis4jCompressingSerializer}.
+ * <p>
+ * Compressed values are written behind the marker byte of their algorithm, so that values stored uncompressed
+ * (below the threshold, or by a node with compression disabled) are read back as they are.
+ * The markers 0x10 to 0x1F are reserved for compression and are never the first byte of a value
+ * written by a {@link Redis4jCodec}.
+ */
+public interface Redis4jCompressor {
+
+    /**
+     * The marker of the Deflate algorithm of java.util.zip.
+     */
+    byte DEFLATE = 0x10;
+
+    /**
+     * The marker of Deflate with a trained preset dictionary, see {@link Redis4jDictionaryCompressor}.
+     */
+    byte DICTIONARY = 0x11;
+
+    /**
+     * The first marker reserved for compression.
+     */
+    byte RESERVED_FIRST = 0x10;
+
+    /**
+     * The last marker reserved for compression.
+     */
+    byte RESERVED_LAST = 0x1F;
+
+    /**
+     * @return the name of the algorithm, as given to compression_algorithm
+     */
+    String name();
+
+    /**
+     * @return the marker byte written before the compressed payload, between {@link #RESERVED_FIRST} and {@link #RESERVED_LAST}
+     */
+    byte marker();
+
+    /**
+     * Compresses a serialized value, the marker byte excluded.
+     *
+     * @param data the serialized value
+     * @return the compressed payload
+     */
+    byte[] compress(byte[] data);
+
+    /**
+     * Decompresses a payload back into the serialized value.
+     *
+     * @param data   the bytes holding the payload
+     * @param offset the offset of the payload, i.e. past the marker byte
+     * @param length the length of the payload
+     * @return the serialized value
+     * @throws IOException if the payload is corrupted or truncated
+     */
+    byte[] decompress(byte[] data, int offset, int length) throws IOException;
+}
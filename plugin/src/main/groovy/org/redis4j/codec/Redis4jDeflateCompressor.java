@@ -0,0 +1,79 @@
+package org.redis4j.codec;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Compresses values with the Deflate algorithm of java.util.zip.
+ * The deflaters and inflaters hold native memory and are costly to create, so one of each is kept per thread
+ * and reset between values.
+ */
+public class Redis4jDeflateCompressor implements Redis4jCompressor {
+    protected final int level;
+    protected final ThreadLocal<Deflater> deflaters;
+    protected final ThreadLocal<Inflater> inflaters = ThreadLocal.withInitial(Inflater::new);
+
+    /**
+     * @param level the compression level, from 0 to 9, or -1 for the default level of Deflate
+     */
+    public Redis4jDeflateCompressor(int level) {
+        this.level = level < Deflater.DEFAULT_COMPRESSION || level > Deflater.BEST_COMPRESSION ? Deflater.DEFAULT_COMPRESSION : level;
+        this.deflaters = ThreadLocal.withInitial(() -> new Deflater(this.level));
+    }
+
+    @Override
+    public String name() {
+        return "deflate";
+    }
+
+    @Override
+    public byte marker() {
+        return DEFLATE;
+    }
+
+    @Override
+    public byte[] compress(byte[] data) {
+        Deflater deflater = deflaters.get();
+        deflater.reset();
+        deflater.setInput(data);
+        deflater.finish();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, data.length / 4));
+        byte[] buffer = new byte[Math.min(8192, Math.max(64, data.length))];
+        while (!deflater.finished()) {
+            int n = deflater.deflate(buffer);
+            out.write(buffer, 0, n);
+        }
+        return out.toByteArray();
+    }
+
+    @Override
+    public byte[] decompress(byte[] data, int offset, int length) throws IOException {
+        Inflater inflater = inflaters.get();
+        inflater.reset();
+        inflater.setInput(data, offset, length);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, length * 4));
+        byte[] buffer = new byte[8192];
+        try {
+            while (!inflater.finished()) {
+                int n = inflater.inflate(buffer);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IOException("truncated deflate payload");
+                }
+                out.write(buffer, 0, n);
+            }
+        } catch (DataFormatException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * @return the compression level
+     */
+    public int getLevel() {
+        return level;
+    }
+}
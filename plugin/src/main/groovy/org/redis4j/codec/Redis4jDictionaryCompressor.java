@@ -0,0 +1,330 @@
+package org.redis4j.codec;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.unify4j.model.enums.IconType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Compresses values with Deflate and a preset dictionary trained from sampled values, which pays off on
+ * small values sharing their structure, e.g. JSON documents with the same field names, that Deflate alone
+ * barely shrinks.
+ * <p>
+ * The payload is the id of the dictionary (4 bytes, 0 for none) followed by the Deflate stream.
+ * Until a dictionary is available, from the store or trained here, values are compressed without one and
+ * sampled; once enough samples are gathered a dictionary is trained in the background and saved to the store,
+ * and later values are compressed with it.
+ * <p>
+ * The dictionaries are loaded by a background thread, once {@link #start()} is called and then periodically,
+ * adopting the current dictionary of the store, e.g. one trained by another node. A value compressed with
+ * a dictionary not loaded yet, e.g. trained by another node since the last check, waits for the background thread
+ * to load it, for at most the load timeout, since values may be decoded on a Netty event loop; past the timeout
+ * the value fails to read, and the load goes on so that later reads succeed.
+ */
+public class Redis4jDictionaryCompressor implements Redis4jCompressor {
+    protected static final Logger logger = LoggerFactory.getLogger(Redis4jDictionaryCompressor.class);
+    protected static final int NONE = 0;
+
+    protected final Redis4jDictionaryStore store;
+    protected final int level;
+    protected final int dictionarySize;
+    protected final int sampleSize;
+    protected final Duration refreshInterval;
+    protected final Duration loadTimeout;
+    protected final ScheduledExecutorService executor; // loads the dictionaries and trains new ones
+    protected final ThreadLocal<Deflater> deflaters;
+    protected final ThreadLocal<Inflater> inflaters = ThreadLocal.withInitial(Inflater::new);
+    protected final Map<Integer, byte[]> dictionaries = new ConcurrentHashMap<>();
+    protected final Map<Integer, CompletableFuture<byte[]>> loads = new ConcurrentHashMap<>(); // dictionaries missed by readers, being loaded
+    protected final AtomicBoolean started = new AtomicBoolean(false);
+    protected final AtomicBoolean training = new AtomicBoolean(false);
+    protected final List<byte[]> samples = new ArrayList<>();
+    protected long seen; // values offered as samples, guarded by samples
+    protected volatile int current = NONE;
+    protected volatile int discarded = NONE; // the store dictionaries up to this id are not adopted, see retrain
+
+    /**
+     * @param store           where the dictionaries are kept, class {@link Redis4jDictionaryStore}
+     * @param level           the compression level, from 0 to 9, or -1 for the default level of Deflate
+     * @param dictionarySize  the maximum size of a trained dictionary, in bytes
+     * @param sampleSize      the number of sampled values a dictionary is trained from
+     * @param refreshInterval the interval at which the current dictionary of the store is checked
+     * @param loadTimeout     the maximum time a read waits for a dictionary not loaded yet
+     */
+    public Redis4jDictionaryCompressor(Redis4jDictionaryStore store, int level, int dictionarySize, int sampleSize, Duration refreshInterval, Duration loadTimeout) {
+        this.store = store;
+        this.level = level < Deflater.DEFAULT_COMPRESSION || level > Deflater.BEST_COMPRESSION ? Deflater.DEFAULT_COMPRESSION : level;
+        this.dictionarySize = dictionarySize;
+        this.sampleSize = Math.max(1, sampleSize);
+        this.refreshInterval = refreshInterval != null && !refreshInterval.isNegative() && !refreshInterval.isZero() ? refreshInterval : Duration.ofSeconds(30);
+        this.loadTimeout = loadTimeout != null && !loadTimeout.isNegative() ? loadTimeout : Duration.ofMillis(500);
+        this.deflaters = ThreadLocal.withInitial(() -> new Deflater(this.level));
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "redis4j-dictionary");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public String name() {
+        return "dictionary";
+    }
+
+    @Override
+    public byte marker() {
+        return DICTIONARY;
+    }
+
+    @Override
+    public byte[] compress(byte[] data) {
+        int id = current;
+        byte[] dictionary = id == NONE ? null : dictionaries.get(id);
+        if (dictionary == null) {
+            id = NONE;
+            this.sample(data);
+        }
+        Deflater deflater = deflaters.get();
+        deflater.reset();
+        if (dictionary != null) {
+            deflater.setDictionary(dictionary);
+        }
+        deflater.setInput(data);
+        deflater.finish();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, data.length / 2));
+        out.write(id >>> 24);
+        out.write(id >>> 16);
+        out.write(id >>> 8);
+        out.write(id);
+        byte[] buffer = new byte[Math.min(8192, Math.max(64, data.length))];
+        while (!deflater.finished()) {
+            int n = deflater.deflate(buffer);
+            out.write(buffer, 0, n);
+        }
+        return out.toByteArray();
+    }
+
+    @Override
+    public byte[] decompress(byte[] data, int offset, int length) throws IOException {
+        if (length < 4) {
+            throw new IOException("truncated dictionary payload");
+        }
+        int id = ((data[offset] & 0xFF) << 24) | ((data[offset + 1] & 0xFF) << 16) | ((data[offset + 2] & 0xFF) << 8) | (data[offset + 3] & 0xFF);
+        Inflater inflater = inflaters.get();
+        inflater.reset();
+        inflater.setInput(data, offset + 4, length - 4);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, length * 4));
+        byte[] buffer = new byte[8192];
+        try {
+            while (!inflater.finished()) {
+                int n = inflater.inflate(buffer);
+                if (n == 0 && inflater.needsDictionary()) {
+                    inflater.setDictionary(this.dictionary(id));
+                    continue;
+                }
+                if (n == 0 && inflater.needsInput()) {
+                    throw new IOException("truncated deflate payload");
+                }
+                out.write(buffer, 0, n);
+            }
+        } catch (DataFormatException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Discards the current dictionary, so that values are sampled again and a new dictionary is trained.
+     * The values compressed with the previous dictionaries remain readable.
+     */
+    public void retrain() {
+        synchronized (samples) {
+            samples.clear();
+            seen = 0;
+        }
+        discarded = Math.max(discarded, current);
+        current = NONE;
+    }
+
+    /**
+     * Loads the current dictionary of the store in the background, then checks the store periodically.
+     * Calling it again has no effect.
+     */
+    public void start() {
+        if (!started.compareAndSet(false, true)) {
+            return;
+        }
+        long millis = refreshInterval.toMillis();
+        try {
+            executor.scheduleWithFixedDelay(this::refresh, 0, millis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            logger.warn("{} Redis4j, the compression dictionary loader is shut down", IconType.WARN.getCode());
+        }
+    }
+
+    /**
+     * Stops loading and training dictionaries; the dictionaries loaded so far remain usable.
+     */
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * @return the id of the dictionary new values are compressed with, 0 if none
+     */
+    public int getCurrent() {
+        return current;
+    }
+
+    /**
+     * Adopts the current dictionary of the store when it is newer than the one in use. Runs on the background thread only.
+     */
+    protected void refresh() {
+        try {
+            Integer id = store.current();
+            if (id != null && id > discarded && id > current && this.load(id) != null) {
+                current = id;
+            }
+        } catch (Exception e) {
+            logger.error("{} Redis4j, loading the compression dictionaries got an exception: {}", IconType.ERROR.getCode(), e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @param id the dictionary id
+     * @return the dictionary, from the store if not loaded yet, or null if the store has no dictionary with the id
+     */
+    protected byte[] load(int id) {
+        byte[] dictionary = dictionaries.get(id);
+        if (dictionary != null) {
+            return dictionary;
+        }
+        dictionary = store.load(id);
+        if (dictionary == null) {
+            logger.warn("{} Redis4j, unknown compression dictionary {}", IconType.WARN.getCode(), id);
+            return null;
+        }
+        dictionaries.put(id, dictionary);
+        return dictionary;
+    }
+
+    /**
+     * @param id the dictionary id
+     * @return the dictionary, from the loaded dictionaries, or loaded from the store by the background thread
+     * within the load timeout; the readers missing the same dictionary share its load
+     * @throws IOException if the store has no dictionary with the id, or it is not loaded within the load timeout,
+     *                     in which case the load goes on in the background
+     */
+    protected byte[] dictionary(int id) throws IOException {
+        byte[] dictionary = dictionaries.get(id);
+        if (dictionary != null) {
+            return dictionary;
+        }
+        CompletableFuture<byte[]> load = loads.computeIfAbsent(id, i -> {
+            try {
+                return CompletableFuture.supplyAsync(() -> this.load(i), executor);
+            } catch (RejectedExecutionException e) {
+                CompletableFuture<byte[]> rejected = new CompletableFuture<>();
+                rejected.completeExceptionally(e);
+                return rejected;
+            }
+        });
+        try {
+            dictionary = load.get(loadTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new IOException("compression dictionary " + id + " is not loaded within " + loadTimeout.toMillis() + " ms");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("interrupted while loading compression dictionary " + id, e);
+        } catch (ExecutionException e) {
+            loads.remove(id, load);
+            throw new IOException("loading compression dictionary " + id + " failed: " + e.getCause().getMessage(), e.getCause());
+        }
+        loads.remove(id, load);
+        if (dictionary == null) {
+            throw new IOException("unknown compression dictionary " + id);
+        }
+        return dictionary;
+    }
+
+    /**
+     * Keeps a uniform sample of the values (reservoir sampling) and starts the training once enough values were seen.
+     *
+     * @param data the serialized value
+     */
+    protected void sample(byte[] data) {
+        if (training.get()) {
+            return;
+        }
+        List<byte[]> batch = null;
+        synchronized (samples) {
+            seen++;
+            if (samples.size() < sampleSize) {
+                samples.add(Arrays.copyOf(data, data.length));
+            } else {
+                long i = ThreadLocalRandom.current().nextLong(seen);
+                if (i < sampleSize) {
+                    samples.set((int) i, Arrays.copyOf(data, data.length));
+                }
+            }
+            if (seen >= sampleSize * 2L && training.compareAndSet(false, true)) {
+                batch = new ArrayList<>(samples);
+            }
+        }
+        if (batch != null) {
+            List<byte[]> values = batch;
+            try {
+                executor.execute(() -> this.train(values));
+            } catch (RejectedExecutionException e) {
+                training.set(false);
+            }
+        }
+    }
+
+    /**
+     * Trains a dictionary from the samples and makes it the current one.
+     *
+     * @param values the sampled values
+     */
+    protected void train(List<byte[]> values) {
+        try {
+            byte[] dictionary = Redis4jDictionaryTrainer.train(values, dictionarySize);
+            if (dictionary.length == 0) {
+                logger.warn("{} Redis4j, the sampled values share nothing, no compression dictionary trained", IconType.WARN.getCode());
+                return;
+            }
+            int id = store.save(dictionary);
+            dictionaries.put(id, dictionary);
+            current = id;
+            logger.info("{} Redis4j, compression dictionary {} trained from {} values ({} bytes)", IconType.SUCCESS.getCode(), id, values.size(), dictionary.length);
+        } catch (Exception e) {
+            logger.error("{} Redis4j, training the compression dictionary got an exception: {}", IconType.ERROR.getCode(), e.getMessage(), e);
+        } finally {
+            synchronized (samples) {
+                samples.clear();
+                seen = 0;
+            }
+            training.set(false);
+        }
+    }
+}
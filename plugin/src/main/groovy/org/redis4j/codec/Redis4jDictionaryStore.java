@@ -0,0 +1,27 @@
+package org.redis4j.codec;
+
+/**
+ * Where the preset dictionaries of {@link Redis4jDictionaryCompressor} are kept, so that every node reads
+ * the values compressed by the others. A dictionary must outlive the values compressed with it.
+ */
+public interface Redis4jDictionaryStore {
+
+    /**
+     * @return the id of the dictionary new values are compressed with, or null if none was trained yet
+     */
+    Integer current();
+
+    /**
+     * @param id the dictionary id
+     * @return the dictionary, or null if no dictionary has the id
+     */
+    byte[] load(int id);
+
+    /**
+     * Stores a dictionary under a new id and makes it the current one.
+     *
+     * @param dictionary the dictionary
+     * @return the id of the dictionary
+     */
+    int save(byte[] dictionary);
+}
@@ -0,0 +1,94 @@
+package org.redis4j.codec;
+
+import java.io.ByteArrayOutputStream;
+import java.util.*;
+
+/**
+ * Builds a Deflate preset dictionary out of sample values.
+ * <p>
+ * The samples are cut into overlapping segments, each scored by how many other samples share its 8-byte
+ * substrings; the best segments are kept, skipping those mostly covered by the segments already kept,
+ * until the dictionary is full. Deflate matches nearer data with shorter codes, so the best segments
+ * are placed at the end of the dictionary.
+ */
+public class Redis4jDictionaryTrainer {
+    protected static final int GRAM = 8;
+    protected static final int SEGMENT = 32;
+
+    private Redis4jDictionaryTrainer() {
+    }
+
+    /**
+     * @param samples the sample values
+     * @param maxSize the maximum size of the dictionary, at most 32 KB which is the Deflate window
+     * @return the dictionary, empty if the samples share nothing
+     */
+    public static byte[] train(List<byte[]> samples, int maxSize) {
+        int size = Math.min(Math.max(maxSize, SEGMENT), 32 * 1024);
+        Map<Long, Integer> frequencies = new HashMap<>();
+        for (byte[] sample : samples) {
+            Set<Long> grams = new HashSet<>();
+            for (int i = 0; i + GRAM <= sample.length; i++) {
+                grams.add(gram(sample, i));
+            }
+            for (Long g : grams) {
+                frequencies.merge(g, 1, Integer::sum);
+            }
+        }
+        List<long[]> segments = new ArrayList<>(); // { score, sample, offset }
+        for (int s = 0; s < samples.size(); s++) {
+            byte[] sample = samples.get(s);
+            for (int offset = 0; offset + GRAM <= sample.length; offset += SEGMENT / 2) {
+                int end = Math.min(offset + SEGMENT, sample.length);
+                long score = 0;
+                for (int i = offset; i + GRAM <= end; i++) {
+                    score += frequencies.get(gram(sample, i)) - 1;
+                }
+                if (score > 0) {
+                    segments.add(new long[]{score, s, offset});
+                }
+            }
+        }
+        segments.sort((a, b) -> Long.compare(b[0], a[0]));
+        Set<Long> covered = new HashSet<>();
+        Deque<byte[]> kept = new ArrayDeque<>();
+        int total = 0;
+        for (long[] segment : segments) {
+            if (total >= size) {
+                break;
+            }
+            byte[] sample = samples.get((int) segment[1]);
+            int offset = (int) segment[2];
+            int end = Math.min(offset + SEGMENT, sample.length);
+            int grams = 0;
+            int fresh = 0;
+            for (int i = offset; i + GRAM <= end; i++, grams++) {
+                if (!covered.contains(gram(sample, i))) {
+                    fresh++;
+                }
+            }
+            if (fresh * 2 < grams) {
+                continue;
+            }
+            for (int i = offset; i + GRAM <= end; i++) {
+                covered.add(gram(sample, i));
+            }
+            byte[] bytes = Arrays.copyOfRange(sample, offset, Math.min(end, offset + size - total));
+            kept.push(bytes); // best segments last
+            total += bytes.length;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(total);
+        for (byte[] bytes : kept) {
+            out.write(bytes, 0, bytes.length);
+        }
+        return out.toByteArray();
+    }
+
+    protected static long gram(byte[] data, int offset) {
+        long g = 0;
+        for (int i = 0; i < GRAM; i++) {
+            g = (g << 8) | (data[offset + i] & 0xFF);
+        }
+        return g;
+    }
+}
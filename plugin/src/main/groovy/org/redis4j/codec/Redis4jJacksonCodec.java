@@ -0,0 +1,89 @@
+package org.redis4j.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A format backed by a Jackson {@link ObjectMapper}, whose factory decides the encoding, e.g. JSON, Smile or CBOR.
+ * The readers and writers are created once per type, so that Jackson resolves the (de)serializers of a type
+ * only on its first use.
+ */
+public class Redis4jJacksonCodec implements Redis4jCodec {
+    protected final String name;
+    protected final byte marker;
+    protected final ObjectMapper mapper;
+    protected final Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+    protected final Map<Type, ObjectReader> generics = new ConcurrentHashMap<>();
+    protected final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+    public Redis4jJacksonCodec(String name, byte marker, ObjectMapper mapper) {
+        this.name = name;
+        this.marker = marker;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public byte marker() {
+        return marker;
+    }
+
+    @Override
+    public void encode(Object value, OutputStream out) throws IOException {
+        writers.computeIfAbsent(value.getClass(), mapper::writerFor).writeValue(out, value);
+    }
+
+    @Override
+    public Object decode(byte[] data, int offset, int length) throws IOException {
+        return this.decode(data, offset, length, Object.class);
+    }
+
+    /**
+     * Reads from the backing array when there is one, otherwise streams the bytes of the buffer, e.g. a direct
+     * Netty buffer, into the parser without copying them into an array first.
+     */
+    @Override
+    public Object decode(ByteBuffer buffer) throws IOException {
+        if (buffer.hasArray()) {
+            return this.decode(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        }
+        return readers.computeIfAbsent(Object.class, mapper::readerFor).readValue(new ByteBufferBackedInputStream(buffer.duplicate()));
+    }
+
+    @Override
+    public <T> T decode(byte[] data, int offset, int length, Class<T> type) throws IOException {
+        return readers.computeIfAbsent(type, mapper::readerFor).readValue(data, offset, length);
+    }
+
+    /**
+     * Binds the payload straight to a generic type, e.g. the value of a container class to its type argument.
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T decode(byte[] data, int offset, int length, Type type) throws IOException {
+        if (type instanceof Class) {
+            return this.decode(data, offset, length, (Class<T>) type);
+        }
+        return generics.computeIfAbsent(type, t -> mapper.readerFor(mapper.getTypeFactory().constructType(t))).readValue(data, offset, length);
+    }
+
+    /**
+     * @return the object mapper of the format, class {@link ObjectMapper}
+     */
+    public ObjectMapper getMapper() {
+        return mapper;
+    }
+}
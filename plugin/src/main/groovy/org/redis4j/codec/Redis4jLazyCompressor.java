@@ -0,0 +1,62 @@
+package org.redis4j.codec;
+
+import java.io.IOException;
+import java.util.function.Supplier;
+
+/**
+ * A compression algorithm created on its first use, e.g. to read the values other nodes compress with
+ * an algorithm this node does not write with, without paying for the algorithm until such a value is read.
+ */
+public class Redis4jLazyCompressor implements Redis4jCompressor {
+    protected final String name;
+    protected final byte marker;
+    protected final Supplier<? extends Redis4jCompressor> factory;
+    protected volatile Redis4jCompressor delegate;
+
+    /**
+     * @param name    the name of the algorithm
+     * @param marker  the marker byte of the algorithm
+     * @param factory creates the algorithm, called once, on the first value compressed or decompressed
+     */
+    public Redis4jLazyCompressor(String name, byte marker, Supplier<? extends Redis4jCompressor> factory) {
+        this.name = name;
+        this.marker = marker;
+        this.factory = factory;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public byte marker() {
+        return marker;
+    }
+
+    @Override
+    public byte[] compress(byte[] data) {
+        return this.delegate().compress(data);
+    }
+
+    @Override
+    public byte[] decompress(byte[] data, int offset, int length) throws IOException {
+        return this.delegate().decompress(data, offset, length);
+    }
+
+    /**
+     * @return the algorithm, created on the first call
+     */
+    protected Redis4jCompressor delegate() {
+        Redis4jCompressor d = delegate;
+        if (d != null) {
+            return d;
+        }
+        synchronized (this) {
+            if (delegate == null) {
+                delegate = factory.get();
+            }
+            return delegate;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package org.redis4j.codec;
+
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the preset dictionaries in Redis, each under a versioned key {@code <key>:<id>} without expiry,
+ * the id of the current one under {@code <key>:current}, and the last id given under {@code <key>:seq}.
+ */
+public class Redis4jRedisDictionaryStore implements Redis4jDictionaryStore {
+    protected final Supplier<RedisConnectionFactory> factory;
+    protected final String key;
+
+    /**
+     * @param factory the connection factory, resolved on first use since the dictionaries are read by the value
+     *                serializers of the templates the factory is wired into
+     * @param key     the key prefix of the dictionaries
+     */
+    public Redis4jRedisDictionaryStore(Supplier<RedisConnectionFactory> factory, String key) {
+        this.factory = factory;
+        this.key = key;
+    }
+
+    @Override
+    public Integer current() {
+        try (RedisConnection connection = factory.get().getConnection()) {
+            byte[] id = connection.stringCommands().get(this.bytes(key + ":current"));
+            return id == null ? null : Integer.valueOf(new String(id, StandardCharsets.UTF_8));
+        }
+    }
+
+    @Override
+    public byte[] load(int id) {
+        try (RedisConnection connection = factory.get().getConnection()) {
+            return connection.stringCommands().get(this.bytes(key + ":" + id));
+        }
+    }
+
+    @Override
+    public int save(byte[] dictionary) {
+        try (RedisConnection connection = factory.get().getConnection()) {
+            Long seq = connection.stringCommands().incr(this.bytes(key + ":seq"));
+            int id = seq == null ? 1 : seq.intValue();
+            connection.stringCommands().set(this.bytes(key + ":" + id), dictionary);
+            connection.stringCommands().set(this.bytes(key + ":current"), this.bytes(String.valueOf(id)));
+            return id;
+        }
+    }
+
+    protected byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,35 @@
+package org.redis4j.codec;
+
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.codec.StringCodec;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A Lettuce codec writing keys and values as UTF-8 strings, used to pass the arguments of Lua scripts, e.g. numbers,
+ * as plain strings over a connection whose values are otherwise encoded by the value codec, see {@link Redis4jValueCodec}.
+ * Values are read back as UTF-8 strings.
+ */
+public class Redis4jScriptCodec implements RedisCodec<String, Object> {
+    public static final Redis4jScriptCodec INSTANCE = new Redis4jScriptCodec();
+
+    @Override
+    public String decodeKey(ByteBuffer bytes) {
+        return StringCodec.UTF8.decodeKey(bytes);
+    }
+
+    @Override
+    public Object decodeValue(ByteBuffer bytes) {
+        return StringCodec.UTF8.decodeValue(bytes);
+    }
+
+    @Override
+    public ByteBuffer encodeKey(String key) {
+        return StringCodec.UTF8.encodeKey(key);
+    }
+
+    @Override
+    public ByteBuffer encodeValue(Object value) {
+        return StringCodec.UTF8.encodeValue(value == null ? null : String.valueOf(value));
+    }
+}
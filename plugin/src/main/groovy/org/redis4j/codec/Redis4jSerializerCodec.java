@@ -0,0 +1,49 @@
+package org.redis4j.codec;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * A format backed by a Spring {@link RedisSerializer}, used to keep the bytes of an existing serializer,
+ * e.g. the JSON one of the dispatch template, as the unmarked format.
+ */
+public class Redis4jSerializerCodec implements Redis4jCodec {
+    protected final String name;
+    protected final byte marker;
+    protected final RedisSerializer<Object> serializer;
+
+    public Redis4jSerializerCodec(String name, byte marker, RedisSerializer<Object> serializer) {
+        this.name = name;
+        this.marker = marker;
+        this.serializer = serializer;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public byte marker() {
+        return marker;
+    }
+
+    @Override
+    public void encode(Object value, OutputStream out) throws IOException {
+        byte[] data = serializer.serialize(value);
+        if (data != null) {
+            out.write(data);
+        }
+    }
+
+    @Override
+    public Object decode(byte[] data, int offset, int length) {
+        if (offset == 0 && length == data.length) {
+            return serializer.deserialize(data);
+        }
+        return serializer.deserialize(Arrays.copyOfRange(data, offset, offset + length));
+    }
+}
@@ -0,0 +1,39 @@
+package org.redis4j.codec;
+
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * A serializer able to write values into a stream and to read them from a buffer view, so that the Lettuce codec
+ * encodes values straight into the Netty buffers of the commands and decodes them from the response buffers,
+ * without an intermediate byte array.
+ */
+public interface Redis4jStreamingSerializer {
+
+    /**
+     * @return true if values are written in a single pass, false if they must be fully serialized first,
+     * e.g. to decide on their compression
+     */
+    boolean isStreaming();
+
+    /**
+     * Writes a value, as {@link org.springframework.data.redis.serializer.RedisSerializer#serialize(Object)} would.
+     *
+     * @param value the value, null writing nothing
+     * @param out   the output receiving the value
+     * @throws IOException if the value cannot be encoded
+     */
+    void serialize(Object value, OutputStream out) throws IOException;
+
+    /**
+     * Reads a value from the remaining bytes of a buffer, leaving the position of the buffer untouched.
+     *
+     * @param buffer the buffer
+     * @return the value, or null if the buffer is null or empty
+     * @throws SerializationException if the value cannot be read
+     */
+    Object deserialize(ByteBuffer buffer) throws SerializationException;
+}
@@ -0,0 +1,120 @@
+package org.redis4j.codec;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.unify4j.common.Json4j;
+
+import java.lang.reflect.Type;
+
+/**
+ * A serializer able to read values straight into a requested type, instead of the maps, lists and scalars
+ * an Object-typed read produces and callers would convert again.
+ */
+public interface Redis4jTypedSerializer {
+
+    /**
+     * @param bytes the serialized value
+     * @param type  the type to read the value as
+     * @param <T>   the type of the value
+     * @return the value, or null if bytes is null or empty
+     * @throws SerializationException if the value cannot be read as the type
+     */
+    <T> T deserialize(byte[] bytes, Class<T> type) throws SerializationException;
+
+    /**
+     * Reads a value as a generic type, e.g. a container class bound to the class of its content.
+     * The default implementation reads classes only, serializers able to bind generic types should override it.
+     *
+     * @param bytes the serialized value
+     * @param type  the type to read the value as
+     * @param <T>   the type of the value
+     * @return the value, or null if bytes is null or empty
+     * @throws SerializationException if the value cannot be read as the type
+     */
+    @SuppressWarnings("unchecked")
+    default <T> T deserialize(byte[] bytes, Type type) throws SerializationException {
+        if (type instanceof Class) {
+            return this.deserialize(bytes, (Class<T>) type);
+        }
+        throw new SerializationException("Could not read as " + type.getTypeName() + ": generic types are not supported");
+    }
+
+    /**
+     * Reads a value as a type with any serializer: straight from the bytes with a {@link Redis4jTypedSerializer},
+     * otherwise by converting the value read by the serializer when it is not already of the type.
+     *
+     * @param serializer the serializer of the value, class {@link RedisSerializer}
+     * @param bytes      the serialized value
+     * @param type       the type to read the value as
+     * @param <T>        the type of the value
+     * @return the value, or null if bytes is null
+     */
+    static <T> T read(RedisSerializer<?> serializer, byte[] bytes, Class<T> type) {
+        if (bytes == null) {
+            return null;
+        }
+        if (serializer instanceof Redis4jTypedSerializer) {
+            return ((Redis4jTypedSerializer) serializer).deserialize(bytes, type);
+        }
+        return convert(serializer == null ? bytes : serializer.deserialize(bytes), type);
+    }
+
+    /**
+     * Reads a value as a generic type with any serializer, like {@link #read(RedisSerializer, byte[], Class)}.
+     *
+     * @param serializer the serializer of the value, class {@link RedisSerializer}
+     * @param bytes      the serialized value
+     * @param type       the type to read the value as
+     * @param <T>        the type of the value
+     * @return the value, or null if bytes is null
+     */
+    static <T> T read(RedisSerializer<?> serializer, byte[] bytes, Type type) {
+        if (bytes == null) {
+            return null;
+        }
+        if (serializer instanceof Redis4jTypedSerializer) {
+            return ((Redis4jTypedSerializer) serializer).deserialize(bytes, type);
+        }
+        return convert(serializer == null ? bytes : serializer.deserialize(bytes), type);
+    }
+
+    /**
+     * Converts a value read without a type, e.g. the map tree of an object, to a type.
+     *
+     * @param value the value
+     * @param type  the type to convert the value to
+     * @param <T>   the type of the value
+     * @return the value as is when already of the type, otherwise converted, or null if value is null
+     */
+    static <T> T convert(Object value, Class<T> type) {
+        if (value == null || type.isInstance(value)) {
+            return type.cast(value);
+        }
+        return Json4j.json2Target(Json4j.toJson(value), type);
+    }
+
+    /**
+     * Converts a value read without a type to a generic type.
+     *
+     * @param value the value
+     * @param type  the type to convert the value to
+     * @param <T>   the type of the value
+     * @return the value converted, or null if value is null
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T convert(Object value, Type type) {
+        if (type instanceof Class) {
+            return convert(value, (Class<T>) type);
+        }
+        if (value == null) {
+            return null;
+        }
+        return Json4j.json2Generics(Json4j.toJson(value), new TypeReference<T>() {
+            @Override
+            public Type getType() {
+                return type;
+            }
+        });
+    }
+}
@@ -0,0 +1,94 @@
+package org.redis4j.codec;
+
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.codec.ToByteBufEncoder;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * A Lettuce codec encoding keys as UTF-8 strings and values through a Spring {@link RedisSerializer},
+ * so that native Lettuce connections read and write exactly the same bytes as the Redis dispatch template.
+ * <p>
+ * Keys and values are written straight into the pooled Netty buffers of the commands, see {@link ToByteBufEncoder},
+ * and, with a {@link Redis4jStreamingSerializer}, values are read from the response buffers without being copied
+ * into an intermediate byte array.
+ */
+public class Redis4jValueCodec implements RedisCodec<String, Object>, ToByteBufEncoder<String, Object> {
+    protected static final int VALUE_SIZE_ESTIMATE = 256;
+
+    protected final RedisSerializer<Object> serializer;
+
+    public Redis4jValueCodec(RedisSerializer<Object> serializer) {
+        this.serializer = serializer;
+    }
+
+    @Override
+    public String decodeKey(ByteBuffer bytes) {
+        return StringCodec.UTF8.decodeKey(bytes);
+    }
+
+    @Override
+    public Object decodeValue(ByteBuffer bytes) {
+        if (bytes == null || !bytes.hasRemaining()) {
+            return null;
+        }
+        if (serializer instanceof Redis4jStreamingSerializer) {
+            return ((Redis4jStreamingSerializer) serializer).deserialize(bytes);
+        }
+        byte[] data = new byte[bytes.remaining()];
+        bytes.get(data);
+        return serializer.deserialize(data);
+    }
+
+    @Override
+    public ByteBuffer encodeKey(String key) {
+        return StringCodec.UTF8.encodeKey(key);
+    }
+
+    @Override
+    public ByteBuffer encodeValue(Object value) {
+        byte[] data = serializer.serialize(value);
+        return data == null ? ByteBuffer.allocate(0) : ByteBuffer.wrap(data);
+    }
+
+    @Override
+    public void encodeKey(String key, ByteBuf target) {
+        StringCodec.UTF8.encodeKey(key, target);
+    }
+
+    @Override
+    public void encodeValue(Object value, ByteBuf target) {
+        if (value == null) {
+            return;
+        }
+        if (serializer instanceof Redis4jStreamingSerializer && ((Redis4jStreamingSerializer) serializer).isStreaming()) {
+            try (ByteBufOutputStream out = new ByteBufOutputStream(target)) {
+                ((Redis4jStreamingSerializer) serializer).serialize(value, out);
+            } catch (IOException e) {
+                throw new SerializationException("Could not write value: " + e.getMessage(), e);
+            }
+            return;
+        }
+        byte[] data = serializer.serialize(value);
+        if (data != null) {
+            target.writeBytes(data);
+        }
+    }
+
+    /**
+     * Estimates the initial size of the buffer a key or value is encoded into, the buffer growing as needed.
+     */
+    @Override
+    public int estimateSize(Object keyOrValue) {
+        if (keyOrValue instanceof String) {
+            return StringCodec.UTF8.estimateSize(keyOrValue);
+        }
+        return keyOrValue == null ? 0 : VALUE_SIZE_ESTIMATE;
+    }
+}
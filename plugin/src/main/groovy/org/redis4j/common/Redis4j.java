@@ -7,18 +7,38 @@ import io.lettuce.core.api.reactive.RedisReactiveCommands;
 import io.lettuce.core.api.sync.RedisCommands;
 import org.redis4j.config.Redis4jBeanConfig;
 import org.redis4j.config.Redis4jStatusConfig;
+import org.redis4j.config.props.Redis4jProperties;
+import org.redis4j.metrics.Redis4jCommandMetrics;
+import org.redis4j.metrics.Redis4jMetrics;
+import org.redis4j.model.Redis4jCommandStats;
+import org.redis4j.model.Redis4jCompressionStats;
+import org.redis4j.model.Redis4jEndpointStats;
+import org.redis4j.model.Redis4jKey;
+import org.redis4j.model.Redis4jKeyInfo;
+import org.redis4j.model.Redis4jLoadingStats;
+import org.redis4j.model.Redis4jNearCacheStats;
+import org.redis4j.model.Redis4jOperationStats;
+import org.redis4j.service.Redis4jAsyncService;
 import org.redis4j.service.Redis4jConfigService;
+import org.redis4j.service.Redis4jLoadingService;
+import org.redis4j.service.Redis4jNearCacheService;
+import org.redis4j.service.Redis4jReactiveService;
 import org.redis4j.service.Redis4jService;
 import org.redis4j.service.Redis4jWrapCallback;
+import org.redis4j.service.impl.Redis4jAsyncServiceImpl;
 import org.redis4j.service.impl.Redis4jConfigServiceImpl;
+import org.redis4j.service.impl.Redis4jLoadingServiceImpl;
+import org.redis4j.service.impl.Redis4jNearCacheServiceImpl;
+import org.redis4j.service.impl.Redis4jReactiveServiceImpl;
 import org.redis4j.service.impl.Redis4jServiceImpl;
+import org.springframework.data.redis.connection.DataType;
 import org.springframework.data.redis.core.BoundSetOperations;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
-import org.unify4j.common.Collection4j;
 import org.unify4j.common.Object4j;
 import org.unify4j.common.String4j;
 import org.unify4j.common.UniqueId4j;
@@ -26,22 +46,35 @@ import org.unify4j.model.builder.HttpStatusBuilder;
 import org.unify4j.model.builder.HttpWrapBuilder;
 import org.unify4j.model.c.Pair;
 import org.unify4j.model.response.WrapResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpSession;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public abstract class Redis4j {
-    protected static Redis4jService jService;
-    protected static Redis4jConfigService service;
-    protected static Redis4jStatusConfig jStatusConfig;
-    protected static RedisClient client;
-    protected static StatefulRedisConnection<String, String> connection;
-    private static final Lock lock = new ReentrantLock();
+    protected static volatile Redis4jService jService;
+    protected static volatile Redis4jConfigService service;
+    protected static volatile Redis4jStatusConfig jStatusConfig;
+    protected static volatile RedisClient client;
+    protected static volatile StatefulRedisConnection<String, String> connection;
+    protected static volatile Redis4jAsyncService jAsyncService;
+    protected static volatile Redis4jReactiveService jReactiveService;
+    protected static volatile Redis4jNearCacheService jNearCacheService;
+    protected static volatile Redis4jLoadingService jLoadingService;
+    protected static volatile Redis4jMetrics metrics;
+    protected static volatile Redis4jCommandMetrics commandMetrics;
+    protected static volatile StatefulRedisConnection<String, Object> objectConnection;
+    private static final Lock lock = new ReentrantLock(); // guards the first resolution only
 
     /**
      * @return the HTTP servlet request, class {@link HttpServletRequest}
@@ -60,15 +93,39 @@ public abstract class Redis4j {
      * applications where session management is crucial for user authentication and
      * maintaining user state across multiple requests.
      *
+     * Outside a servlet request, a unique id is generated instead. The request attributes are looked up without
+     * {@link RequestContextHolder#currentRequestAttributes()}, which throws, and fills the stack trace of,
+     * an exception on every call made outside a request.
+     *
      * @return the session ID of the current request, or null if no session is associated with the current request context
      */
     public static String getCurrentSessionId() {
-        try {
-            ServletRequestAttributes s = (ServletRequestAttributes) RequestContextHolder.currentRequestAttributes();
-            return s.getSessionId();
-        } catch (IllegalStateException e) {
-            return String.valueOf(UniqueId4j.getUniqueId19());
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes) {
+            return attributes.getSessionId();
         }
+        return String.valueOf(UniqueId4j.getUniqueId19());
+    }
+
+    /**
+     * Creates the builder of the response reported to a callback, successful until told otherwise and
+     * stamped with the id of the current request. Callback overloads create it only when a callback is given,
+     * and on the success path only through {@link #success()}.
+     *
+     * @return the response builder, class {@link HttpWrapBuilder}
+     */
+    public static HttpWrapBuilder<?> wrap() {
+        return new HttpWrapBuilder<>().ok(null).requestId(getCurrentSessionId());
+    }
+
+    /**
+     * Creates the response reported to a callback when an operation succeeds, stamped with the id of the current request.
+     * Callback overloads create it only when a callback is given.
+     *
+     * @return the response, class {@link WrapResponse}
+     */
+    public static WrapResponse<?> success() {
+        return wrap().build();
     }
 
     /**
@@ -91,12 +148,16 @@ public abstract class Redis4j {
 
     /**
      * Provides an instance of Redis4jStatusConfig.
-     * If an instance is already available, returns it.
+     * If an instance is already available, returns it without acquiring the lock.
      * Otherwise, retrieves and returns a new instance using Redis4jBeanConfig.
      *
      * @return An instance of Redis4jStatusConfig, class {@link Redis4jStatusConfig}
      */
     protected static Redis4jStatusConfig jStatusConfigProvider() {
+        Redis4jStatusConfig e = jStatusConfig;
+        if (e != null) {
+            return e;
+        }
         lock.lock();
         try {
             if (Object4j.allNotNull(jStatusConfig)) {
@@ -115,12 +176,16 @@ public abstract class Redis4j {
 
     /**
      * Provides an instance of Redis4jConfigService.
-     * If an instance is already available, returns it.
+     * If an instance is already available, returns it without acquiring the lock.
      * Otherwise, retrieves and returns a new instance using Redis4jBeanConfig.
      *
      * @return An instance of Redis4jConfigService, class {@link Redis4jConfigService}
      */
     public static Redis4jConfigService provider() {
+        Redis4jConfigService e = service;
+        if (e != null) {
+            return e;
+        }
         lock.lock();
         try {
             if (Object4j.allNotNull(service)) {
@@ -135,13 +200,17 @@ public abstract class Redis4j {
 
     /**
      * Provides an instance of Redis4jService.
-     * If an instance is already available, returns it.
+     * If an instance is already available, returns it without acquiring the lock.
      * Otherwise, retrieves and returns a new instance using Redis4jBeanConfig.
      * In case of an exception during the retrieval, it is caught and ignored.
      *
      * @return An instance of Redis4jService, class {@link Redis4jService}
      */
     public static Redis4jService jProvider() {
+        Redis4jService e = jService;
+        if (e != null) {
+            return e;
+        }
         lock.lock();
         try {
             if (Object4j.allNotNull(jService)) {
@@ -160,12 +229,16 @@ public abstract class Redis4j {
 
     /**
      * Provides an instance of RedisClient.
-     * If an instance is already available, returns it.
+     * If an instance is already available, returns it without acquiring the lock.
      * Otherwise, creates and returns a new instance using the Redis URI.
      *
      * @return An instance of RedisClient, class {@link RedisClient}
      */
     public static RedisClient clientProvider() {
+        RedisClient e = client;
+        if (e != null) {
+            return e;
+        }
         lock.lock();
         try {
             if (Object4j.allNotNull(client)) {
@@ -180,12 +253,16 @@ public abstract class Redis4j {
 
     /**
      * Provides an instance of StatefulRedisConnection.
-     * If an instance is already available, returns it.
+     * If an instance is already available, returns it without acquiring the lock.
      * Otherwise, creates and returns a new instance using the RedisClient.
      *
      * @return An instance of StatefulRedisConnection, class {@link StatefulRedisConnection}
      */
     public static StatefulRedisConnection<String, String> connectionProvider() {
+        StatefulRedisConnection<String, String> e = connection;
+        if (e != null) {
+            return e;
+        }
         lock.lock();
         try {
             if (Object4j.allNotNull(connection)) {
@@ -201,6 +278,318 @@ public abstract class Redis4j {
         }
     }
 
+    /**
+     * Provides an instance of Redis4jAsyncService.
+     * If an instance is already available, returns it without acquiring the lock.
+     * Otherwise, retrieves and returns a new instance using Redis4jBeanConfig.
+     *
+     * @return An instance of Redis4jAsyncService, class {@link Redis4jAsyncService}
+     */
+    public static Redis4jAsyncService jAsyncProvider() {
+        Redis4jAsyncService e = jAsyncService;
+        if (e != null) {
+            return e;
+        }
+        lock.lock();
+        try {
+            if (Object4j.allNotNull(jAsyncService)) {
+                return jAsyncService;
+            }
+            try {
+                jAsyncService = Redis4jBeanConfig.getBean(Redis4jAsyncServiceImpl.class);
+            } catch (Exception ignored) {
+
+            }
+            return jAsyncService;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Provides an instance of Redis4jReactiveService.
+     * If an instance is already available, returns it without acquiring the lock.
+     * Otherwise, retrieves and returns a new instance using Redis4jBeanConfig.
+     *
+     * @return An instance of Redis4jReactiveService, class {@link Redis4jReactiveService}
+     */
+    public static Redis4jReactiveService jReactiveProvider() {
+        Redis4jReactiveService e = jReactiveService;
+        if (e != null) {
+            return e;
+        }
+        lock.lock();
+        try {
+            if (Object4j.allNotNull(jReactiveService)) {
+                return jReactiveService;
+            }
+            try {
+                jReactiveService = Redis4jBeanConfig.getBean(Redis4jReactiveServiceImpl.class);
+            } catch (Exception ignored) {
+
+            }
+            return jReactiveService;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Provides an instance of Redis4jNearCacheService.
+     * If an instance is already available, returns it without acquiring the lock.
+     * Otherwise, retrieves and returns a new instance using Redis4jBeanConfig.
+     *
+     * @return An instance of Redis4jNearCacheService, class {@link Redis4jNearCacheService}
+     */
+    public static Redis4jNearCacheService jNearCacheProvider() {
+        Redis4jNearCacheService e = jNearCacheService;
+        if (e != null) {
+            return e;
+        }
+        lock.lock();
+        try {
+            if (Object4j.allNotNull(jNearCacheService)) {
+                return jNearCacheService;
+            }
+            try {
+                jNearCacheService = Redis4jBeanConfig.getBean(Redis4jNearCacheServiceImpl.class);
+            } catch (Exception ignored) {
+
+            }
+            return jNearCacheService;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Provides an instance of Redis4jLoadingService.
+     * If an instance is already available, returns it without acquiring the lock.
+     * Otherwise, retrieves and returns a new instance using Redis4jBeanConfig.
+     *
+     * @return An instance of Redis4jLoadingService, class {@link Redis4jLoadingService}
+     */
+    public static Redis4jLoadingService jLoadingProvider() {
+        Redis4jLoadingService e = jLoadingService;
+        if (e != null) {
+            return e;
+        }
+        lock.lock();
+        try {
+            if (Object4j.allNotNull(jLoadingService)) {
+                return jLoadingService;
+            }
+            try {
+                jLoadingService = Redis4jBeanConfig.getBean(Redis4jLoadingServiceImpl.class);
+            } catch (Exception ignored) {
+
+            }
+            return jLoadingService;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Provides the per-operation metrics of the Redis4j service.
+     * If an instance is already available, returns it without acquiring the lock.
+     * Otherwise, retrieves and returns the instance using Redis4jBeanConfig.
+     *
+     * @return An instance of Redis4jMetrics, class {@link Redis4jMetrics}
+     */
+    public static Redis4jMetrics metricsProvider() {
+        Redis4jMetrics e = metrics;
+        if (e != null) {
+            return e;
+        }
+        lock.lock();
+        try {
+            if (Object4j.allNotNull(metrics)) {
+                return metrics;
+            }
+            try {
+                metrics = Redis4jBeanConfig.getBean(Redis4jMetrics.class);
+            } catch (Exception ignored) {
+
+            }
+            return metrics;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Provides the Lettuce command latencies and connection events, per server endpoint and command type.
+     * If an instance is already available, returns it without acquiring the lock.
+     * Otherwise, retrieves and returns the instance using Redis4jBeanConfig.
+     *
+     * @return An instance of Redis4jCommandMetrics, class {@link Redis4jCommandMetrics}
+     */
+    public static Redis4jCommandMetrics commandMetricsProvider() {
+        Redis4jCommandMetrics e = commandMetrics;
+        if (e != null) {
+            return e;
+        }
+        lock.lock();
+        try {
+            if (Object4j.allNotNull(commandMetrics)) {
+                return commandMetrics;
+            }
+            try {
+                commandMetrics = Redis4jBeanConfig.getBean(Redis4jCommandMetrics.class);
+            } catch (Exception ignored) {
+
+            }
+            return commandMetrics;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Provides an instance of StatefulRedisConnection whose values are encoded with the same Jackson serializer
+     * as the Redis dispatch template, see {@link Redis4jConfigService#createValueCodec()}.
+     * If an instance is already available, returns it without acquiring the lock.
+     * Otherwise, creates and returns a new instance using the RedisClient.
+     *
+     * @return An instance of StatefulRedisConnection, class {@link StatefulRedisConnection}
+     */
+    public static StatefulRedisConnection<String, Object> objectConnectionProvider() {
+        StatefulRedisConnection<String, Object> e = objectConnection;
+        if (e != null) {
+            return e;
+        }
+        lock.lock();
+        try {
+            if (Object4j.allNotNull(objectConnection)) {
+                return objectConnection;
+            }
+            RedisClient c = clientProvider();
+            if (Object4j.allNotNull(c)) {
+                objectConnection = c.connect(provider().createValueCodec());
+            }
+            return objectConnection;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Discards every collaborator resolved by the providers, so that the next call resolves them again
+     * from the current application context. The connection and client created by the facade are closed.
+     * Invoked when the bean factory is (re)initialized, e.g. after a context refresh.
+     */
+    public static void refresh() {
+        lock.lock();
+        try {
+            StatefulRedisConnection<String, String> c = connection;
+            StatefulRedisConnection<String, Object> o = objectConnection;
+            RedisClient r = client;
+            jService = null;
+            jAsyncService = null;
+            jReactiveService = null;
+            jNearCacheService = null;
+            jLoadingService = null;
+            metrics = null;
+            commandMetrics = null;
+            objectConnection = null;
+            service = null;
+            jStatusConfig = null;
+            connection = null;
+            client = null;
+            if (c != null) {
+                try {
+                    c.close();
+                } catch (Exception ignored) {
+
+                }
+            }
+            if (o != null) {
+                try {
+                    o.close();
+                } catch (Exception ignored) {
+
+                }
+            }
+            if (r != null) {
+                try {
+                    r.shutdown();
+                } catch (Exception ignored) {
+
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves a snapshot of the near cache counters, i.e. hits, misses, invalidations, evictions, size and weight.
+     * The near cache is enabled by the property near_cache_enabled and invalidated by the server through CLIENT TRACKING.
+     *
+     * @return the snapshot, class {@link Redis4jNearCacheStats}, or null if the near cache service is not available
+     */
+    public static Redis4jNearCacheStats nearCacheStats() {
+        Redis4jNearCacheService e = jNearCacheProvider();
+        if (e == null) {
+            return null;
+        }
+        return e.stats();
+    }
+
+    /**
+     * Retrieves a snapshot of the value compression counters, i.e. values compressed, skipped and decompressed,
+     * bytes before and after compression, and CPU time spent. Compression is enabled by the property compression_enabled.
+     *
+     * @return the snapshot, class {@link Redis4jCompressionStats}
+     */
+    public static Redis4jCompressionStats compressionStats() {
+        return provider().compressionStats();
+    }
+
+    /**
+     * Retrieves a snapshot of the per-operation metrics of the Redis4j service, i.e. calls, errors, bytes read and written,
+     * and latency percentiles of every operation called so far. Metrics are enabled by the property metrics_enabled.
+     *
+     * @return the snapshots by operation name, class {@link Redis4jOperationStats}, or an empty map when metrics are unavailable
+     */
+    public static Map<String, Redis4jOperationStats> operationStats() {
+        Redis4jMetrics e = metricsProvider();
+        if (e == null) {
+            return Collections.emptyMap();
+        }
+        return e.snapshot();
+    }
+
+    /**
+     * Retrieves the Lettuce command latencies of the last emission interval, per server endpoint and command type.
+     * First response latencies cover the server and the network, so comparing them with the latencies of {@link #operationStats()}
+     * tells server slowness from queueing in the client. Latencies are collected when the property command_latency_enabled is set.
+     *
+     * @return the latencies, class {@link Redis4jCommandStats}, or an empty list when they are unavailable
+     */
+    public static List<Redis4jCommandStats> commandStats() {
+        Redis4jCommandMetrics e = commandMetricsProvider();
+        if (e == null) {
+            return Collections.emptyList();
+        }
+        return e.commandStats();
+    }
+
+    /**
+     * Retrieves the connection events counted per server endpoint since startup, i.e. connects, activations,
+     * disconnects, deactivations, reconnect attempts and reconnect failures.
+     *
+     * @return the counters, class {@link Redis4jEndpointStats}, or an empty list when they are unavailable
+     */
+    public static List<Redis4jEndpointStats> endpointStats() {
+        Redis4jCommandMetrics e = commandMetricsProvider();
+        if (e == null) {
+            return Collections.emptyList();
+        }
+        return e.endpointStats();
+    }
+
     /**
      * Checks if the Redis configuration service is enabled.
      *
@@ -286,6 +675,16 @@ public abstract class Redis4j {
         return e.stringDispatch();
     }
 
+    /**
+     * Creates a new batch bound to the Redis dispatch template.
+     * Operations queued on the batch are sent as one pipeline when the batch is executed.
+     *
+     * @return a new {@link Redis4jBatch} instance
+     */
+    public static Redis4jBatch batch() {
+        return new Redis4jBatch(dispatch());
+    }
+
     /**
      * Provides an instance of RedisCommands for synchronous operations.
      *
@@ -313,6 +712,26 @@ public abstract class Redis4j {
         return connectionProvider().reactive();
     }
 
+    /**
+     * Provides an instance of RedisAsyncCommands for asynchronous operations on serialized objects.
+     *
+     * @return An instance of RedisAsyncCommands, class {@link RedisAsyncCommands}
+     */
+    public static RedisAsyncCommands<String, Object> objectAsyncCommands() {
+        StatefulRedisConnection<String, Object> c = objectConnectionProvider();
+        return c == null ? null : c.async();
+    }
+
+    /**
+     * Provides an instance of RedisReactiveCommands for reactive operations on serialized objects.
+     *
+     * @return An instance of RedisReactiveCommands, class {@link RedisReactiveCommands}
+     */
+    public static RedisReactiveCommands<String, Object> objectReactiveCommands() {
+        StatefulRedisConnection<String, Object> c = objectConnectionProvider();
+        return c == null ? null : c.reactive();
+    }
+
     /**
      * Get list of basic objects of cache
      *
@@ -341,6 +760,54 @@ public abstract class Redis4j {
         return e.keys(dispatch(), pattern, callback);
     }
 
+    /**
+     * Iterates lazily over the keys matching the specified pattern using SCAN.
+     * The returned stream must be closed, e.g. using try-with-resources.
+     *
+     * @param pattern the glob-style pattern used to match keys
+     * @return a lazy stream of keys
+     */
+    public static Stream<String> scan(String pattern) {
+        Redis4jService e = jProvider();
+        if (e == null) {
+            return Stream.empty();
+        }
+        return e.scan(dispatch(), pattern, provider().getProperties().getKeysScanCount());
+    }
+
+    /**
+     * Iterates lazily over the keys matching the specified pattern using SCAN.
+     * The returned stream must be closed, e.g. using try-with-resources.
+     *
+     * @param pattern the glob-style pattern used to match keys
+     * @param count   the COUNT hint, i.e. the number of keys fetched per page
+     * @return a lazy stream of keys
+     */
+    public static Stream<String> scan(String pattern, long count) {
+        Redis4jService e = jProvider();
+        if (e == null) {
+            return Stream.empty();
+        }
+        return e.scan(dispatch(), pattern, count);
+    }
+
+    /**
+     * Iterates lazily over the keys matching the specified pattern and data type using SCAN.
+     * The returned stream must be closed, e.g. using try-with-resources.
+     *
+     * @param pattern the glob-style pattern used to match keys
+     * @param count   the COUNT hint, i.e. the number of keys fetched per page
+     * @param type    the optional TYPE filter, an instance of {@link DataType}
+     * @return a lazy stream of keys
+     */
+    public static Stream<String> scan(String pattern, long count, DataType type) {
+        Redis4jService e = jProvider();
+        if (e == null) {
+            return Stream.empty();
+        }
+        return e.scan(dispatch(), pattern, count, type);
+    }
+
     /**
      * Sets a cache object in Redis using the given RedisTemplate.
      * If the dispatch template or value is null, or if the key is empty or blank, the method returns without performing any operation.
@@ -536,45 +1003,242 @@ public abstract class Redis4j {
     }
 
     /**
-     * Retrieves a cache object from Redis using the given RedisTemplate.
+     * Retrieves a cache object from Redis as a given type, decoding the stored bytes straight into the type
+     * instead of reading a map tree and converting it again.
      * If the dispatch template is null, or if the key is empty or blank, the method returns null.
      *
-     * @param key The key of the cache object to retrieve.
-     * @param <T> The type of the value being retrieved.
+     * @param key  The key of the cache object to retrieve.
+     * @param type The type to read the value as.
+     * @param <T>  The type of the value being retrieved.
      * @return The cached object associated with the given key, or null if the dispatch template is null or the key is empty/blank.
      */
-    public static <T> T canGetCacheObject(String key) {
-        if (!canExecuted()) {
+    public static <T> T getCacheObject(String key, Class<T> type) {
+        Redis4jService e = jProvider();
+        if (e == null) {
             return null;
         }
-        return getCacheObject(key);
+        return e.getCacheObject(dispatch(), key, type);
     }
 
     /**
-     * Removes a cache object from Redis using the given RedisTemplate.
-     * If the dispatch template is null, or if the key is empty or blank, the method returns false.
+     * Retrieves a cache object from Redis as a given type, with an optional callback for handling exceptions.
+     * If the dispatch template is null, or if the key is empty or blank, the method returns null.
      *
-     * @param key The key of the cache object to remove.
-     * @return true if the cache object was successfully removed; false otherwise.
+     * @param key      The key of the cache object to retrieve.
+     * @param type     The type to read the value as.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the value being retrieved.
+     * @return The cached object associated with the given key, or null if the dispatch template is null or the key is empty/blank.
      */
-    public static boolean removeObject(String key) {
+    public static <T> T getCacheObject(String key, Class<T> type, Redis4jWrapCallback callback) {
         Redis4jService e = jProvider();
         if (e == null) {
-            return false;
+            return null;
         }
-        return e.removeObject(dispatch(), key);
+        return e.getCacheObject(dispatch(), key, type, callback);
     }
 
     /**
-     * Removes a cache object from Redis using the given RedisTemplate, with an optional callback
-     * for handling exceptions. If the dispatch template is null, or if the key is empty or blank,
-     * the method returns false.
+     * Retrieves a cache object, or loads, stores and returns it when the key is missing.
+     * Concurrent misses of the key within the JVM share a single invocation of the loader, and with
+     * load_lease_enabled a short-lived Redis lease lets a single node run it across instances.
+     * A null result of the loader is returned but not stored.
      *
-     * @param key      The key of the cache object to remove.
-     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
-     * @return true if the cache object was successfully removed; false otherwise.
+     * @param key     The key of the cache object.
+     * @param type    The type to read the cached value as.
+     * @param timeout The expiration timeout of the stored object, 0 for no expiration.
+     * @param unit    The time unit for the expiration timeout.
+     * @param loader  The function computing the value on a miss, class {@link Supplier}
+     * @param <T>     The type of the value.
+     * @return the cached or loaded value, or null if the key is empty/blank, the loader is null or returned null.
      */
-    public static boolean removeObject(String key, Redis4jWrapCallback callback) {
+    public static <T> T getOrLoad(String key, Class<T> type, long timeout, TimeUnit unit, Supplier<T> loader) {
+        Redis4jLoadingService e = jLoadingProvider();
+        if (e == null) {
+            return loader == null ? null : loader.get();
+        }
+        return e.getOrLoad(dispatch(), key, type, timeout, unit, loader);
+    }
+
+    /**
+     * Retrieves a cache object, or loads, stores and returns it when the key is missing,
+     * with an optional callback for handling exceptions, including those thrown by the loader.
+     *
+     * @param key      The key of the cache object.
+     * @param type     The type to read the cached value as.
+     * @param timeout  The expiration timeout of the stored object, 0 for no expiration.
+     * @param unit     The time unit for the expiration timeout.
+     * @param loader   The function computing the value on a miss, class {@link Supplier}
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the value.
+     * @return the cached or loaded value, or null if an exception occurs.
+     */
+    public static <T> T getOrLoad(String key, Class<T> type, long timeout, TimeUnit unit, Supplier<T> loader, Redis4jWrapCallback callback) {
+        Redis4jLoadingService e = jLoadingProvider();
+        if (e == null) {
+            return null;
+        }
+        return e.getOrLoad(dispatch(), key, type, timeout, unit, loader, callback);
+    }
+
+    /**
+     * Sets a cache object together with its compute time and expiration instant,
+     * so that {@link #getRefreshableObject(String, Class, long, TimeUnit, Supplier)} can refresh it before it expires.
+     *
+     * @param key     The key under which the value should be stored.
+     * @param value   The value to be cached.
+     * @param delta   The time it took to compute the value, in milliseconds.
+     * @param timeout The expiration timeout for the cached object, 0 for no expiration (and no early refresh).
+     * @param unit    The time unit for the expiration timeout.
+     * @param <T>     The type of the value being cached.
+     */
+    public static <T> void setRefreshableObject(String key, T value, long delta, long timeout, TimeUnit unit) {
+        Redis4jLoadingService e = jLoadingProvider();
+        if (e == null) {
+            return;
+        }
+        e.setRefreshableObject(dispatch(), key, value, delta, timeout, unit);
+    }
+
+    /**
+     * Retrieves a refreshable cache object, or loads, stores and returns it when the key is missing.
+     * On a hit, the value is recomputed in the background before it expires with a probability growing as the expiry
+     * approaches (XFetch), while the caller gets the current value.
+     *
+     * @param key     The key of the cache object.
+     * @param type    The type to read the cached value as.
+     * @param timeout The expiration timeout of the stored object, 0 for no expiration.
+     * @param unit    The time unit for the expiration timeout.
+     * @param loader  The function computing the value, class {@link Supplier}
+     * @param <T>     The type of the value.
+     * @return the cached or loaded value, or null if the key is empty/blank, the loader is null or returned null.
+     */
+    public static <T> T getRefreshableObject(String key, Class<T> type, long timeout, TimeUnit unit, Supplier<T> loader) {
+        Redis4jLoadingService e = jLoadingProvider();
+        if (e == null) {
+            return loader == null ? null : loader.get();
+        }
+        return e.getRefreshableObject(dispatch(), key, type, timeout, unit, loader);
+    }
+
+    /**
+     * Retrieves a refreshable cache object, or loads, stores and returns it when the key is missing,
+     * with an optional callback for handling exceptions, including those thrown by the loader.
+     *
+     * @param key      The key of the cache object.
+     * @param type     The type to read the cached value as.
+     * @param timeout  The expiration timeout of the stored object, 0 for no expiration.
+     * @param unit     The time unit for the expiration timeout.
+     * @param loader   The function computing the value, class {@link Supplier}
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the value.
+     * @return the cached or loaded value, or null if an exception occurs.
+     */
+    public static <T> T getRefreshableObject(String key, Class<T> type, long timeout, TimeUnit unit, Supplier<T> loader, Redis4jWrapCallback callback) {
+        Redis4jLoadingService e = jLoadingProvider();
+        if (e == null) {
+            return null;
+        }
+        return e.getRefreshableObject(dispatch(), key, type, timeout, unit, loader, callback);
+    }
+
+    /**
+     * Retrieves a cache object with stale-while-revalidate semantics, or loads, stores and returns it when the key is missing.
+     * Between the soft and the hard timeout, the stale value is served at once and a single background reload is triggered.
+     *
+     * @param key         The key of the cache object.
+     * @param type        The type to read the cached value as.
+     * @param softTimeout The time after which the stored object is stale and reloaded in the background.
+     * @param hardTimeout The expiration timeout of the stored object, not lower than softTimeout, 0 for no expiration.
+     * @param unit        The time unit for both timeouts.
+     * @param loader      The function computing the value, class {@link Supplier}
+     * @param <T>         The type of the value.
+     * @return the cached, stale or loaded value, or null if the key is empty/blank, the loader is null or returned null.
+     */
+    public static <T> T getOrRevalidate(String key, Class<T> type, long softTimeout, long hardTimeout, TimeUnit unit, Supplier<T> loader) {
+        Redis4jLoadingService e = jLoadingProvider();
+        if (e == null) {
+            return loader == null ? null : loader.get();
+        }
+        return e.getOrRevalidate(dispatch(), key, type, softTimeout, hardTimeout, unit, loader);
+    }
+
+    /**
+     * Retrieves a cache object with stale-while-revalidate semantics, or loads, stores and returns it when the key is missing,
+     * with an optional callback for handling exceptions, including those thrown by the loader.
+     *
+     * @param key         The key of the cache object.
+     * @param type        The type to read the cached value as.
+     * @param softTimeout The time after which the stored object is stale and reloaded in the background.
+     * @param hardTimeout The expiration timeout of the stored object, not lower than softTimeout, 0 for no expiration.
+     * @param unit        The time unit for both timeouts.
+     * @param loader      The function computing the value, class {@link Supplier}
+     * @param callback    An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>         The type of the value.
+     * @return the cached, stale or loaded value, or null if an exception occurs.
+     */
+    public static <T> T getOrRevalidate(String key, Class<T> type, long softTimeout, long hardTimeout, TimeUnit unit, Supplier<T> loader, Redis4jWrapCallback callback) {
+        Redis4jLoadingService e = jLoadingProvider();
+        if (e == null) {
+            return null;
+        }
+        return e.getOrRevalidate(dispatch(), key, type, softTimeout, hardTimeout, unit, loader, callback);
+    }
+
+    /**
+     * Retrieves a snapshot of the read-through counters, i.e. hits, misses, stale serves and background refresh outcomes
+     * of getOrLoad, getRefreshableObject and getOrRevalidate.
+     *
+     * @return the snapshot, class {@link Redis4jLoadingStats}, or null if the loading service is not available
+     */
+    public static Redis4jLoadingStats loadingStats() {
+        Redis4jLoadingService e = jLoadingProvider();
+        if (e == null) {
+            return null;
+        }
+        return e.stats();
+    }
+
+    /**
+     * Retrieves a cache object from Redis using the given RedisTemplate.
+     * If the dispatch template is null, or if the key is empty or blank, the method returns null.
+     *
+     * @param key The key of the cache object to retrieve.
+     * @param <T> The type of the value being retrieved.
+     * @return The cached object associated with the given key, or null if the dispatch template is null or the key is empty/blank.
+     */
+    public static <T> T canGetCacheObject(String key) {
+        if (!canExecuted()) {
+            return null;
+        }
+        return getCacheObject(key);
+    }
+
+    /**
+     * Removes a cache object from Redis using the given RedisTemplate.
+     * If the dispatch template is null, or if the key is empty or blank, the method returns false.
+     *
+     * @param key The key of the cache object to remove.
+     * @return true if the cache object was successfully removed; false otherwise.
+     */
+    public static boolean removeObject(String key) {
+        Redis4jService e = jProvider();
+        if (e == null) {
+            return false;
+        }
+        return e.removeObject(dispatch(), key);
+    }
+
+    /**
+     * Removes a cache object from Redis using the given RedisTemplate, with an optional callback
+     * for handling exceptions. If the dispatch template is null, or if the key is empty or blank,
+     * the method returns false.
+     *
+     * @param key      The key of the cache object to remove.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return true if the cache object was successfully removed; false otherwise.
+     */
+    public static boolean removeObject(String key, Redis4jWrapCallback callback) {
         Redis4jService e = jProvider();
         if (e == null) {
             return false;
@@ -682,6 +1346,41 @@ public abstract class Redis4j {
         return e.getCacheList(dispatch(), key, callback);
     }
 
+    /**
+     * Retrieves a list of objects from Redis as a given element type, decoding each stored element straight into the type.
+     * If the dispatch template is null, or if the key is empty or blank, the method returns an empty list.
+     *
+     * @param key  The key under which the list is stored.
+     * @param type The type to read the elements as.
+     * @param <T>  The type of objects in the list.
+     * @return The list of objects stored under the given key; an empty list if the operation failed or the inputs were invalid.
+     */
+    public static <T> List<T> getCacheList(String key, Class<T> type) {
+        Redis4jService e = jProvider();
+        if (e == null) {
+            return Collections.emptyList();
+        }
+        return e.getCacheList(dispatch(), key, type);
+    }
+
+    /**
+     * Retrieves a list of objects from Redis as a given element type, with an optional callback for handling exceptions.
+     * If the dispatch template is null, or if the key is empty or blank, the method returns an empty list.
+     *
+     * @param key      The key under which the list is stored.
+     * @param type     The type to read the elements as.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of objects in the list.
+     * @return The list of objects stored under the given key; an empty list if the operation failed or the inputs were invalid.
+     */
+    public static <T> List<T> getCacheList(String key, Class<T> type, Redis4jWrapCallback callback) {
+        Redis4jService e = jProvider();
+        if (e == null) {
+            return Collections.emptyList();
+        }
+        return e.getCacheList(dispatch(), key, type, callback);
+    }
+
     /**
      * Retrieves a list of objects from Redis using the given RedisTemplate.
      * If the dispatch template is null, or if the key is empty or blank, the method returns an empty list.
@@ -749,6 +1448,63 @@ public abstract class Redis4j {
         return setCacheSet(key, dataSet);
     }
 
+    /**
+     * Replaces a set of objects in Redis with an expiration timeout in a single network exchange
+     * (MULTI, DEL, chunked SADD, EXPIRE, EXEC sent as one pipeline).
+     * If the time unit is null, the dataSet is null or empty, the timeout is under one millisecond, or the key is empty or blank, the method returns null.
+     *
+     * @param key     The key under which the set is stored.
+     * @param dataSet The set of data to be stored.
+     * @param timeout The expiration timeout for the set.
+     * @param unit    The time unit for the expiration timeout.
+     * @param <T>     The type of objects in the set.
+     * @return The BoundSetOperations for the given key and set, or null if the operation failed or the inputs were invalid.
+     */
+    public static <T> BoundSetOperations<String, T> setCacheSet(String key, Set<T> dataSet, long timeout, TimeUnit unit) {
+        Redis4jService e = jProvider();
+        if (e == null) {
+            return null;
+        }
+        return e.setCacheSet(dispatch(), key, dataSet, timeout, unit);
+    }
+
+    /**
+     * Replaces a set of objects in Redis with an expiration timeout in a single network exchange,
+     * with an optional callback for handling exceptions.
+     *
+     * @param key      The key under which the set is stored.
+     * @param dataSet  The set of data to be stored.
+     * @param timeout  The expiration timeout for the set.
+     * @param unit     The time unit for the expiration timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of objects in the set.
+     * @return The BoundSetOperations for the given key and set, or null if the operation failed or the inputs were invalid.
+     */
+    public static <T> BoundSetOperations<String, T> setCacheSet(String key, Set<T> dataSet, long timeout, TimeUnit unit, Redis4jWrapCallback callback) {
+        Redis4jService e = jProvider();
+        if (e == null) {
+            return null;
+        }
+        return e.setCacheSet(dispatch(), key, dataSet, timeout, unit, callback);
+    }
+
+    /**
+     * Replaces a set of objects in Redis with an expiration timeout in a single network exchange.
+     *
+     * @param key     The key under which the set is stored.
+     * @param dataSet The set of data to be stored.
+     * @param timeout The expiration timeout for the set.
+     * @param unit    The time unit for the expiration timeout.
+     * @param <T>     The type of objects in the set.
+     * @return The BoundSetOperations for the given key and set, or null if the operation failed or the inputs were invalid.
+     */
+    public static <T> BoundSetOperations<String, T> canSetCacheSet(String key, Set<T> dataSet, long timeout, TimeUnit unit) {
+        if (!canExecuted()) {
+            return null;
+        }
+        return setCacheSet(key, dataSet, timeout, unit);
+    }
+
     /**
      * Retrieves a set of objects from Redis using the given RedisTemplate and key.
      * If the dispatch template is null or the key is empty or blank, the method returns an empty set.
@@ -936,6 +1692,41 @@ public abstract class Redis4j {
         return e.getCacheMap(dispatch(), key, callback);
     }
 
+    /**
+     * Retrieves a map from Redis as a given value type, decoding each stored hash value straight into the type.
+     * If the dispatch template is null or the key is empty or blank, the method returns an empty map.
+     *
+     * @param key  The key under which the map is stored.
+     * @param type The type to read the hash values as.
+     * @param <V>  The type of the hash values.
+     * @return A map of the hash keys to their values, or an empty map if the dispatch template or key is invalid.
+     */
+    public static <V> Map<String, V> getCacheMap(String key, Class<V> type) {
+        Redis4jService e = jProvider();
+        if (e == null) {
+            return Collections.emptyMap();
+        }
+        return e.getCacheMap(dispatch(), key, type);
+    }
+
+    /**
+     * Retrieves a map from Redis as a given value type, with an optional callback for handling exceptions.
+     * If the dispatch template is null or the key is empty or blank, the method returns an empty map.
+     *
+     * @param key      The key under which the map is stored.
+     * @param type     The type to read the hash values as.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <V>      The type of the hash values.
+     * @return A map of the hash keys to their values, or an empty map if the dispatch template or key is invalid.
+     */
+    public static <V> Map<String, V> getCacheMap(String key, Class<V> type, Redis4jWrapCallback callback) {
+        Redis4jService e = jProvider();
+        if (e == null) {
+            return Collections.emptyMap();
+        }
+        return e.getCacheMap(dispatch(), key, type, callback);
+    }
+
     /**
      * Retrieves a map of objects from Redis using the given RedisTemplate and key.
      * If the dispatch template is null or the key is empty or blank,
@@ -1164,6 +1955,50 @@ public abstract class Redis4j {
         return e.containsKey(dispatch(), key, callback);
     }
 
+    /**
+     * Checks the existence of several keys in a single pipelined round-trip.
+     * Empty or blank keys are skipped, and whitespace is trimmed from each key before checking.
+     *
+     * @param keys The keys to check for existence in the Redis store.
+     * @return A map from each key to true if it exists, false otherwise.
+     */
+    public static Map<String, Boolean> existsMany(Collection<String> keys) {
+        Redis4jService e = jProvider();
+        if (e == null) {
+            return Collections.emptyMap();
+        }
+        return e.existsMany(dispatch(), keys);
+    }
+
+    /**
+     * Checks the existence of several keys in a single pipelined round-trip,
+     * with an optional callback for handling exceptions.
+     *
+     * @param keys     The keys to check for existence in the Redis store.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return A map from each key to true if it exists, false otherwise.
+     */
+    public static Map<String, Boolean> existsMany(Collection<String> keys, Redis4jWrapCallback callback) {
+        Redis4jService e = jProvider();
+        if (e == null) {
+            return Collections.emptyMap();
+        }
+        return e.existsMany(dispatch(), keys, callback);
+    }
+
+    /**
+     * Checks the existence of several keys in a single pipelined round-trip.
+     *
+     * @param keys The keys to check for existence in the Redis store.
+     * @return A map from each key to true if it exists, false otherwise.
+     */
+    public static Map<String, Boolean> canExistsMany(Collection<String> keys) {
+        if (!canExecuted()) {
+            return Collections.emptyMap();
+        }
+        return existsMany(keys);
+    }
+
     /**
      * Publishes data to a specified Redis topic using the given RedisTemplate.
      * If the dispatch template, topic, or data is null, the method returns without performing any action.
@@ -1428,8 +2263,8 @@ public abstract class Redis4j {
 
     /**
      * Increases the value of a numeric key in Redis and sets an expiration time for the key.
-     * If the dispatch template, key, timeout, or time unit is invalid (null, empty, negative), returns -1 indicating failure.
-     * Uses the {@link #increaseKey} method to increment the key's value and then sets an expiration using the provided timeout and unit.
+     * If the dispatch template, key, timeout, or time unit is invalid (null, empty, negative, or a timeout under one millisecond), returns -1 indicating failure.
+     * Increments the key's value and sets the expiration in one atomic server-side step (a cached Lua script).
      *
      * @param key     The key whose value is to be incremented and set with expiration.
      * @param timeout The duration after which the key should expire.
@@ -1446,8 +2281,8 @@ public abstract class Redis4j {
 
     /**
      * Increases the value of a numeric key in Redis and sets an expiration time for the key, with an optional callback for handling exceptions.
-     * If the dispatch template, key, timeout, or time unit is invalid (null, empty, negative), returns -1 indicating failure.
-     * Uses the {@link #increaseKey} method to increment the key's value and then sets an expiration using the provided timeout and unit.
+     * If the dispatch template, key, timeout, or time unit is invalid (null, empty, negative, or a timeout under one millisecond), returns -1 indicating failure.
+     * Increments the key's value and sets the expiration in one atomic server-side step (a cached Lua script).
      * Logs any exceptions that occur during the operation.
      *
      * @param key      The key whose value is to be incremented and set with expiration.
@@ -1466,8 +2301,8 @@ public abstract class Redis4j {
 
     /**
      * Increases the value of a numeric key in Redis and sets an expiration time for the key.
-     * If the dispatch template, key, timeout, or time unit is invalid (null, empty, negative), returns -1 indicating failure.
-     * Uses the {@link #increaseKey} method to increment the key's value and then sets an expiration using the provided timeout and unit.
+     * If the dispatch template, key, timeout, or time unit is invalid (null, empty, negative, or a timeout under one millisecond), returns -1 indicating failure.
+     * Increments the key's value and sets the expiration in one atomic server-side step (a cached Lua script).
      *
      * @param key     The key whose value is to be incremented and set with expiration.
      * @param timeout The duration after which the key should expire.
@@ -1483,8 +2318,8 @@ public abstract class Redis4j {
 
     /**
      * Decreases the value of a numeric key in Redis and sets an expiration time for the key.
-     * If the dispatch template, key, timeout, or time unit is invalid (null, empty, negative), returns -1 indicating failure.
-     * Uses the {@link #decreaseKey} method to decrement the key's value and then sets an expiration using the provided timeout and unit.
+     * If the dispatch template, key, timeout, or time unit is invalid (null, empty, negative, or a timeout under one millisecond), returns -1 indicating failure.
+     * Decrements the key's value and sets the expiration in one atomic server-side step (a cached Lua script).
      *
      * @param key     The key whose value is to be decremented and set with expiration.
      * @param timeout The duration after which the key should expire.
@@ -1501,8 +2336,8 @@ public abstract class Redis4j {
 
     /**
      * Decreases the value of a numeric key in Redis and sets an expiration time for the key, with an optional callback for handling exceptions.
-     * If the dispatch template, key, timeout, or time unit is invalid (null, empty, negative), returns -1 indicating failure.
-     * Uses the {@link #decreaseKey} method to decrement the key's value and then sets an expiration using the provided timeout and unit.
+     * If the dispatch template, key, timeout, or time unit is invalid (null, empty, negative, or a timeout under one millisecond), returns -1 indicating failure.
+     * Decrements the key's value and sets the expiration in one atomic server-side step (a cached Lua script).
      * Logs any exceptions that occur during the operation.
      *
      * @param key      The key whose value is to be decremented and set with expiration.
@@ -1521,8 +2356,8 @@ public abstract class Redis4j {
 
     /**
      * Decreases the value of a numeric key in Redis and sets an expiration time for the key.
-     * If the dispatch template, key, timeout, or time unit is invalid (null, empty, negative), returns -1 indicating failure.
-     * Uses the {@link #decreaseKey} method to decrement the key's value and then sets an expiration using the provided timeout and unit.
+     * If the dispatch template, key, timeout, or time unit is invalid (null, empty, negative, or a timeout under one millisecond), returns -1 indicating failure.
+     * Decrements the key's value and sets the expiration in one atomic server-side step (a cached Lua script).
      *
      * @param key     The key whose value is to be decremented and set with expiration.
      * @param timeout The duration after which the key should expire.
@@ -1538,8 +2373,8 @@ public abstract class Redis4j {
 
     /**
      * Increases the value of a numeric key in Redis by a specified increment and sets an expiration time for the key.
-     * If the dispatch template, key, timeout, unit, or value is invalid (null, empty, negative), returns -1 indicating failure.
-     * Uses the {@link #increaseKeyBy} method to increment the key's value by the specified amount and then sets an expiration using the provided timeout and unit.
+     * If the dispatch template, key, timeout, unit, or value is invalid (null, empty, negative, or a timeout under one millisecond), returns -1 indicating failure.
+     * Increments the key's value by the specified amount and sets the expiration in one atomic server-side step (a cached Lua script).
      *
      * @param key     The key whose value is to be incremented and set with expiration.
      * @param value   The amount by which to increment the key's value.
@@ -1557,8 +2392,8 @@ public abstract class Redis4j {
 
     /**
      * Increases the value of a numeric key in Redis by a specified increment and sets an expiration time for the key, with an optional callback for handling exceptions.
-     * If the dispatch template, key, timeout, unit, or value is invalid (null, empty, negative), returns -1 indicating failure.
-     * Uses the {@link #increaseKeyBy} method to increment the key's value by the specified amount and then sets an expiration using the provided timeout and unit.
+     * If the dispatch template, key, timeout, unit, or value is invalid (null, empty, negative, or a timeout under one millisecond), returns -1 indicating failure.
+     * Increments the key's value by the specified amount and sets the expiration in one atomic server-side step (a cached Lua script).
      * Logs any exceptions that occur during the operation.
      *
      * @param key      The key whose value is to be incremented and set with expiration.
@@ -1578,8 +2413,8 @@ public abstract class Redis4j {
 
     /**
      * Increases the value of a numeric key in Redis by a specified increment and sets an expiration time for the key.
-     * If the dispatch template, key, timeout, unit, or value is invalid (null, empty, negative), returns -1 indicating failure.
-     * Uses the {@link #increaseKeyBy} method to increment the key's value by the specified amount and then sets an expiration using the provided timeout and unit.
+     * If the dispatch template, key, timeout, unit, or value is invalid (null, empty, negative, or a timeout under one millisecond), returns -1 indicating failure.
+     * Increments the key's value by the specified amount and sets the expiration in one atomic server-side step (a cached Lua script).
      *
      * @param key     The key whose value is to be incremented and set with expiration.
      * @param value   The amount by which to increment the key's value.
@@ -1596,8 +2431,8 @@ public abstract class Redis4j {
 
     /**
      * Decreases the value of a numeric key in Redis by a specified decrement and sets an expiration time for the key.
-     * If the dispatch template, key, timeout, unit, or value is invalid (null, empty, negative), returns -1 indicating failure.
-     * Uses the {@link #decreaseKeyBy} method to decrement the key's value by the specified amount and then sets an expiration using the provided timeout and unit.
+     * If the dispatch template, key, timeout, unit, or value is invalid (null, empty, negative, or a timeout under one millisecond), returns -1 indicating failure.
+     * Decrements the key's value by the specified amount and sets the expiration in one atomic server-side step (a cached Lua script).
      *
      * @param key     The key whose value is to be decremented and set with expiration.
      * @param value   The amount by which to decrement the key's value.
@@ -1615,8 +2450,8 @@ public abstract class Redis4j {
 
     /**
      * Decreases the value of a numeric key in Redis by a specified decrement and sets an expiration time for the key, with an optional callback for handling exceptions.
-     * If the dispatch template, key, timeout, unit, or value is invalid (null, empty, negative), returns -1 indicating failure.
-     * Uses the {@link #decreaseKeyBy} method to decrement the key's value by the specified amount and then sets an expiration using the provided timeout and unit.
+     * If the dispatch template, key, timeout, unit, or value is invalid (null, empty, negative, or a timeout under one millisecond), returns -1 indicating failure.
+     * Decrements the key's value by the specified amount and sets the expiration in one atomic server-side step (a cached Lua script).
      * Logs any exceptions that occur during the operation.
      *
      * @param key      The key whose value is to be decremented and set with expiration.
@@ -1636,8 +2471,8 @@ public abstract class Redis4j {
 
     /**
      * Decreases the value of a numeric key in Redis by a specified decrement and sets an expiration time for the key.
-     * If the dispatch template, key, timeout, unit, or value is invalid (null, empty, negative), returns -1 indicating failure.
-     * Uses the {@link #decreaseKeyBy} method to decrement the key's value by the specified amount and then sets an expiration using the provided timeout and unit.
+     * If the dispatch template, key, timeout, unit, or value is invalid (null, empty, negative, or a timeout under one millisecond), returns -1 indicating failure.
+     * Decrements the key's value by the specified amount and sets the expiration in one atomic server-side step (a cached Lua script).
      *
      * @param key     The key whose value is to be decremented and set with expiration.
      * @param value   The amount by which to decrement the key's value.
@@ -1653,33 +2488,267 @@ public abstract class Redis4j {
     }
 
     /**
-     * Set a key-value pair in Redis.
+     * Increases the value of a numeric key in Redis and sets an expiration time only if the key has none yet,
+     * i.e. when the counter is created, so that hot counters do not extend their time to live on every hit.
+     * The increment and the conditional expiration run in one atomic server-side step (a cached Lua script).
+     * If the key, timeout or time unit is invalid (null, empty, negative, or a timeout under one millisecond), returns -1 indicating failure.
      *
-     * @param key   the key
-     * @param value the value
-     * @return the result of the set operation
+     * @param key      The key whose value is to be incremented.
+     * @param timeout  The duration after which the key should expire, applied when the key has no expiration.
+     * @param unit     The time unit of the expiration timeout.
+     * @return The incremented value of the key, or -1 if an error occurs.
      */
-    public static String set(String key, String value) {
-        return syncCommands().set(key, value);
+    public static long increaseKeyExNx(String key, long timeout, TimeUnit unit) {
+        Redis4jService e = jProvider();
+        if (e == null) {
+            return -1;
+        }
+        return e.increaseKeyExNx(dispatch(), key, timeout, unit);
     }
 
     /**
-     * Get the value of a key from Redis.
+     * Increases the value of a numeric key in Redis and sets an expiration time only if the key has none yet, with an optional callback for handling exceptions.
+     * i.e. when the counter is created, so that hot counters do not extend their time to live on every hit.
+     * The increment and the conditional expiration run in one atomic server-side step (a cached Lua script).
+     * If the key, timeout or time unit is invalid (null, empty, negative, or a timeout under one millisecond), returns -1 indicating failure.
      *
-     * @param key the key
-     * @return the value
+     * @param key      The key whose value is to be incremented.
+     * @param timeout  The duration after which the key should expire, applied when the key has no expiration.
+     * @param unit     The time unit of the expiration timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return The incremented value of the key, or -1 if an error occurs.
      */
-    public static String get(String key) {
-        return syncCommands().get(key);
+    public static long increaseKeyExNx(String key, long timeout, TimeUnit unit, Redis4jWrapCallback callback) {
+        Redis4jService e = jProvider();
+        if (e == null) {
+            return -1;
+        }
+        return e.increaseKeyExNx(dispatch(), key, timeout, unit, callback);
     }
 
     /**
-     * Publish a message to a Redis channel.
+     * Increases the value of a numeric key in Redis and sets an expiration time only if the key has none yet,
+     * i.e. when the counter is created, so that hot counters do not extend their time to live on every hit.
+     * The increment and the conditional expiration run in one atomic server-side step (a cached Lua script).
+     * If the key, timeout or time unit is invalid (null, empty, negative, or a timeout under one millisecond), returns -1 indicating failure.
      *
-     * @param channel the channel
-     * @param message the message
-     * @return the number of clients that received the message
-     */
+     * @param key      The key whose value is to be incremented.
+     * @param timeout  The duration after which the key should expire, applied when the key has no expiration.
+     * @param unit     The time unit of the expiration timeout.
+     * @return The incremented value of the key, or -1 if an error occurs.
+     */
+    public static long canIncreaseKeyExNx(String key, long timeout, TimeUnit unit) {
+        if (!canExecuted()) {
+            return -1;
+        }
+        return increaseKeyExNx(key, timeout, unit);
+    }
+
+    /**
+     * Decreases the value of a numeric key in Redis and sets an expiration time only if the key has none yet,
+     * i.e. when the counter is created, so that hot counters do not extend their time to live on every hit.
+     * The decrement and the conditional expiration run in one atomic server-side step (a cached Lua script).
+     * If the key, timeout or time unit is invalid (null, empty, negative, or a timeout under one millisecond), returns -1 indicating failure.
+     *
+     * @param key      The key whose value is to be decremented.
+     * @param timeout  The duration after which the key should expire, applied when the key has no expiration.
+     * @param unit     The time unit of the expiration timeout.
+     * @return The decremented value of the key, or -1 if an error occurs.
+     */
+    public static long decreaseKeyExNx(String key, long timeout, TimeUnit unit) {
+        Redis4jService e = jProvider();
+        if (e == null) {
+            return -1;
+        }
+        return e.decreaseKeyExNx(dispatch(), key, timeout, unit);
+    }
+
+    /**
+     * Decreases the value of a numeric key in Redis and sets an expiration time only if the key has none yet, with an optional callback for handling exceptions.
+     * i.e. when the counter is created, so that hot counters do not extend their time to live on every hit.
+     * The decrement and the conditional expiration run in one atomic server-side step (a cached Lua script).
+     * If the key, timeout or time unit is invalid (null, empty, negative, or a timeout under one millisecond), returns -1 indicating failure.
+     *
+     * @param key      The key whose value is to be decremented.
+     * @param timeout  The duration after which the key should expire, applied when the key has no expiration.
+     * @param unit     The time unit of the expiration timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return The decremented value of the key, or -1 if an error occurs.
+     */
+    public static long decreaseKeyExNx(String key, long timeout, TimeUnit unit, Redis4jWrapCallback callback) {
+        Redis4jService e = jProvider();
+        if (e == null) {
+            return -1;
+        }
+        return e.decreaseKeyExNx(dispatch(), key, timeout, unit, callback);
+    }
+
+    /**
+     * Decreases the value of a numeric key in Redis and sets an expiration time only if the key has none yet,
+     * i.e. when the counter is created, so that hot counters do not extend their time to live on every hit.
+     * The decrement and the conditional expiration run in one atomic server-side step (a cached Lua script).
+     * If the key, timeout or time unit is invalid (null, empty, negative, or a timeout under one millisecond), returns -1 indicating failure.
+     *
+     * @param key      The key whose value is to be decremented.
+     * @param timeout  The duration after which the key should expire, applied when the key has no expiration.
+     * @param unit     The time unit of the expiration timeout.
+     * @return The decremented value of the key, or -1 if an error occurs.
+     */
+    public static long canDecreaseKeyExNx(String key, long timeout, TimeUnit unit) {
+        if (!canExecuted()) {
+            return -1;
+        }
+        return decreaseKeyExNx(key, timeout, unit);
+    }
+
+    /**
+     * Increases the value of a numeric key in Redis by a specified amount and sets an expiration time only if the key has none yet,
+     * i.e. when the counter is created, so that hot counters do not extend their time to live on every hit.
+     * The increment and the conditional expiration run in one atomic server-side step (a cached Lua script).
+     * If the key, timeout, value or time unit is invalid (null, empty, negative, or a timeout under one millisecond), returns -1 indicating failure.
+     *
+     * @param key      The key whose value is to be incremented.
+     * @param value    The amount by which to increment the key's value.
+     * @param timeout  The duration after which the key should expire, applied when the key has no expiration.
+     * @param unit     The time unit of the expiration timeout.
+     * @return The incremented value of the key, or -1 if an error occurs.
+     */
+    public static long increaseKeyByExNx(String key, long value, long timeout, TimeUnit unit) {
+        Redis4jService e = jProvider();
+        if (e == null) {
+            return -1;
+        }
+        return e.increaseKeyByExNx(dispatch(), key, value, timeout, unit);
+    }
+
+    /**
+     * Increases the value of a numeric key in Redis by a specified amount and sets an expiration time only if the key has none yet, with an optional callback for handling exceptions.
+     * i.e. when the counter is created, so that hot counters do not extend their time to live on every hit.
+     * The increment and the conditional expiration run in one atomic server-side step (a cached Lua script).
+     * If the key, timeout, value or time unit is invalid (null, empty, negative, or a timeout under one millisecond), returns -1 indicating failure.
+     *
+     * @param key      The key whose value is to be incremented.
+     * @param value    The amount by which to increment the key's value.
+     * @param timeout  The duration after which the key should expire, applied when the key has no expiration.
+     * @param unit     The time unit of the expiration timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return The incremented value of the key, or -1 if an error occurs.
+     */
+    public static long increaseKeyByExNx(String key, long value, long timeout, TimeUnit unit, Redis4jWrapCallback callback) {
+        Redis4jService e = jProvider();
+        if (e == null) {
+            return -1;
+        }
+        return e.increaseKeyByExNx(dispatch(), key, value, timeout, unit, callback);
+    }
+
+    /**
+     * Increases the value of a numeric key in Redis by a specified amount and sets an expiration time only if the key has none yet,
+     * i.e. when the counter is created, so that hot counters do not extend their time to live on every hit.
+     * The increment and the conditional expiration run in one atomic server-side step (a cached Lua script).
+     * If the key, timeout, value or time unit is invalid (null, empty, negative, or a timeout under one millisecond), returns -1 indicating failure.
+     *
+     * @param key      The key whose value is to be incremented.
+     * @param value    The amount by which to increment the key's value.
+     * @param timeout  The duration after which the key should expire, applied when the key has no expiration.
+     * @param unit     The time unit of the expiration timeout.
+     * @return The incremented value of the key, or -1 if an error occurs.
+     */
+    public static long canIncreaseKeyByExNx(String key, long value, long timeout, TimeUnit unit) {
+        if (!canExecuted()) {
+            return -1;
+        }
+        return increaseKeyByExNx(key, value, timeout, unit);
+    }
+
+    /**
+     * Decreases the value of a numeric key in Redis by a specified amount and sets an expiration time only if the key has none yet,
+     * i.e. when the counter is created, so that hot counters do not extend their time to live on every hit.
+     * The decrement and the conditional expiration run in one atomic server-side step (a cached Lua script).
+     * If the key, timeout, value or time unit is invalid (null, empty, negative, or a timeout under one millisecond), returns -1 indicating failure.
+     *
+     * @param key      The key whose value is to be decremented.
+     * @param value    The amount by which to decrement the key's value.
+     * @param timeout  The duration after which the key should expire, applied when the key has no expiration.
+     * @param unit     The time unit of the expiration timeout.
+     * @return The decremented value of the key, or -1 if an error occurs.
+     */
+    public static long decreaseKeyByExNx(String key, long value, long timeout, TimeUnit unit) {
+        Redis4jService e = jProvider();
+        if (e == null) {
+            return -1;
+        }
+        return e.decreaseKeyByExNx(dispatch(), key, value, timeout, unit);
+    }
+
+    /**
+     * Decreases the value of a numeric key in Redis by a specified amount and sets an expiration time only if the key has none yet, with an optional callback for handling exceptions.
+     * i.e. when the counter is created, so that hot counters do not extend their time to live on every hit.
+     * The decrement and the conditional expiration run in one atomic server-side step (a cached Lua script).
+     * If the key, timeout, value or time unit is invalid (null, empty, negative, or a timeout under one millisecond), returns -1 indicating failure.
+     *
+     * @param key      The key whose value is to be decremented.
+     * @param value    The amount by which to decrement the key's value.
+     * @param timeout  The duration after which the key should expire, applied when the key has no expiration.
+     * @param unit     The time unit of the expiration timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return The decremented value of the key, or -1 if an error occurs.
+     */
+    public static long decreaseKeyByExNx(String key, long value, long timeout, TimeUnit unit, Redis4jWrapCallback callback) {
+        Redis4jService e = jProvider();
+        if (e == null) {
+            return -1;
+        }
+        return e.decreaseKeyByExNx(dispatch(), key, value, timeout, unit, callback);
+    }
+
+    /**
+     * Decreases the value of a numeric key in Redis by a specified amount and sets an expiration time only if the key has none yet,
+     * i.e. when the counter is created, so that hot counters do not extend their time to live on every hit.
+     * The decrement and the conditional expiration run in one atomic server-side step (a cached Lua script).
+     * If the key, timeout, value or time unit is invalid (null, empty, negative, or a timeout under one millisecond), returns -1 indicating failure.
+     *
+     * @param key      The key whose value is to be decremented.
+     * @param value    The amount by which to decrement the key's value.
+     * @param timeout  The duration after which the key should expire, applied when the key has no expiration.
+     * @param unit     The time unit of the expiration timeout.
+     * @return The decremented value of the key, or -1 if an error occurs.
+     */
+    public static long canDecreaseKeyByExNx(String key, long value, long timeout, TimeUnit unit) {
+        if (!canExecuted()) {
+            return -1;
+        }
+        return decreaseKeyByExNx(key, value, timeout, unit);
+    }
+
+    /**
+     * Set a key-value pair in Redis.
+     *
+     * @param key   the key
+     * @param value the value
+     * @return the result of the set operation
+     */
+    public static String set(String key, String value) {
+        return syncCommands().set(key, value);
+    }
+
+    /**
+     * Get the value of a key from Redis.
+     *
+     * @param key the key
+     * @return the value
+     */
+    public static String get(String key) {
+        return syncCommands().get(key);
+    }
+
+    /**
+     * Publish a message to a Redis channel.
+     *
+     * @param channel the channel
+     * @param message the message
+     * @return the number of clients that received the message
+     */
     public static Long publish(String channel, String message) {
         return syncCommands().publish(channel, message);
     }
@@ -2059,15 +3128,63 @@ public abstract class Redis4j {
 
     /**
      * Retrieves a map of default keys along with their Redis data types.
+     * Keys are walked with SCAN and their types are fetched in pipelined pages, see {@link #inventory(String, boolean, Consumer)}.
      *
      * @return a map where keys are default Redis keys and values are their corresponding data types.
      */
     public static Map<String, String> defaultKeysWk() {
-        Collection<String> keys = canDefaultKeys();
-        if (Collection4j.isEmpty(keys)) {
+        if (!canExecuted()) {
             return Collections.emptyMap();
         }
-        return keys.stream().collect(Collectors.toMap(key -> key, key -> syncCommands().type(key)));
+        Map<String, String> map = new LinkedHashMap<>();
+        inventory("*", false, info -> map.put(info.getKey(), info.getType()));
+        return map;
+    }
+
+    /**
+     * Streams a description (type, ttl) of every key matching the pattern, page by page,
+     * using the page size and concurrency limit configured under spring.redis4j.
+     *
+     * @param pattern  the glob-style pattern used to match keys
+     * @param consumer the consumer receiving each key description, class {@link Redis4jKeyInfo}
+     * @return the number of keys emitted
+     */
+    public static long inventory(String pattern, Consumer<Redis4jKeyInfo> consumer) {
+        return inventory(pattern, false, consumer);
+    }
+
+    /**
+     * Streams a description (type, ttl and optionally memory usage) of every key matching the pattern, page by page,
+     * using the page size and concurrency limit configured under spring.redis4j.
+     *
+     * @param pattern    the glob-style pattern used to match keys
+     * @param withMemory true to also fetch the MEMORY USAGE of every key
+     * @param consumer   the consumer receiving each key description, class {@link Redis4jKeyInfo}
+     * @return the number of keys emitted
+     */
+    public static long inventory(String pattern, boolean withMemory, Consumer<Redis4jKeyInfo> consumer) {
+        Redis4jProperties properties = provider().getProperties();
+        return inventory(pattern, properties.getInventoryPageSize(), properties.getInventoryConcurrency(), withMemory, consumer);
+    }
+
+    /**
+     * Streams a description (type, ttl and optionally memory usage) of every key matching the pattern.
+     * Keys are walked with SCAN, and for each page TYPE, PTTL and MEMORY USAGE are pipelined,
+     * holding at most {@code pageSize * concurrency} entries in memory.
+     *
+     * @param pattern     the glob-style pattern used to match keys
+     * @param pageSize    the COUNT hint used by SCAN, i.e. the number of keys per page
+     * @param concurrency the maximum number of pages in flight
+     * @param withMemory  true to also fetch the MEMORY USAGE of every key
+     * @param consumer    the consumer receiving each key description, class {@link Redis4jKeyInfo}
+     * @return the number of keys emitted
+     */
+    public static long inventory(String pattern, int pageSize, int concurrency, boolean withMemory, Consumer<Redis4jKeyInfo> consumer) {
+        StatefulRedisConnection<String, String> c = connectionProvider();
+        if (c == null) {
+            return 0;
+        }
+        return Redis4jInventory.inventory(c.async(), c.getTimeout(), pattern, pageSize, concurrency, withMemory, consumer);
     }
 
     /**
@@ -2106,4 +3223,2197 @@ public abstract class Redis4j {
                         .build();
         }
     }
+
+    /**
+     * Sets a cache object in Redis asynchronously.
+     *
+     * @param key      The key under which the value should be stored.
+     * @param value    The value to be cached.
+     * @param <T>      The type of the value being cached.
+     * @return a future completed with true if the value was stored, false if the commands or value is null, or the key is empty/blank.
+     */
+    public static <T> CompletableFuture<Boolean> setCacheObjectAsync(String key, T value) {
+        Redis4jAsyncService e = jAsyncProvider();
+        if (e == null) {
+            return CompletableFuture.completedFuture(false);
+        }
+        return e.setCacheObject(objectAsyncCommands(), key, value);
+    }
+
+    /**
+     * Sets a cache object in Redis asynchronously, with an optional callback for handling exceptions.
+     *
+     * @param key      The key under which the value should be stored.
+     * @param value    The value to be cached.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the value being cached.
+     * @return a future completed with true if the value was stored; false otherwise or if an exception occurs.
+     */
+    public static <T> CompletableFuture<Boolean> setCacheObjectAsync(String key, T value, Redis4jWrapCallback callback) {
+        Redis4jAsyncService e = jAsyncProvider();
+        if (e == null) {
+            return CompletableFuture.completedFuture(false);
+        }
+        return e.setCacheObject(objectAsyncCommands(), key, value, callback);
+    }
+
+    /**
+     * Sets a cache object in Redis asynchronously with an expiration, issued as a single SET PX command.
+     *
+     * @param key      The key under which the value should be stored.
+     * @param value    The value to be cached.
+     * @param timeout  The expiration timeout for the cached value.
+     * @param unit     The time unit of the timeout.
+     * @param <T>      The type of the value being cached.
+     * @return a future completed with true if the value was stored, false if the arguments are invalid.
+     */
+    public static <T> CompletableFuture<Boolean> setCacheObjectAsync(String key, T value, long timeout, TimeUnit unit) {
+        Redis4jAsyncService e = jAsyncProvider();
+        if (e == null) {
+            return CompletableFuture.completedFuture(false);
+        }
+        return e.setCacheObject(objectAsyncCommands(), key, value, timeout, unit);
+    }
+
+    /**
+     * Sets a cache object in Redis asynchronously with an expiration, with an optional callback for handling exceptions.
+     *
+     * @param key      The key under which the value should be stored.
+     * @param value    The value to be cached.
+     * @param timeout  The expiration timeout for the cached value.
+     * @param unit     The time unit of the timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the value being cached.
+     * @return a future completed with true if the value was stored; false otherwise or if an exception occurs.
+     */
+    public static <T> CompletableFuture<Boolean> setCacheObjectAsync(String key, T value, long timeout, TimeUnit unit, Redis4jWrapCallback callback) {
+        Redis4jAsyncService e = jAsyncProvider();
+        if (e == null) {
+            return CompletableFuture.completedFuture(false);
+        }
+        return e.setCacheObject(objectAsyncCommands(), key, value, timeout, unit, callback);
+    }
+
+    /**
+     * Sets an expiration on a key asynchronously.
+     *
+     * @param key      The key to expire.
+     * @param timeout  The expiration timeout.
+     * @param unit     The time unit of the timeout.
+     * @return a future completed with true if the expiration was set, false if the key does not exist or the arguments are invalid.
+     */
+    public static CompletableFuture<Boolean> expireAsync(String key, long timeout, TimeUnit unit) {
+        Redis4jAsyncService e = jAsyncProvider();
+        if (e == null) {
+            return CompletableFuture.completedFuture(false);
+        }
+        return e.expire(objectAsyncCommands(), key, timeout, unit);
+    }
+
+    /**
+     * Sets an expiration on a key asynchronously, with an optional callback for handling exceptions.
+     *
+     * @param key      The key to expire.
+     * @param timeout  The expiration timeout.
+     * @param unit     The time unit of the timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a future completed with true if the expiration was set; false otherwise or if an exception occurs.
+     */
+    public static CompletableFuture<Boolean> expireAsync(String key, long timeout, TimeUnit unit, Redis4jWrapCallback callback) {
+        Redis4jAsyncService e = jAsyncProvider();
+        if (e == null) {
+            return CompletableFuture.completedFuture(false);
+        }
+        return e.expire(objectAsyncCommands(), key, timeout, unit, callback);
+    }
+
+    /**
+     * Retrieves a cache object from Redis asynchronously.
+     *
+     * @param key      The key of the cache object to retrieve.
+     * @param <T>      The type of the value being retrieved.
+     * @return a future completed with the cached object, or null if the key does not exist or is empty/blank.
+     */
+    public static <T> CompletableFuture<T> getCacheObjectAsync(String key) {
+        Redis4jAsyncService e = jAsyncProvider();
+        if (e == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return e.getCacheObject(objectAsyncCommands(), key);
+    }
+
+    /**
+     * Retrieves a cache object from Redis asynchronously, with an optional callback for handling exceptions.
+     *
+     * @param key      The key of the cache object to retrieve.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the value being retrieved.
+     * @return a future completed with the cached object, or null if the key does not exist or an exception occurs.
+     */
+    public static <T> CompletableFuture<T> getCacheObjectAsync(String key, Redis4jWrapCallback callback) {
+        Redis4jAsyncService e = jAsyncProvider();
+        if (e == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return e.getCacheObject(objectAsyncCommands(), key, callback);
+    }
+
+    /**
+     * Retrieves a cache object from Redis asynchronously as a given type, decoding the stored bytes straight into the type
+     * instead of reading a map tree and converting it again.
+     *
+     * @param key      The key of the cache object to retrieve.
+     * @param type     The type to read the value as.
+     * @param <T>      The type of the value being retrieved.
+     * @return a future completed with the cached object, or null if the key does not exist, the type is null or the key is empty/blank.
+     */
+    public static <T> CompletableFuture<T> getCacheObjectAsync(String key, Class<T> type) {
+        Redis4jAsyncService e = jAsyncProvider();
+        if (e == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return e.getCacheObject(objectAsyncCommands(), key, type);
+    }
+
+    /**
+     * Retrieves a cache object from Redis asynchronously as a given type, with an optional callback for handling exceptions.
+     *
+     * @param key      The key of the cache object to retrieve.
+     * @param type     The type to read the value as.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the value being retrieved.
+     * @return a future completed with the cached object, or null if the key does not exist or an exception occurs.
+     */
+    public static <T> CompletableFuture<T> getCacheObjectAsync(String key, Class<T> type, Redis4jWrapCallback callback) {
+        Redis4jAsyncService e = jAsyncProvider();
+        if (e == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return e.getCacheObject(objectAsyncCommands(), key, type, callback);
+    }
+
+    /**
+     * Removes a cache object from Redis asynchronously.
+     *
+     * @param key      The key of the cache object to remove.
+     * @return a future completed with true if the key was removed; false otherwise.
+     */
+    public static CompletableFuture<Boolean> removeObjectAsync(String key) {
+        Redis4jAsyncService e = jAsyncProvider();
+        if (e == null) {
+            return CompletableFuture.completedFuture(false);
+        }
+        return e.removeObject(objectAsyncCommands(), key);
+    }
+
+    /**
+     * Removes a cache object from Redis asynchronously, with an optional callback for handling exceptions.
+     *
+     * @param key      The key of the cache object to remove.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a future completed with true if the key was removed; false otherwise or if an exception occurs.
+     */
+    public static CompletableFuture<Boolean> removeObjectAsync(String key, Redis4jWrapCallback callback) {
+        Redis4jAsyncService e = jAsyncProvider();
+        if (e == null) {
+            return CompletableFuture.completedFuture(false);
+        }
+        return e.removeObject(objectAsyncCommands(), key, callback);
+    }
+
+    /**
+     * Appends the elements of a list to a Redis list asynchronously, using one variadic RPUSH.
+     *
+     * @param key      The key of the list.
+     * @param list     The elements to append.
+     * @param <T>      The type of the elements.
+     * @return a future completed with the length of the list after the push, or 0 if the list is empty or the key is empty/blank.
+     */
+    public static <T> CompletableFuture<Long> setCacheListAsync(String key, List<T> list) {
+        Redis4jAsyncService e = jAsyncProvider();
+        if (e == null) {
+            return CompletableFuture.completedFuture(0L);
+        }
+        return e.setCacheList(objectAsyncCommands(), key, list);
+    }
+
+    /**
+     * Appends the elements of a list to a Redis list asynchronously, with an optional callback for handling exceptions.
+     *
+     * @param key      The key of the list.
+     * @param list     The elements to append.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the elements.
+     * @return a future completed with the length of the list after the push, or 0 if an exception occurs.
+     */
+    public static <T> CompletableFuture<Long> setCacheListAsync(String key, List<T> list, Redis4jWrapCallback callback) {
+        Redis4jAsyncService e = jAsyncProvider();
+        if (e == null) {
+            return CompletableFuture.completedFuture(0L);
+        }
+        return e.setCacheList(objectAsyncCommands(), key, list, callback);
+    }
+
+    /**
+     * Retrieves all elements of a Redis list asynchronously.
+     *
+     * @param key      The key of the list.
+     * @param <T>      The type of the elements.
+     * @return a future completed with the elements, or an empty list if the key does not exist or is empty/blank.
+     */
+    public static <T> CompletableFuture<List<T>> getCacheListAsync(String key) {
+        Redis4jAsyncService e = jAsyncProvider();
+        if (e == null) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+        return e.getCacheList(objectAsyncCommands(), key);
+    }
+
+    /**
+     * Retrieves all elements of a Redis list asynchronously, with an optional callback for handling exceptions.
+     *
+     * @param key      The key of the list.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the elements.
+     * @return a future completed with the elements, or an empty list if an exception occurs.
+     */
+    public static <T> CompletableFuture<List<T>> getCacheListAsync(String key, Redis4jWrapCallback callback) {
+        Redis4jAsyncService e = jAsyncProvider();
+        if (e == null) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+        return e.getCacheList(objectAsyncCommands(), key, callback);
+    }
+
+    /**
+     * Retrieves all elements of a Redis list asynchronously as a given type, decoding each element straight into the type.
+     *
+     * @param key      The key of the list.
+     * @param type     The type to read the elements as.
+     * @param <T>      The type of the elements.
+     * @return a future completed with the elements, or an empty list if the key does not exist, the type is null or the key is empty/blank.
+     */
+    public static <T> CompletableFuture<List<T>> getCacheListAsync(String key, Class<T> type) {
+        Redis4jAsyncService e = jAsyncProvider();
+        if (e == null) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+        return e.getCacheList(objectAsyncCommands(), key, type);
+    }
+
+    /**
+     * Retrieves all elements of a Redis list asynchronously as a given type, with an optional callback for handling exceptions.
+     *
+     * @param key      The key of the list.
+     * @param type     The type to read the elements as.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the elements.
+     * @return a future completed with the elements, or an empty list if an exception occurs.
+     */
+    public static <T> CompletableFuture<List<T>> getCacheListAsync(String key, Class<T> type, Redis4jWrapCallback callback) {
+        Redis4jAsyncService e = jAsyncProvider();
+        if (e == null) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+        return e.getCacheList(objectAsyncCommands(), key, type, callback);
+    }
+
+    /**
+     * Adds the members of a set to a Redis set asynchronously, using one variadic SADD.
+     *
+     * @param key      The key of the set.
+     * @param dataSet  The members to add.
+     * @param <T>      The type of the members.
+     * @return a future completed with the number of members added, or 0 if the set is empty or the key is empty/blank.
+     */
+    public static <T> CompletableFuture<Long> setCacheSetAsync(String key, Set<T> dataSet) {
+        Redis4jAsyncService e = jAsyncProvider();
+        if (e == null) {
+            return CompletableFuture.completedFuture(0L);
+        }
+        return e.setCacheSet(objectAsyncCommands(), key, dataSet);
+    }
+
+    /**
+     * Adds the members of a set to a Redis set asynchronously, with an optional callback for handling exceptions.
+     *
+     * @param key      The key of the set.
+     * @param dataSet  The members to add.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the members.
+     * @return a future completed with the number of members added, or 0 if an exception occurs.
+     */
+    public static <T> CompletableFuture<Long> setCacheSetAsync(String key, Set<T> dataSet, Redis4jWrapCallback callback) {
+        Redis4jAsyncService e = jAsyncProvider();
+        if (e == null) {
+            return CompletableFuture.completedFuture(0L);
+        }
+        return e.setCacheSet(objectAsyncCommands(), key, dataSet, callback);
+    }
+
+    /**
+     * Retrieves all members of a Redis set asynchronously.
+     *
+     * @param key      The key of the set.
+     * @param <T>      The type of the members.
+     * @return a future completed with the members, or an empty set if the key does not exist or is empty/blank.
+     */
+    public static <T> CompletableFuture<Set<T>> getCacheSetAsync(String key) {
+        Redis4jAsyncService e = jAsyncProvider();
+        if (e == null) {
+            return CompletableFuture.completedFuture(Collections.emptySet());
+        }
+        return e.getCacheSet(objectAsyncCommands(), key);
+    }
+
+    /**
+     * Retrieves all members of a Redis set asynchronously, with an optional callback for handling exceptions.
+     *
+     * @param key      The key of the set.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the members.
+     * @return a future completed with the members, or an empty set if an exception occurs.
+     */
+    public static <T> CompletableFuture<Set<T>> getCacheSetAsync(String key, Redis4jWrapCallback callback) {
+        Redis4jAsyncService e = jAsyncProvider();
+        if (e == null) {
+            return CompletableFuture.completedFuture(Collections.emptySet());
+        }
+        return e.getCacheSet(objectAsyncCommands(), key, callback);
+    }
+
+    /**
+     * Stores the entries of a map in a Redis hash asynchronously.
+     *
+     * @param key      The key of the hash.
+     * @param map      The entries to store.
+     * @param <T>      The type of the values.
+     * @return a future completed with true if the entries were stored, false if the map is empty or the key is empty/blank.
+     */
+    public static <T> CompletableFuture<Boolean> setCacheMapAsync(String key, Map<String, T> map) {
+        Redis4jAsyncService e = jAsyncProvider();
+        if (e == null) {
+            return CompletableFuture.completedFuture(false);
+        }
+        return e.setCacheMap(objectAsyncCommands(), key, map);
+    }
+
+    /**
+     * Stores the entries of a map in a Redis hash asynchronously, with an optional callback for handling exceptions.
+     *
+     * @param key      The key of the hash.
+     * @param map      The entries to store.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the values.
+     * @return a future completed with true if the entries were stored; false otherwise or if an exception occurs.
+     */
+    public static <T> CompletableFuture<Boolean> setCacheMapAsync(String key, Map<String, T> map, Redis4jWrapCallback callback) {
+        Redis4jAsyncService e = jAsyncProvider();
+        if (e == null) {
+            return CompletableFuture.completedFuture(false);
+        }
+        return e.setCacheMap(objectAsyncCommands(), key, map, callback);
+    }
+
+    /**
+     * Retrieves all entries of a Redis hash asynchronously.
+     *
+     * @param key      The key of the hash.
+     * @return a future completed with the entries, or an empty map if the key does not exist or is empty/blank.
+     */
+    public static CompletableFuture<Map<String, Object>> getCacheMapAsync(String key) {
+        Redis4jAsyncService e = jAsyncProvider();
+        if (e == null) {
+            return CompletableFuture.completedFuture(Collections.emptyMap());
+        }
+        return e.getCacheMap(objectAsyncCommands(), key);
+    }
+
+    /**
+     * Retrieves all entries of a Redis hash asynchronously, with an optional callback for handling exceptions.
+     *
+     * @param key      The key of the hash.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a future completed with the entries, or an empty map if an exception occurs.
+     */
+    public static CompletableFuture<Map<String, Object>> getCacheMapAsync(String key, Redis4jWrapCallback callback) {
+        Redis4jAsyncService e = jAsyncProvider();
+        if (e == null) {
+            return CompletableFuture.completedFuture(Collections.emptyMap());
+        }
+        return e.getCacheMap(objectAsyncCommands(), key, callback);
+    }
+
+    /**
+     * Retrieves all entries of a Redis hash asynchronously, decoding each value straight into a given type.
+     *
+     * @param key      The key of the hash.
+     * @param type     The type to read the values as.
+     * @param <V>      The type of the values.
+     * @return a future completed with the entries, or an empty map if the key does not exist, the type is null or the key is empty/blank.
+     */
+    public static <V> CompletableFuture<Map<String, V>> getCacheMapAsync(String key, Class<V> type) {
+        Redis4jAsyncService e = jAsyncProvider();
+        if (e == null) {
+            return CompletableFuture.completedFuture(Collections.emptyMap());
+        }
+        return e.getCacheMap(objectAsyncCommands(), key, type);
+    }
+
+    /**
+     * Retrieves all entries of a Redis hash asynchronously as a given type, with an optional callback for handling exceptions.
+     *
+     * @param key      The key of the hash.
+     * @param type     The type to read the values as.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <V>      The type of the values.
+     * @return a future completed with the entries, or an empty map if an exception occurs.
+     */
+    public static <V> CompletableFuture<Map<String, V>> getCacheMapAsync(String key, Class<V> type, Redis4jWrapCallback callback) {
+        Redis4jAsyncService e = jAsyncProvider();
+        if (e == null) {
+            return CompletableFuture.completedFuture(Collections.emptyMap());
+        }
+        return e.getCacheMap(objectAsyncCommands(), key, type, callback);
+    }
+
+    /**
+     * Sets a single field of a Redis hash asynchronously.
+     *
+     * @param key      The key of the hash.
+     * @param hKey     The field of the hash.
+     * @param value    The value to store.
+     * @param <T>      The type of the value.
+     * @return a future completed with true once the field is stored, false if the arguments are invalid.
+     */
+    public static <T> CompletableFuture<Boolean> setCacheMapValueAsync(String key, String hKey, T value) {
+        Redis4jAsyncService e = jAsyncProvider();
+        if (e == null) {
+            return CompletableFuture.completedFuture(false);
+        }
+        return e.setCacheMapValue(objectAsyncCommands(), key, hKey, value);
+    }
+
+    /**
+     * Sets a single field of a Redis hash asynchronously, with an optional callback for handling exceptions.
+     *
+     * @param key      The key of the hash.
+     * @param hKey     The field of the hash.
+     * @param value    The value to store.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the value.
+     * @return a future completed with true once the field is stored; false otherwise or if an exception occurs.
+     */
+    public static <T> CompletableFuture<Boolean> setCacheMapValueAsync(String key, String hKey, T value, Redis4jWrapCallback callback) {
+        Redis4jAsyncService e = jAsyncProvider();
+        if (e == null) {
+            return CompletableFuture.completedFuture(false);
+        }
+        return e.setCacheMapValue(objectAsyncCommands(), key, hKey, value, callback);
+    }
+
+    /**
+     * Retrieves a single field of a Redis hash asynchronously.
+     *
+     * @param key      The key of the hash.
+     * @param hKey     The field of the hash.
+     * @param <T>      The type of the value.
+     * @return a future completed with the value, or null if the field does not exist or the arguments are invalid.
+     */
+    public static <T> CompletableFuture<T> getCacheMapValueAsync(String key, String hKey) {
+        Redis4jAsyncService e = jAsyncProvider();
+        if (e == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return e.getCacheMapValue(objectAsyncCommands(), key, hKey);
+    }
+
+    /**
+     * Retrieves a single field of a Redis hash asynchronously, with an optional callback for handling exceptions.
+     *
+     * @param key      The key of the hash.
+     * @param hKey     The field of the hash.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the value.
+     * @return a future completed with the value, or null if the field does not exist or an exception occurs.
+     */
+    public static <T> CompletableFuture<T> getCacheMapValueAsync(String key, String hKey, Redis4jWrapCallback callback) {
+        Redis4jAsyncService e = jAsyncProvider();
+        if (e == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return e.getCacheMapValue(objectAsyncCommands(), key, hKey, callback);
+    }
+
+    /**
+     * Retrieves multiple fields of a Redis hash asynchronously, using one HMGET.
+     *
+     * @param key      The key of the hash.
+     * @param hKeys    The fields of the hash.
+     * @param <T>      The type of the values.
+     * @return a future completed with the values in field order, null for missing fields; an empty list if the arguments are invalid.
+     */
+    public static <T> CompletableFuture<List<T>> getMultiCacheMapValueAsync(String key, Collection<String> hKeys) {
+        Redis4jAsyncService e = jAsyncProvider();
+        if (e == null) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+        return e.getMultiCacheMapValue(objectAsyncCommands(), key, hKeys);
+    }
+
+    /**
+     * Retrieves multiple fields of a Redis hash asynchronously, with an optional callback for handling exceptions.
+     *
+     * @param key      The key of the hash.
+     * @param hKeys    The fields of the hash.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the values.
+     * @return a future completed with the values in field order, or an empty list if an exception occurs.
+     */
+    public static <T> CompletableFuture<List<T>> getMultiCacheMapValueAsync(String key, Collection<String> hKeys, Redis4jWrapCallback callback) {
+        Redis4jAsyncService e = jAsyncProvider();
+        if (e == null) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+        return e.getMultiCacheMapValue(objectAsyncCommands(), key, hKeys, callback);
+    }
+
+    /**
+     * Checks asynchronously whether a key exists.
+     *
+     * @param key      The key to check.
+     * @return a future completed with true if the key exists; false otherwise.
+     */
+    public static CompletableFuture<Boolean> containsKeyAsync(String key) {
+        Redis4jAsyncService e = jAsyncProvider();
+        if (e == null) {
+            return CompletableFuture.completedFuture(false);
+        }
+        return e.containsKey(objectAsyncCommands(), key);
+    }
+
+    /**
+     * Checks asynchronously whether a key exists, with an optional callback for handling exceptions.
+     *
+     * @param key      The key to check.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a future completed with true if the key exists; false otherwise or if an exception occurs.
+     */
+    public static CompletableFuture<Boolean> containsKeyAsync(String key, Redis4jWrapCallback callback) {
+        Redis4jAsyncService e = jAsyncProvider();
+        if (e == null) {
+            return CompletableFuture.completedFuture(false);
+        }
+        return e.containsKey(objectAsyncCommands(), key, callback);
+    }
+
+    /**
+     * Checks asynchronously whether each of the keys exists. One EXISTS is dispatched per key without waiting,
+     * so all checks share the same round-trip on the connection.
+     *
+     * @param keys     The keys to check.
+     * @return a future completed with the existence of each key, in the iteration order of the keys.
+     */
+    public static CompletableFuture<Map<String, Boolean>> existsManyAsync(Collection<String> keys) {
+        Redis4jAsyncService e = jAsyncProvider();
+        if (e == null) {
+            return CompletableFuture.completedFuture(Collections.emptyMap());
+        }
+        return e.existsMany(objectAsyncCommands(), keys);
+    }
+
+    /**
+     * Checks asynchronously whether each of the keys exists, with an optional callback for handling exceptions.
+     *
+     * @param keys     The keys to check.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a future completed with the existence of each key, or an empty map if an exception occurs.
+     */
+    public static CompletableFuture<Map<String, Boolean>> existsManyAsync(Collection<String> keys, Redis4jWrapCallback callback) {
+        Redis4jAsyncService e = jAsyncProvider();
+        if (e == null) {
+            return CompletableFuture.completedFuture(Collections.emptyMap());
+        }
+        return e.existsMany(objectAsyncCommands(), keys, callback);
+    }
+
+    /**
+     * Publishes a message to a channel asynchronously.
+     *
+     * @param topic    The channel to publish to, class {@link ChannelTopic}
+     * @param data     The message to publish.
+     * @param <T>      The type of the message.
+     * @return a future completed with the number of subscribers which received the message.
+     */
+    public static <T> CompletableFuture<Long> produceAsync(ChannelTopic topic, T data) {
+        Redis4jAsyncService e = jAsyncProvider();
+        if (e == null) {
+            return CompletableFuture.completedFuture(0L);
+        }
+        return e.produce(objectAsyncCommands(), topic, data);
+    }
+
+    /**
+     * Publishes a message to a channel asynchronously, with an optional callback for handling exceptions.
+     *
+     * @param topic    The channel to publish to, class {@link ChannelTopic}
+     * @param data     The message to publish.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the message.
+     * @return a future completed with the number of subscribers which received the message, or 0 if an exception occurs.
+     */
+    public static <T> CompletableFuture<Long> produceAsync(ChannelTopic topic, T data, Redis4jWrapCallback callback) {
+        Redis4jAsyncService e = jAsyncProvider();
+        if (e == null) {
+            return CompletableFuture.completedFuture(0L);
+        }
+        return e.produce(objectAsyncCommands(), topic, data, callback);
+    }
+
+    /**
+     * Increments a counter by one asynchronously.
+     *
+     * @param key      The key of the counter.
+     * @return a future completed with the value after the increment, or -1 if the key is empty/blank.
+     */
+    public static CompletableFuture<Long> increaseKeyAsync(String key) {
+        Redis4jAsyncService e = jAsyncProvider();
+        if (e == null) {
+            return CompletableFuture.completedFuture(-1L);
+        }
+        return e.increaseKey(objectAsyncCommands(), key);
+    }
+
+    /**
+     * Increments a counter by one asynchronously, with an optional callback for handling exceptions.
+     *
+     * @param key      The key of the counter.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a future completed with the value after the increment, or -1 if an exception occurs.
+     */
+    public static CompletableFuture<Long> increaseKeyAsync(String key, Redis4jWrapCallback callback) {
+        Redis4jAsyncService e = jAsyncProvider();
+        if (e == null) {
+            return CompletableFuture.completedFuture(-1L);
+        }
+        return e.increaseKey(objectAsyncCommands(), key, callback);
+    }
+
+    /**
+     * Decrements a counter by one asynchronously.
+     *
+     * @param key      The key of the counter.
+     * @return a future completed with the value after the decrement, or -1 if the key is empty/blank.
+     */
+    public static CompletableFuture<Long> decreaseKeyAsync(String key) {
+        Redis4jAsyncService e = jAsyncProvider();
+        if (e == null) {
+            return CompletableFuture.completedFuture(-1L);
+        }
+        return e.decreaseKey(objectAsyncCommands(), key);
+    }
+
+    /**
+     * Decrements a counter by one asynchronously, with an optional callback for handling exceptions.
+     *
+     * @param key      The key of the counter.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a future completed with the value after the decrement, or -1 if an exception occurs.
+     */
+    public static CompletableFuture<Long> decreaseKeyAsync(String key, Redis4jWrapCallback callback) {
+        Redis4jAsyncService e = jAsyncProvider();
+        if (e == null) {
+            return CompletableFuture.completedFuture(-1L);
+        }
+        return e.decreaseKey(objectAsyncCommands(), key, callback);
+    }
+
+    /**
+     * Increments a counter by the specified amount asynchronously.
+     *
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to add.
+     * @return a future completed with the value after the increment, or -1 if the arguments are invalid.
+     */
+    public static CompletableFuture<Long> increaseKeyByAsync(String key, long value) {
+        Redis4jAsyncService e = jAsyncProvider();
+        if (e == null) {
+            return CompletableFuture.completedFuture(-1L);
+        }
+        return e.increaseKeyBy(objectAsyncCommands(), key, value);
+    }
+
+    /**
+     * Increments a counter by the specified amount asynchronously, with an optional callback for handling exceptions.
+     *
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to add.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a future completed with the value after the increment, or -1 if an exception occurs.
+     */
+    public static CompletableFuture<Long> increaseKeyByAsync(String key, long value, Redis4jWrapCallback callback) {
+        Redis4jAsyncService e = jAsyncProvider();
+        if (e == null) {
+            return CompletableFuture.completedFuture(-1L);
+        }
+        return e.increaseKeyBy(objectAsyncCommands(), key, value, callback);
+    }
+
+    /**
+     * Decrements a counter by the specified amount asynchronously.
+     *
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to subtract.
+     * @return a future completed with the value after the decrement, or -1 if the arguments are invalid.
+     */
+    public static CompletableFuture<Long> decreaseKeyByAsync(String key, long value) {
+        Redis4jAsyncService e = jAsyncProvider();
+        if (e == null) {
+            return CompletableFuture.completedFuture(-1L);
+        }
+        return e.decreaseKeyBy(objectAsyncCommands(), key, value);
+    }
+
+    /**
+     * Decrements a counter by the specified amount asynchronously, with an optional callback for handling exceptions.
+     *
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to subtract.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a future completed with the value after the decrement, or -1 if an exception occurs.
+     */
+    public static CompletableFuture<Long> decreaseKeyByAsync(String key, long value, Redis4jWrapCallback callback) {
+        Redis4jAsyncService e = jAsyncProvider();
+        if (e == null) {
+            return CompletableFuture.completedFuture(-1L);
+        }
+        return e.decreaseKeyBy(objectAsyncCommands(), key, value, callback);
+    }
+
+    /**
+     * Increments a counter by one and sets its expiration asynchronously, in one atomic server-side step (a cached Lua script).
+     *
+     * @param key      The key of the counter.
+     * @param timeout  The expiration timeout.
+     * @param unit     The time unit of the timeout.
+     * @return a future completed with the value after the increment, or -1 if the arguments are invalid.
+     */
+    public static CompletableFuture<Long> increaseKeyExAsync(String key, long timeout, TimeUnit unit) {
+        Redis4jAsyncService e = jAsyncProvider();
+        if (e == null) {
+            return CompletableFuture.completedFuture(-1L);
+        }
+        return e.increaseKeyEx(objectAsyncCommands(), key, timeout, unit);
+    }
+
+    /**
+     * Increments a counter by one and sets its expiration asynchronously, with an optional callback for handling exceptions.
+     *
+     * @param key      The key of the counter.
+     * @param timeout  The expiration timeout.
+     * @param unit     The time unit of the timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a future completed with the value after the increment, or -1 if an exception occurs.
+     */
+    public static CompletableFuture<Long> increaseKeyExAsync(String key, long timeout, TimeUnit unit, Redis4jWrapCallback callback) {
+        Redis4jAsyncService e = jAsyncProvider();
+        if (e == null) {
+            return CompletableFuture.completedFuture(-1L);
+        }
+        return e.increaseKeyEx(objectAsyncCommands(), key, timeout, unit, callback);
+    }
+
+    /**
+     * Decrements a counter by one and sets its expiration asynchronously, in one atomic server-side step (a cached Lua script).
+     *
+     * @param key      The key of the counter.
+     * @param timeout  The expiration timeout.
+     * @param unit     The time unit of the timeout.
+     * @return a future completed with the value after the decrement, or -1 if the arguments are invalid.
+     */
+    public static CompletableFuture<Long> decreaseKeyExAsync(String key, long timeout, TimeUnit unit) {
+        Redis4jAsyncService e = jAsyncProvider();
+        if (e == null) {
+            return CompletableFuture.completedFuture(-1L);
+        }
+        return e.decreaseKeyEx(objectAsyncCommands(), key, timeout, unit);
+    }
+
+    /**
+     * Decrements a counter by one and sets its expiration asynchronously, with an optional callback for handling exceptions.
+     *
+     * @param key      The key of the counter.
+     * @param timeout  The expiration timeout.
+     * @param unit     The time unit of the timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a future completed with the value after the decrement, or -1 if an exception occurs.
+     */
+    public static CompletableFuture<Long> decreaseKeyExAsync(String key, long timeout, TimeUnit unit, Redis4jWrapCallback callback) {
+        Redis4jAsyncService e = jAsyncProvider();
+        if (e == null) {
+            return CompletableFuture.completedFuture(-1L);
+        }
+        return e.decreaseKeyEx(objectAsyncCommands(), key, timeout, unit, callback);
+    }
+
+    /**
+     * Increments a counter by the specified amount and sets its expiration asynchronously, in one atomic server-side step (a cached Lua script).
+     *
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to add.
+     * @param timeout  The expiration timeout.
+     * @param unit     The time unit of the timeout.
+     * @return a future completed with the value after the increment, or -1 if the arguments are invalid.
+     */
+    public static CompletableFuture<Long> increaseKeyByExAsync(String key, long value, long timeout, TimeUnit unit) {
+        Redis4jAsyncService e = jAsyncProvider();
+        if (e == null) {
+            return CompletableFuture.completedFuture(-1L);
+        }
+        return e.increaseKeyByEx(objectAsyncCommands(), key, value, timeout, unit);
+    }
+
+    /**
+     * Increments a counter by the specified amount and sets its expiration asynchronously, with an optional callback for handling exceptions.
+     *
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to add.
+     * @param timeout  The expiration timeout.
+     * @param unit     The time unit of the timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a future completed with the value after the increment, or -1 if an exception occurs.
+     */
+    public static CompletableFuture<Long> increaseKeyByExAsync(String key, long value, long timeout, TimeUnit unit, Redis4jWrapCallback callback) {
+        Redis4jAsyncService e = jAsyncProvider();
+        if (e == null) {
+            return CompletableFuture.completedFuture(-1L);
+        }
+        return e.increaseKeyByEx(objectAsyncCommands(), key, value, timeout, unit, callback);
+    }
+
+    /**
+     * Decrements a counter by the specified amount and sets its expiration asynchronously, in one atomic server-side step (a cached Lua script).
+     *
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to subtract.
+     * @param timeout  The expiration timeout.
+     * @param unit     The time unit of the timeout.
+     * @return a future completed with the value after the decrement, or -1 if the arguments are invalid.
+     */
+    public static CompletableFuture<Long> decreaseKeyByExAsync(String key, long value, long timeout, TimeUnit unit) {
+        Redis4jAsyncService e = jAsyncProvider();
+        if (e == null) {
+            return CompletableFuture.completedFuture(-1L);
+        }
+        return e.decreaseKeyByEx(objectAsyncCommands(), key, value, timeout, unit);
+    }
+
+    /**
+     * Decrements a counter by the specified amount and sets its expiration asynchronously, with an optional callback for handling exceptions.
+     *
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to subtract.
+     * @param timeout  The expiration timeout.
+     * @param unit     The time unit of the timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a future completed with the value after the decrement, or -1 if an exception occurs.
+     */
+    public static CompletableFuture<Long> decreaseKeyByExAsync(String key, long value, long timeout, TimeUnit unit, Redis4jWrapCallback callback) {
+        Redis4jAsyncService e = jAsyncProvider();
+        if (e == null) {
+            return CompletableFuture.completedFuture(-1L);
+        }
+        return e.decreaseKeyByEx(objectAsyncCommands(), key, value, timeout, unit, callback);
+    }
+
+    /**
+     * Increments a counter by one and sets its expiration asynchronously only if the key has none yet, i.e. when the counter is created,
+     * so that hot counters do not extend their time to live on every hit, in one atomic server-side step (a cached Lua script).
+     *
+     * @param key      The key of the counter.
+     * @param timeout  The expiration timeout, applied when the key has no expiration.
+     * @param unit     The time unit of the timeout.
+     * @return a future completed with the value after the increment, or -1 if the arguments are invalid.
+     */
+    public static CompletableFuture<Long> increaseKeyExNxAsync(String key, long timeout, TimeUnit unit) {
+        Redis4jAsyncService e = jAsyncProvider();
+        if (e == null) {
+            return CompletableFuture.completedFuture(-1L);
+        }
+        return e.increaseKeyExNx(objectAsyncCommands(), key, timeout, unit);
+    }
+
+    /**
+     * Increments a counter by one and sets its expiration asynchronously only if the key has none yet, with an optional callback for handling exceptions.
+     *
+     * @param key      The key of the counter.
+     * @param timeout  The expiration timeout, applied when the key has no expiration.
+     * @param unit     The time unit of the timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a future completed with the value after the increment, or -1 if an exception occurs.
+     */
+    public static CompletableFuture<Long> increaseKeyExNxAsync(String key, long timeout, TimeUnit unit, Redis4jWrapCallback callback) {
+        Redis4jAsyncService e = jAsyncProvider();
+        if (e == null) {
+            return CompletableFuture.completedFuture(-1L);
+        }
+        return e.increaseKeyExNx(objectAsyncCommands(), key, timeout, unit, callback);
+    }
+
+    /**
+     * Decrements a counter by one and sets its expiration asynchronously only if the key has none yet, i.e. when the counter is created,
+     * so that hot counters do not extend their time to live on every hit, in one atomic server-side step (a cached Lua script).
+     *
+     * @param key      The key of the counter.
+     * @param timeout  The expiration timeout, applied when the key has no expiration.
+     * @param unit     The time unit of the timeout.
+     * @return a future completed with the value after the decrement, or -1 if the arguments are invalid.
+     */
+    public static CompletableFuture<Long> decreaseKeyExNxAsync(String key, long timeout, TimeUnit unit) {
+        Redis4jAsyncService e = jAsyncProvider();
+        if (e == null) {
+            return CompletableFuture.completedFuture(-1L);
+        }
+        return e.decreaseKeyExNx(objectAsyncCommands(), key, timeout, unit);
+    }
+
+    /**
+     * Decrements a counter by one and sets its expiration asynchronously only if the key has none yet, with an optional callback for handling exceptions.
+     *
+     * @param key      The key of the counter.
+     * @param timeout  The expiration timeout, applied when the key has no expiration.
+     * @param unit     The time unit of the timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a future completed with the value after the decrement, or -1 if an exception occurs.
+     */
+    public static CompletableFuture<Long> decreaseKeyExNxAsync(String key, long timeout, TimeUnit unit, Redis4jWrapCallback callback) {
+        Redis4jAsyncService e = jAsyncProvider();
+        if (e == null) {
+            return CompletableFuture.completedFuture(-1L);
+        }
+        return e.decreaseKeyExNx(objectAsyncCommands(), key, timeout, unit, callback);
+    }
+
+    /**
+     * Increments a counter by the specified amount and sets its expiration asynchronously only if the key has none yet, i.e. when the counter is created,
+     * so that hot counters do not extend their time to live on every hit, in one atomic server-side step (a cached Lua script).
+     *
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to add.
+     * @param timeout  The expiration timeout, applied when the key has no expiration.
+     * @param unit     The time unit of the timeout.
+     * @return a future completed with the value after the increment, or -1 if the arguments are invalid.
+     */
+    public static CompletableFuture<Long> increaseKeyByExNxAsync(String key, long value, long timeout, TimeUnit unit) {
+        Redis4jAsyncService e = jAsyncProvider();
+        if (e == null) {
+            return CompletableFuture.completedFuture(-1L);
+        }
+        return e.increaseKeyByExNx(objectAsyncCommands(), key, value, timeout, unit);
+    }
+
+    /**
+     * Increments a counter by the specified amount and sets its expiration asynchronously only if the key has none yet, with an optional callback for handling exceptions.
+     *
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to add.
+     * @param timeout  The expiration timeout, applied when the key has no expiration.
+     * @param unit     The time unit of the timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a future completed with the value after the increment, or -1 if an exception occurs.
+     */
+    public static CompletableFuture<Long> increaseKeyByExNxAsync(String key, long value, long timeout, TimeUnit unit, Redis4jWrapCallback callback) {
+        Redis4jAsyncService e = jAsyncProvider();
+        if (e == null) {
+            return CompletableFuture.completedFuture(-1L);
+        }
+        return e.increaseKeyByExNx(objectAsyncCommands(), key, value, timeout, unit, callback);
+    }
+
+    /**
+     * Decrements a counter by the specified amount and sets its expiration asynchronously only if the key has none yet, i.e. when the counter is created,
+     * so that hot counters do not extend their time to live on every hit, in one atomic server-side step (a cached Lua script).
+     *
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to subtract.
+     * @param timeout  The expiration timeout, applied when the key has no expiration.
+     * @param unit     The time unit of the timeout.
+     * @return a future completed with the value after the decrement, or -1 if the arguments are invalid.
+     */
+    public static CompletableFuture<Long> decreaseKeyByExNxAsync(String key, long value, long timeout, TimeUnit unit) {
+        Redis4jAsyncService e = jAsyncProvider();
+        if (e == null) {
+            return CompletableFuture.completedFuture(-1L);
+        }
+        return e.decreaseKeyByExNx(objectAsyncCommands(), key, value, timeout, unit);
+    }
+
+    /**
+     * Decrements a counter by the specified amount and sets its expiration asynchronously only if the key has none yet, with an optional callback for handling exceptions.
+     *
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to subtract.
+     * @param timeout  The expiration timeout, applied when the key has no expiration.
+     * @param unit     The time unit of the timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a future completed with the value after the decrement, or -1 if an exception occurs.
+     */
+    public static CompletableFuture<Long> decreaseKeyByExNxAsync(String key, long value, long timeout, TimeUnit unit, Redis4jWrapCallback callback) {
+        Redis4jAsyncService e = jAsyncProvider();
+        if (e == null) {
+            return CompletableFuture.completedFuture(-1L);
+        }
+        return e.decreaseKeyByExNx(objectAsyncCommands(), key, value, timeout, unit, callback);
+    }
+
+    /**
+     * Sets a cache object in Redis reactively.
+     *
+     * @param key      The key under which the value should be stored.
+     * @param value    The value to be cached.
+     * @param <T>      The type of the value being cached.
+     * @return a Mono emitting true if the value was stored, false if the commands or value is null, or the key is empty/blank.
+     */
+    public static <T> Mono<Boolean> setCacheObjectReactive(String key, T value) {
+        Redis4jReactiveService e = jReactiveProvider();
+        if (e == null) {
+            return Mono.just(false);
+        }
+        return e.setCacheObject(objectReactiveCommands(), key, value);
+    }
+
+    /**
+     * Sets a cache object in Redis reactively, with an optional callback for handling exceptions.
+     *
+     * @param key      The key under which the value should be stored.
+     * @param value    The value to be cached.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the value being cached.
+     * @return a Mono emitting true if the value was stored; false otherwise or if an exception occurs.
+     */
+    public static <T> Mono<Boolean> setCacheObjectReactive(String key, T value, Redis4jWrapCallback callback) {
+        Redis4jReactiveService e = jReactiveProvider();
+        if (e == null) {
+            return Mono.just(false);
+        }
+        return e.setCacheObject(objectReactiveCommands(), key, value, callback);
+    }
+
+    /**
+     * Sets a cache object in Redis reactively with an expiration, issued as a single SET PX command.
+     *
+     * @param key      The key under which the value should be stored.
+     * @param value    The value to be cached.
+     * @param timeout  The expiration timeout for the cached value.
+     * @param unit     The time unit of the timeout.
+     * @param <T>      The type of the value being cached.
+     * @return a Mono emitting true if the value was stored, false if the arguments are invalid.
+     */
+    public static <T> Mono<Boolean> setCacheObjectReactive(String key, T value, long timeout, TimeUnit unit) {
+        Redis4jReactiveService e = jReactiveProvider();
+        if (e == null) {
+            return Mono.just(false);
+        }
+        return e.setCacheObject(objectReactiveCommands(), key, value, timeout, unit);
+    }
+
+    /**
+     * Sets a cache object in Redis reactively with an expiration, with an optional callback for handling exceptions.
+     *
+     * @param key      The key under which the value should be stored.
+     * @param value    The value to be cached.
+     * @param timeout  The expiration timeout for the cached value.
+     * @param unit     The time unit of the timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the value being cached.
+     * @return a Mono emitting true if the value was stored; false otherwise or if an exception occurs.
+     */
+    public static <T> Mono<Boolean> setCacheObjectReactive(String key, T value, long timeout, TimeUnit unit, Redis4jWrapCallback callback) {
+        Redis4jReactiveService e = jReactiveProvider();
+        if (e == null) {
+            return Mono.just(false);
+        }
+        return e.setCacheObject(objectReactiveCommands(), key, value, timeout, unit, callback);
+    }
+
+    /**
+     * Sets an expiration on a key reactively.
+     *
+     * @param key      The key to expire.
+     * @param timeout  The expiration timeout.
+     * @param unit     The time unit of the timeout.
+     * @return a Mono emitting true if the expiration was set, false if the key does not exist or the arguments are invalid.
+     */
+    public static Mono<Boolean> expireReactive(String key, long timeout, TimeUnit unit) {
+        Redis4jReactiveService e = jReactiveProvider();
+        if (e == null) {
+            return Mono.just(false);
+        }
+        return e.expire(objectReactiveCommands(), key, timeout, unit);
+    }
+
+    /**
+     * Sets an expiration on a key reactively, with an optional callback for handling exceptions.
+     *
+     * @param key      The key to expire.
+     * @param timeout  The expiration timeout.
+     * @param unit     The time unit of the timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a Mono emitting true if the expiration was set; false otherwise or if an exception occurs.
+     */
+    public static Mono<Boolean> expireReactive(String key, long timeout, TimeUnit unit, Redis4jWrapCallback callback) {
+        Redis4jReactiveService e = jReactiveProvider();
+        if (e == null) {
+            return Mono.just(false);
+        }
+        return e.expire(objectReactiveCommands(), key, timeout, unit, callback);
+    }
+
+    /**
+     * Retrieves a cache object from Redis reactively.
+     *
+     * @param key      The key of the cache object to retrieve.
+     * @param <T>      The type of the value being retrieved.
+     * @return a Mono emitting the cached object, or empty if the key does not exist or is empty/blank.
+     */
+    public static <T> Mono<T> getCacheObjectReactive(String key) {
+        Redis4jReactiveService e = jReactiveProvider();
+        if (e == null) {
+            return Mono.empty();
+        }
+        return e.getCacheObject(objectReactiveCommands(), key);
+    }
+
+    /**
+     * Retrieves a cache object from Redis reactively, with an optional callback for handling exceptions.
+     *
+     * @param key      The key of the cache object to retrieve.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the value being retrieved.
+     * @return a Mono emitting the cached object, or empty if the key does not exist or an exception occurs.
+     */
+    public static <T> Mono<T> getCacheObjectReactive(String key, Redis4jWrapCallback callback) {
+        Redis4jReactiveService e = jReactiveProvider();
+        if (e == null) {
+            return Mono.empty();
+        }
+        return e.getCacheObject(objectReactiveCommands(), key, callback);
+    }
+
+    /**
+     * Removes a cache object from Redis reactively.
+     *
+     * @param key      The key of the cache object to remove.
+     * @return a Mono emitting true if the key was removed; false otherwise.
+     */
+    public static Mono<Boolean> removeObjectReactive(String key) {
+        Redis4jReactiveService e = jReactiveProvider();
+        if (e == null) {
+            return Mono.just(false);
+        }
+        return e.removeObject(objectReactiveCommands(), key);
+    }
+
+    /**
+     * Removes a cache object from Redis reactively, with an optional callback for handling exceptions.
+     *
+     * @param key      The key of the cache object to remove.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a Mono emitting true if the key was removed; false otherwise or if an exception occurs.
+     */
+    public static Mono<Boolean> removeObjectReactive(String key, Redis4jWrapCallback callback) {
+        Redis4jReactiveService e = jReactiveProvider();
+        if (e == null) {
+            return Mono.just(false);
+        }
+        return e.removeObject(objectReactiveCommands(), key, callback);
+    }
+
+    /**
+     * Appends the elements of a list to a Redis list reactively, using one variadic RPUSH.
+     *
+     * @param key      The key of the list.
+     * @param list     The elements to append.
+     * @param <T>      The type of the elements.
+     * @return a Mono emitting the length of the list after the push, or 0 if the list is empty or the key is empty/blank.
+     */
+    public static <T> Mono<Long> setCacheListReactive(String key, List<T> list) {
+        Redis4jReactiveService e = jReactiveProvider();
+        if (e == null) {
+            return Mono.just(0L);
+        }
+        return e.setCacheList(objectReactiveCommands(), key, list);
+    }
+
+    /**
+     * Appends the elements of a list to a Redis list reactively, with an optional callback for handling exceptions.
+     *
+     * @param key      The key of the list.
+     * @param list     The elements to append.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the elements.
+     * @return a Mono emitting the length of the list after the push, or 0 if an exception occurs.
+     */
+    public static <T> Mono<Long> setCacheListReactive(String key, List<T> list, Redis4jWrapCallback callback) {
+        Redis4jReactiveService e = jReactiveProvider();
+        if (e == null) {
+            return Mono.just(0L);
+        }
+        return e.setCacheList(objectReactiveCommands(), key, list, callback);
+    }
+
+    /**
+     * Streams the elements of a Redis list reactively, one LRANGE page at a time.
+     * The next page is only requested once the subscriber has demanded the elements of the current one.
+     * Elements pushed or removed while the stream is in progress may be skipped or emitted twice.
+     *
+     * @param key      The key of the list.
+     * @param <T>      The type of the elements.
+     * @return a Flux emitting the elements in list order, empty if the key does not exist or is empty/blank.
+     */
+    public static <T> Flux<T> getCacheListReactive(String key) {
+        Redis4jReactiveService e = jReactiveProvider();
+        if (e == null) {
+            return Flux.empty();
+        }
+        return e.getCacheList(objectReactiveCommands(), key);
+    }
+
+    /**
+     * Streams the elements of a Redis list reactively, with an optional callback for handling exceptions.
+     *
+     * @param key      The key of the list.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the elements.
+     * @return a Flux emitting the elements in list order, completing early without error if an exception occurs.
+     */
+    public static <T> Flux<T> getCacheListReactive(String key, Redis4jWrapCallback callback) {
+        Redis4jReactiveService e = jReactiveProvider();
+        if (e == null) {
+            return Flux.empty();
+        }
+        return e.getCacheList(objectReactiveCommands(), key, callback);
+    }
+
+    /**
+     * Adds the members of a set to a Redis set reactively, using one variadic SADD.
+     *
+     * @param key      The key of the set.
+     * @param dataSet  The members to add.
+     * @param <T>      The type of the members.
+     * @return a Mono emitting the number of members added, or 0 if the set is empty or the key is empty/blank.
+     */
+    public static <T> Mono<Long> setCacheSetReactive(String key, Set<T> dataSet) {
+        Redis4jReactiveService e = jReactiveProvider();
+        if (e == null) {
+            return Mono.just(0L);
+        }
+        return e.setCacheSet(objectReactiveCommands(), key, dataSet);
+    }
+
+    /**
+     * Adds the members of a set to a Redis set reactively, with an optional callback for handling exceptions.
+     *
+     * @param key      The key of the set.
+     * @param dataSet  The members to add.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the members.
+     * @return a Mono emitting the number of members added, or 0 if an exception occurs.
+     */
+    public static <T> Mono<Long> setCacheSetReactive(String key, Set<T> dataSet, Redis4jWrapCallback callback) {
+        Redis4jReactiveService e = jReactiveProvider();
+        if (e == null) {
+            return Mono.just(0L);
+        }
+        return e.setCacheSet(objectReactiveCommands(), key, dataSet, callback);
+    }
+
+    /**
+     * Streams the members of a Redis set reactively using SSCAN, so that a large set is never read in one reply.
+     * As with any SCAN, a member added or removed during the iteration may or may not be emitted.
+     *
+     * @param key      The key of the set.
+     * @param <T>      The type of the members.
+     * @return a Flux emitting the members, empty if the key does not exist or is empty/blank.
+     */
+    public static <T> Flux<T> getCacheSetReactive(String key) {
+        Redis4jReactiveService e = jReactiveProvider();
+        if (e == null) {
+            return Flux.empty();
+        }
+        return e.getCacheSet(objectReactiveCommands(), key);
+    }
+
+    /**
+     * Streams the members of a Redis set reactively, with an optional callback for handling exceptions.
+     *
+     * @param key      The key of the set.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the members.
+     * @return a Flux emitting the members, completing early without error if an exception occurs.
+     */
+    public static <T> Flux<T> getCacheSetReactive(String key, Redis4jWrapCallback callback) {
+        Redis4jReactiveService e = jReactiveProvider();
+        if (e == null) {
+            return Flux.empty();
+        }
+        return e.getCacheSet(objectReactiveCommands(), key, callback);
+    }
+
+    /**
+     * Stores the entries of a map in a Redis hash reactively.
+     *
+     * @param key      The key of the hash.
+     * @param map      The entries to store.
+     * @param <T>      The type of the values.
+     * @return a Mono emitting true if the entries were stored, false if the map is empty or the key is empty/blank.
+     */
+    public static <T> Mono<Boolean> setCacheMapReactive(String key, Map<String, T> map) {
+        Redis4jReactiveService e = jReactiveProvider();
+        if (e == null) {
+            return Mono.just(false);
+        }
+        return e.setCacheMap(objectReactiveCommands(), key, map);
+    }
+
+    /**
+     * Stores the entries of a map in a Redis hash reactively, with an optional callback for handling exceptions.
+     *
+     * @param key      The key of the hash.
+     * @param map      The entries to store.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the values.
+     * @return a Mono emitting true if the entries were stored; false otherwise or if an exception occurs.
+     */
+    public static <T> Mono<Boolean> setCacheMapReactive(String key, Map<String, T> map, Redis4jWrapCallback callback) {
+        Redis4jReactiveService e = jReactiveProvider();
+        if (e == null) {
+            return Mono.just(false);
+        }
+        return e.setCacheMap(objectReactiveCommands(), key, map, callback);
+    }
+
+    /**
+     * Streams the entries of a Redis hash reactively using HSCAN, so that a large hash is never read in one reply.
+     * As with any SCAN, a field added or removed during the iteration may or may not be emitted.
+     *
+     * @param key      The key of the hash.
+     * @return a Flux emitting the entries, empty if the key does not exist or is empty/blank.
+     */
+    public static Flux<Map.Entry<String, Object>> getCacheMapReactive(String key) {
+        Redis4jReactiveService e = jReactiveProvider();
+        if (e == null) {
+            return Flux.empty();
+        }
+        return e.getCacheMap(objectReactiveCommands(), key);
+    }
+
+    /**
+     * Streams the entries of a Redis hash reactively, with an optional callback for handling exceptions.
+     *
+     * @param key      The key of the hash.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a Flux emitting the entries, completing early without error if an exception occurs.
+     */
+    public static Flux<Map.Entry<String, Object>> getCacheMapReactive(String key, Redis4jWrapCallback callback) {
+        Redis4jReactiveService e = jReactiveProvider();
+        if (e == null) {
+            return Flux.empty();
+        }
+        return e.getCacheMap(objectReactiveCommands(), key, callback);
+    }
+
+    /**
+     * Sets a single field of a Redis hash reactively.
+     *
+     * @param key      The key of the hash.
+     * @param hKey     The field of the hash.
+     * @param value    The value to store.
+     * @param <T>      The type of the value.
+     * @return a Mono emitting true once the field is stored, false if the arguments are invalid.
+     */
+    public static <T> Mono<Boolean> setCacheMapValueReactive(String key, String hKey, T value) {
+        Redis4jReactiveService e = jReactiveProvider();
+        if (e == null) {
+            return Mono.just(false);
+        }
+        return e.setCacheMapValue(objectReactiveCommands(), key, hKey, value);
+    }
+
+    /**
+     * Sets a single field of a Redis hash reactively, with an optional callback for handling exceptions.
+     *
+     * @param key      The key of the hash.
+     * @param hKey     The field of the hash.
+     * @param value    The value to store.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the value.
+     * @return a Mono emitting true once the field is stored; false otherwise or if an exception occurs.
+     */
+    public static <T> Mono<Boolean> setCacheMapValueReactive(String key, String hKey, T value, Redis4jWrapCallback callback) {
+        Redis4jReactiveService e = jReactiveProvider();
+        if (e == null) {
+            return Mono.just(false);
+        }
+        return e.setCacheMapValue(objectReactiveCommands(), key, hKey, value, callback);
+    }
+
+    /**
+     * Retrieves a single field of a Redis hash reactively.
+     *
+     * @param key      The key of the hash.
+     * @param hKey     The field of the hash.
+     * @param <T>      The type of the value.
+     * @return a Mono emitting the value, or empty if the field does not exist or the arguments are invalid.
+     */
+    public static <T> Mono<T> getCacheMapValueReactive(String key, String hKey) {
+        Redis4jReactiveService e = jReactiveProvider();
+        if (e == null) {
+            return Mono.empty();
+        }
+        return e.getCacheMapValue(objectReactiveCommands(), key, hKey);
+    }
+
+    /**
+     * Retrieves a single field of a Redis hash reactively, with an optional callback for handling exceptions.
+     *
+     * @param key      The key of the hash.
+     * @param hKey     The field of the hash.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the value.
+     * @return a Mono emitting the value, or empty if the field does not exist or an exception occurs.
+     */
+    public static <T> Mono<T> getCacheMapValueReactive(String key, String hKey, Redis4jWrapCallback callback) {
+        Redis4jReactiveService e = jReactiveProvider();
+        if (e == null) {
+            return Mono.empty();
+        }
+        return e.getCacheMapValue(objectReactiveCommands(), key, hKey, callback);
+    }
+
+    /**
+     * Checks reactively whether a key exists.
+     *
+     * @param key      The key to check.
+     * @return a Mono emitting true if the key exists; false otherwise.
+     */
+    public static Mono<Boolean> containsKeyReactive(String key) {
+        Redis4jReactiveService e = jReactiveProvider();
+        if (e == null) {
+            return Mono.just(false);
+        }
+        return e.containsKey(objectReactiveCommands(), key);
+    }
+
+    /**
+     * Checks reactively whether a key exists, with an optional callback for handling exceptions.
+     *
+     * @param key      The key to check.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a Mono emitting true if the key exists; false otherwise or if an exception occurs.
+     */
+    public static Mono<Boolean> containsKeyReactive(String key, Redis4jWrapCallback callback) {
+        Redis4jReactiveService e = jReactiveProvider();
+        if (e == null) {
+            return Mono.just(false);
+        }
+        return e.containsKey(objectReactiveCommands(), key, callback);
+    }
+
+    /**
+     * Increments a counter by one reactively.
+     *
+     * @param key      The key of the counter.
+     * @return a Mono emitting the value after the increment, or -1 if the key is empty/blank.
+     */
+    public static Mono<Long> increaseKeyReactive(String key) {
+        Redis4jReactiveService e = jReactiveProvider();
+        if (e == null) {
+            return Mono.just(-1L);
+        }
+        return e.increaseKey(objectReactiveCommands(), key);
+    }
+
+    /**
+     * Increments a counter by one reactively, with an optional callback for handling exceptions.
+     *
+     * @param key      The key of the counter.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a Mono emitting the value after the increment, or -1 if an exception occurs.
+     */
+    public static Mono<Long> increaseKeyReactive(String key, Redis4jWrapCallback callback) {
+        Redis4jReactiveService e = jReactiveProvider();
+        if (e == null) {
+            return Mono.just(-1L);
+        }
+        return e.increaseKey(objectReactiveCommands(), key, callback);
+    }
+
+    /**
+     * Decrements a counter by one reactively.
+     *
+     * @param key      The key of the counter.
+     * @return a Mono emitting the value after the decrement, or -1 if the key is empty/blank.
+     */
+    public static Mono<Long> decreaseKeyReactive(String key) {
+        Redis4jReactiveService e = jReactiveProvider();
+        if (e == null) {
+            return Mono.just(-1L);
+        }
+        return e.decreaseKey(objectReactiveCommands(), key);
+    }
+
+    /**
+     * Decrements a counter by one reactively, with an optional callback for handling exceptions.
+     *
+     * @param key      The key of the counter.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a Mono emitting the value after the decrement, or -1 if an exception occurs.
+     */
+    public static Mono<Long> decreaseKeyReactive(String key, Redis4jWrapCallback callback) {
+        Redis4jReactiveService e = jReactiveProvider();
+        if (e == null) {
+            return Mono.just(-1L);
+        }
+        return e.decreaseKey(objectReactiveCommands(), key, callback);
+    }
+
+    /**
+     * Increments a counter by the specified amount reactively.
+     *
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to add.
+     * @return a Mono emitting the value after the increment, or -1 if the arguments are invalid.
+     */
+    public static Mono<Long> increaseKeyByReactive(String key, long value) {
+        Redis4jReactiveService e = jReactiveProvider();
+        if (e == null) {
+            return Mono.just(-1L);
+        }
+        return e.increaseKeyBy(objectReactiveCommands(), key, value);
+    }
+
+    /**
+     * Increments a counter by the specified amount reactively, with an optional callback for handling exceptions.
+     *
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to add.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a Mono emitting the value after the increment, or -1 if an exception occurs.
+     */
+    public static Mono<Long> increaseKeyByReactive(String key, long value, Redis4jWrapCallback callback) {
+        Redis4jReactiveService e = jReactiveProvider();
+        if (e == null) {
+            return Mono.just(-1L);
+        }
+        return e.increaseKeyBy(objectReactiveCommands(), key, value, callback);
+    }
+
+    /**
+     * Decrements a counter by the specified amount reactively.
+     *
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to subtract.
+     * @return a Mono emitting the value after the decrement, or -1 if the arguments are invalid.
+     */
+    public static Mono<Long> decreaseKeyByReactive(String key, long value) {
+        Redis4jReactiveService e = jReactiveProvider();
+        if (e == null) {
+            return Mono.just(-1L);
+        }
+        return e.decreaseKeyBy(objectReactiveCommands(), key, value);
+    }
+
+    /**
+     * Decrements a counter by the specified amount reactively, with an optional callback for handling exceptions.
+     *
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to subtract.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a Mono emitting the value after the decrement, or -1 if an exception occurs.
+     */
+    public static Mono<Long> decreaseKeyByReactive(String key, long value, Redis4jWrapCallback callback) {
+        Redis4jReactiveService e = jReactiveProvider();
+        if (e == null) {
+            return Mono.just(-1L);
+        }
+        return e.decreaseKeyBy(objectReactiveCommands(), key, value, callback);
+    }
+
+    /**
+     * Increments a counter by one and sets its expiration reactively, in one atomic server-side step (a cached Lua script).
+     *
+     * @param key      The key of the counter.
+     * @param timeout  The expiration timeout.
+     * @param unit     The time unit of the timeout.
+     * @return a Mono emitting the value after the increment, or -1 if the arguments are invalid.
+     */
+    public static Mono<Long> increaseKeyExReactive(String key, long timeout, TimeUnit unit) {
+        Redis4jReactiveService e = jReactiveProvider();
+        if (e == null) {
+            return Mono.just(-1L);
+        }
+        return e.increaseKeyEx(objectReactiveCommands(), key, timeout, unit);
+    }
+
+    /**
+     * Increments a counter by one and sets its expiration reactively, with an optional callback for handling exceptions.
+     *
+     * @param key      The key of the counter.
+     * @param timeout  The expiration timeout.
+     * @param unit     The time unit of the timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a Mono emitting the value after the increment, or -1 if an exception occurs.
+     */
+    public static Mono<Long> increaseKeyExReactive(String key, long timeout, TimeUnit unit, Redis4jWrapCallback callback) {
+        Redis4jReactiveService e = jReactiveProvider();
+        if (e == null) {
+            return Mono.just(-1L);
+        }
+        return e.increaseKeyEx(objectReactiveCommands(), key, timeout, unit, callback);
+    }
+
+    /**
+     * Decrements a counter by one and sets its expiration reactively, in one atomic server-side step (a cached Lua script).
+     *
+     * @param key      The key of the counter.
+     * @param timeout  The expiration timeout.
+     * @param unit     The time unit of the timeout.
+     * @return a Mono emitting the value after the decrement, or -1 if the arguments are invalid.
+     */
+    public static Mono<Long> decreaseKeyExReactive(String key, long timeout, TimeUnit unit) {
+        Redis4jReactiveService e = jReactiveProvider();
+        if (e == null) {
+            return Mono.just(-1L);
+        }
+        return e.decreaseKeyEx(objectReactiveCommands(), key, timeout, unit);
+    }
+
+    /**
+     * Decrements a counter by one and sets its expiration reactively, with an optional callback for handling exceptions.
+     *
+     * @param key      The key of the counter.
+     * @param timeout  The expiration timeout.
+     * @param unit     The time unit of the timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a Mono emitting the value after the decrement, or -1 if an exception occurs.
+     */
+    public static Mono<Long> decreaseKeyExReactive(String key, long timeout, TimeUnit unit, Redis4jWrapCallback callback) {
+        Redis4jReactiveService e = jReactiveProvider();
+        if (e == null) {
+            return Mono.just(-1L);
+        }
+        return e.decreaseKeyEx(objectReactiveCommands(), key, timeout, unit, callback);
+    }
+
+    /**
+     * Increments a counter by the specified amount and sets its expiration reactively, in one atomic server-side step (a cached Lua script).
+     *
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to add.
+     * @param timeout  The expiration timeout.
+     * @param unit     The time unit of the timeout.
+     * @return a Mono emitting the value after the increment, or -1 if the arguments are invalid.
+     */
+    public static Mono<Long> increaseKeyByExReactive(String key, long value, long timeout, TimeUnit unit) {
+        Redis4jReactiveService e = jReactiveProvider();
+        if (e == null) {
+            return Mono.just(-1L);
+        }
+        return e.increaseKeyByEx(objectReactiveCommands(), key, value, timeout, unit);
+    }
+
+    /**
+     * Increments a counter by the specified amount and sets its expiration reactively, with an optional callback for handling exceptions.
+     *
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to add.
+     * @param timeout  The expiration timeout.
+     * @param unit     The time unit of the timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a Mono emitting the value after the increment, or -1 if an exception occurs.
+     */
+    public static Mono<Long> increaseKeyByExReactive(String key, long value, long timeout, TimeUnit unit, Redis4jWrapCallback callback) {
+        Redis4jReactiveService e = jReactiveProvider();
+        if (e == null) {
+            return Mono.just(-1L);
+        }
+        return e.increaseKeyByEx(objectReactiveCommands(), key, value, timeout, unit, callback);
+    }
+
+    /**
+     * Decrements a counter by the specified amount and sets its expiration reactively, in one atomic server-side step (a cached Lua script).
+     *
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to subtract.
+     * @param timeout  The expiration timeout.
+     * @param unit     The time unit of the timeout.
+     * @return a Mono emitting the value after the decrement, or -1 if the arguments are invalid.
+     */
+    public static Mono<Long> decreaseKeyByExReactive(String key, long value, long timeout, TimeUnit unit) {
+        Redis4jReactiveService e = jReactiveProvider();
+        if (e == null) {
+            return Mono.just(-1L);
+        }
+        return e.decreaseKeyByEx(objectReactiveCommands(), key, value, timeout, unit);
+    }
+
+    /**
+     * Decrements a counter by the specified amount and sets its expiration reactively, with an optional callback for handling exceptions.
+     *
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to subtract.
+     * @param timeout  The expiration timeout.
+     * @param unit     The time unit of the timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a Mono emitting the value after the decrement, or -1 if an exception occurs.
+     */
+    public static Mono<Long> decreaseKeyByExReactive(String key, long value, long timeout, TimeUnit unit, Redis4jWrapCallback callback) {
+        Redis4jReactiveService e = jReactiveProvider();
+        if (e == null) {
+            return Mono.just(-1L);
+        }
+        return e.decreaseKeyByEx(objectReactiveCommands(), key, value, timeout, unit, callback);
+    }
+
+    /**
+     * Increments a counter by one and sets its expiration reactively only if the key has none yet, i.e. when the counter is created,
+     * so that hot counters do not extend their time to live on every hit, in one atomic server-side step (a cached Lua script).
+     *
+     * @param key      The key of the counter.
+     * @param timeout  The expiration timeout, applied when the key has no expiration.
+     * @param unit     The time unit of the timeout.
+     * @return a Mono emitting the value after the increment, or -1 if the arguments are invalid.
+     */
+    public static Mono<Long> increaseKeyExNxReactive(String key, long timeout, TimeUnit unit) {
+        Redis4jReactiveService e = jReactiveProvider();
+        if (e == null) {
+            return Mono.just(-1L);
+        }
+        return e.increaseKeyExNx(objectReactiveCommands(), key, timeout, unit);
+    }
+
+    /**
+     * Increments a counter by one and sets its expiration reactively only if the key has none yet, with an optional callback for handling exceptions.
+     *
+     * @param key      The key of the counter.
+     * @param timeout  The expiration timeout, applied when the key has no expiration.
+     * @param unit     The time unit of the timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a Mono emitting the value after the increment, or -1 if an exception occurs.
+     */
+    public static Mono<Long> increaseKeyExNxReactive(String key, long timeout, TimeUnit unit, Redis4jWrapCallback callback) {
+        Redis4jReactiveService e = jReactiveProvider();
+        if (e == null) {
+            return Mono.just(-1L);
+        }
+        return e.increaseKeyExNx(objectReactiveCommands(), key, timeout, unit, callback);
+    }
+
+    /**
+     * Decrements a counter by one and sets its expiration reactively only if the key has none yet, i.e. when the counter is created,
+     * so that hot counters do not extend their time to live on every hit, in one atomic server-side step (a cached Lua script).
+     *
+     * @param key      The key of the counter.
+     * @param timeout  The expiration timeout, applied when the key has no expiration.
+     * @param unit     The time unit of the timeout.
+     * @return a Mono emitting the value after the decrement, or -1 if the arguments are invalid.
+     */
+    public static Mono<Long> decreaseKeyExNxReactive(String key, long timeout, TimeUnit unit) {
+        Redis4jReactiveService e = jReactiveProvider();
+        if (e == null) {
+            return Mono.just(-1L);
+        }
+        return e.decreaseKeyExNx(objectReactiveCommands(), key, timeout, unit);
+    }
+
+    /**
+     * Decrements a counter by one and sets its expiration reactively only if the key has none yet, with an optional callback for handling exceptions.
+     *
+     * @param key      The key of the counter.
+     * @param timeout  The expiration timeout, applied when the key has no expiration.
+     * @param unit     The time unit of the timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a Mono emitting the value after the decrement, or -1 if an exception occurs.
+     */
+    public static Mono<Long> decreaseKeyExNxReactive(String key, long timeout, TimeUnit unit, Redis4jWrapCallback callback) {
+        Redis4jReactiveService e = jReactiveProvider();
+        if (e == null) {
+            return Mono.just(-1L);
+        }
+        return e.decreaseKeyExNx(objectReactiveCommands(), key, timeout, unit, callback);
+    }
+
+    /**
+     * Increments a counter by the specified amount and sets its expiration reactively only if the key has none yet, i.e. when the counter is created,
+     * so that hot counters do not extend their time to live on every hit, in one atomic server-side step (a cached Lua script).
+     *
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to add.
+     * @param timeout  The expiration timeout, applied when the key has no expiration.
+     * @param unit     The time unit of the timeout.
+     * @return a Mono emitting the value after the increment, or -1 if the arguments are invalid.
+     */
+    public static Mono<Long> increaseKeyByExNxReactive(String key, long value, long timeout, TimeUnit unit) {
+        Redis4jReactiveService e = jReactiveProvider();
+        if (e == null) {
+            return Mono.just(-1L);
+        }
+        return e.increaseKeyByExNx(objectReactiveCommands(), key, value, timeout, unit);
+    }
+
+    /**
+     * Increments a counter by the specified amount and sets its expiration reactively only if the key has none yet, with an optional callback for handling exceptions.
+     *
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to add.
+     * @param timeout  The expiration timeout, applied when the key has no expiration.
+     * @param unit     The time unit of the timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a Mono emitting the value after the increment, or -1 if an exception occurs.
+     */
+    public static Mono<Long> increaseKeyByExNxReactive(String key, long value, long timeout, TimeUnit unit, Redis4jWrapCallback callback) {
+        Redis4jReactiveService e = jReactiveProvider();
+        if (e == null) {
+            return Mono.just(-1L);
+        }
+        return e.increaseKeyByExNx(objectReactiveCommands(), key, value, timeout, unit, callback);
+    }
+
+    /**
+     * Decrements a counter by the specified amount and sets its expiration reactively only if the key has none yet, i.e. when the counter is created,
+     * so that hot counters do not extend their time to live on every hit, in one atomic server-side step (a cached Lua script).
+     *
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to subtract.
+     * @param timeout  The expiration timeout, applied when the key has no expiration.
+     * @param unit     The time unit of the timeout.
+     * @return a Mono emitting the value after the decrement, or -1 if the arguments are invalid.
+     */
+    public static Mono<Long> decreaseKeyByExNxReactive(String key, long value, long timeout, TimeUnit unit) {
+        Redis4jReactiveService e = jReactiveProvider();
+        if (e == null) {
+            return Mono.just(-1L);
+        }
+        return e.decreaseKeyByExNx(objectReactiveCommands(), key, value, timeout, unit);
+    }
+
+    /**
+     * Decrements a counter by the specified amount and sets its expiration reactively only if the key has none yet, with an optional callback for handling exceptions.
+     *
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to subtract.
+     * @param timeout  The expiration timeout, applied when the key has no expiration.
+     * @param unit     The time unit of the timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a Mono emitting the value after the decrement, or -1 if an exception occurs.
+     */
+    public static Mono<Long> decreaseKeyByExNxReactive(String key, long value, long timeout, TimeUnit unit, Redis4jWrapCallback callback) {
+        Redis4jReactiveService e = jReactiveProvider();
+        if (e == null) {
+            return Mono.just(-1L);
+        }
+        return e.decreaseKeyByExNx(objectReactiveCommands(), key, value, timeout, unit, callback);
+    }
+
+    /**
+     * Sets a cache object in Redis under a pre-encoded key, whose bytes are sent as they are.
+     * If the dispatch template, key, or value is null, the method returns without performing any operation.
+     *
+     * @param key   The pre-encoded key under which the object is stored.
+     * @param value The value to be stored.
+     * @param <T>   The type of the value being stored.
+     */
+    public static <T> void setCacheObject(Redis4jKey key, T value) {
+        Redis4jService e = jProvider();
+        if (e == null) {
+            return;
+        }
+        e.setCacheObject(dispatch(), key, value);
+    }
+
+    /**
+     * Sets a cache object in Redis under a pre-encoded key, whose bytes are sent as they are, with an optional callback for handling exceptions.
+     * If the dispatch template, key, or value is null, the method returns without performing any operation.
+     *
+     * @param key      The pre-encoded key under which the object is stored.
+     * @param value    The value to be stored.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the value being stored.
+     */
+    public static <T> void setCacheObject(Redis4jKey key, T value, Redis4jWrapCallback callback) {
+        Redis4jService e = jProvider();
+        if (e == null) {
+            return;
+        }
+        e.setCacheObject(dispatch(), key, value, callback);
+    }
+
+    /**
+     * Sets a cache object in Redis with an expiration timeout under a pre-encoded key, whose bytes are sent as they are.
+     * If the dispatch template, key, value, or time unit is null, or if the timeout is negative, the method returns without performing any operation.
+     *
+     * @param key     The pre-encoded key under which the object is stored.
+     * @param value   The value to be stored.
+     * @param timeout The expiration timeout for the cache object.
+     * @param unit    The time unit for the expiration timeout.
+     * @param <T>     The type of the value being stored.
+     */
+    public static <T> void setCacheObject(Redis4jKey key, T value, long timeout, TimeUnit unit) {
+        Redis4jService e = jProvider();
+        if (e == null) {
+            return;
+        }
+        e.setCacheObject(dispatch(), key, value, timeout, unit);
+    }
+
+    /**
+     * Sets a cache object in Redis with an expiration timeout under a pre-encoded key, whose bytes are sent as they are, with an optional callback for handling exceptions.
+     * If the dispatch template, key, value, or time unit is null, or if the timeout is negative, the method returns without performing any operation.
+     *
+     * @param key      The pre-encoded key under which the object is stored.
+     * @param value    The value to be stored.
+     * @param timeout  The expiration timeout for the cache object.
+     * @param unit     The time unit for the expiration timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the value being stored.
+     */
+    public static <T> void setCacheObject(Redis4jKey key, T value, long timeout, TimeUnit unit, Redis4jWrapCallback callback) {
+        Redis4jService e = jProvider();
+        if (e == null) {
+            return;
+        }
+        e.setCacheObject(dispatch(), key, value, timeout, unit, callback);
+    }
+
+    /**
+     * Retrieves a cache object from Redis under a pre-encoded key, whose bytes are sent as they are.
+     * If the dispatch template or the key is null, the method returns null.
+     *
+     * @param key The pre-encoded key of the cache object to retrieve.
+     * @param <T> The type of the value being retrieved.
+     * @return The cached object associated with the given key, or null if the dispatch template or the key is null.
+     */
+    public static <T> T getCacheObject(Redis4jKey key) {
+        Redis4jService e = jProvider();
+        if (e == null) {
+            return null;
+        }
+        return e.getCacheObject(dispatch(), key);
+    }
+
+    /**
+     * Retrieves a cache object from Redis under a pre-encoded key, whose bytes are sent as they are, with an optional callback for handling exceptions.
+     * If the dispatch template or the key is null, the method returns null.
+     *
+     * @param key      The pre-encoded key of the cache object to retrieve.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the value being retrieved.
+     * @return The cached object associated with the given key, or null if the dispatch template or the key is null.
+     */
+    public static <T> T getCacheObject(Redis4jKey key, Redis4jWrapCallback callback) {
+        Redis4jService e = jProvider();
+        if (e == null) {
+            return null;
+        }
+        return e.getCacheObject(dispatch(), key, callback);
+    }
+
+    /**
+     * Retrieves a cache object from Redis as a given type under a pre-encoded key, decoding the stored bytes straight into the type.
+     * If the dispatch template, the key or the type is null, the method returns null.
+     *
+     * @param key  The pre-encoded key of the cache object to retrieve.
+     * @param type The type to read the value as.
+     * @param <T>  The type of the value being retrieved.
+     * @return The cached object associated with the given key, or null if the dispatch template or the key is null.
+     */
+    public static <T> T getCacheObject(Redis4jKey key, Class<T> type) {
+        Redis4jService e = jProvider();
+        if (e == null) {
+            return null;
+        }
+        return e.getCacheObject(dispatch(), key, type);
+    }
+
+    /**
+     * Retrieves a cache object from Redis as a given type under a pre-encoded key, decoding the stored bytes straight into the type, with an optional callback for handling exceptions.
+     * If the dispatch template, the key or the type is null, the method returns null.
+     *
+     * @param key      The pre-encoded key of the cache object to retrieve.
+     * @param type     The type to read the value as.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the value being retrieved.
+     * @return The cached object associated with the given key, or null if the dispatch template or the key is null.
+     */
+    public static <T> T getCacheObject(Redis4jKey key, Class<T> type, Redis4jWrapCallback callback) {
+        Redis4jService e = jProvider();
+        if (e == null) {
+            return null;
+        }
+        return e.getCacheObject(dispatch(), key, type, callback);
+    }
+
+    /**
+     * Removes a cache object from Redis under a pre-encoded key, whose bytes are sent as they are.
+     * If the dispatch template or the key is null, the method returns false.
+     *
+     * @param key The pre-encoded key of the cache object to remove.
+     * @return true if the cache object was successfully removed; false otherwise.
+     */
+    public static boolean removeObject(Redis4jKey key) {
+        Redis4jService e = jProvider();
+        if (e == null) {
+            return false;
+        }
+        return e.removeObject(dispatch(), key);
+    }
+
+    /**
+     * Removes a cache object from Redis under a pre-encoded key, whose bytes are sent as they are, with an optional callback for handling exceptions.
+     * If the dispatch template or the key is null, the method returns false.
+     *
+     * @param key      The pre-encoded key of the cache object to remove.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return true if the cache object was successfully removed; false otherwise.
+     */
+    public static boolean removeObject(Redis4jKey key, Redis4jWrapCallback callback) {
+        Redis4jService e = jProvider();
+        if (e == null) {
+            return false;
+        }
+        return e.removeObject(dispatch(), key, callback);
+    }
+
+    /**
+     * Checks if a pre-encoded key exists in the Redis store, its bytes being sent as they are.
+     * If the dispatch template or the key is null, the method returns false.
+     *
+     * @param key The pre-encoded key to check for existence.
+     * @return true if the key exists in the Redis store; false otherwise.
+     */
+    public static boolean containsKey(Redis4jKey key) {
+        Redis4jService e = jProvider();
+        if (e == null) {
+            return false;
+        }
+        return e.containsKey(dispatch(), key);
+    }
+
+    /**
+     * Checks if a pre-encoded key exists in the Redis store, its bytes being sent as they are, with an optional callback for handling exceptions.
+     * If the dispatch template or the key is null, the method returns false.
+     *
+     * @param key      The pre-encoded key to check for existence.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return true if the key exists in the Redis store; false otherwise.
+     */
+    public static boolean containsKey(Redis4jKey key, Redis4jWrapCallback callback) {
+        Redis4jService e = jProvider();
+        if (e == null) {
+            return false;
+        }
+        return e.containsKey(dispatch(), key, callback);
+    }
+
+    /**
+     * Sets an expiration timeout on a cache object in Redis under a pre-encoded key, whose bytes are sent as they are.
+     * If the dispatch template, key, or time unit is null, or if the timeout is negative, the method returns false.
+     *
+     * @param key     The pre-encoded key of the cache object on which the timeout should be set.
+     * @param timeout The expiration timeout for the cache object.
+     * @param unit    The time unit for the expiration timeout.
+     * @return true if the expiration timeout was successfully set; false otherwise.
+     */
+    public static boolean expire(Redis4jKey key, long timeout, TimeUnit unit) {
+        Redis4jService e = jProvider();
+        if (e == null) {
+            return false;
+        }
+        return e.expire(dispatch(), key, timeout, unit);
+    }
+
+    /**
+     * Sets an expiration timeout on a cache object in Redis under a pre-encoded key, whose bytes are sent as they are, with an optional callback for handling exceptions.
+     * If the dispatch template, key, or time unit is null, or if the timeout is negative, the method returns false.
+     *
+     * @param key      The pre-encoded key of the cache object on which the timeout should be set.
+     * @param timeout  The expiration timeout for the cache object.
+     * @param unit     The time unit for the expiration timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return true if the expiration timeout was successfully set; false otherwise.
+     */
+    public static boolean expire(Redis4jKey key, long timeout, TimeUnit unit, Redis4jWrapCallback callback) {
+        Redis4jService e = jProvider();
+        if (e == null) {
+            return false;
+        }
+        return e.expire(dispatch(), key, timeout, unit, callback);
+    }
+
+    /**
+     * Increases the value of a numeric key in Redis by a specified increment, under a pre-encoded key whose bytes are sent as they are.
+     * If the dispatch template or key is null, or the increment is negative, returns -1 indicating failure.
+     *
+     * @param key   The pre-encoded key whose value is to be incremented.
+     * @param value The amount by which to increment the key's value.
+     * @return The incremented value of the key, or -1 if an error occurs.
+     */
+    public static long increaseKeyBy(Redis4jKey key, long value) {
+        Redis4jService e = jProvider();
+        if (e == null) {
+            return -1;
+        }
+        return e.increaseKeyBy(dispatch(), key, value);
+    }
+
+    /**
+     * Increases the value of a numeric key in Redis by a specified increment, under a pre-encoded key whose bytes are sent as they are, with an optional callback for handling exceptions.
+     * If the dispatch template or key is null, or the increment is negative, returns -1 indicating failure.
+     *
+     * @param key      The pre-encoded key whose value is to be incremented.
+     * @param value    The amount by which to increment the key's value.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return The incremented value of the key, or -1 if an error occurs.
+     */
+    public static long increaseKeyBy(Redis4jKey key, long value, Redis4jWrapCallback callback) {
+        Redis4jService e = jProvider();
+        if (e == null) {
+            return -1;
+        }
+        return e.increaseKeyBy(dispatch(), key, value, callback);
+    }
+
+    /**
+     * Decreases the value of a numeric key in Redis by a specified decrement, under a pre-encoded key whose bytes are sent as they are.
+     * If the dispatch template or key is null, or the decrement is negative, returns -1 indicating failure.
+     *
+     * @param key   The pre-encoded key whose value is to be decremented.
+     * @param value The amount by which to decrement the key's value.
+     * @return The decremented value of the key, or -1 if an error occurs.
+     */
+    public static long decreaseKeyBy(Redis4jKey key, long value) {
+        Redis4jService e = jProvider();
+        if (e == null) {
+            return -1;
+        }
+        return e.decreaseKeyBy(dispatch(), key, value);
+    }
+
+    /**
+     * Decreases the value of a numeric key in Redis by a specified decrement, under a pre-encoded key whose bytes are sent as they are, with an optional callback for handling exceptions.
+     * If the dispatch template or key is null, or the decrement is negative, returns -1 indicating failure.
+     *
+     * @param key      The pre-encoded key whose value is to be decremented.
+     * @param value    The amount by which to decrement the key's value.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return The decremented value of the key, or -1 if an error occurs.
+     */
+    public static long decreaseKeyBy(Redis4jKey key, long value, Redis4jWrapCallback callback) {
+        Redis4jService e = jProvider();
+        if (e == null) {
+            return -1;
+        }
+        return e.decreaseKeyBy(dispatch(), key, value, callback);
+    }
 }
@@ -0,0 +1,405 @@
+package org.redis4j.common;
+
+import org.jetbrains.annotations.NotNull;
+import org.redis4j.service.Redis4jWrapCallback;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.unify4j.common.Collection4j;
+import org.unify4j.common.String4j;
+import org.unify4j.model.builder.HttpStatusBuilder;
+import org.unify4j.model.builder.HttpWrapBuilder;
+import org.unify4j.model.enums.IconType;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Queues independent cache operations and flushes them to Redis as one pipeline, so that N operations
+ * cost one round-trip instead of N. Each queued operation returns a future which is completed with its
+ * typed result once {@link #execute()} has run.
+ * <p>
+ * A batch is not thread-safe and is meant to be built and executed by one thread, e.g.
+ * <pre>
+ * Redis4jBatch batch = Redis4j.batch();
+ * CompletableFuture&lt;User&gt; user = batch.getCacheObject("user:1");
+ * CompletableFuture&lt;Long&gt; hits = batch.increaseKey("hits:user:1");
+ * batch.execute();
+ * </pre>
+ */
+@SuppressWarnings({"unchecked"})
+public class Redis4jBatch {
+    protected static final Logger logger = LoggerFactory.getLogger(Redis4jBatch.class);
+
+    protected final RedisTemplate<String, Object> dispatch;
+    protected final List<Operation> operations = new ArrayList<>();
+
+    public Redis4jBatch(RedisTemplate<String, Object> dispatch) {
+        this.dispatch = dispatch;
+    }
+
+    /**
+     * @return the number of operations queued and not yet executed
+     */
+    public int size() {
+        return operations.size();
+    }
+
+    /**
+     * Queues a SET of the value under the key.
+     *
+     * @param key   the key under which the value is stored
+     * @param value the value to store
+     * @return a future completed with true if the value was stored
+     */
+    public <T> CompletableFuture<Boolean> setCacheObject(String key, T value) {
+        if (value == null) {
+            return CompletableFuture.completedFuture(false);
+        }
+        return this.queue(key, (ops, k) -> ops.opsForValue().set(k, value), Redis4jBatch::asBoolean);
+    }
+
+    /**
+     * Queues a SET of the value under the key with an expiration, issued as a single SET PX command:
+     * the timeout is converted to milliseconds, as the template would send SETEX for any other unit.
+     * A timeout under one millisecond is not queued and completes with false.
+     *
+     * @param key     the key under which the value is stored
+     * @param value   the value to store
+     * @param timeout the time to live of the key
+     * @param unit    the time unit of the timeout
+     * @return a future completed with true if the value was stored
+     */
+    public <T> CompletableFuture<Boolean> setCacheObject(String key, T value, long timeout, TimeUnit unit) {
+        if (value == null || unit == null) {
+            return CompletableFuture.completedFuture(false);
+        }
+        long millis = unit.toMillis(timeout);
+        if (millis <= 0) {
+            return CompletableFuture.completedFuture(false);
+        }
+        return this.queue(key, (ops, k) -> ops.opsForValue().set(k, value, millis, TimeUnit.MILLISECONDS), Redis4jBatch::asBoolean);
+    }
+
+    /**
+     * Queues a GET of the key.
+     *
+     * @param key the key to read
+     * @return a future completed with the value, or null if the key does not exist
+     */
+    public <T> CompletableFuture<T> getCacheObject(String key) {
+        return this.queue(key, (ops, k) -> ops.opsForValue().get(k), result -> (T) result);
+    }
+
+    /**
+     * Queues a DEL of the key.
+     *
+     * @param key the key to delete
+     * @return a future completed with true if the key was deleted
+     */
+    public CompletableFuture<Boolean> removeObject(String key) {
+        return this.queue(key, RedisOperations::delete, Redis4jBatch::asBoolean);
+    }
+
+    /**
+     * Queues an expiration of the key.
+     *
+     * @param key     the key to expire
+     * @param timeout the time to live of the key
+     * @param unit    the time unit of the timeout
+     * @return a future completed with true if the expiration was set
+     */
+    public CompletableFuture<Boolean> expire(String key, long timeout, TimeUnit unit) {
+        if (timeout < 0 || unit == null) {
+            return CompletableFuture.completedFuture(false);
+        }
+        return this.queue(key, (ops, k) -> ops.expire(k, timeout, unit), Redis4jBatch::asBoolean);
+    }
+
+    /**
+     * Queues a variadic RPUSH of the list elements.
+     *
+     * @param key  the key of the list
+     * @param list the elements to append
+     * @return a future completed with the length of the list after the push
+     */
+    public <T> CompletableFuture<Long> setCacheList(String key, List<T> list) {
+        if (Collection4j.isEmpty(list)) {
+            return CompletableFuture.completedFuture(0L);
+        }
+        return this.queue(key, (ops, k) -> ops.opsForList().rightPushAll(k, list.toArray()), Redis4jBatch::asLong);
+    }
+
+    /**
+     * Queues an LRANGE over the whole list.
+     *
+     * @param key the key of the list
+     * @return a future completed with the elements, empty if the key does not exist
+     */
+    public <T> CompletableFuture<List<T>> getCacheList(String key) {
+        return this.queue(key, (ops, k) -> ops.opsForList().range(k, 0, -1), result -> result == null ? Collections.emptyList() : (List<T>) result);
+    }
+
+    /**
+     * Queues a variadic SADD of the set members.
+     *
+     * @param key     the key of the set
+     * @param dataSet the members to add
+     * @return a future completed with the number of members added
+     */
+    public <T> CompletableFuture<Long> setCacheSet(String key, Set<T> dataSet) {
+        if (Collection4j.isEmpty(dataSet)) {
+            return CompletableFuture.completedFuture(0L);
+        }
+        return this.queue(key, (ops, k) -> ops.opsForSet().add(k, dataSet.toArray()), Redis4jBatch::asLong);
+    }
+
+    /**
+     * Queues an SMEMBERS of the set.
+     *
+     * @param key the key of the set
+     * @return a future completed with the members, empty if the key does not exist
+     */
+    public <T> CompletableFuture<Set<T>> getCacheSet(String key) {
+        return this.queue(key, (ops, k) -> ops.opsForSet().members(k), result -> result == null ? Collections.emptySet() : (Set<T>) result);
+    }
+
+    /**
+     * Queues an HMSET of the map entries.
+     *
+     * @param key the key of the hash
+     * @param map the entries to store
+     * @return a future completed with true once the batch has been executed
+     */
+    public <T> CompletableFuture<Boolean> setCacheMap(String key, Map<String, T> map) {
+        if (Collection4j.isEmptyMap(map)) {
+            return CompletableFuture.completedFuture(false);
+        }
+        // HMSET replies with a status, which the pipeline does not report as a result
+        return this.queue(key, (ops, k) -> ops.opsForHash().putAll(k, map), false, result -> true);
+    }
+
+    /**
+     * Queues an HGETALL of the hash.
+     *
+     * @param key the key of the hash
+     * @return a future completed with the entries, empty if the key does not exist
+     */
+    public CompletableFuture<Map<Object, Object>> getCacheMap(String key) {
+        return this.queue(key, (ops, k) -> ops.opsForHash().entries(k), result -> result == null ? Collections.emptyMap() : (Map<Object, Object>) result);
+    }
+
+    /**
+     * Queues an HSET of a single hash field.
+     *
+     * @param key   the key of the hash
+     * @param hKey  the field of the hash
+     * @param value the value to store
+     * @return a future completed with true once the batch has been executed
+     */
+    public <T> CompletableFuture<Boolean> setCacheMapValue(String key, String hKey, T value) {
+        if (value == null || String4j.isEmpty(hKey) || String4j.isBlank(hKey)) {
+            return CompletableFuture.completedFuture(false);
+        }
+        return this.queue(key, (ops, k) -> ops.opsForHash().put(k, hKey, value), result -> true);
+    }
+
+    /**
+     * Queues an HGET of a single hash field.
+     *
+     * @param key  the key of the hash
+     * @param hKey the field of the hash
+     * @return a future completed with the value, or null if the field does not exist
+     */
+    public <T> CompletableFuture<T> getCacheMapValue(String key, String hKey) {
+        if (String4j.isEmpty(hKey) || String4j.isBlank(hKey)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return this.queue(key, (ops, k) -> ops.opsForHash().get(k, hKey), result -> (T) result);
+    }
+
+    /**
+     * Queues an INCR of the counter.
+     *
+     * @param key the key of the counter
+     * @return a future completed with the value after the increment
+     */
+    public CompletableFuture<Long> increaseKey(String key) {
+        return this.queue(key, (ops, k) -> ops.opsForValue().increment(k), Redis4jBatch::asLong);
+    }
+
+    /**
+     * Queues a DECR of the counter.
+     *
+     * @param key the key of the counter
+     * @return a future completed with the value after the decrement
+     */
+    public CompletableFuture<Long> decreaseKey(String key) {
+        return this.queue(key, (ops, k) -> ops.opsForValue().decrement(k), Redis4jBatch::asLong);
+    }
+
+    /**
+     * Queues an INCRBY of the counter.
+     *
+     * @param key   the key of the counter
+     * @param value the non-negative amount to add
+     * @return a future completed with the value after the increment, -1 if the amount is negative
+     */
+    public CompletableFuture<Long> increaseKeyBy(String key, long value) {
+        if (value < 0) {
+            return CompletableFuture.completedFuture(-1L);
+        }
+        return this.queue(key, (ops, k) -> ops.opsForValue().increment(k, value), Redis4jBatch::asLong);
+    }
+
+    /**
+     * Queues a DECRBY of the counter.
+     *
+     * @param key   the key of the counter
+     * @param value the non-negative amount to subtract
+     * @return a future completed with the value after the decrement, -1 if the amount is negative
+     */
+    public CompletableFuture<Long> decreaseKeyBy(String key, long value) {
+        if (value < 0) {
+            return CompletableFuture.completedFuture(-1L);
+        }
+        return this.queue(key, (ops, k) -> ops.opsForValue().decrement(k, value), Redis4jBatch::asLong);
+    }
+
+    /**
+     * Flushes every queued operation as one pipeline and completes their futures.
+     * If the pipeline fails, every future is completed exceptionally with the cause.
+     *
+     * @return the raw results of the pipeline, in queue order; an empty list if nothing was queued or the pipeline failed
+     */
+    public List<Object> execute() {
+        return this.execute(null);
+    }
+
+    /**
+     * Flushes every queued operation as one pipeline and completes their futures, then invokes the callback
+     * once with an aggregated response for the whole batch.
+     * If the pipeline fails, every future is completed exceptionally with the cause.
+     *
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return the raw results of the pipeline, in queue order; an empty list if nothing was queued or the pipeline failed
+     */
+    public List<Object> execute(Redis4jWrapCallback callback) {
+        HttpWrapBuilder<?> response = callback != null ? Redis4j.wrap() : null;
+        List<Operation> queued = new ArrayList<>(operations);
+        operations.clear();
+        List<Object> results = Collections.emptyList();
+        try {
+            if (!queued.isEmpty()) {
+                if (dispatch == null) {
+                    throw new IllegalStateException("Redis dispatch template is unavailable");
+                }
+                results = this.pipeline(queued);
+            }
+        } catch (Exception e) {
+            logger.error("{} Redis4j, executing batch of {} operations got an exception: {}", IconType.ERROR.getCode(), queued.size(), e.getMessage(), e);
+            for (Operation operation : queued) {
+                operation.future.completeExceptionally(e);
+            }
+            results = Collections.emptyList();
+            if (response != null) {
+                response
+                        .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
+                        .message("executing redis batch failed")
+                        .debug("cause", e.getMessage())
+                        .errors(e);
+            }
+        }
+        if (response != null) {
+            callback.onCallback(response.customFields("redis_batch_size", queued.size()).build());
+        }
+        return results;
+    }
+
+    protected List<Object> pipeline(List<Operation> queued) {
+        List<Object> results = dispatch.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public <K, V> Object execute(@NotNull RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                for (Operation operation : queued) {
+                    operation.command.accept(ops);
+                }
+                return null;
+            }
+        });
+        int expected = 0;
+        for (Operation operation : queued) {
+            if (operation.replies) {
+                expected++;
+            }
+        }
+        if (results.size() != expected) {
+            throw new IllegalStateException(String.format("Redis batch expected %d results but got %d", expected, results.size()));
+        }
+        int index = 0;
+        for (Operation operation : queued) {
+            Object result = operation.replies ? results.get(index++) : null;
+            try {
+                operation.future.complete(operation.mapper.apply(result));
+            } catch (Exception e) {
+                operation.future.completeExceptionally(e);
+            }
+        }
+        return results;
+    }
+
+    protected <R> CompletableFuture<R> queue(String key, Command command, Function<Object, R> mapper) {
+        return this.queue(key, command, true, mapper);
+    }
+
+    protected <R> CompletableFuture<R> queue(String key, Command command, boolean replies, Function<Object, R> mapper) {
+        if (String4j.isEmpty(key) || String4j.isBlank(key)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        final String preKey = String4j.trimWhitespace(key);
+        CompletableFuture<R> future = new CompletableFuture<>();
+        operations.add(new Operation(ops -> command.apply(ops, preKey), replies, (Function<Object, Object>) mapper, (CompletableFuture<Object>) (CompletableFuture<?>) future));
+        return future;
+    }
+
+    protected static Boolean asBoolean(Object result) {
+        if (result instanceof Boolean) {
+            return (Boolean) result;
+        }
+        if (result instanceof Number) {
+            return ((Number) result).longValue() > 0;
+        }
+        return result != null;
+    }
+
+    protected static Long asLong(Object result) {
+        if (result instanceof Number) {
+            return ((Number) result).longValue();
+        }
+        return -1L;
+    }
+
+    @FunctionalInterface
+    protected interface Command {
+        void apply(RedisOperations<String, Object> operations, String key);
+    }
+
+    protected static final class Operation {
+        private final Consumer<RedisOperations<String, Object>> command;
+        private final boolean replies;
+        private final Function<Object, Object> mapper;
+        private final CompletableFuture<Object> future;
+
+        private Operation(Consumer<RedisOperations<String, Object>> command, boolean replies, Function<Object, Object> mapper, CompletableFuture<Object> future) {
+            this.command = command;
+            this.replies = replies;
+            this.mapper = mapper;
+            this.future = future;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package org.redis4j.common;
+
+import io.lettuce.core.KeyScanCursor;
+import io.lettuce.core.LettuceFutures;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.ScanArgs;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import org.redis4j.model.Redis4jKeyInfo;
+import org.unify4j.common.String4j;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Walks the key space page by page using SCAN, and for each page pipelines TYPE, PTTL and optionally
+ * MEMORY USAGE for every key, so that describing N keys costs about N / page size round-trips.
+ * <p>
+ * At most {@code concurrency} pages are in flight at any time, which bounds the memory held by the
+ * inventory to {@code pageSize * concurrency} entries regardless of the size of the key space.
+ */
+public final class Redis4jInventory {
+    private Redis4jInventory() {
+    }
+
+    /**
+     * Emits a {@link Redis4jKeyInfo} for every key matching the pattern, in SCAN order.
+     * Keys which vanish between SCAN and the pipelined commands are skipped.
+     *
+     * @param commands    the asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param timeout     the maximum time to wait for each reply
+     * @param pattern     the glob-style pattern used to match keys, "*" when empty
+     * @param pageSize    the COUNT hint used by SCAN, i.e. the number of keys per page
+     * @param concurrency the maximum number of pages in flight
+     * @param withMemory  true to also pipeline MEMORY USAGE for every key
+     * @param consumer    the consumer receiving the key descriptions
+     * @return the number of keys emitted
+     */
+    public static long inventory(RedisAsyncCommands<String, String> commands, Duration timeout, String pattern,
+                                 int pageSize, int concurrency, boolean withMemory, Consumer<Redis4jKeyInfo> consumer) {
+        if (commands == null || consumer == null) {
+            return 0;
+        }
+        long nanos = (timeout != null ? timeout : Duration.ofSeconds(60)).toNanos();
+        ScanArgs args = ScanArgs.Builder.matches(String4j.isEmpty(pattern) ? "*" : pattern).limit(Math.max(1, pageSize));
+        Deque<Page> pending = new ArrayDeque<>();
+        long emitted = 0;
+        KeyScanCursor<String> cursor = LettuceFutures.awaitOrCancel(commands.scan(args), nanos, TimeUnit.NANOSECONDS);
+        while (true) {
+            if (!cursor.getKeys().isEmpty()) {
+                pending.addLast(new Page(commands, cursor.getKeys(), withMemory));
+            }
+            if (cursor.isFinished()) {
+                break;
+            }
+            RedisFuture<KeyScanCursor<String>> next = commands.scan(cursor, args);
+            while (pending.size() >= Math.max(1, concurrency)) {
+                emitted += pending.pollFirst().emit(nanos, consumer);
+            }
+            cursor = LettuceFutures.awaitOrCancel(next, nanos, TimeUnit.NANOSECONDS);
+        }
+        while (!pending.isEmpty()) {
+            emitted += pending.pollFirst().emit(nanos, consumer);
+        }
+        return emitted;
+    }
+
+    /**
+     * A page of keys whose TYPE, PTTL and MEMORY USAGE commands have been dispatched but not yet awaited.
+     */
+    private static final class Page {
+        private final List<String> keys;
+        private final List<RedisFuture<String>> types;
+        private final List<RedisFuture<Long>> ttls;
+        private final List<RedisFuture<Long>> memories;
+
+        private Page(RedisAsyncCommands<String, String> commands, List<String> keys, boolean withMemory) {
+            this.keys = keys;
+            this.types = new ArrayList<>(keys.size());
+            this.ttls = new ArrayList<>(keys.size());
+            this.memories = withMemory ? new ArrayList<>(keys.size()) : null;
+            for (String key : keys) {
+                types.add(commands.type(key));
+                ttls.add(commands.pttl(key));
+                if (withMemory) {
+                    memories.add(commands.memoryUsage(key));
+                }
+            }
+        }
+
+        private long emit(long nanos, Consumer<Redis4jKeyInfo> consumer) {
+            long emitted = 0;
+            for (int i = 0; i < keys.size(); i++) {
+                String type = LettuceFutures.awaitOrCancel(types.get(i), nanos, TimeUnit.NANOSECONDS);
+                Long ttl = LettuceFutures.awaitOrCancel(ttls.get(i), nanos, TimeUnit.NANOSECONDS);
+                Long memory = memories != null ? LettuceFutures.awaitOrCancel(memories.get(i), nanos, TimeUnit.NANOSECONDS) : null;
+                if (type == null || "none".equals(type)) {
+                    continue;
+                }
+                consumer.accept(new Redis4jKeyInfo(keys.get(i), type, ttl == null ? -1 : ttl, memory == null ? -1 : memory));
+                emitted++;
+            }
+            return emitted;
+        }
+    }
+}
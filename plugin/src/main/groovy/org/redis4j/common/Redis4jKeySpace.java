@@ -0,0 +1,138 @@
+package org.redis4j.common;
+
+import org.redis4j.model.Redis4jKey;
+import org.unify4j.common.String4j;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A family of Redis keys sharing a namespace, e.g. "user:profile", whose prefix "user:profile:" is encoded
+ * once so that composing a key only appends the bytes of its id, with a single allocation for numeric ids.
+ * <pre>
+ * private static final Redis4jKeySpace PROFILES = Redis4jKeySpace.of("user", "profile");
+ * Redis4j.setCacheObject(PROFILES.key(userId), profile);
+ * </pre>
+ * Key spaces are immutable and meant to be kept in constants.
+ */
+public class Redis4jKeySpace {
+    public static final String SEPARATOR = ":";
+
+    protected final String namespace;
+    protected final byte[] prefix; // UTF-8 of namespace + separator
+
+    protected Redis4jKeySpace(String namespace) {
+        this.namespace = namespace;
+        this.prefix = (namespace + SEPARATOR).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param segments the segments of the namespace, joined by {@link #SEPARATOR}
+     * @return the key space, class {@link Redis4jKeySpace}
+     * @throws IllegalArgumentException if there is no segment or a segment is empty
+     */
+    public static Redis4jKeySpace of(String... segments) {
+        if (segments == null || segments.length == 0) {
+            throw new IllegalArgumentException("Redis4j key space requires at least one segment");
+        }
+        StringBuilder namespace = new StringBuilder();
+        for (String segment : segments) {
+            if (String4j.isEmpty(segment) || String4j.isBlank(segment)) {
+                throw new IllegalArgumentException("Redis4j key space segments must not be empty");
+            }
+            if (namespace.length() > 0) {
+                namespace.append(SEPARATOR);
+            }
+            namespace.append(segment.trim());
+        }
+        return new Redis4jKeySpace(namespace.toString());
+    }
+
+    /**
+     * @param segment the segment appended to the namespace
+     * @return the nested key space, e.g. "user:profile" for the segment "profile" of "user"
+     */
+    public Redis4jKeySpace child(String segment) {
+        return of(namespace, segment);
+    }
+
+    /**
+     * Composes the key of a numeric id, writing its digits straight after the prefix bytes.
+     *
+     * @param id the id
+     * @return the key namespace:id, class {@link Redis4jKey}
+     */
+    public Redis4jKey key(long id) {
+        int digits = digits(id);
+        byte[] bytes = new byte[prefix.length + digits];
+        System.arraycopy(prefix, 0, bytes, 0, prefix.length);
+        int i = bytes.length;
+        long v = id;
+        if (v == Long.MIN_VALUE) {
+            // -v overflows, write the last digit apart
+            bytes[--i] = (byte) ('0' + (int) -(v % 10));
+            v /= 10;
+        }
+        boolean negative = v < 0;
+        if (negative) {
+            v = -v;
+        }
+        do {
+            bytes[--i] = (byte) ('0' + (int) (v % 10));
+            v /= 10;
+        } while (v != 0);
+        if (negative) {
+            bytes[--i] = '-';
+        }
+        return new Redis4jKey(bytes);
+    }
+
+    /**
+     * Composes the key of an id.
+     *
+     * @param id the id
+     * @return the key namespace:id, class {@link Redis4jKey}
+     */
+    public Redis4jKey key(String id) {
+        byte[] suffix = id.getBytes(StandardCharsets.UTF_8);
+        byte[] bytes = new byte[prefix.length + suffix.length];
+        System.arraycopy(prefix, 0, bytes, 0, prefix.length);
+        System.arraycopy(suffix, 0, bytes, prefix.length, suffix.length);
+        return new Redis4jKey(bytes);
+    }
+
+    /**
+     * @return the pattern matching every key of the space, for keys or scan
+     */
+    public String pattern() {
+        return namespace + SEPARATOR + "*";
+    }
+
+    /**
+     * @return the namespace, without the trailing separator
+     */
+    public String getNamespace() {
+        return namespace;
+    }
+
+    /**
+     * @param id the id
+     * @return the number of characters of the decimal form of the id, sign included
+     */
+    protected static int digits(long id) {
+        if (id == Long.MIN_VALUE) {
+            return 20;
+        }
+        int n = id < 0 ? 2 : 1;
+        long v = Math.abs(id);
+        while (v >= 10) {
+            v /= 10;
+            n++;
+        }
+        return n;
+    }
+
+    @Override
+    public String toString() {
+        return namespace;
+    }
+}
@@ -1,24 +1,97 @@
 package org.redis4j.config;
 
-import io.lettuce.core.event.connection.ConnectionActivatedEvent;
-import io.lettuce.core.event.connection.ConnectionDeactivatedEvent;
+import io.lettuce.core.event.Event;
+import io.lettuce.core.event.EventBus;
+import io.lettuce.core.event.connection.ConnectionEvent;
+import io.lettuce.core.event.connection.ReconnectFailedEvent;
+import io.lettuce.core.event.metrics.CommandLatencyEvent;
+import org.redis4j.config.props.Redis4jProperties;
+import org.redis4j.metrics.Redis4jCommandMetrics;
+import org.redis4j.model.Redis4jCommandStats;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.context.event.EventListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.unify4j.model.enums.IconType;
+import reactor.core.Disposable;
 
-//@Component
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+/**
+ * Listens to the Lettuce event bus and records the command latencies and the connection events
+ * per server endpoint and command type into {@link Redis4jCommandMetrics}.
+ * <p>
+ * The command latencies are published every {@code spring.redis4j.command_latency_emit_interval};
+ * they are logged on every emission while debugging, as are the connection events.
+ */
+@Component
+@ConditionalOnProperty(
+        value = "spring.redis4j.enabled",
+        havingValue = "true",
+        matchIfMissing = false
+)
 public class DefaultRedis4jEventListenerConfig {
     protected static final Logger logger = LoggerFactory.getLogger(DefaultRedis4jEventListenerConfig.class);
 
-    @EventListener
-    public void onConnectionActivated(ConnectionActivatedEvent event) {
-        logger.info("Connection activated event: {}", event.toString());
-        // drafting
+    protected final EventBus eventBus;
+    protected final Redis4jCommandMetrics metrics;
+    protected final Redis4jProperties properties;
+    protected Disposable subscription;
+
+    public DefaultRedis4jEventListenerConfig(EventBus eventBus,
+                                             Redis4jCommandMetrics metrics,
+                                             Redis4jProperties properties) {
+        this.eventBus = eventBus;
+        this.metrics = metrics;
+        this.properties = properties;
+    }
+
+    @PostConstruct
+    public void initiate() {
+        if (eventBus != null) {
+            this.subscription = eventBus.get().subscribe(this::onEvent, e -> logger.error("{} Redis4j event listener, listening to the event bus failed: {}", IconType.ERROR.getCode(), e.getMessage(), e));
+        }
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
     }
 
-    @EventListener
-    public void onConnectionDeactivated(ConnectionDeactivatedEvent event) {
-        logger.error("Connection deactivated event: {}", event.toString());
-        // drafting
+    /**
+     * Records an event of the Lettuce event bus. A failed listener must not cancel the subscription,
+     * so failures are logged and the event dropped.
+     *
+     * @param event the event published on the Lettuce event bus, class {@link Event}
+     */
+    protected void onEvent(Event event) {
+        try {
+            metrics.record(event);
+            if (event instanceof ReconnectFailedEvent) {
+                ReconnectFailedEvent e = (ReconnectFailedEvent) event;
+                logger.warn("{} Redis4j event listener, reconnecting to {} failed, attempt: {}, cause: {}", IconType.WARN.getCode(), e.remoteAddress(), e.getAttempt(), e.getCause() != null ? e.getCause().getMessage() : null);
+                return;
+            }
+            if (!properties.isDebugging()) {
+                return;
+            }
+            if (event instanceof CommandLatencyEvent) {
+                for (Redis4jCommandStats stats : metrics.commandStats()) {
+                    if (stats.getCount() > 0) {
+                        logger.info("{} Redis4j command latency, endpoint: {}, command: {}, count: {}, first_response_us: {}, completion_us: {}, max_us: {}",
+                                IconType.DEBUG.getCode(), stats.getEndpoint(), stats.getCommand(), stats.getCount(),
+                                stats.getFirstResponsePercentiles(), stats.getCompletionPercentiles(), stats.getCompletionMax());
+                    }
+                }
+            } else if (event instanceof ConnectionEvent) {
+                ConnectionEvent e = (ConnectionEvent) event;
+                logger.info("{} Redis4j connection event, {}: local {} remote {}", IconType.DEBUG.getCode(), event.getClass().getSimpleName(), e.localAddress(), e.remoteAddress());
+            }
+        } catch (Exception e) {
+            logger.error("{} Redis4j event listener, recording {} failed: {}", IconType.ERROR.getCode(), event.getClass().getSimpleName(), e.getMessage(), e);
+        }
     }
 }
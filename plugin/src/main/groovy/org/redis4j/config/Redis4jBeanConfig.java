@@ -1,5 +1,6 @@
 package org.redis4j.config;
 
+import org.redis4j.common.Redis4j;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
 import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
@@ -95,5 +96,6 @@ public class Redis4jBeanConfig implements BeanFactoryPostProcessor {
     @Override
     public void postProcessBeanFactory(ConfigurableListableBeanFactory factory) throws BeansException {
         Redis4jBeanConfig.beanFactory = factory;
+        Redis4j.refresh(); // drop collaborators resolved from a previous context, they are re-resolved lazily
     }
 }
\ No newline at end of file
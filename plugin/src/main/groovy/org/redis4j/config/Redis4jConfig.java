@@ -3,7 +3,6 @@ package org.redis4j.config;
 import io.lettuce.core.RedisClient;
 import io.lettuce.core.event.EventBus;
 import io.lettuce.core.resource.ClientResources;
-import io.lettuce.core.resource.DefaultClientResources;
 import org.redis4j.service.Redis4jConfigService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -66,7 +65,7 @@ public class Redis4jConfig {
     @Bean
     @Primary
     public LettucePoolingClientConfiguration lettucePoolingClientConfig() {
-        return redis4jConfigService.createLettucePoolingClientConfig(this.defaultPoolConfig());
+        return redis4jConfigService.createLettucePoolingClientConfig(this.defaultPoolConfig(), this.clientResources());
     }
 
     @Bean
@@ -77,12 +76,12 @@ public class Redis4jConfig {
 
     @Bean
     public RedisTemplate<String, Object> redisTemplate() {
-        return redis4jConfigService.createRedisDispatch(this.factory(), redis4jConfigService.createJsonRedisSerializer(), new StringRedisSerializer());
+        return redis4jConfigService.createRedisDispatch(this.factory(), redis4jConfigService.createValueSerializer(), new StringRedisSerializer());
     }
 
     @Bean
     public StringRedisTemplate stringRedisTemplate() {
-        return redis4jConfigService.createStringRedisDispatch(this.factory(), redis4jConfigService.createJsonRedisSerializer(), new StringRedisSerializer());
+        return redis4jConfigService.createStringRedisDispatch(this.factory(), redis4jConfigService.createCompressingSerializer(redis4jConfigService.createJsonRedisSerializer()), new StringRedisSerializer());
     }
 
     @Bean
@@ -90,9 +89,9 @@ public class Redis4jConfig {
         return redis4jConfigService.createCacheManager(this.factory());
     }
 
-    @Bean
+    @Bean(destroyMethod = "shutdown")
     public ClientResources clientResources() {
-        return DefaultClientResources.create();
+        return redis4jConfigService.createClientResources();
     }
 
     @Bean
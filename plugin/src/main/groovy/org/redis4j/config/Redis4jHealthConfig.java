@@ -0,0 +1,144 @@
+package org.redis4j.config;
+
+import io.lettuce.core.event.Event;
+import io.lettuce.core.event.EventBus;
+import io.lettuce.core.event.connection.ConnectionActivatedEvent;
+import io.lettuce.core.event.connection.ConnectionDeactivatedEvent;
+import io.lettuce.core.event.connection.DisconnectedEvent;
+import io.lettuce.core.event.connection.ReconnectFailedEvent;
+import org.redis4j.config.props.Redis4jProperties;
+import org.redis4j.service.Redis4jConfigService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.stereotype.Component;
+import org.unify4j.model.enums.IconType;
+import reactor.core.Disposable;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Keeps the Redis connection health state in memory, so that guards such as {@code canExecuted()}
+ * read a volatile flag instead of issuing a PING per call.
+ * <p>
+ * The state is refreshed by a periodic probe (see {@code spring.redis4j.health_check_interval})
+ * and re-probed immediately whenever Lettuce publishes a connection event on the event bus.
+ */
+@Component
+@ConditionalOnProperty(
+        value = "spring.redis4j.enabled",
+        havingValue = "true",
+        matchIfMissing = false
+)
+public class Redis4jHealthConfig {
+    protected static final Logger logger = LoggerFactory.getLogger(Redis4jHealthConfig.class);
+
+    protected final Redis4jConfigService service;
+    protected final RedisConnectionFactory factory;
+    protected final Redis4jProperties properties;
+    protected final EventBus eventBus;
+    protected final AtomicBoolean probing = new AtomicBoolean(false);
+    protected volatile boolean connected = false;
+    protected ScheduledExecutorService executor;
+    protected Disposable subscription;
+
+    public Redis4jHealthConfig(Redis4jConfigService service,
+                               RedisConnectionFactory factory,
+                               Redis4jProperties properties,
+                               EventBus eventBus) {
+        this.service = service;
+        this.factory = factory;
+        this.properties = properties;
+        this.eventBus = eventBus;
+    }
+
+    @PostConstruct
+    public void initiate() {
+        this.probe(); // the first probe runs synchronously, so the state is known before the application starts
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "redis4j-health");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Duration interval = properties.getHealthCheckInterval();
+        long millis = interval != null && !interval.isNegative() && !interval.isZero() ? interval.toMillis() : Duration.ofSeconds(5).toMillis();
+        this.executor.scheduleWithFixedDelay(this::probe, millis, millis, TimeUnit.MILLISECONDS);
+        if (eventBus != null) {
+            this.subscription = eventBus.get().subscribe(this::onEvent);
+        }
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * @return true if the last known state of the Redis connection is connected, false otherwise
+     */
+    public boolean isConnected() {
+        return connected;
+    }
+
+    /**
+     * Probes the Redis connection factory and updates the health state.
+     * Concurrent probes are collapsed into the one already running.
+     */
+    public void probe() {
+        if (!probing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            this.update(service.isConnected(factory));
+        } finally {
+            probing.set(false);
+        }
+    }
+
+    /**
+     * Reacts to Lettuce connection events. A failed reconnect marks the state as disconnected right away,
+     * any other connection event schedules an immediate probe, since a single pooled connection being
+     * closed does not mean the server is unreachable.
+     *
+     * @param event the event published on the Lettuce event bus, class {@link Event}
+     */
+    protected void onEvent(Event event) {
+        if (event instanceof ReconnectFailedEvent) {
+            this.update(false);
+            return;
+        }
+        if (event instanceof ConnectionActivatedEvent
+                || event instanceof ConnectionDeactivatedEvent
+                || event instanceof DisconnectedEvent) {
+            ScheduledExecutorService e = executor;
+            if (e != null && !e.isShutdown()) {
+                e.execute(this::probe);
+            }
+        }
+    }
+
+    protected void update(boolean state) {
+        boolean previous = connected;
+        connected = state;
+        if (previous == state) {
+            return;
+        }
+        if (state) {
+            logger.info("{} Redis4j health, Redis Server is reachable", IconType.SUCCESS.getCode());
+        } else {
+            logger.error("{} Redis4j health, Redis Server is unreachable", IconType.ERROR.getCode());
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package org.redis4j.config;
+
+import org.redis4j.config.props.Redis4jProperties;
+import org.redis4j.metrics.Redis4jCommandMetrics;
+import org.redis4j.metrics.Redis4jCommandMetricsBinder;
+import org.redis4j.metrics.Redis4jMetrics;
+import org.redis4j.metrics.Redis4jMetricsBinder;
+import org.redis4j.metrics.Redis4jMetricsPostProcessor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configures the per-operation metrics of the Redis4j service (see {@code spring.redis4j.metrics_enabled})
+ * and the Lettuce command latencies and connection events (see {@code spring.redis4j.command_latency_enabled}),
+ * and publishes them to Micrometer when it is on the classpath.
+ */
+@Configuration
+@ConditionalOnProperty(
+        value = "spring.redis4j.enabled",
+        havingValue = "true",
+        matchIfMissing = false
+)
+public class Redis4jMetricsConfig {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public Redis4jMetrics redis4jMetrics(Redis4jProperties properties) {
+        return new Redis4jMetrics(properties.isMetricsEnabled());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public Redis4jCommandMetrics redis4jCommandMetrics() {
+        return new Redis4jCommandMetrics();
+    }
+
+    @Bean
+    public static Redis4jMetricsPostProcessor redis4jMetricsPostProcessor(ObjectProvider<Redis4jMetrics> metrics) {
+        return new Redis4jMetricsPostProcessor(metrics);
+    }
+
+    @Configuration
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.binder.MeterBinder")
+    protected static class Redis4jMicrometerConfig {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public Redis4jMetricsBinder redis4jMetricsBinder(Redis4jMetrics metrics) {
+            return new Redis4jMetricsBinder(metrics);
+        }
+
+        @Bean
+        @ConditionalOnMissingBean
+        public Redis4jCommandMetricsBinder redis4jCommandMetricsBinder(Redis4jCommandMetrics metrics) {
+            return new Redis4jCommandMetricsBinder(metrics);
+        }
+    }
+}
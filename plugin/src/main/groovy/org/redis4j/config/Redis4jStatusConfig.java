@@ -18,26 +18,32 @@ public class Redis4jStatusConfig {
     protected final RedisConnectionFactory factory;
     protected final StringRedisTemplate stringRedisTemplate;
     protected final RedisTemplate<String, Object> redisTemplate;
+    protected final Redis4jHealthConfig health;
 
     public Redis4jStatusConfig(Redis4jConfigService service,
                                RedisConnectionFactory factory,
                                StringRedisTemplate stringRedisTemplate,
-                               RedisTemplate<String, Object> redisTemplate) {
+                               RedisTemplate<String, Object> redisTemplate,
+                               Redis4jHealthConfig health) {
         this.service = service;
         this.factory = factory;
         this.stringRedisTemplate = stringRedisTemplate;
         this.redisTemplate = redisTemplate;
+        this.health = health;
     }
 
     /**
      * Checks if a Redis connection factory is connected.
-     * Returns true if the factory is not null and a connection can be established without errors.
-     * Uses pipelined connection status for checking.
+     * Reads the health state maintained in the background by {@link Redis4jHealthConfig},
+     * so no round-trip to the Redis server is made on the calling thread.
      *
      * @return true if the factory is connected and can perform pipelined operations; false otherwise.
      */
     public boolean isConnected() {
-        return this.service.isConnected(this.factory);
+        if (this.health == null) {
+            return this.service.isConnected(this.factory);
+        }
+        return this.health.isConnected();
     }
 
     /**
@@ -0,0 +1,85 @@
+package org.redis4j.config.props;
+
+import java.io.Serializable;
+import java.time.Duration;
+
+/**
+ * Settings of one cache name, bound from spring.redis4j.caches.&lt;name&gt;.
+ * An unset field falls back to the matching default of {@link Redis4jProperties}.
+ */
+@SuppressWarnings({""})
+public class Redis4jCacheProperties implements Serializable {
+    public Redis4jCacheProperties() {
+        super();
+    }
+
+    private Integer localMaxSize; // local_max_size
+    private Duration localTtl; // local_ttl
+    private Duration ttl; // ttl
+    private Duration ttlJitter; // ttl_jitter
+    private Boolean cacheNullValues; // cache_null_values
+    private String keyPrefix; // key_prefix
+    private String codec; // codec
+
+    public Integer getLocalMaxSize() {
+        return localMaxSize;
+    }
+
+    public void setLocalMaxSize(Integer localMaxSize) {
+        this.localMaxSize = localMaxSize;
+    }
+
+    public Duration getLocalTtl() {
+        return localTtl;
+    }
+
+    public void setLocalTtl(Duration localTtl) {
+        this.localTtl = localTtl;
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    public Duration getTtlJitter() {
+        return ttlJitter;
+    }
+
+    public void setTtlJitter(Duration ttlJitter) {
+        this.ttlJitter = ttlJitter;
+    }
+
+    public Boolean getCacheNullValues() {
+        return cacheNullValues;
+    }
+
+    public void setCacheNullValues(Boolean cacheNullValues) {
+        this.cacheNullValues = cacheNullValues;
+    }
+
+    public String getKeyPrefix() {
+        return keyPrefix;
+    }
+
+    public void setKeyPrefix(String keyPrefix) {
+        this.keyPrefix = keyPrefix;
+    }
+
+    public String getCodec() {
+        return codec;
+    }
+
+    public void setCodec(String codec) {
+        this.codec = codec;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("{ local_max_size: %s, local_ttl: %s, ttl: %s, ttl_jitter: %s, cache_null_values: %s, key_prefix: %s, codec: %s }",
+                localMaxSize, localTtl, ttl, ttlJitter, cacheNullValues, keyPrefix, codec);
+    }
+}
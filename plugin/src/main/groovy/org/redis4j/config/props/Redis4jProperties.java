@@ -5,6 +5,11 @@ import org.springframework.stereotype.Component;
 
 import java.io.Serializable;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 @SuppressWarnings({""})
 @Component
@@ -25,6 +30,45 @@ public class Redis4jProperties implements Serializable {
     private Duration minEvictIdleDuration; // min_evict_idle_duration
     private Duration durationBetweenEvictionRuns; // duration_between_eviction_runs
     private Duration executionCommandTimeout; // execution_command_timeout
+    private Duration healthCheckInterval = Duration.ofSeconds(5); // health_check_interval
+    private boolean keysScanEnabled = false; // keys_scan_enabled
+    private long keysScanCount = 1000; // keys_scan_count
+    private int inventoryPageSize = 500; // inventory_page_size
+    private int inventoryConcurrency = 4; // inventory_concurrency
+    private int setWriteChunkSize = 1000; // set_write_chunk_size
+    private int streamPageSize = 500; // stream_page_size
+    private boolean nearCacheEnabled = false; // near_cache_enabled
+    private int nearCacheMaxSize = 10000; // near_cache_max_size
+    private long nearCacheMaxWeight = 0; // near_cache_max_weight
+    private boolean cacheLocalEnabled = false; // cache_local_enabled
+    private int cacheLocalMaxSize = 1000; // cache_local_max_size
+    private Duration cacheLocalTtl = Duration.ofSeconds(60); // cache_local_ttl
+    private String cacheInvalidationChannel = "redis4j:cache:invalidation"; // cache_invalidation_channel
+    private Map<String, Redis4jCacheProperties> caches = new LinkedHashMap<>(); // caches
+    private Duration cacheTtl = Duration.ZERO; // cache_ttl
+    private Duration cacheTtlJitter = Duration.ZERO; // cache_ttl_jitter
+    private boolean cacheNullValues = true; // cache_null_values
+    private String cacheCodec = "jdk"; // cache_codec
+    private boolean loadLeaseEnabled = false; // load_lease_enabled
+    private Duration loadLeaseTtl = Duration.ofSeconds(10); // load_lease_ttl
+    private Duration loadLeasePollInterval = Duration.ofMillis(50); // load_lease_poll_interval
+    private double earlyRefreshBeta = 1.0; // early_refresh_beta
+    private int earlyRefreshThreads = 2; // early_refresh_threads
+    private int earlyRefreshQueueSize = 1000; // early_refresh_queue_size
+    private String valueCodec = "json"; // value_codec
+    private boolean compressionEnabled = false; // compression_enabled
+    private int compressionThreshold = 4096; // compression_threshold
+    private String compressionAlgorithm = "deflate"; // compression_algorithm
+    private int compressionLevel = -1; // compression_level
+    private String compressionDictionaryKey = "redis4j:dict"; // compression_dictionary_key
+    private int compressionDictionarySize = 16384; // compression_dictionary_size
+    private int compressionDictionarySamples = 1000; // compression_dictionary_samples
+    private Duration compressionDictionaryRefreshInterval = Duration.ofSeconds(30); // compression_dictionary_refresh_interval
+    private Duration compressionDictionaryLoadTimeout = Duration.ofMillis(500); // compression_dictionary_load_timeout
+    private boolean metricsEnabled = true; // metrics_enabled
+    private boolean commandLatencyEnabled = true; // command_latency_enabled
+    private Duration commandLatencyEmitInterval = Duration.ofSeconds(10); // command_latency_emit_interval
+    private List<Double> commandLatencyPercentiles = new ArrayList<>(Arrays.asList(50.0, 90.0, 99.0, 99.9)); // command_latency_percentiles
 
     public boolean isEnabled() {
         return enabled;
@@ -114,9 +158,321 @@ public class Redis4jProperties implements Serializable {
         this.sharedNativeConnection = sharedNativeConnection;
     }
 
+    public Duration getHealthCheckInterval() {
+        return healthCheckInterval;
+    }
+
+    public void setHealthCheckInterval(Duration healthCheckInterval) {
+        this.healthCheckInterval = healthCheckInterval;
+    }
+
+    public boolean isKeysScanEnabled() {
+        return keysScanEnabled;
+    }
+
+    public void setKeysScanEnabled(boolean keysScanEnabled) {
+        this.keysScanEnabled = keysScanEnabled;
+    }
+
+    public long getKeysScanCount() {
+        return keysScanCount;
+    }
+
+    public void setKeysScanCount(long keysScanCount) {
+        this.keysScanCount = keysScanCount;
+    }
+
+    public int getInventoryPageSize() {
+        return inventoryPageSize;
+    }
+
+    public void setInventoryPageSize(int inventoryPageSize) {
+        this.inventoryPageSize = inventoryPageSize;
+    }
+
+    public int getInventoryConcurrency() {
+        return inventoryConcurrency;
+    }
+
+    public void setInventoryConcurrency(int inventoryConcurrency) {
+        this.inventoryConcurrency = inventoryConcurrency;
+    }
+
+    public int getSetWriteChunkSize() {
+        return setWriteChunkSize;
+    }
+
+    public void setSetWriteChunkSize(int setWriteChunkSize) {
+        this.setWriteChunkSize = setWriteChunkSize;
+    }
+
+    public int getStreamPageSize() {
+        return streamPageSize;
+    }
+
+    public void setStreamPageSize(int streamPageSize) {
+        this.streamPageSize = streamPageSize;
+    }
+
+    public boolean isNearCacheEnabled() {
+        return nearCacheEnabled;
+    }
+
+    public void setNearCacheEnabled(boolean nearCacheEnabled) {
+        this.nearCacheEnabled = nearCacheEnabled;
+    }
+
+    public int getNearCacheMaxSize() {
+        return nearCacheMaxSize;
+    }
+
+    public void setNearCacheMaxSize(int nearCacheMaxSize) {
+        this.nearCacheMaxSize = nearCacheMaxSize;
+    }
+
+    public long getNearCacheMaxWeight() {
+        return nearCacheMaxWeight;
+    }
+
+    public void setNearCacheMaxWeight(long nearCacheMaxWeight) {
+        this.nearCacheMaxWeight = nearCacheMaxWeight;
+    }
+
+    public boolean isCacheLocalEnabled() {
+        return cacheLocalEnabled;
+    }
+
+    public void setCacheLocalEnabled(boolean cacheLocalEnabled) {
+        this.cacheLocalEnabled = cacheLocalEnabled;
+    }
+
+    public int getCacheLocalMaxSize() {
+        return cacheLocalMaxSize;
+    }
+
+    public void setCacheLocalMaxSize(int cacheLocalMaxSize) {
+        this.cacheLocalMaxSize = cacheLocalMaxSize;
+    }
+
+    public Duration getCacheLocalTtl() {
+        return cacheLocalTtl;
+    }
+
+    public void setCacheLocalTtl(Duration cacheLocalTtl) {
+        this.cacheLocalTtl = cacheLocalTtl;
+    }
+
+    public String getCacheInvalidationChannel() {
+        return cacheInvalidationChannel;
+    }
+
+    public void setCacheInvalidationChannel(String cacheInvalidationChannel) {
+        this.cacheInvalidationChannel = cacheInvalidationChannel;
+    }
+
+    public Map<String, Redis4jCacheProperties> getCaches() {
+        return caches;
+    }
+
+    public void setCaches(Map<String, Redis4jCacheProperties> caches) {
+        this.caches = caches;
+    }
+
+    public Duration getCacheTtl() {
+        return cacheTtl;
+    }
+
+    public void setCacheTtl(Duration cacheTtl) {
+        this.cacheTtl = cacheTtl;
+    }
+
+    public Duration getCacheTtlJitter() {
+        return cacheTtlJitter;
+    }
+
+    public void setCacheTtlJitter(Duration cacheTtlJitter) {
+        this.cacheTtlJitter = cacheTtlJitter;
+    }
+
+    public boolean isCacheNullValues() {
+        return cacheNullValues;
+    }
+
+    public void setCacheNullValues(boolean cacheNullValues) {
+        this.cacheNullValues = cacheNullValues;
+    }
+
+    public String getCacheCodec() {
+        return cacheCodec;
+    }
+
+    public void setCacheCodec(String cacheCodec) {
+        this.cacheCodec = cacheCodec;
+    }
+
+    public boolean isLoadLeaseEnabled() {
+        return loadLeaseEnabled;
+    }
+
+    public void setLoadLeaseEnabled(boolean loadLeaseEnabled) {
+        this.loadLeaseEnabled = loadLeaseEnabled;
+    }
+
+    public Duration getLoadLeaseTtl() {
+        return loadLeaseTtl;
+    }
+
+    public void setLoadLeaseTtl(Duration loadLeaseTtl) {
+        this.loadLeaseTtl = loadLeaseTtl;
+    }
+
+    public Duration getLoadLeasePollInterval() {
+        return loadLeasePollInterval;
+    }
+
+    public void setLoadLeasePollInterval(Duration loadLeasePollInterval) {
+        this.loadLeasePollInterval = loadLeasePollInterval;
+    }
+
+    public double getEarlyRefreshBeta() {
+        return earlyRefreshBeta;
+    }
+
+    public void setEarlyRefreshBeta(double earlyRefreshBeta) {
+        this.earlyRefreshBeta = earlyRefreshBeta;
+    }
+
+    public int getEarlyRefreshThreads() {
+        return earlyRefreshThreads;
+    }
+
+    public void setEarlyRefreshThreads(int earlyRefreshThreads) {
+        this.earlyRefreshThreads = earlyRefreshThreads;
+    }
+
+    public int getEarlyRefreshQueueSize() {
+        return earlyRefreshQueueSize;
+    }
+
+    public void setEarlyRefreshQueueSize(int earlyRefreshQueueSize) {
+        this.earlyRefreshQueueSize = earlyRefreshQueueSize;
+    }
+
+    public String getValueCodec() {
+        return valueCodec;
+    }
+
+    public void setValueCodec(String valueCodec) {
+        this.valueCodec = valueCodec;
+    }
+
+    public boolean isCompressionEnabled() {
+        return compressionEnabled;
+    }
+
+    public void setCompressionEnabled(boolean compressionEnabled) {
+        this.compressionEnabled = compressionEnabled;
+    }
+
+    public int getCompressionThreshold() {
+        return compressionThreshold;
+    }
+
+    public void setCompressionThreshold(int compressionThreshold) {
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    public String getCompressionAlgorithm() {
+        return compressionAlgorithm;
+    }
+
+    public void setCompressionAlgorithm(String compressionAlgorithm) {
+        this.compressionAlgorithm = compressionAlgorithm;
+    }
+
+    public int getCompressionLevel() {
+        return compressionLevel;
+    }
+
+    public void setCompressionLevel(int compressionLevel) {
+        this.compressionLevel = compressionLevel;
+    }
+
+    public String getCompressionDictionaryKey() {
+        return compressionDictionaryKey;
+    }
+
+    public void setCompressionDictionaryKey(String compressionDictionaryKey) {
+        this.compressionDictionaryKey = compressionDictionaryKey;
+    }
+
+    public int getCompressionDictionarySize() {
+        return compressionDictionarySize;
+    }
+
+    public void setCompressionDictionarySize(int compressionDictionarySize) {
+        this.compressionDictionarySize = compressionDictionarySize;
+    }
+
+    public int getCompressionDictionarySamples() {
+        return compressionDictionarySamples;
+    }
+
+    public void setCompressionDictionarySamples(int compressionDictionarySamples) {
+        this.compressionDictionarySamples = compressionDictionarySamples;
+    }
+
+    public boolean isMetricsEnabled() {
+        return metricsEnabled;
+    }
+
+    public void setMetricsEnabled(boolean metricsEnabled) {
+        this.metricsEnabled = metricsEnabled;
+    }
+
+    public boolean isCommandLatencyEnabled() {
+        return commandLatencyEnabled;
+    }
+
+    public void setCommandLatencyEnabled(boolean commandLatencyEnabled) {
+        this.commandLatencyEnabled = commandLatencyEnabled;
+    }
+
+    public Duration getCommandLatencyEmitInterval() {
+        return commandLatencyEmitInterval;
+    }
+
+    public void setCommandLatencyEmitInterval(Duration commandLatencyEmitInterval) {
+        this.commandLatencyEmitInterval = commandLatencyEmitInterval;
+    }
+
+    public List<Double> getCommandLatencyPercentiles() {
+        return commandLatencyPercentiles;
+    }
+
+    public void setCommandLatencyPercentiles(List<Double> commandLatencyPercentiles) {
+        this.commandLatencyPercentiles = commandLatencyPercentiles;
+    }
+
+    public Duration getCompressionDictionaryRefreshInterval() {
+        return compressionDictionaryRefreshInterval;
+    }
+
+    public void setCompressionDictionaryRefreshInterval(Duration compressionDictionaryRefreshInterval) {
+        this.compressionDictionaryRefreshInterval = compressionDictionaryRefreshInterval;
+    }
+
+    public Duration getCompressionDictionaryLoadTimeout() {
+        return compressionDictionaryLoadTimeout;
+    }
+
+    public void setCompressionDictionaryLoadTimeout(Duration compressionDictionaryLoadTimeout) {
+        this.compressionDictionaryLoadTimeout = compressionDictionaryLoadTimeout;
+    }
+
     @Override
     public String toString() {
-        return String.format("Redis4j { enabled: %s, debugging: %s, test_on_borrow: %s, test_on_return: %s, test_while_idle: %s, block_when_exhausted: %s, num_tests_per_eviction_run: %d, duration_between_eviction_runs: %s, execution_command_timeout: %s, shared_native_connection: %s }",
-                enabled, debugging, testOnBorrow, testOnReturn, testWhileIdle, blockWhenExhausted, numTestsPerEvictionRun, durationBetweenEvictionRuns, executionCommandTimeout, sharedNativeConnection);
+        return String.format("Redis4j { enabled: %s, debugging: %s, test_on_borrow: %s, test_on_return: %s, test_while_idle: %s, block_when_exhausted: %s, num_tests_per_eviction_run: %d, duration_between_eviction_runs: %s, execution_command_timeout: %s, shared_native_connection: %s, health_check_interval: %s, keys_scan_enabled: %s, keys_scan_count: %d, inventory_page_size: %d, inventory_concurrency: %d, set_write_chunk_size: %d, stream_page_size: %d, near_cache_enabled: %s, near_cache_max_size: %d, near_cache_max_weight: %d, cache_local_enabled: %s, cache_local_max_size: %d, cache_local_ttl: %s, cache_invalidation_channel: %s, caches: %s, cache_ttl: %s, cache_ttl_jitter: %s, cache_null_values: %s, cache_codec: %s, load_lease_enabled: %s, load_lease_ttl: %s, load_lease_poll_interval: %s, early_refresh_beta: %s, early_refresh_threads: %d, early_refresh_queue_size: %d, value_codec: %s, compression_enabled: %s, compression_threshold: %d, compression_algorithm: %s, compression_level: %d, compression_dictionary_key: %s, compression_dictionary_size: %d, compression_dictionary_samples: %d, metrics_enabled: %s, command_latency_enabled: %s, command_latency_emit_interval: %s, command_latency_percentiles: %s, compression_dictionary_refresh_interval: %s, compression_dictionary_load_timeout: %s }",
+                enabled, debugging, testOnBorrow, testOnReturn, testWhileIdle, blockWhenExhausted, numTestsPerEvictionRun, durationBetweenEvictionRuns, executionCommandTimeout, sharedNativeConnection, healthCheckInterval, keysScanEnabled, keysScanCount, inventoryPageSize, inventoryConcurrency, setWriteChunkSize, streamPageSize, nearCacheEnabled, nearCacheMaxSize, nearCacheMaxWeight, cacheLocalEnabled, cacheLocalMaxSize, cacheLocalTtl, cacheInvalidationChannel, caches, cacheTtl, cacheTtlJitter, cacheNullValues, cacheCodec, loadLeaseEnabled, loadLeaseTtl, loadLeasePollInterval, earlyRefreshBeta, earlyRefreshThreads, earlyRefreshQueueSize, valueCodec, compressionEnabled, compressionThreshold, compressionAlgorithm, compressionLevel, compressionDictionaryKey, compressionDictionarySize, compressionDictionarySamples, metricsEnabled, commandLatencyEnabled, commandLatencyEmitInterval, commandLatencyPercentiles, compressionDictionaryRefreshInterval, compressionDictionaryLoadTimeout);
     }
 }
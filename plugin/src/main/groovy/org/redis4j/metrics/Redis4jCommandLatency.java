@@ -0,0 +1,89 @@
+package org.redis4j.metrics;
+
+import io.lettuce.core.metrics.CommandMetrics;
+import org.redis4j.model.Redis4jCommandStats;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The latencies of one command type against one server endpoint, replaced on every emission of the Lettuce
+ * command latency collector, and reset to zero when an emission has no such command.
+ */
+public class Redis4jCommandLatency {
+    protected final String endpoint;
+    protected final String command;
+    protected final LongAdder totalCount = new LongAdder();
+    protected volatile Redis4jCommandStats latest;
+
+    public Redis4jCommandLatency(String endpoint, String command) {
+        this.endpoint = endpoint;
+        this.command = command;
+        this.latest = new Redis4jCommandStats(endpoint, command, 0, 0, 0, 0, null, 0, 0, null);
+    }
+
+    /**
+     * @param metrics the latencies of the last emission interval, class {@link CommandMetrics}
+     */
+    public void update(CommandMetrics metrics) {
+        TimeUnit unit = metrics.getTimeUnit();
+        totalCount.add(metrics.getCount());
+        CommandMetrics.CommandLatency firstResponse = metrics.getFirstResponse();
+        CommandMetrics.CommandLatency completion = metrics.getCompletion();
+        latest = new Redis4jCommandStats(endpoint, command, metrics.getCount(), totalCount.sum(),
+                unit.toMicros(firstResponse.getMin()), unit.toMicros(firstResponse.getMax()), toMicros(unit, firstResponse.getPercentiles()),
+                unit.toMicros(completion.getMin()), unit.toMicros(completion.getMax()), toMicros(unit, completion.getPercentiles()));
+    }
+
+    /**
+     * Resets the latencies when the command was not issued over the last emission interval, keeping its percentiles.
+     */
+    public void idle() {
+        Redis4jCommandStats stats = latest;
+        if (stats.getCount() == 0) {
+            return;
+        }
+        latest = new Redis4jCommandStats(endpoint, command, 0, totalCount.sum(), 0, 0, zero(stats.getFirstResponsePercentiles()), 0, 0, zero(stats.getCompletionPercentiles()));
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public String getCommand() {
+        return command;
+    }
+
+    public long getTotalCount() {
+        return totalCount.sum();
+    }
+
+    /**
+     * @return the latencies of the last emission interval, class {@link Redis4jCommandStats}
+     */
+    public Redis4jCommandStats getLatest() {
+        return latest;
+    }
+
+    protected static Map<Double, Long> toMicros(TimeUnit unit, Map<Double, Long> percentiles) {
+        if (percentiles == null || percentiles.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<Double, Long> micros = new LinkedHashMap<>();
+        for (Map.Entry<Double, Long> entry : percentiles.entrySet()) {
+            micros.put(entry.getKey(), unit.toMicros(entry.getValue()));
+        }
+        return micros;
+    }
+
+    protected static Map<Double, Long> zero(Map<Double, Long> percentiles) {
+        Map<Double, Long> zero = new LinkedHashMap<>();
+        for (Double percentile : percentiles.keySet()) {
+            zero.put(percentile, 0L);
+        }
+        return zero;
+    }
+}
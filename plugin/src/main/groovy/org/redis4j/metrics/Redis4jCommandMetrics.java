@@ -0,0 +1,186 @@
+package org.redis4j.metrics;
+
+import io.lettuce.core.event.Event;
+import io.lettuce.core.event.connection.ConnectedEvent;
+import io.lettuce.core.event.connection.ConnectionActivatedEvent;
+import io.lettuce.core.event.connection.ConnectionDeactivatedEvent;
+import io.lettuce.core.event.connection.ConnectionEvent;
+import io.lettuce.core.event.connection.DisconnectedEvent;
+import io.lettuce.core.event.connection.ReconnectAttemptEvent;
+import io.lettuce.core.event.connection.ReconnectFailedEvent;
+import io.lettuce.core.event.metrics.CommandLatencyEvent;
+import io.lettuce.core.metrics.CommandLatencyId;
+import io.lettuce.core.metrics.CommandMetrics;
+import org.redis4j.model.Redis4jCommandStats;
+import org.redis4j.model.Redis4jEndpointStats;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * The Lettuce command latencies and connection events, per server endpoint and command type,
+ * fed by the events of the Lettuce event bus, see {@link org.redis4j.config.DefaultRedis4jEventListenerConfig}.
+ */
+public class Redis4jCommandMetrics {
+    protected static final String UNKNOWN_ENDPOINT = "unknown";
+
+    protected final ConcurrentMap<String, Redis4jCommandLatency> commands = new ConcurrentHashMap<>();
+    protected final ConcurrentMap<String, Redis4jEndpointMetrics> endpoints = new ConcurrentHashMap<>();
+    protected final List<Consumer<Redis4jCommandLatency>> commandListeners = new CopyOnWriteArrayList<>();
+    protected final List<Consumer<Redis4jEndpointMetrics>> endpointListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Records an event of the Lettuce event bus; events other than command latency and connection events are ignored.
+     *
+     * @param event the event, class {@link Event}
+     */
+    public void record(Event event) {
+        if (event instanceof CommandLatencyEvent) {
+            this.record((CommandLatencyEvent) event);
+            return;
+        }
+        if (event instanceof ConnectedEvent) {
+            this.endpoint(event).connects.increment();
+        } else if (event instanceof ConnectionActivatedEvent) {
+            this.endpoint(event).activations.increment();
+        } else if (event instanceof DisconnectedEvent) {
+            this.endpoint(event).disconnects.increment();
+        } else if (event instanceof ConnectionDeactivatedEvent) {
+            this.endpoint(event).deactivations.increment();
+        } else if (event instanceof ReconnectAttemptEvent) {
+            this.endpoint(event).reconnectAttempts.increment();
+        } else if (event instanceof ReconnectFailedEvent) {
+            this.endpoint(event).reconnectFailures.increment();
+        }
+    }
+
+    /**
+     * Replaces the latencies of the commands of an emission, and resets those of the commands missing from it.
+     *
+     * @param event the latencies of the last emission interval, class {@link CommandLatencyEvent}
+     */
+    public void record(CommandLatencyEvent event) {
+        Set<String> seen = new HashSet<>();
+        for (Map.Entry<CommandLatencyId, CommandMetrics> entry : event.getLatencies().entrySet()) {
+            String endpoint = endpoint(entry.getKey().remoteAddress());
+            String command = entry.getKey().commandType().name();
+            String key = endpoint + " " + command;
+            seen.add(key);
+            Redis4jCommandLatency latency = commands.get(key);
+            if (latency != null) {
+                latency.update(entry.getValue());
+                continue;
+            }
+            Redis4jCommandLatency created = new Redis4jCommandLatency(endpoint, command);
+            created.update(entry.getValue()); // updated before being announced, so listeners see its percentiles
+            latency = commands.putIfAbsent(key, created);
+            if (latency != null) {
+                latency.update(entry.getValue());
+                continue;
+            }
+            for (Consumer<Redis4jCommandLatency> listener : commandListeners) {
+                listener.accept(created);
+            }
+        }
+        for (Map.Entry<String, Redis4jCommandLatency> entry : commands.entrySet()) {
+            if (!seen.contains(entry.getKey())) {
+                entry.getValue().idle();
+            }
+        }
+    }
+
+    /**
+     * @return the latencies of the last emission interval, by endpoint then command, class {@link Redis4jCommandStats}
+     */
+    public List<Redis4jCommandStats> commandStats() {
+        List<Redis4jCommandStats> stats = new ArrayList<>();
+        for (Redis4jCommandLatency latency : commands.values()) {
+            stats.add(latency.getLatest());
+        }
+        stats.sort(Comparator.comparing(Redis4jCommandStats::getEndpoint).thenComparing(Redis4jCommandStats::getCommand));
+        return stats;
+    }
+
+    /**
+     * @return a point-in-time snapshot of the connection events, by endpoint, class {@link Redis4jEndpointStats}
+     */
+    public List<Redis4jEndpointStats> endpointStats() {
+        List<Redis4jEndpointStats> stats = new ArrayList<>();
+        for (Redis4jEndpointMetrics metrics : endpoints.values()) {
+            stats.add(metrics.snapshot());
+        }
+        stats.sort(Comparator.comparing(Redis4jEndpointStats::getEndpoint));
+        return stats;
+    }
+
+    /**
+     * Registers a listener called with every command type of every endpoint, those already known at once,
+     * and the others on their first emission, e.g. to register them with a meter registry.
+     *
+     * @param listener the listener, class {@link Consumer}
+     */
+    public void onCommand(Consumer<Redis4jCommandLatency> listener) {
+        commandListeners.add(listener);
+        for (Redis4jCommandLatency latency : commands.values()) {
+            listener.accept(latency);
+        }
+    }
+
+    /**
+     * Registers a listener called with every endpoint, those already known at once, and the others on their first event.
+     *
+     * @param listener the listener, class {@link Consumer}
+     */
+    public void onEndpoint(Consumer<Redis4jEndpointMetrics> listener) {
+        endpointListeners.add(listener);
+        for (Redis4jEndpointMetrics metrics : endpoints.values()) {
+            listener.accept(metrics);
+        }
+    }
+
+    /**
+     * @param event a connection event, class {@link Event}
+     * @return the counters of the endpoint of the event, created and announced to the listeners on its first event
+     */
+    protected Redis4jEndpointMetrics endpoint(Event event) {
+        String endpoint = event instanceof ConnectionEvent ? endpoint(((ConnectionEvent) event).remoteAddress()) : UNKNOWN_ENDPOINT;
+        Redis4jEndpointMetrics metrics = endpoints.get(endpoint);
+        if (metrics != null) {
+            return metrics;
+        }
+        Redis4jEndpointMetrics created = new Redis4jEndpointMetrics(endpoint);
+        metrics = endpoints.putIfAbsent(endpoint, created);
+        if (metrics != null) {
+            return metrics;
+        }
+        for (Consumer<Redis4jEndpointMetrics> listener : endpointListeners) {
+            listener.accept(created);
+        }
+        return created;
+    }
+
+    /**
+     * @param address the address of a server, class {@link SocketAddress}
+     * @return the address as host:port, without the resolved IP address
+     */
+    protected static String endpoint(SocketAddress address) {
+        if (address == null) {
+            return UNKNOWN_ENDPOINT;
+        }
+        if (address instanceof InetSocketAddress) {
+            InetSocketAddress inet = (InetSocketAddress) address;
+            return inet.getHostString() + ":" + inet.getPort();
+        }
+        return address.toString();
+    }
+}
@@ -0,0 +1,98 @@
+package org.redis4j.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.redis4j.model.Redis4jCommandStats;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Publishes the Lettuce command latencies and connection events to Micrometer:
+ * <ul>
+ *     <li>redis4j.command.latency, time gauges of the latency percentiles of the last emission interval,
+ *     tagged by endpoint, command, phase (first_response or completion) and percentile</li>
+ *     <li>redis4j.command.latency.max, time gauges of the highest latency of the last emission interval, tagged by endpoint, command and phase</li>
+ *     <li>redis4j.command.calls, a function counter of the commands completed, tagged by endpoint and command</li>
+ *     <li>redis4j.connection.events, function counters of the connection events, tagged by endpoint and event</li>
+ * </ul>
+ */
+public class Redis4jCommandMetricsBinder implements MeterBinder {
+    protected final Redis4jCommandMetrics metrics;
+
+    public Redis4jCommandMetricsBinder(Redis4jCommandMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        metrics.onCommand(latency -> this.bindTo(registry, latency));
+        metrics.onEndpoint(endpoint -> this.bindTo(registry, endpoint));
+    }
+
+    /**
+     * @param registry the registry, class {@link MeterRegistry}
+     * @param latency  the latencies of a command type against an endpoint, class {@link Redis4jCommandLatency}
+     */
+    protected void bindTo(MeterRegistry registry, Redis4jCommandLatency latency) {
+        Tags tags = Tags.of("endpoint", latency.getEndpoint(), "command", latency.getCommand());
+        FunctionCounter.builder("redis4j.command.calls", latency, Redis4jCommandLatency::getTotalCount)
+                .tags(tags)
+                .description("Redis commands completed")
+                .register(registry);
+        Redis4jCommandStats stats = latency.getLatest();
+        this.bindPercentiles(registry, latency, tags.and("phase", "first_response"), stats.getFirstResponsePercentiles(), Redis4jCommandStats::getFirstResponsePercentiles);
+        this.bindPercentiles(registry, latency, tags.and("phase", "completion"), stats.getCompletionPercentiles(), Redis4jCommandStats::getCompletionPercentiles);
+        TimeGauge.builder("redis4j.command.latency.max", latency, TimeUnit.MICROSECONDS, l -> l.getLatest().getFirstResponseMax())
+                .tags(tags.and("phase", "first_response"))
+                .description("Highest latency of the Redis command over the last emission interval")
+                .register(registry);
+        TimeGauge.builder("redis4j.command.latency.max", latency, TimeUnit.MICROSECONDS, l -> l.getLatest().getCompletionMax())
+                .tags(tags.and("phase", "completion"))
+                .description("Highest latency of the Redis command over the last emission interval")
+                .register(registry);
+    }
+
+    /**
+     * Registers a gauge per percentile of a phase, the percentiles being those of the first emission of the command.
+     */
+    protected void bindPercentiles(MeterRegistry registry, Redis4jCommandLatency latency, Tags tags, Map<Double, Long> percentiles,
+                                   Function<Redis4jCommandStats, Map<Double, Long>> phase) {
+        for (Double percentile : percentiles.keySet()) {
+            ToDoubleFunction<Redis4jCommandLatency> value = l -> phase.apply(l.getLatest()).getOrDefault(percentile, 0L);
+            TimeGauge.builder("redis4j.command.latency", latency, TimeUnit.MICROSECONDS, value)
+                    .tags(tags)
+                    .tag("percentile", String.valueOf(percentile))
+                    .description("Latency of the Redis command at a percentile over the last emission interval")
+                    .register(registry);
+        }
+    }
+
+    /**
+     * @param registry the registry, class {@link MeterRegistry}
+     * @param endpoint the connection event counters of an endpoint, class {@link Redis4jEndpointMetrics}
+     */
+    protected void bindTo(MeterRegistry registry, Redis4jEndpointMetrics endpoint) {
+        this.bindEvent(registry, endpoint, "connected", Redis4jEndpointMetrics::getConnects);
+        this.bindEvent(registry, endpoint, "activated", Redis4jEndpointMetrics::getActivations);
+        this.bindEvent(registry, endpoint, "disconnected", Redis4jEndpointMetrics::getDisconnects);
+        this.bindEvent(registry, endpoint, "deactivated", Redis4jEndpointMetrics::getDeactivations);
+        this.bindEvent(registry, endpoint, "reconnect_attempt", Redis4jEndpointMetrics::getReconnectAttempts);
+        this.bindEvent(registry, endpoint, "reconnect_failed", Redis4jEndpointMetrics::getReconnectFailures);
+    }
+
+    /**
+     * Registers the counter of one connection event of an endpoint.
+     */
+    protected void bindEvent(MeterRegistry registry, Redis4jEndpointMetrics endpoint, String event, ToDoubleFunction<Redis4jEndpointMetrics> count) {
+        FunctionCounter.builder("redis4j.connection.events", endpoint, count)
+                .tags("endpoint", endpoint.getEndpoint(), "event", event)
+                .description("Connection events of the Redis endpoint")
+                .register(registry);
+    }
+}
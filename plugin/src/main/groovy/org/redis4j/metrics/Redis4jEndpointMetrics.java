@@ -0,0 +1,58 @@
+package org.redis4j.metrics;
+
+import org.redis4j.model.Redis4jEndpointStats;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The connection event counters of one server endpoint.
+ */
+public class Redis4jEndpointMetrics {
+    protected final String endpoint;
+    protected final LongAdder connects = new LongAdder();
+    protected final LongAdder activations = new LongAdder();
+    protected final LongAdder disconnects = new LongAdder();
+    protected final LongAdder deactivations = new LongAdder();
+    protected final LongAdder reconnectAttempts = new LongAdder();
+    protected final LongAdder reconnectFailures = new LongAdder();
+
+    public Redis4jEndpointMetrics(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public long getConnects() {
+        return connects.sum();
+    }
+
+    public long getActivations() {
+        return activations.sum();
+    }
+
+    public long getDisconnects() {
+        return disconnects.sum();
+    }
+
+    public long getDeactivations() {
+        return deactivations.sum();
+    }
+
+    public long getReconnectAttempts() {
+        return reconnectAttempts.sum();
+    }
+
+    public long getReconnectFailures() {
+        return reconnectFailures.sum();
+    }
+
+    /**
+     * @return a point-in-time snapshot of the counters, class {@link Redis4jEndpointStats}
+     */
+    public Redis4jEndpointStats snapshot() {
+        return new Redis4jEndpointStats(endpoint, this.getConnects(), this.getActivations(), this.getDisconnects(),
+                this.getDeactivations(), this.getReconnectAttempts(), this.getReconnectFailures());
+    }
+}
@@ -0,0 +1,129 @@
+package org.redis4j.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free latency histogram with log-linear buckets, in the manner of HdrHistogram.
+ * Values below 64 have a bucket each, every further power of two is split in 32 buckets, so a recorded value
+ * is known within about 3% whatever its magnitude. Recording is a few atomic increments and never allocates;
+ * values are in nanoseconds and capped at about 18 minutes.
+ */
+public class Redis4jLatencyHistogram {
+    protected static final int SUB_BITS = 6;
+    protected static final int SUB_COUNT = 1 << SUB_BITS; // linear buckets below the first split power of two
+    protected static final int HALF_COUNT = SUB_COUNT >> 1; // buckets per power of two above
+    protected static final int MAX_BITS = 40;
+    protected static final long MAX_VALUE = (1L << MAX_BITS) - 1;
+    protected static final int BUCKETS = SUB_COUNT + (MAX_BITS - SUB_BITS) * HALF_COUNT;
+
+    protected final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    protected final LongAdder count = new LongAdder();
+    protected final LongAdder total = new LongAdder();
+    protected final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records a latency.
+     *
+     * @param nanos the latency, in nanoseconds; negative values are recorded as 0
+     */
+    public void record(long nanos) {
+        long value = Math.min(Math.max(nanos, 0L), MAX_VALUE);
+        buckets.incrementAndGet(index(value));
+        count.increment();
+        total.add(value);
+        long current = max.get();
+        while (value > current && !max.compareAndSet(current, value)) {
+            current = max.get();
+        }
+    }
+
+    /**
+     * @return the number of recorded latencies
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * @return the sum of the recorded latencies, in nanoseconds
+     */
+    public long getTotalNanos() {
+        return total.sum();
+    }
+
+    /**
+     * @return the highest recorded latency, in nanoseconds
+     */
+    public long getMaxNanos() {
+        return max.get();
+    }
+
+    /**
+     * @param quantile the quantile, between 0 and 1, e.g. 0.99
+     * @return the latency at the quantile, in nanoseconds, i.e. the highest value of its bucket; 0 when nothing was recorded
+     */
+    public long percentile(double quantile) {
+        return this.percentiles(quantile)[0];
+    }
+
+    /**
+     * Reads several quantiles from one copy of the buckets, so that they are consistent with each other
+     * while latencies keep being recorded.
+     *
+     * @param quantiles the quantiles, between 0 and 1
+     * @return the latencies at the quantiles, in nanoseconds, in the order of the quantiles
+     */
+    public long[] percentiles(double... quantiles) {
+        long[] counts = new long[BUCKETS];
+        long sum = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets.get(i);
+            sum += counts[i];
+        }
+        long highest = max.get();
+        long[] values = new long[quantiles.length];
+        if (sum == 0) {
+            return values;
+        }
+        for (int q = 0; q < quantiles.length; q++) {
+            long rank = Math.max(1L, (long) Math.ceil(Math.min(1.0, Math.max(0.0, quantiles[q])) * sum));
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    values[q] = Math.min(highestEquivalent(i), highest);
+                    break;
+                }
+            }
+        }
+        return values;
+    }
+
+    /**
+     * @param value the value, between 0 and {@link #MAX_VALUE}
+     * @return the index of the bucket counting the value
+     */
+    protected static int index(long value) {
+        if (value < SUB_COUNT) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - (SUB_BITS - 1);
+        return SUB_COUNT + (shift - 1) * HALF_COUNT + (int) (value >>> shift) - HALF_COUNT;
+    }
+
+    /**
+     * @param index the index of a bucket
+     * @return the highest value counted by the bucket
+     */
+    protected static long highestEquivalent(int index) {
+        if (index < SUB_COUNT) {
+            return index;
+        }
+        int offset = index - SUB_COUNT;
+        int shift = offset / HALF_COUNT + 1;
+        long sub = offset % HALF_COUNT + HALF_COUNT;
+        return ((sub + 1) << shift) - 1;
+    }
+}
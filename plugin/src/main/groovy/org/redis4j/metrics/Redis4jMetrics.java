@@ -0,0 +1,145 @@
+package org.redis4j.metrics;
+
+import org.redis4j.model.Redis4jOperationStats;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * The per-operation metrics of the Redis4j service: calls, errors, bytes in and out, and latency histograms.
+ * <p>
+ * Operations are timed by {@link Redis4jMetricsInterceptor} around the service bean. While an operation runs,
+ * it is bound to its thread, so that the value serializer attributes the bytes it writes and reads to it through
+ * {@link #recordBytesIn(long)} and {@link #recordBytesOut(long)}; values streamed by the Lettuce codec on the
+ * event loop are not attributed.
+ */
+public class Redis4jMetrics {
+    protected static final ThreadLocal<Redis4jOperationMetrics> current = new ThreadLocal<>();
+
+    protected final boolean enabled;
+    protected final ConcurrentMap<String, Redis4jOperationMetrics> operations = new ConcurrentHashMap<>();
+    protected final List<Consumer<Redis4jOperationMetrics>> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * @param enabled true to record the operations, i.e. metrics_enabled
+     */
+    public Redis4jMetrics(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return true if the operations are recorded
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the metrics of an operation, creating them on its first call and announcing them to the listeners.
+     *
+     * @param name the name of the operation, e.g. setCacheObject
+     * @return the metrics of the operation, class {@link Redis4jOperationMetrics}
+     */
+    public Redis4jOperationMetrics operation(String name) {
+        Redis4jOperationMetrics metrics = operations.get(name);
+        if (metrics != null) {
+            return metrics;
+        }
+        Redis4jOperationMetrics created = new Redis4jOperationMetrics(name);
+        metrics = operations.putIfAbsent(name, created);
+        if (metrics != null) {
+            return metrics;
+        }
+        for (Consumer<Redis4jOperationMetrics> listener : listeners) {
+            listener.accept(created);
+        }
+        return created;
+    }
+
+    /**
+     * @return the metrics of the operations called so far
+     */
+    public Collection<Redis4jOperationMetrics> operations() {
+        return Collections.unmodifiableCollection(operations.values());
+    }
+
+    /**
+     * @return a point-in-time snapshot of the operations called so far, by operation name, class {@link Redis4jOperationStats}
+     */
+    public Map<String, Redis4jOperationStats> snapshot() {
+        Map<String, Redis4jOperationStats> stats = new TreeMap<>();
+        for (Redis4jOperationMetrics metrics : operations.values()) {
+            stats.put(metrics.getName(), metrics.snapshot());
+        }
+        return stats;
+    }
+
+    /**
+     * Registers a listener called with the metrics of every operation, those already called at once,
+     * and the others on their first call, e.g. to register them with a meter registry.
+     *
+     * @param listener the listener, class {@link Consumer}
+     */
+    public void onOperation(Consumer<Redis4jOperationMetrics> listener) {
+        listeners.add(listener);
+        for (Redis4jOperationMetrics metrics : operations.values()) {
+            listener.accept(metrics);
+        }
+    }
+
+    /**
+     * Binds an operation to the calling thread.
+     *
+     * @param metrics the metrics of the operation starting, class {@link Redis4jOperationMetrics}
+     * @return the operation bound before, to be given back to {@link #exit(Redis4jOperationMetrics)}
+     */
+    public static Redis4jOperationMetrics enter(Redis4jOperationMetrics metrics) {
+        Redis4jOperationMetrics previous = current.get();
+        current.set(metrics);
+        return previous;
+    }
+
+    /**
+     * Restores the operation bound to the calling thread before {@link #enter(Redis4jOperationMetrics)}.
+     *
+     * @param previous the operation returned by enter, or null
+     */
+    public static void exit(Redis4jOperationMetrics previous) {
+        if (previous == null) {
+            current.remove();
+        } else {
+            current.set(previous);
+        }
+    }
+
+    /**
+     * Attributes the size of a value read from Redis to the operation bound to the calling thread, if any.
+     *
+     * @param bytes the size of the value, as stored
+     */
+    public static void recordBytesIn(long bytes) {
+        Redis4jOperationMetrics metrics = current.get();
+        if (metrics != null) {
+            metrics.recordBytesIn(bytes);
+        }
+    }
+
+    /**
+     * Attributes the size of a value written to Redis to the operation bound to the calling thread, if any.
+     *
+     * @param bytes the size of the value, as stored
+     */
+    public static void recordBytesOut(long bytes) {
+        Redis4jOperationMetrics metrics = current.get();
+        if (metrics != null) {
+            metrics.recordBytesOut(bytes);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package org.redis4j.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes the Redis4j operation metrics to Micrometer, tagged by operation:
+ * <ul>
+ *     <li>redis4j.operation, a function timer of the calls and their total time</li>
+ *     <li>redis4j.operation.errors, redis4j.operation.bytes.in and redis4j.operation.bytes.out, function counters</li>
+ *     <li>redis4j.operation.latency, time gauges of the p50, p90, p99 and p99.9 latencies, tagged by quantile</li>
+ *     <li>redis4j.operation.latency.max, a time gauge of the highest latency</li>
+ * </ul>
+ * The meters read the lock-free counters when the registry publishes, so they add nothing to the calls.
+ * Operations are registered on their first call.
+ */
+public class Redis4jMetricsBinder implements MeterBinder {
+    protected static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+
+    protected final Redis4jMetrics metrics;
+
+    public Redis4jMetricsBinder(Redis4jMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        metrics.onOperation(operation -> this.bindTo(registry, operation));
+    }
+
+    /**
+     * @param registry  the registry, class {@link MeterRegistry}
+     * @param operation the metrics of the operation, class {@link Redis4jOperationMetrics}
+     */
+    protected void bindTo(MeterRegistry registry, Redis4jOperationMetrics operation) {
+        Tags tags = Tags.of("operation", operation.getName());
+        FunctionTimer.builder("redis4j.operation", operation, Redis4jOperationMetrics::getCalls, Redis4jOperationMetrics::getTotalNanos, TimeUnit.NANOSECONDS)
+                .tags(tags)
+                .description("Calls of the Redis4j service operation")
+                .register(registry);
+        FunctionCounter.builder("redis4j.operation.errors", operation, Redis4jOperationMetrics::getErrors)
+                .tags(tags)
+                .description("Calls of the Redis4j service operation that failed")
+                .register(registry);
+        FunctionCounter.builder("redis4j.operation.bytes.in", operation, Redis4jOperationMetrics::getBytesIn)
+                .tags(tags)
+                .baseUnit(BaseUnits.BYTES)
+                .description("Size of the values read by the Redis4j service operation")
+                .register(registry);
+        FunctionCounter.builder("redis4j.operation.bytes.out", operation, Redis4jOperationMetrics::getBytesOut)
+                .tags(tags)
+                .baseUnit(BaseUnits.BYTES)
+                .description("Size of the values written by the Redis4j service operation")
+                .register(registry);
+        for (double quantile : QUANTILES) {
+            TimeGauge.builder("redis4j.operation.latency", operation, TimeUnit.NANOSECONDS, o -> o.getLatency().percentile(quantile))
+                    .tags(tags)
+                    .tag("quantile", String.valueOf(quantile))
+                    .description("Latency of the Redis4j service operation at a quantile")
+                    .register(registry);
+        }
+        TimeGauge.builder("redis4j.operation.latency.max", operation, TimeUnit.NANOSECONDS, o -> o.getLatency().getMaxNanos())
+                .tags(tags)
+                .description("Highest latency of the Redis4j service operation")
+                .register(registry);
+    }
+}
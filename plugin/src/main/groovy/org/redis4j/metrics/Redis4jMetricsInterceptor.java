@@ -0,0 +1,74 @@
+package org.redis4j.metrics;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.redis4j.service.Redis4jWrapCallback;
+import org.unify4j.model.response.WrapResponse;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Times the operations of the Redis4j service, one set of metrics per method name, so the overloads of an
+ * operation share them. Callback overloads report their failures to the callback instead of throwing, so their
+ * callback is wrapped to count a failed response as an error.
+ */
+public class Redis4jMetricsInterceptor implements MethodInterceptor {
+    protected final Redis4jMetrics metrics;
+    protected final Map<Method, Redis4jOperationMetrics> operations = new ConcurrentHashMap<>();
+
+    public Redis4jMetricsInterceptor(Redis4jMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Method method = invocation.getMethod();
+        if (!metrics.isEnabled() || method.getDeclaringClass() == Object.class) {
+            return invocation.proceed();
+        }
+        Redis4jOperationMetrics operation = operations.get(method);
+        if (operation == null) {
+            operation = operations.computeIfAbsent(method, m -> metrics.operation(m.getName()));
+        }
+        FailureCallback callback = null;
+        Object[] arguments = invocation.getArguments();
+        int last = arguments.length - 1;
+        if (last >= 0 && arguments[last] instanceof Redis4jWrapCallback) {
+            callback = new FailureCallback((Redis4jWrapCallback) arguments[last]);
+            arguments[last] = callback;
+        }
+        Redis4jOperationMetrics previous = Redis4jMetrics.enter(operation);
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            Object result = invocation.proceed();
+            failed = callback != null && callback.failed;
+            return result;
+        } finally {
+            operation.record(System.nanoTime() - start, failed);
+            Redis4jMetrics.exit(previous);
+        }
+    }
+
+    /**
+     * A callback noting whether the operation reported a failure before handing the response over.
+     */
+    protected static class FailureCallback implements Redis4jWrapCallback {
+        protected final Redis4jWrapCallback delegate;
+        protected boolean failed;
+
+        protected FailureCallback(Redis4jWrapCallback delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void onCallback(WrapResponse<?> response) {
+            if (response != null && !response.isSuccess()) {
+                failed = true;
+            }
+            delegate.onCallback(response);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package org.redis4j.metrics;
+
+import org.redis4j.service.Redis4jService;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+
+/**
+ * Wraps the Redis4j service bean into a proxy timing the operations of {@link Redis4jService}.
+ * The proxy subclasses the class of the service, so that the bean is still injected and looked up by its class;
+ * only the methods of the service interface are timed.
+ * Calls between the methods of the service itself are not proxied, so an overload delegating to another
+ * is recorded once; final methods are not proxied either, and are recorded as the operations they delegate to.
+ */
+public class Redis4jMetricsPostProcessor implements BeanPostProcessor {
+    protected final ObjectProvider<Redis4jMetrics> metrics;
+
+    public Redis4jMetricsPostProcessor(ObjectProvider<Redis4jMetrics> metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+        if (!(bean instanceof Redis4jService)) {
+            return bean;
+        }
+        Redis4jMetrics instance = metrics.getIfAvailable();
+        if (instance == null || !instance.isEnabled()) {
+            return bean;
+        }
+        ProxyFactory factory = new ProxyFactory(bean);
+        factory.setProxyTargetClass(true);
+        factory.addAdvisor(new DefaultPointcutAdvisor(new StaticMethodMatcherPointcut() {
+            @Override
+            public boolean matches(Method method, Class<?> targetClass) {
+                return ClassUtils.hasMethod(Redis4jService.class, method.getName(), method.getParameterTypes());
+            }
+        }, new Redis4jMetricsInterceptor(instance)));
+        return factory.getProxy(bean.getClass().getClassLoader());
+    }
+}
@@ -0,0 +1,87 @@
+package org.redis4j.metrics;
+
+import org.redis4j.model.Redis4jOperationStats;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The counters of one operation of the Redis4j service, e.g. setCacheObject, whatever its overload.
+ */
+public class Redis4jOperationMetrics {
+    protected final String name;
+    protected final Redis4jLatencyHistogram latency = new Redis4jLatencyHistogram();
+    protected final LongAdder errors = new LongAdder();
+    protected final LongAdder bytesIn = new LongAdder();
+    protected final LongAdder bytesOut = new LongAdder();
+
+    public Redis4jOperationMetrics(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Records a call of the operation.
+     *
+     * @param nanos  the time the call took, in nanoseconds
+     * @param failed true if the call threw, or reported a failure to its callback
+     */
+    public void record(long nanos, boolean failed) {
+        latency.record(nanos);
+        if (failed) {
+            errors.increment();
+        }
+    }
+
+    /**
+     * @param bytes the size of a value read from Redis, as stored
+     */
+    public void recordBytesIn(long bytes) {
+        bytesIn.add(bytes);
+    }
+
+    /**
+     * @param bytes the size of a value written to Redis, as stored
+     */
+    public void recordBytesOut(long bytes) {
+        bytesOut.add(bytes);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getCalls() {
+        return latency.getCount();
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    public long getBytesIn() {
+        return bytesIn.sum();
+    }
+
+    public long getBytesOut() {
+        return bytesOut.sum();
+    }
+
+    public long getTotalNanos() {
+        return latency.getTotalNanos();
+    }
+
+    /**
+     * @return the latency histogram of the operation, class {@link Redis4jLatencyHistogram}
+     */
+    public Redis4jLatencyHistogram getLatency() {
+        return latency;
+    }
+
+    /**
+     * @return a point-in-time snapshot of the counters, class {@link Redis4jOperationStats}
+     */
+    public Redis4jOperationStats snapshot() {
+        long[] percentiles = latency.percentiles(0.5, 0.9, 0.99, 0.999);
+        return new Redis4jOperationStats(name, this.getCalls(), this.getErrors(), this.getBytesIn(), this.getBytesOut(),
+                this.getTotalNanos(), latency.getMaxNanos(), percentiles[0], percentiles[1], percentiles[2], percentiles[3]);
+    }
+}
@@ -0,0 +1,77 @@
+package org.redis4j.model;
+
+import java.io.Serializable;
+import java.util.Map;
+
+/**
+ * A cache object stored together with the metadata needed to refresh it before it expires (XFetch):
+ * the time it took to compute, and the instant it expires.
+ *
+ * @param <T> the type of the value
+ */
+public class Redis4jCacheEntry<T> implements Serializable {
+    private T value;
+    private long delta; // time taken to compute the value, in milliseconds
+    private long expiry; // expiration instant, in epoch milliseconds, 0 when the value does not expire
+
+    public Redis4jCacheEntry() {
+        super();
+    }
+
+    public Redis4jCacheEntry(T value, long delta, long expiry) {
+        this.value = value;
+        this.delta = delta;
+        this.expiry = expiry;
+    }
+
+    public T getValue() {
+        return value;
+    }
+
+    public void setValue(T value) {
+        this.value = value;
+    }
+
+    public long getDelta() {
+        return delta;
+    }
+
+    public void setDelta(long delta) {
+        this.delta = delta;
+    }
+
+    public long getExpiry() {
+        return expiry;
+    }
+
+    public void setExpiry(long expiry) {
+        this.expiry = expiry;
+    }
+
+    /**
+     * Reads an entry back from the value of a key, which the Jackson serializer of the dispatch template
+     * returns as a map since it does not record types.
+     *
+     * @param raw the value of the key
+     * @return the entry, or null if the value is not an entry, e.g. a plain object written by setCacheObject
+     */
+    @SuppressWarnings("unchecked")
+    public static Redis4jCacheEntry<Object> of(Object raw) {
+        if (raw instanceof Redis4jCacheEntry) {
+            return (Redis4jCacheEntry<Object>) raw;
+        }
+        if (!(raw instanceof Map)) {
+            return null;
+        }
+        Map<?, ?> map = (Map<?, ?>) raw;
+        if (map.size() != 3 || !map.containsKey("value") || !(map.get("delta") instanceof Number) || !(map.get("expiry") instanceof Number)) {
+            return null;
+        }
+        return new Redis4jCacheEntry<>(map.get("value"), ((Number) map.get("delta")).longValue(), ((Number) map.get("expiry")).longValue());
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Redis4jCacheEntry { delta: %d, expiry: %d }", delta, expiry);
+    }
+}
@@ -0,0 +1,85 @@
+package org.redis4j.model;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * The latencies of one command type against one server endpoint, as recorded by Lettuce over its last emission interval.
+ * Latencies are in microseconds, measured from the time the command is written to the connection:
+ * first response covers the server and the network, completion adds the decoding of the whole reply.
+ * The difference with the latency of the calling operation is the time spent queueing in the client.
+ */
+public class Redis4jCommandStats implements Serializable {
+    private final String endpoint; // host:port of the server
+    private final String command;
+    private final long count; // commands completed over the interval
+    private final long totalCount; // commands completed since startup
+    private final long firstResponseMin;
+    private final long firstResponseMax;
+    private final Map<Double, Long> firstResponsePercentiles;
+    private final long completionMin;
+    private final long completionMax;
+    private final Map<Double, Long> completionPercentiles;
+
+    public Redis4jCommandStats(String endpoint, String command, long count, long totalCount,
+                               long firstResponseMin, long firstResponseMax, Map<Double, Long> firstResponsePercentiles,
+                               long completionMin, long completionMax, Map<Double, Long> completionPercentiles) {
+        this.endpoint = endpoint;
+        this.command = command;
+        this.count = count;
+        this.totalCount = totalCount;
+        this.firstResponseMin = firstResponseMin;
+        this.firstResponseMax = firstResponseMax;
+        this.firstResponsePercentiles = firstResponsePercentiles != null ? Collections.unmodifiableMap(firstResponsePercentiles) : Collections.emptyMap();
+        this.completionMin = completionMin;
+        this.completionMax = completionMax;
+        this.completionPercentiles = completionPercentiles != null ? Collections.unmodifiableMap(completionPercentiles) : Collections.emptyMap();
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public String getCommand() {
+        return command;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    public long getFirstResponseMin() {
+        return firstResponseMin;
+    }
+
+    public long getFirstResponseMax() {
+        return firstResponseMax;
+    }
+
+    public Map<Double, Long> getFirstResponsePercentiles() {
+        return firstResponsePercentiles;
+    }
+
+    public long getCompletionMin() {
+        return completionMin;
+    }
+
+    public long getCompletionMax() {
+        return completionMax;
+    }
+
+    public Map<Double, Long> getCompletionPercentiles() {
+        return completionPercentiles;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Redis4jCommandStats { endpoint: %s, command: %s, count: %d, total_count: %d, first_response_min: %d, first_response_max: %d, first_response_percentiles: %s, completion_min: %d, completion_max: %d, completion_percentiles: %s }",
+                endpoint, command, count, totalCount, firstResponseMin, firstResponseMax, firstResponsePercentiles, completionMin, completionMax, completionPercentiles);
+    }
+}
@@ -0,0 +1,67 @@
+package org.redis4j.model;
+
+import java.io.Serializable;
+
+/**
+ * A point-in-time snapshot of the value compression counters.
+ */
+public class Redis4jCompressionStats implements Serializable {
+    private final long compressed; // values written compressed
+    private final long skipped; // values above the threshold written uncompressed because they did not shrink
+    private final long rawBytes; // size of the compressed values before compression
+    private final long compressedBytes; // size of the compressed values after compression, marker byte included
+    private final long compressNanos; // time spent compressing, skipped values included
+    private final long decompressed; // values read back from their compressed form
+    private final long decompressNanos; // time spent decompressing
+
+    public Redis4jCompressionStats(long compressed, long skipped, long rawBytes, long compressedBytes, long compressNanos, long decompressed, long decompressNanos) {
+        this.compressed = compressed;
+        this.skipped = skipped;
+        this.rawBytes = rawBytes;
+        this.compressedBytes = compressedBytes;
+        this.compressNanos = compressNanos;
+        this.decompressed = decompressed;
+        this.decompressNanos = decompressNanos;
+    }
+
+    public long getCompressed() {
+        return compressed;
+    }
+
+    public long getSkipped() {
+        return skipped;
+    }
+
+    public long getRawBytes() {
+        return rawBytes;
+    }
+
+    public long getCompressedBytes() {
+        return compressedBytes;
+    }
+
+    public long getCompressNanos() {
+        return compressNanos;
+    }
+
+    public long getDecompressed() {
+        return decompressed;
+    }
+
+    public long getDecompressNanos() {
+        return decompressNanos;
+    }
+
+    /**
+     * @return the compressed size over the raw size of the compressed values, 1 when nothing was compressed
+     */
+    public double getRatio() {
+        return rawBytes == 0 ? 1d : (double) compressedBytes / rawBytes;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Redis4jCompressionStats { compressed: %d, skipped: %d, raw_bytes: %d, compressed_bytes: %d, ratio: %.3f, compress_nanos: %d, decompressed: %d, decompress_nanos: %d }",
+                compressed, skipped, rawBytes, compressedBytes, this.getRatio(), compressNanos, decompressed, decompressNanos);
+    }
+}
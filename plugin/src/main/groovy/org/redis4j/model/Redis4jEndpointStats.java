@@ -0,0 +1,60 @@
+package org.redis4j.model;
+
+import java.io.Serializable;
+
+/**
+ * A point-in-time snapshot of the connection events of one server endpoint, counted since startup.
+ */
+public class Redis4jEndpointStats implements Serializable {
+    private final String endpoint; // host:port of the server
+    private final long connects; // transports connected
+    private final long activations; // connections ready to take commands
+    private final long disconnects; // transports closed
+    private final long deactivations; // connections no longer taking commands
+    private final long reconnectAttempts;
+    private final long reconnectFailures;
+
+    public Redis4jEndpointStats(String endpoint, long connects, long activations, long disconnects, long deactivations, long reconnectAttempts, long reconnectFailures) {
+        this.endpoint = endpoint;
+        this.connects = connects;
+        this.activations = activations;
+        this.disconnects = disconnects;
+        this.deactivations = deactivations;
+        this.reconnectAttempts = reconnectAttempts;
+        this.reconnectFailures = reconnectFailures;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public long getConnects() {
+        return connects;
+    }
+
+    public long getActivations() {
+        return activations;
+    }
+
+    public long getDisconnects() {
+        return disconnects;
+    }
+
+    public long getDeactivations() {
+        return deactivations;
+    }
+
+    public long getReconnectAttempts() {
+        return reconnectAttempts;
+    }
+
+    public long getReconnectFailures() {
+        return reconnectFailures;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Redis4jEndpointStats { endpoint: %s, connects: %d, activations: %d, disconnects: %d, deactivations: %d, reconnect_attempts: %d, reconnect_failures: %d }",
+                endpoint, connects, activations, disconnects, deactivations, reconnectAttempts, reconnectFailures);
+    }
+}
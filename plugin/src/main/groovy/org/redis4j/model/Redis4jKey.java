@@ -0,0 +1,72 @@
+package org.redis4j.model;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A Redis key already encoded as UTF-8, as composed by {@link org.redis4j.common.Redis4jKeySpace},
+ * so that the operations accepting it send its bytes as they are, without trimming nor encoding it again.
+ * Its string form is decoded on first use only, e.g. for logging or the near cache.
+ */
+public class Redis4jKey implements Serializable {
+    private final byte[] bytes;
+    private transient String value;
+
+    /**
+     * @param bytes the UTF-8 bytes of the key, owned by the key from now on
+     */
+    public Redis4jKey(byte[] bytes) {
+        this.bytes = bytes;
+    }
+
+    /**
+     * @param value the key
+     * @return the key encoded as UTF-8
+     */
+    public static Redis4jKey of(String value) {
+        Redis4jKey key = new Redis4jKey(value.getBytes(StandardCharsets.UTF_8));
+        key.value = value;
+        return key;
+    }
+
+    /**
+     * @return the UTF-8 bytes of the key, shared with the key and not to be modified
+     */
+    public byte[] getBytes() {
+        return bytes;
+    }
+
+    /**
+     * @return the number of bytes of the key
+     */
+    public int length() {
+        return bytes.length;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Redis4jKey)) {
+            return false;
+        }
+        return Arrays.equals(bytes, ((Redis4jKey) o).bytes);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(bytes);
+    }
+
+    @Override
+    public String toString() {
+        String s = value;
+        if (s == null) {
+            s = new String(bytes, StandardCharsets.UTF_8);
+            value = s;
+        }
+        return s;
+    }
+}
@@ -0,0 +1,42 @@
+package org.redis4j.model;
+
+import java.io.Serializable;
+
+/**
+ * Describes a Redis key as reported by the key inventory: its data type, remaining time to live
+ * and, when requested, the memory it occupies on the server.
+ */
+public class Redis4jKeyInfo implements Serializable {
+    private final String key;
+    private final String type;
+    private final long ttl; // pttl in milliseconds, -1 when the key has no expiration
+    private final long memoryUsage; // memory_usage in bytes, -1 when not requested or unknown
+
+    public Redis4jKeyInfo(String key, String type, long ttl, long memoryUsage) {
+        this.key = key;
+        this.type = type;
+        this.ttl = ttl;
+        this.memoryUsage = memoryUsage;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public long getTtl() {
+        return ttl;
+    }
+
+    public long getMemoryUsage() {
+        return memoryUsage;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Redis4jKeyInfo { key: %s, type: %s, ttl: %d, memory_usage: %d }", key, type, ttl, memoryUsage);
+    }
+}
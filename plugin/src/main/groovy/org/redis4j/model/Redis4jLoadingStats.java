@@ -0,0 +1,66 @@
+package org.redis4j.model;
+
+import java.io.Serializable;
+
+/**
+ * A point-in-time snapshot of the read-through counters of the loading service.
+ */
+public class Redis4jLoadingStats implements Serializable {
+    private final long hits;
+    private final long misses; // reads that ran, or joined, a load
+    private final long staleServes; // reads answered with a value past its soft expiry
+    private final long refreshes; // background refreshes scheduled
+    private final long refreshSuccesses; // background refreshes that stored a new value
+    private final long refreshFailures;
+    private final long refreshSkips; // background refreshes skipped because another node held the lease of the key
+    private final long refreshDrops; // background refreshes dropped because the queue was full
+
+    public Redis4jLoadingStats(long hits, long misses, long staleServes, long refreshes, long refreshSuccesses, long refreshFailures, long refreshSkips, long refreshDrops) {
+        this.hits = hits;
+        this.misses = misses;
+        this.staleServes = staleServes;
+        this.refreshes = refreshes;
+        this.refreshSuccesses = refreshSuccesses;
+        this.refreshFailures = refreshFailures;
+        this.refreshSkips = refreshSkips;
+        this.refreshDrops = refreshDrops;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getStaleServes() {
+        return staleServes;
+    }
+
+    public long getRefreshes() {
+        return refreshes;
+    }
+
+    public long getRefreshSuccesses() {
+        return refreshSuccesses;
+    }
+
+    public long getRefreshFailures() {
+        return refreshFailures;
+    }
+
+    public long getRefreshSkips() {
+        return refreshSkips;
+    }
+
+    public long getRefreshDrops() {
+        return refreshDrops;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Redis4jLoadingStats { hits: %d, misses: %d, stale_serves: %d, refreshes: %d, refresh_successes: %d, refresh_failures: %d, refresh_skips: %d, refresh_drops: %d }",
+                hits, misses, staleServes, refreshes, refreshSuccesses, refreshFailures, refreshSkips, refreshDrops);
+    }
+}
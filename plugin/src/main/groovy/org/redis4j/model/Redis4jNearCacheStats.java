@@ -0,0 +1,61 @@
+package org.redis4j.model;
+
+import java.io.Serializable;
+
+/**
+ * A point-in-time snapshot of the near cache counters.
+ */
+public class Redis4jNearCacheStats implements Serializable {
+    private final long hits;
+    private final long misses;
+    private final long invalidations; // entries dropped because the server reported the key as modified
+    private final long evictions; // entries dropped because the size or weight bound was reached
+    private final long size; // number of entries
+    private final long weight; // total size of the values in bytes
+
+    public Redis4jNearCacheStats(long hits, long misses, long invalidations, long evictions, long size, long weight) {
+        this.hits = hits;
+        this.misses = misses;
+        this.invalidations = invalidations;
+        this.evictions = evictions;
+        this.size = size;
+        this.weight = weight;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getInvalidations() {
+        return invalidations;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public long getWeight() {
+        return weight;
+    }
+
+    /**
+     * @return the ratio of hits to lookups, 0 when there was no lookup
+     */
+    public double getHitRatio() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Redis4jNearCacheStats { hits: %d, misses: %d, invalidations: %d, evictions: %d, size: %d, weight: %d }", hits, misses, invalidations, evictions, size, weight);
+    }
+}
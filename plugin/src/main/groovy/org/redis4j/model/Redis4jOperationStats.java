@@ -0,0 +1,89 @@
+package org.redis4j.model;
+
+import java.io.Serializable;
+
+/**
+ * A point-in-time snapshot of the counters of one operation of the Redis4j service.
+ * Latencies are in nanoseconds, and percentiles are known within about 3%.
+ */
+public class Redis4jOperationStats implements Serializable {
+    private final String operation;
+    private final long calls;
+    private final long errors; // calls that threw, or reported a failure to their callback
+    private final long bytesIn; // size of the values read, as stored
+    private final long bytesOut; // size of the values written, as stored
+    private final long totalNanos;
+    private final long maxNanos;
+    private final long p50Nanos;
+    private final long p90Nanos;
+    private final long p99Nanos;
+    private final long p999Nanos;
+
+    public Redis4jOperationStats(String operation, long calls, long errors, long bytesIn, long bytesOut, long totalNanos, long maxNanos, long p50Nanos, long p90Nanos, long p99Nanos, long p999Nanos) {
+        this.operation = operation;
+        this.calls = calls;
+        this.errors = errors;
+        this.bytesIn = bytesIn;
+        this.bytesOut = bytesOut;
+        this.totalNanos = totalNanos;
+        this.maxNanos = maxNanos;
+        this.p50Nanos = p50Nanos;
+        this.p90Nanos = p90Nanos;
+        this.p99Nanos = p99Nanos;
+        this.p999Nanos = p999Nanos;
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+
+    public long getCalls() {
+        return calls;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    public long getBytesIn() {
+        return bytesIn;
+    }
+
+    public long getBytesOut() {
+        return bytesOut;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    public long getMeanNanos() {
+        return calls == 0 ? 0 : totalNanos / calls;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    public long getP50Nanos() {
+        return p50Nanos;
+    }
+
+    public long getP90Nanos() {
+        return p90Nanos;
+    }
+
+    public long getP99Nanos() {
+        return p99Nanos;
+    }
+
+    public long getP999Nanos() {
+        return p999Nanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Redis4jOperationStats { operation: %s, calls: %d, errors: %d, bytes_in: %d, bytes_out: %d, mean_nanos: %d, p50_nanos: %d, p90_nanos: %d, p99_nanos: %d, p999_nanos: %d, max_nanos: %d }",
+                operation, calls, errors, bytesIn, bytesOut, this.getMeanNanos(), p50Nanos, p90Nanos, p99Nanos, p999Nanos, maxNanos);
+    }
+}
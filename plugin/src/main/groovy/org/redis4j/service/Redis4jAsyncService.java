@@ -0,0 +1,748 @@
+package org.redis4j.service;
+
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import org.springframework.data.redis.listener.ChannelTopic;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Non-blocking counterpart of {@link Redis4jService}, built on Lettuce asynchronous commands.
+ * Values are encoded with the same Jackson serializer as the Redis dispatch template, so both APIs read each other's data.
+ * <p>
+ * Methods without a callback return the raw future, which completes exceptionally if the command fails.
+ * Methods with a callback never complete exceptionally: on failure the callback receives the error response
+ * and the future completes with the same fallback value the blocking API returns.
+ * <p>
+ * Key enumeration (keys, defaultKeys and scan), setCacheMapSafe, the atomic set replacement with a timeout
+ * and the {@link org.redis4j.model.Redis4jKey} overloads are left to the blocking API: they are either
+ * multi-step operations driven by the caller, or rely on the RedisTemplate serializers.
+ */
+public interface Redis4jAsyncService {
+
+    /**
+     * Sets a cache object in Redis asynchronously.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key under which the value should be stored.
+     * @param value    The value to be cached.
+     * @param <T>      The type of the value being cached.
+     * @return a future completed with true if the value was stored, false if the commands or value is null, or the key is empty/blank.
+     */
+    <T> CompletableFuture<Boolean> setCacheObject(RedisAsyncCommands<String, Object> commands, String key, T value);
+
+    /**
+     * Sets a cache object in Redis asynchronously, with an optional callback for handling exceptions.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key under which the value should be stored.
+     * @param value    The value to be cached.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the value being cached.
+     * @return a future completed with true if the value was stored; false otherwise or if an exception occurs.
+     */
+    <T> CompletableFuture<Boolean> setCacheObject(RedisAsyncCommands<String, Object> commands, String key, T value, Redis4jWrapCallback callback);
+
+    /**
+     * Sets a cache object in Redis asynchronously with an expiration, issued as a single SET PX command.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key under which the value should be stored.
+     * @param value    The value to be cached.
+     * @param timeout  The expiration timeout for the cached value.
+     * @param unit     The time unit of the timeout.
+     * @param <T>      The type of the value being cached.
+     * @return a future completed with true if the value was stored, false if the arguments are invalid.
+     */
+    <T> CompletableFuture<Boolean> setCacheObject(RedisAsyncCommands<String, Object> commands, String key, T value, long timeout, TimeUnit unit);
+
+    /**
+     * Sets a cache object in Redis asynchronously with an expiration, with an optional callback for handling exceptions.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key under which the value should be stored.
+     * @param value    The value to be cached.
+     * @param timeout  The expiration timeout for the cached value.
+     * @param unit     The time unit of the timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the value being cached.
+     * @return a future completed with true if the value was stored; false otherwise or if an exception occurs.
+     */
+    <T> CompletableFuture<Boolean> setCacheObject(RedisAsyncCommands<String, Object> commands, String key, T value, long timeout, TimeUnit unit, Redis4jWrapCallback callback);
+
+    /**
+     * Sets an expiration on a key asynchronously.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key to expire.
+     * @param timeout  The expiration timeout.
+     * @param unit     The time unit of the timeout.
+     * @return a future completed with true if the expiration was set, false if the key does not exist or the arguments are invalid.
+     */
+    CompletableFuture<Boolean> expire(RedisAsyncCommands<String, Object> commands, String key, long timeout, TimeUnit unit);
+
+    /**
+     * Sets an expiration on a key asynchronously, with an optional callback for handling exceptions.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key to expire.
+     * @param timeout  The expiration timeout.
+     * @param unit     The time unit of the timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a future completed with true if the expiration was set; false otherwise or if an exception occurs.
+     */
+    CompletableFuture<Boolean> expire(RedisAsyncCommands<String, Object> commands, String key, long timeout, TimeUnit unit, Redis4jWrapCallback callback);
+
+    /**
+     * Retrieves a cache object from Redis asynchronously.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the cache object to retrieve.
+     * @param <T>      The type of the value being retrieved.
+     * @return a future completed with the cached object, or null if the key does not exist or is empty/blank.
+     */
+    <T> CompletableFuture<T> getCacheObject(RedisAsyncCommands<String, Object> commands, String key);
+
+    /**
+     * Retrieves a cache object from Redis asynchronously, with an optional callback for handling exceptions.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the cache object to retrieve.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the value being retrieved.
+     * @return a future completed with the cached object, or null if the key does not exist or an exception occurs.
+     */
+    <T> CompletableFuture<T> getCacheObject(RedisAsyncCommands<String, Object> commands, String key, Redis4jWrapCallback callback);
+
+    /**
+     * Retrieves a cache object from Redis asynchronously as a given type, decoding the stored bytes straight into the type
+     * instead of reading a map tree and converting it again.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the cache object to retrieve.
+     * @param type     The type to read the value as.
+     * @param <T>      The type of the value being retrieved.
+     * @return a future completed with the cached object, or null if the key does not exist, the type is null or the key is empty/blank.
+     */
+    <T> CompletableFuture<T> getCacheObject(RedisAsyncCommands<String, Object> commands, String key, Class<T> type);
+
+    /**
+     * Retrieves a cache object from Redis asynchronously as a given type, with an optional callback for handling exceptions.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the cache object to retrieve.
+     * @param type     The type to read the value as.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the value being retrieved.
+     * @return a future completed with the cached object, or null if the key does not exist or an exception occurs.
+     */
+    <T> CompletableFuture<T> getCacheObject(RedisAsyncCommands<String, Object> commands, String key, Class<T> type, Redis4jWrapCallback callback);
+
+    /**
+     * Removes a cache object from Redis asynchronously.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the cache object to remove.
+     * @return a future completed with true if the key was removed; false otherwise.
+     */
+    CompletableFuture<Boolean> removeObject(RedisAsyncCommands<String, Object> commands, String key);
+
+    /**
+     * Removes a cache object from Redis asynchronously, with an optional callback for handling exceptions.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the cache object to remove.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a future completed with true if the key was removed; false otherwise or if an exception occurs.
+     */
+    CompletableFuture<Boolean> removeObject(RedisAsyncCommands<String, Object> commands, String key, Redis4jWrapCallback callback);
+
+    /**
+     * Appends the elements of a list to a Redis list asynchronously, using one variadic RPUSH.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the list.
+     * @param list     The elements to append.
+     * @param <T>      The type of the elements.
+     * @return a future completed with the length of the list after the push, or 0 if the list is empty or the key is empty/blank.
+     */
+    <T> CompletableFuture<Long> setCacheList(RedisAsyncCommands<String, Object> commands, String key, List<T> list);
+
+    /**
+     * Appends the elements of a list to a Redis list asynchronously, with an optional callback for handling exceptions.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the list.
+     * @param list     The elements to append.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the elements.
+     * @return a future completed with the length of the list after the push, or 0 if an exception occurs.
+     */
+    <T> CompletableFuture<Long> setCacheList(RedisAsyncCommands<String, Object> commands, String key, List<T> list, Redis4jWrapCallback callback);
+
+    /**
+     * Retrieves all elements of a Redis list asynchronously.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the list.
+     * @param <T>      The type of the elements.
+     * @return a future completed with the elements, or an empty list if the key does not exist or is empty/blank.
+     */
+    <T> CompletableFuture<List<T>> getCacheList(RedisAsyncCommands<String, Object> commands, String key);
+
+    /**
+     * Retrieves all elements of a Redis list asynchronously, with an optional callback for handling exceptions.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the list.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the elements.
+     * @return a future completed with the elements, or an empty list if an exception occurs.
+     */
+    <T> CompletableFuture<List<T>> getCacheList(RedisAsyncCommands<String, Object> commands, String key, Redis4jWrapCallback callback);
+
+    /**
+     * Retrieves all elements of a Redis list asynchronously as a given type, decoding each element straight into the type.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the list.
+     * @param type     The type to read the elements as.
+     * @param <T>      The type of the elements.
+     * @return a future completed with the elements, or an empty list if the key does not exist, the type is null or the key is empty/blank.
+     */
+    <T> CompletableFuture<List<T>> getCacheList(RedisAsyncCommands<String, Object> commands, String key, Class<T> type);
+
+    /**
+     * Retrieves all elements of a Redis list asynchronously as a given type, with an optional callback for handling exceptions.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the list.
+     * @param type     The type to read the elements as.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the elements.
+     * @return a future completed with the elements, or an empty list if an exception occurs.
+     */
+    <T> CompletableFuture<List<T>> getCacheList(RedisAsyncCommands<String, Object> commands, String key, Class<T> type, Redis4jWrapCallback callback);
+
+    /**
+     * Adds the members of a set to a Redis set asynchronously, using one variadic SADD.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the set.
+     * @param dataSet  The members to add.
+     * @param <T>      The type of the members.
+     * @return a future completed with the number of members added, or 0 if the set is empty or the key is empty/blank.
+     */
+    <T> CompletableFuture<Long> setCacheSet(RedisAsyncCommands<String, Object> commands, String key, Set<T> dataSet);
+
+    /**
+     * Adds the members of a set to a Redis set asynchronously, with an optional callback for handling exceptions.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the set.
+     * @param dataSet  The members to add.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the members.
+     * @return a future completed with the number of members added, or 0 if an exception occurs.
+     */
+    <T> CompletableFuture<Long> setCacheSet(RedisAsyncCommands<String, Object> commands, String key, Set<T> dataSet, Redis4jWrapCallback callback);
+
+    /**
+     * Retrieves all members of a Redis set asynchronously.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the set.
+     * @param <T>      The type of the members.
+     * @return a future completed with the members, or an empty set if the key does not exist or is empty/blank.
+     */
+    <T> CompletableFuture<Set<T>> getCacheSet(RedisAsyncCommands<String, Object> commands, String key);
+
+    /**
+     * Retrieves all members of a Redis set asynchronously, with an optional callback for handling exceptions.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the set.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the members.
+     * @return a future completed with the members, or an empty set if an exception occurs.
+     */
+    <T> CompletableFuture<Set<T>> getCacheSet(RedisAsyncCommands<String, Object> commands, String key, Redis4jWrapCallback callback);
+
+    /**
+     * Stores the entries of a map in a Redis hash asynchronously.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the hash.
+     * @param map      The entries to store.
+     * @param <T>      The type of the values.
+     * @return a future completed with true if the entries were stored, false if the map is empty or the key is empty/blank.
+     */
+    <T> CompletableFuture<Boolean> setCacheMap(RedisAsyncCommands<String, Object> commands, String key, Map<String, T> map);
+
+    /**
+     * Stores the entries of a map in a Redis hash asynchronously, with an optional callback for handling exceptions.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the hash.
+     * @param map      The entries to store.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the values.
+     * @return a future completed with true if the entries were stored; false otherwise or if an exception occurs.
+     */
+    <T> CompletableFuture<Boolean> setCacheMap(RedisAsyncCommands<String, Object> commands, String key, Map<String, T> map, Redis4jWrapCallback callback);
+
+    /**
+     * Retrieves all entries of a Redis hash asynchronously.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the hash.
+     * @return a future completed with the entries, or an empty map if the key does not exist or is empty/blank.
+     */
+    CompletableFuture<Map<String, Object>> getCacheMap(RedisAsyncCommands<String, Object> commands, String key);
+
+    /**
+     * Retrieves all entries of a Redis hash asynchronously, with an optional callback for handling exceptions.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the hash.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a future completed with the entries, or an empty map if an exception occurs.
+     */
+    CompletableFuture<Map<String, Object>> getCacheMap(RedisAsyncCommands<String, Object> commands, String key, Redis4jWrapCallback callback);
+
+    /**
+     * Retrieves all entries of a Redis hash asynchronously, decoding each value straight into a given type.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the hash.
+     * @param type     The type to read the values as.
+     * @param <V>      The type of the values.
+     * @return a future completed with the entries, or an empty map if the key does not exist, the type is null or the key is empty/blank.
+     */
+    <V> CompletableFuture<Map<String, V>> getCacheMap(RedisAsyncCommands<String, Object> commands, String key, Class<V> type);
+
+    /**
+     * Retrieves all entries of a Redis hash asynchronously as a given type, with an optional callback for handling exceptions.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the hash.
+     * @param type     The type to read the values as.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <V>      The type of the values.
+     * @return a future completed with the entries, or an empty map if an exception occurs.
+     */
+    <V> CompletableFuture<Map<String, V>> getCacheMap(RedisAsyncCommands<String, Object> commands, String key, Class<V> type, Redis4jWrapCallback callback);
+
+    /**
+     * Sets a single field of a Redis hash asynchronously.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the hash.
+     * @param hKey     The field of the hash.
+     * @param value    The value to store.
+     * @param <T>      The type of the value.
+     * @return a future completed with true once the field is stored, false if the arguments are invalid.
+     */
+    <T> CompletableFuture<Boolean> setCacheMapValue(RedisAsyncCommands<String, Object> commands, String key, String hKey, T value);
+
+    /**
+     * Sets a single field of a Redis hash asynchronously, with an optional callback for handling exceptions.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the hash.
+     * @param hKey     The field of the hash.
+     * @param value    The value to store.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the value.
+     * @return a future completed with true once the field is stored; false otherwise or if an exception occurs.
+     */
+    <T> CompletableFuture<Boolean> setCacheMapValue(RedisAsyncCommands<String, Object> commands, String key, String hKey, T value, Redis4jWrapCallback callback);
+
+    /**
+     * Retrieves a single field of a Redis hash asynchronously.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the hash.
+     * @param hKey     The field of the hash.
+     * @param <T>      The type of the value.
+     * @return a future completed with the value, or null if the field does not exist or the arguments are invalid.
+     */
+    <T> CompletableFuture<T> getCacheMapValue(RedisAsyncCommands<String, Object> commands, String key, String hKey);
+
+    /**
+     * Retrieves a single field of a Redis hash asynchronously, with an optional callback for handling exceptions.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the hash.
+     * @param hKey     The field of the hash.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the value.
+     * @return a future completed with the value, or null if the field does not exist or an exception occurs.
+     */
+    <T> CompletableFuture<T> getCacheMapValue(RedisAsyncCommands<String, Object> commands, String key, String hKey, Redis4jWrapCallback callback);
+
+    /**
+     * Retrieves multiple fields of a Redis hash asynchronously, using one HMGET.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the hash.
+     * @param hKeys    The fields of the hash.
+     * @param <T>      The type of the values.
+     * @return a future completed with the values in field order, null for missing fields; an empty list if the arguments are invalid.
+     */
+    <T> CompletableFuture<List<T>> getMultiCacheMapValue(RedisAsyncCommands<String, Object> commands, String key, Collection<String> hKeys);
+
+    /**
+     * Retrieves multiple fields of a Redis hash asynchronously, with an optional callback for handling exceptions.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the hash.
+     * @param hKeys    The fields of the hash.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the values.
+     * @return a future completed with the values in field order, or an empty list if an exception occurs.
+     */
+    <T> CompletableFuture<List<T>> getMultiCacheMapValue(RedisAsyncCommands<String, Object> commands, String key, Collection<String> hKeys, Redis4jWrapCallback callback);
+
+    /**
+     * Checks asynchronously whether a key exists.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key to check.
+     * @return a future completed with true if the key exists; false otherwise.
+     */
+    CompletableFuture<Boolean> containsKey(RedisAsyncCommands<String, Object> commands, String key);
+
+    /**
+     * Checks asynchronously whether a key exists, with an optional callback for handling exceptions.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key to check.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a future completed with true if the key exists; false otherwise or if an exception occurs.
+     */
+    CompletableFuture<Boolean> containsKey(RedisAsyncCommands<String, Object> commands, String key, Redis4jWrapCallback callback);
+
+    /**
+     * Checks asynchronously whether each of the keys exists. One EXISTS is dispatched per key without waiting,
+     * so all checks share the same round-trip on the connection.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param keys     The keys to check.
+     * @return a future completed with the existence of each key, in the iteration order of the keys.
+     */
+    CompletableFuture<Map<String, Boolean>> existsMany(RedisAsyncCommands<String, Object> commands, Collection<String> keys);
+
+    /**
+     * Checks asynchronously whether each of the keys exists, with an optional callback for handling exceptions.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param keys     The keys to check.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a future completed with the existence of each key, or an empty map if an exception occurs.
+     */
+    CompletableFuture<Map<String, Boolean>> existsMany(RedisAsyncCommands<String, Object> commands, Collection<String> keys, Redis4jWrapCallback callback);
+
+    /**
+     * Publishes a message to a channel asynchronously.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param topic    The channel to publish to, class {@link ChannelTopic}
+     * @param data     The message to publish.
+     * @param <T>      The type of the message.
+     * @return a future completed with the number of subscribers which received the message.
+     */
+    <T> CompletableFuture<Long> produce(RedisAsyncCommands<String, Object> commands, ChannelTopic topic, T data);
+
+    /**
+     * Publishes a message to a channel asynchronously, with an optional callback for handling exceptions.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param topic    The channel to publish to, class {@link ChannelTopic}
+     * @param data     The message to publish.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the message.
+     * @return a future completed with the number of subscribers which received the message, or 0 if an exception occurs.
+     */
+    <T> CompletableFuture<Long> produce(RedisAsyncCommands<String, Object> commands, ChannelTopic topic, T data, Redis4jWrapCallback callback);
+
+    /**
+     * Increments a counter by one asynchronously.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the counter.
+     * @return a future completed with the value after the increment, or -1 if the key is empty/blank.
+     */
+    CompletableFuture<Long> increaseKey(RedisAsyncCommands<String, Object> commands, String key);
+
+    /**
+     * Increments a counter by one asynchronously, with an optional callback for handling exceptions.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the counter.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a future completed with the value after the increment, or -1 if an exception occurs.
+     */
+    CompletableFuture<Long> increaseKey(RedisAsyncCommands<String, Object> commands, String key, Redis4jWrapCallback callback);
+
+    /**
+     * Decrements a counter by one asynchronously.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the counter.
+     * @return a future completed with the value after the decrement, or -1 if the key is empty/blank.
+     */
+    CompletableFuture<Long> decreaseKey(RedisAsyncCommands<String, Object> commands, String key);
+
+    /**
+     * Decrements a counter by one asynchronously, with an optional callback for handling exceptions.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the counter.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a future completed with the value after the decrement, or -1 if an exception occurs.
+     */
+    CompletableFuture<Long> decreaseKey(RedisAsyncCommands<String, Object> commands, String key, Redis4jWrapCallback callback);
+
+    /**
+     * Increments a counter by the specified amount asynchronously.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to add.
+     * @return a future completed with the value after the increment, or -1 if the arguments are invalid.
+     */
+    CompletableFuture<Long> increaseKeyBy(RedisAsyncCommands<String, Object> commands, String key, long value);
+
+    /**
+     * Increments a counter by the specified amount asynchronously, with an optional callback for handling exceptions.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to add.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a future completed with the value after the increment, or -1 if an exception occurs.
+     */
+    CompletableFuture<Long> increaseKeyBy(RedisAsyncCommands<String, Object> commands, String key, long value, Redis4jWrapCallback callback);
+
+    /**
+     * Decrements a counter by the specified amount asynchronously.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to subtract.
+     * @return a future completed with the value after the decrement, or -1 if the arguments are invalid.
+     */
+    CompletableFuture<Long> decreaseKeyBy(RedisAsyncCommands<String, Object> commands, String key, long value);
+
+    /**
+     * Decrements a counter by the specified amount asynchronously, with an optional callback for handling exceptions.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to subtract.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a future completed with the value after the decrement, or -1 if an exception occurs.
+     */
+    CompletableFuture<Long> decreaseKeyBy(RedisAsyncCommands<String, Object> commands, String key, long value, Redis4jWrapCallback callback);
+
+    /**
+     * Increments a counter by one and sets its expiration asynchronously, in one atomic server-side step (a cached Lua script).
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the counter.
+     * @param timeout  The expiration timeout.
+     * @param unit     The time unit of the timeout.
+     * @return a future completed with the value after the increment, or -1 if the arguments are invalid.
+     */
+    CompletableFuture<Long> increaseKeyEx(RedisAsyncCommands<String, Object> commands, String key, long timeout, TimeUnit unit);
+
+    /**
+     * Increments a counter by one and sets its expiration asynchronously, with an optional callback for handling exceptions.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the counter.
+     * @param timeout  The expiration timeout.
+     * @param unit     The time unit of the timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a future completed with the value after the increment, or -1 if an exception occurs.
+     */
+    CompletableFuture<Long> increaseKeyEx(RedisAsyncCommands<String, Object> commands, String key, long timeout, TimeUnit unit, Redis4jWrapCallback callback);
+
+    /**
+     * Decrements a counter by one and sets its expiration asynchronously, in one atomic server-side step (a cached Lua script).
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the counter.
+     * @param timeout  The expiration timeout.
+     * @param unit     The time unit of the timeout.
+     * @return a future completed with the value after the decrement, or -1 if the arguments are invalid.
+     */
+    CompletableFuture<Long> decreaseKeyEx(RedisAsyncCommands<String, Object> commands, String key, long timeout, TimeUnit unit);
+
+    /**
+     * Decrements a counter by one and sets its expiration asynchronously, with an optional callback for handling exceptions.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the counter.
+     * @param timeout  The expiration timeout.
+     * @param unit     The time unit of the timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a future completed with the value after the decrement, or -1 if an exception occurs.
+     */
+    CompletableFuture<Long> decreaseKeyEx(RedisAsyncCommands<String, Object> commands, String key, long timeout, TimeUnit unit, Redis4jWrapCallback callback);
+
+    /**
+     * Increments a counter by the specified amount and sets its expiration asynchronously, in one atomic server-side step (a cached Lua script).
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to add.
+     * @param timeout  The expiration timeout.
+     * @param unit     The time unit of the timeout.
+     * @return a future completed with the value after the increment, or -1 if the arguments are invalid.
+     */
+    CompletableFuture<Long> increaseKeyByEx(RedisAsyncCommands<String, Object> commands, String key, long value, long timeout, TimeUnit unit);
+
+    /**
+     * Increments a counter by the specified amount and sets its expiration asynchronously, with an optional callback for handling exceptions.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to add.
+     * @param timeout  The expiration timeout.
+     * @param unit     The time unit of the timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a future completed with the value after the increment, or -1 if an exception occurs.
+     */
+    CompletableFuture<Long> increaseKeyByEx(RedisAsyncCommands<String, Object> commands, String key, long value, long timeout, TimeUnit unit, Redis4jWrapCallback callback);
+
+    /**
+     * Decrements a counter by the specified amount and sets its expiration asynchronously, in one atomic server-side step (a cached Lua script).
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to subtract.
+     * @param timeout  The expiration timeout.
+     * @param unit     The time unit of the timeout.
+     * @return a future completed with the value after the decrement, or -1 if the arguments are invalid.
+     */
+    CompletableFuture<Long> decreaseKeyByEx(RedisAsyncCommands<String, Object> commands, String key, long value, long timeout, TimeUnit unit);
+
+    /**
+     * Decrements a counter by the specified amount and sets its expiration asynchronously, with an optional callback for handling exceptions.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to subtract.
+     * @param timeout  The expiration timeout.
+     * @param unit     The time unit of the timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a future completed with the value after the decrement, or -1 if an exception occurs.
+     */
+    CompletableFuture<Long> decreaseKeyByEx(RedisAsyncCommands<String, Object> commands, String key, long value, long timeout, TimeUnit unit, Redis4jWrapCallback callback);
+
+    /**
+     * Increments a counter by one and sets its expiration asynchronously only if the key has none yet, i.e. when the counter is created,
+     * so that hot counters do not extend their time to live on every hit, in one atomic server-side step (a cached Lua script).
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the counter.
+     * @param timeout  The expiration timeout, applied when the key has no expiration.
+     * @param unit     The time unit of the timeout.
+     * @return a future completed with the value after the increment, or -1 if the arguments are invalid.
+     */
+    CompletableFuture<Long> increaseKeyExNx(RedisAsyncCommands<String, Object> commands, String key, long timeout, TimeUnit unit);
+
+    /**
+     * Increments a counter by one and sets its expiration asynchronously only if the key has none yet, with an optional callback for handling exceptions.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the counter.
+     * @param timeout  The expiration timeout, applied when the key has no expiration.
+     * @param unit     The time unit of the timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a future completed with the value after the increment, or -1 if an exception occurs.
+     */
+    CompletableFuture<Long> increaseKeyExNx(RedisAsyncCommands<String, Object> commands, String key, long timeout, TimeUnit unit, Redis4jWrapCallback callback);
+
+    /**
+     * Decrements a counter by one and sets its expiration asynchronously only if the key has none yet, i.e. when the counter is created,
+     * so that hot counters do not extend their time to live on every hit, in one atomic server-side step (a cached Lua script).
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the counter.
+     * @param timeout  The expiration timeout, applied when the key has no expiration.
+     * @param unit     The time unit of the timeout.
+     * @return a future completed with the value after the decrement, or -1 if the arguments are invalid.
+     */
+    CompletableFuture<Long> decreaseKeyExNx(RedisAsyncCommands<String, Object> commands, String key, long timeout, TimeUnit unit);
+
+    /**
+     * Decrements a counter by one and sets its expiration asynchronously only if the key has none yet, with an optional callback for handling exceptions.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the counter.
+     * @param timeout  The expiration timeout, applied when the key has no expiration.
+     * @param unit     The time unit of the timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a future completed with the value after the decrement, or -1 if an exception occurs.
+     */
+    CompletableFuture<Long> decreaseKeyExNx(RedisAsyncCommands<String, Object> commands, String key, long timeout, TimeUnit unit, Redis4jWrapCallback callback);
+
+    /**
+     * Increments a counter by the specified amount and sets its expiration asynchronously only if the key has none yet, i.e. when the counter is created,
+     * so that hot counters do not extend their time to live on every hit, in one atomic server-side step (a cached Lua script).
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to add.
+     * @param timeout  The expiration timeout, applied when the key has no expiration.
+     * @param unit     The time unit of the timeout.
+     * @return a future completed with the value after the increment, or -1 if the arguments are invalid.
+     */
+    CompletableFuture<Long> increaseKeyByExNx(RedisAsyncCommands<String, Object> commands, String key, long value, long timeout, TimeUnit unit);
+
+    /**
+     * Increments a counter by the specified amount and sets its expiration asynchronously only if the key has none yet, with an optional callback for handling exceptions.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to add.
+     * @param timeout  The expiration timeout, applied when the key has no expiration.
+     * @param unit     The time unit of the timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a future completed with the value after the increment, or -1 if an exception occurs.
+     */
+    CompletableFuture<Long> increaseKeyByExNx(RedisAsyncCommands<String, Object> commands, String key, long value, long timeout, TimeUnit unit, Redis4jWrapCallback callback);
+
+    /**
+     * Decrements a counter by the specified amount and sets its expiration asynchronously only if the key has none yet, i.e. when the counter is created,
+     * so that hot counters do not extend their time to live on every hit, in one atomic server-side step (a cached Lua script).
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to subtract.
+     * @param timeout  The expiration timeout, applied when the key has no expiration.
+     * @param unit     The time unit of the timeout.
+     * @return a future completed with the value after the decrement, or -1 if the arguments are invalid.
+     */
+    CompletableFuture<Long> decreaseKeyByExNx(RedisAsyncCommands<String, Object> commands, String key, long value, long timeout, TimeUnit unit);
+
+    /**
+     * Decrements a counter by the specified amount and sets its expiration asynchronously only if the key has none yet, with an optional callback for handling exceptions.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to subtract.
+     * @param timeout  The expiration timeout, applied when the key has no expiration.
+     * @param unit     The time unit of the timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a future completed with the value after the decrement, or -1 if an exception occurs.
+     */
+    CompletableFuture<Long> decreaseKeyByExNx(RedisAsyncCommands<String, Object> commands, String key, long value, long timeout, TimeUnit unit, Redis4jWrapCallback callback);
+}
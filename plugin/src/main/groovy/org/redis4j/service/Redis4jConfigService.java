@@ -1,9 +1,18 @@
 package org.redis4j.service;
 
 import io.lettuce.core.RedisClient;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.resource.ClientResources;
+import org.redis4j.codec.Redis4jCodec;
+import org.redis4j.codec.Redis4jCodecSerializer;
+import org.redis4j.codec.Redis4jCompressingSerializer;
+import org.redis4j.codec.Redis4jCompressor;
+import org.redis4j.config.props.Redis4jCacheProperties;
 import org.redis4j.config.props.Redis4jProperties;
+import org.redis4j.model.Redis4jCompressionStats;
 import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
 import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
@@ -22,6 +31,11 @@ public interface Redis4jConfigService {
 
     boolean isDebugging();
 
+    /**
+     * @return the Redis4j configuration properties, class {@link Redis4jProperties}
+     */
+    Redis4jProperties getProperties();
+
     /**
      * Creates and configures a JedisPoolConfig object based on application.yml properties.
      * Retrieves Redis connection and pooling settings from RedisProperties and Redis4jProperties.
@@ -81,6 +95,26 @@ public interface Redis4jConfigService {
      */
     LettucePoolingClientConfiguration createLettucePoolingClientConfig(JedisPoolConfig pool);
 
+    /**
+     * Creates the Lettuce client resources shared by the clients and connection factories of Redis4j.
+     * When command_latency_enabled is set, the resources record the latency of every command per server endpoint
+     * and command type, at the percentiles of command_latency_percentiles, and publish them on the event bus
+     * every command_latency_emit_interval as a CommandLatencyEvent, resetting them afterward.
+     *
+     * @return the client resources, class {@link ClientResources}
+     */
+    ClientResources createClientResources();
+
+    /**
+     * Creates a LettucePoolingClientConfiguration instance that shares the given client resources,
+     * so that the connection factory publishes its connection events on the same event bus.
+     *
+     * @param pool      The configured JedisPoolConfig instance for Lettuce client pooling, class {@link JedisPoolConfig}
+     * @param resources The Lettuce client resources to be used by the connection factory, class {@link ClientResources}
+     * @return Initialized LettucePoolingClientConfiguration object with specified pooling, timeout settings and client resources, class {@link LettucePoolingClientConfiguration}
+     */
+    LettucePoolingClientConfiguration createLettucePoolingClientConfig(JedisPoolConfig pool, ClientResources resources);
+
     /**
      * Creates a LettuceConnectionFactory instance for establishing a connection to a Redis server.
      * Uses the provided RedisStandaloneConfiguration and LettucePoolingClientConfiguration to configure the connection factory.
@@ -100,37 +134,118 @@ public interface Redis4jConfigService {
      */
     Jackson2JsonRedisSerializer<Object> createJsonRedisSerializer();
 
+    /**
+     * Creates the value format registered under a name: json, smile, cbor, or a custom {@link Redis4jCodec}
+     * registered through the service loader.
+     *
+     * @param name  The codec name
+     * @param typed true to record the type of the values, as needed by Spring caches to read them back;
+     *              false to read them back as maps, lists and scalars like the Redis dispatch template
+     * @return the codec, class {@link Redis4jCodec}, or null if no codec has the name
+     */
+    Redis4jCodec createCodec(String name, boolean typed);
+
+    /**
+     * Creates the value serializer of the Redis dispatch template and native connections, writing with the codec
+     * of value_codec and reading every known codec, see {@link Redis4jCodecSerializer}.
+     * The values are compressed as set by compression_enabled, see {@link #createCompressingSerializer(RedisSerializer)}.
+     *
+     * @return Initialized value serializer, class {@link RedisSerializer}
+     */
+    RedisSerializer<Object> createValueSerializer();
+
+    /**
+     * Creates the compression algorithm registered under a name: deflate, dictionary (deflate with a preset dictionary
+     * trained from sampled values and kept in Redis), or a custom {@link Redis4jCompressor} registered through the service loader.
+     *
+     * @param name The algorithm name
+     * @return the algorithm, class {@link Redis4jCompressor}, or null if no algorithm has the name
+     */
+    Redis4jCompressor createCompressor(String name);
+
+    /**
+     * Wraps a serializer so that its values of compression_threshold bytes or more are compressed with
+     * compression_algorithm when compression_enabled is set. Compressed values are read back whatever the settings,
+     * so that compression can be enabled or disabled on live data.
+     *
+     * @param serializer The serializer of the values, class {@link RedisSerializer}
+     * @param <T>        The type of the values
+     * @return Initialized compressing serializer, class {@link Redis4jCompressingSerializer}
+     */
+    <T> RedisSerializer<T> createCompressingSerializer(RedisSerializer<T> serializer);
+
+    /**
+     * Retrieves a snapshot of the compression counters of the serializers created by this service,
+     * i.e. values compressed, skipped and decompressed, bytes before and after compression, and CPU time spent.
+     *
+     * @return the snapshot, class {@link Redis4jCompressionStats}
+     */
+    Redis4jCompressionStats compressionStats();
+
+    /**
+     * Creates a Lettuce codec encoding keys as UTF-8 strings and values with the serializer of {@link #createValueSerializer()},
+     * so that native Lettuce connections share the value format of the Redis dispatch template.
+     *
+     * @return Initialized codec for String keys and Object values, class {@link RedisCodec}
+     */
+    RedisCodec<String, Object> createValueCodec();
+
     /**
      * Creates a RedisTemplate instance for interacting with Redis using Spring Data Redis.
      * Configures connection factory, serializers for keys and values, and enables transaction support.
      *
      * @param factory           The LettuceConnectionFactory used to create Redis connections, class {@link LettuceConnectionFactory}
-     * @param jacksonSerializer The Jackson2JsonRedisSerializer used to serialize/deserialize values to/from JSON, class {@link Jackson2JsonRedisSerializer}
+     * @param jacksonSerializer The RedisSerializer used to serialize/deserialize values, e.g. {@link #createValueSerializer()}, class {@link RedisSerializer}
      * @param serializer        The RedisSerializer used for serializing Redis keys, class {@link RedisSerializer}
      * @return Initialized RedisTemplate configured with specified connection factory and serializers, class {@link RedisTemplate}
      */
-    RedisTemplate<String, Object> createRedisDispatch(LettuceConnectionFactory factory, Jackson2JsonRedisSerializer<Object> jacksonSerializer, RedisSerializer<String> serializer);
+    RedisTemplate<String, Object> createRedisDispatch(LettuceConnectionFactory factory, RedisSerializer<Object> jacksonSerializer, RedisSerializer<String> serializer);
 
     /**
      * Creates a StringRedisTemplate instance for interacting with Redis using Spring Data Redis.
      * Configures connection factory, serializers for keys and values, and enables transaction support.
      *
      * @param factory           The LettuceConnectionFactory used to create Redis connections, class {@link LettuceConnectionFactory}
-     * @param jacksonSerializer The Jackson2JsonRedisSerializer used to serialize/deserialize values to/from JSON, class {@link Jackson2JsonRedisSerializer}
+     * @param jacksonSerializer The RedisSerializer used to serialize/deserialize values to/from JSON, e.g. {@link #createJsonRedisSerializer()}
+     *                          wrapped by {@link #createCompressingSerializer(RedisSerializer)}, class {@link RedisSerializer}
      * @param serializer        The RedisSerializer used for serializing Redis keys, class {@link RedisSerializer}
      * @return Initialized StringRedisTemplate configured with specified connection factory and serializers, class {@link StringRedisTemplate}
      */
-    StringRedisTemplate createStringRedisDispatch(LettuceConnectionFactory factory, Jackson2JsonRedisSerializer<Object> jacksonSerializer, RedisSerializer<String> serializer);
+    StringRedisTemplate createStringRedisDispatch(LettuceConnectionFactory factory, RedisSerializer<Object> jacksonSerializer, RedisSerializer<String> serializer);
 
     /**
      * Creates a CacheManager instance for managing caches backed by Redis using Spring Data Redis.
      * Configures the cache configuration and Redis cache writer.
+     * The defaults cache_ttl, cache_ttl_jitter, cache_null_values and cache_codec apply to every cache,
+     * and the entries of spring.redis4j.caches override them per cache name.
+     * When cache_local_enabled is set, the Redis caches are fronted by a bounded in-process L1,
+     * see {@link org.redis4j.cache.Redis4jTwoLevelCacheManager}.
      *
      * @param factory The LettuceConnectionFactory used to create Redis connections, class {@link LettuceConnectionFactory}
      * @return Initialized CacheManager configured with the specified connection factory, class {@link CacheManager}
      */
     CacheManager createCacheManager(LettuceConnectionFactory factory);
 
+    /**
+     * Creates the configuration of a Redis cache from its settings, falling back to the defaults
+     * cache_ttl, cache_null_values and cache_codec for every unset field.
+     *
+     * @param spec The settings of the cache name, class {@link Redis4jCacheProperties}, or null for the defaults
+     * @return Initialized cache configuration, class {@link RedisCacheConfiguration}
+     */
+    RedisCacheConfiguration createCacheConfiguration(Redis4jCacheProperties spec);
+
+    /**
+     * Creates the serializer of the values of a Redis cache by codec name:
+     * jdk (Java serialization), json, smile or cbor (Jackson, with the type information needed to read the values back),
+     * string (UTF-8, for caches of strings only), or a custom {@link Redis4jCodec}. An unknown name falls back to jdk.
+     * The json, smile and cbor serializers read each other's values, so that a cache can switch between them live.
+     *
+     * @param codec The codec name
+     * @return Initialized value serializer, class {@link RedisSerializer}
+     */
+    RedisSerializer<?> createCacheValueSerializer(String codec);
+
     /**
      * Checks if a Redis connection factory is connected.
      * Returns true if the factory is not null and a connection can be established without errors.
@@ -153,6 +268,7 @@ public interface Redis4jConfigService {
 
     /**
      * Provides a Redis client configured with the connection details specified in the application properties.
+     * The client connects like the connection factory does and shares its client resources, hence its event bus.
      *
      * @return a configured instance of {@link RedisClient} ready to connect to the Redis server.
      */
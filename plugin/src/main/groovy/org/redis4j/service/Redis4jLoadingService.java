@@ -0,0 +1,150 @@
+package org.redis4j.service;
+
+import org.redis4j.model.Redis4jCacheEntry;
+import org.redis4j.model.Redis4jLoadingStats;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Read-through access to cache objects: a miss runs the loader once and writes its result back to Redis.
+ * <p>
+ * Concurrent misses of a key within the JVM share a single load (single-flight). When load_lease_enabled is set,
+ * the nodes additionally race for a short-lived Redis lease (SET NX PX) on the key, and only the holder runs the loader,
+ * while the others wait for the value to appear in Redis.
+ * <p>
+ * Refreshable objects are stored with their compute time and expiration instant, see {@link Redis4jCacheEntry},
+ * and are recomputed in the background shortly before they expire (XFetch), so that popular keys do not expire
+ * under load. They must be read with {@link #getRefreshableObject(RedisTemplate, String, Class, long, TimeUnit, Supplier)}.
+ * <p>
+ * Revalidated objects carry a soft and a hard expiration: between both, the stale value is served at once while
+ * a single background reload runs, see {@link #getOrRevalidate(RedisTemplate, String, Class, long, long, TimeUnit, Supplier)}.
+ */
+public interface Redis4jLoadingService {
+
+    /**
+     * Retrieves a cache object, or loads, stores and returns it when the key is missing.
+     * A null result of the loader is returned but not stored.
+     * If the dispatch template is null, the loader is invoked directly, without caching.
+     *
+     * @param dispatch The RedisTemplate used to read and write the cache object.
+     * @param key      The key of the cache object.
+     * @param type     The type to read the cached value as.
+     * @param timeout  The expiration timeout of the stored object, 0 for no expiration.
+     * @param unit     The time unit for the expiration timeout.
+     * @param loader   The function computing the value on a miss, class {@link Supplier}
+     * @param <T>      The type of the value.
+     * @return the cached or loaded value, or null if the key is empty/blank, the loader is null or returned null.
+     */
+    <T> T getOrLoad(RedisTemplate<String, Object> dispatch, String key, Class<T> type, long timeout, TimeUnit unit, Supplier<T> loader);
+
+    /**
+     * Retrieves a cache object, or loads, stores and returns it when the key is missing,
+     * with an optional callback for handling exceptions, including those thrown by the loader.
+     *
+     * @param dispatch The RedisTemplate used to read and write the cache object.
+     * @param key      The key of the cache object.
+     * @param type     The type to read the cached value as.
+     * @param timeout  The expiration timeout of the stored object, 0 for no expiration.
+     * @param unit     The time unit for the expiration timeout.
+     * @param loader   The function computing the value on a miss, class {@link Supplier}
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the value.
+     * @return the cached or loaded value, or null if an exception occurs.
+     */
+    <T> T getOrLoad(RedisTemplate<String, Object> dispatch, String key, Class<T> type, long timeout, TimeUnit unit, Supplier<T> loader, Redis4jWrapCallback callback);
+
+    /**
+     * Sets a cache object together with its compute time and expiration instant, see {@link Redis4jCacheEntry},
+     * so that {@link #getRefreshableObject(RedisTemplate, String, Class, long, TimeUnit, Supplier)} can refresh it early.
+     * If the dispatch template, value, or time unit is null, or if the timeout is negative,
+     * or if the key is empty or blank, the method returns without performing any operation.
+     *
+     * @param dispatch The RedisTemplate used to set the cache object.
+     * @param key      The key under which the value should be stored.
+     * @param value    The value to be cached.
+     * @param delta    The time it took to compute the value, in milliseconds.
+     * @param timeout  The expiration timeout for the cached object, 0 for no expiration (and no early refresh).
+     * @param unit     The time unit for the expiration timeout.
+     * @param <T>      The type of the value being cached.
+     */
+    <T> void setRefreshableObject(RedisTemplate<String, Object> dispatch, String key, T value, long delta, long timeout, TimeUnit unit);
+
+    /**
+     * Retrieves a cache object written by {@link #setRefreshableObject(RedisTemplate, String, Object, long, long, TimeUnit)},
+     * or loads, stores and returns it when the key is missing, like
+     * {@link #getOrLoad(RedisTemplate, String, Class, long, TimeUnit, Supplier)}.
+     * <p>
+     * On a hit, the value is recomputed in the background before it expires with a probability growing as the expiry
+     * approaches, scaled by the compute time and early_refresh_beta (XFetch), while the caller gets the current value.
+     * A plain object written by setCacheObject is returned as is and never refreshed early.
+     *
+     * @param dispatch The RedisTemplate used to read and write the cache object.
+     * @param key      The key of the cache object.
+     * @param type     The type to read the cached value as.
+     * @param timeout  The expiration timeout of the stored object, 0 for no expiration.
+     * @param unit     The time unit for the expiration timeout.
+     * @param loader   The function computing the value, class {@link Supplier}
+     * @param <T>      The type of the value.
+     * @return the cached or loaded value, or null if the key is empty/blank, the loader is null or returned null.
+     */
+    <T> T getRefreshableObject(RedisTemplate<String, Object> dispatch, String key, Class<T> type, long timeout, TimeUnit unit, Supplier<T> loader);
+
+    /**
+     * Retrieves a refreshable cache object, or loads, stores and returns it when the key is missing,
+     * with an optional callback for handling exceptions, including those thrown by the loader.
+     *
+     * @param dispatch The RedisTemplate used to read and write the cache object.
+     * @param key      The key of the cache object.
+     * @param type     The type to read the cached value as.
+     * @param timeout  The expiration timeout of the stored object, 0 for no expiration.
+     * @param unit     The time unit for the expiration timeout.
+     * @param loader   The function computing the value, class {@link Supplier}
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the value.
+     * @return the cached or loaded value, or null if an exception occurs.
+     */
+    <T> T getRefreshableObject(RedisTemplate<String, Object> dispatch, String key, Class<T> type, long timeout, TimeUnit unit, Supplier<T> loader, Redis4jWrapCallback callback);
+
+    /**
+     * Retrieves a cache object with stale-while-revalidate semantics, or loads, stores and returns it when the key is missing.
+     * The object is stored with a soft and a hard expiration: before the soft one it is served as is; between both,
+     * the stale value is served at once and a single background reload is triggered; after the hard one Redis drops it,
+     * and the next read loads it like {@link #getOrLoad(RedisTemplate, String, Class, long, TimeUnit, Supplier)}.
+     * A plain object written by setCacheObject is returned as is and never reloaded.
+     *
+     * @param dispatch    The RedisTemplate used to read and write the cache object.
+     * @param key         The key of the cache object.
+     * @param type        The type to read the cached value as.
+     * @param softTimeout The time after which the stored object is stale and reloaded in the background.
+     * @param hardTimeout The expiration timeout of the stored object, not lower than softTimeout, 0 for no expiration.
+     * @param unit        The time unit for both timeouts.
+     * @param loader      The function computing the value, class {@link Supplier}
+     * @param <T>         The type of the value.
+     * @return the cached, stale or loaded value, or null if the key is empty/blank, the loader is null or returned null.
+     */
+    <T> T getOrRevalidate(RedisTemplate<String, Object> dispatch, String key, Class<T> type, long softTimeout, long hardTimeout, TimeUnit unit, Supplier<T> loader);
+
+    /**
+     * Retrieves a cache object with stale-while-revalidate semantics, or loads, stores and returns it when the key is missing,
+     * with an optional callback for handling exceptions, including those thrown by the loader.
+     *
+     * @param dispatch    The RedisTemplate used to read and write the cache object.
+     * @param key         The key of the cache object.
+     * @param type        The type to read the cached value as.
+     * @param softTimeout The time after which the stored object is stale and reloaded in the background.
+     * @param hardTimeout The expiration timeout of the stored object, not lower than softTimeout, 0 for no expiration.
+     * @param unit        The time unit for both timeouts.
+     * @param loader      The function computing the value, class {@link Supplier}
+     * @param callback    An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>         The type of the value.
+     * @return the cached, stale or loaded value, or null if an exception occurs.
+     */
+    <T> T getOrRevalidate(RedisTemplate<String, Object> dispatch, String key, Class<T> type, long softTimeout, long hardTimeout, TimeUnit unit, Supplier<T> loader, Redis4jWrapCallback callback);
+
+    /**
+     * @return a snapshot of the hit, miss, stale serve and background refresh counters, class {@link Redis4jLoadingStats}
+     */
+    Redis4jLoadingStats stats();
+}
@@ -0,0 +1,81 @@
+package org.redis4j.service;
+
+import org.redis4j.model.Redis4jNearCacheStats;
+
+import java.lang.reflect.Type;
+
+/**
+ * An in-process near cache in front of the object and hash value reads of {@link Redis4jService}.
+ * <p>
+ * Reads go through a dedicated connection on which CLIENT TRACKING is enabled, so that the server pushes an
+ * invalidation message whenever a key read by this process is modified by any client. Entries are kept until
+ * they are invalidated, their Redis TTL elapses, or they are evicted by the size or weight bound
+ * (see {@code spring.redis4j.near_cache_*}). While the tracking connection is down, the near cache is inactive
+ * and reads must go to Redis directly.
+ */
+public interface Redis4jNearCacheService {
+
+    /**
+     * @return true if the near cache is enabled and the tracking connection is established, false otherwise
+     */
+    boolean isActive();
+
+    /**
+     * Retrieves a cache object, from the near cache when present, otherwise from Redis through the tracking connection.
+     *
+     * @param key The key of the cache object to retrieve.
+     * @param <T> The type of the value being retrieved.
+     * @return The cached object associated with the given key, or null if the key does not exist.
+     */
+    <T> T getCacheObject(String key);
+
+    /**
+     * Retrieves a cache object as a given type, from the near cache when present, otherwise from Redis through
+     * the tracking connection, decoding the cached bytes straight into the type.
+     *
+     * @param key  The key of the cache object to retrieve.
+     * @param type The type to read the value as.
+     * @param <T>  The type of the value being retrieved.
+     * @return The cached object associated with the given key, or null if the key does not exist.
+     */
+    <T> T getCacheObject(String key, Class<T> type);
+
+    /**
+     * Retrieves a cache object as a generic type, from the near cache when present, otherwise from Redis through
+     * the tracking connection, decoding the cached bytes straight into the type.
+     *
+     * @param key  The key of the cache object to retrieve.
+     * @param type The type to read the value as, e.g. a container class bound to the class of its content.
+     * @param <T>  The type of the value being retrieved.
+     * @return The cached object associated with the given key, or null if the key does not exist.
+     */
+    <T> T getCacheObject(String key, Type type);
+
+    /**
+     * Retrieves a hash value, from the near cache when present, otherwise from Redis through the tracking connection.
+     *
+     * @param key  The key under which the hash is stored.
+     * @param hKey The hash key whose value is to be retrieved.
+     * @param <T>  The type of the value being retrieved.
+     * @return The value associated with the given hash key, or null if the field does not exist.
+     */
+    <T> T getCacheMapValue(String key, String hKey);
+
+    /**
+     * Drops the entries of a key, i.e. the object and every hash value cached for it.
+     * Invoked for writes issued by this process, so that they are visible to its own reads before the server push arrives.
+     *
+     * @param key The key to invalidate.
+     */
+    void invalidate(String key);
+
+    /**
+     * Drops every entry of the near cache.
+     */
+    void invalidateAll();
+
+    /**
+     * @return a snapshot of the hit, miss, invalidation and eviction counters, class {@link Redis4jNearCacheStats}
+     */
+    Redis4jNearCacheStats stats();
+}
@@ -0,0 +1,614 @@
+package org.redis4j.service;
+
+import io.lettuce.core.api.reactive.RedisReactiveCommands;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reactive counterpart of {@link Redis4jService}, built on Lettuce reactive commands.
+ * Values are encoded with the same Jackson serializer as the Redis dispatch template, so both APIs read each other's data.
+ * <p>
+ * Lists, sets and hashes are streamed element by element, using LRANGE pages, SSCAN and HSCAN respectively
+ * (see {@code spring.redis4j.stream_page_size}), so that a subscriber's demand bounds the number of elements in memory.
+ * Nothing is sent to Redis until the returned publisher is subscribed to.
+ * <p>
+ * Methods with a callback never signal an error: on failure the callback receives the error response
+ * and the publisher completes with the same fallback value the blocking API returns, or empty for streams.
+ */
+public interface Redis4jReactiveService {
+
+    /**
+     * Sets a cache object in Redis reactively.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key under which the value should be stored.
+     * @param value    The value to be cached.
+     * @param <T>      The type of the value being cached.
+     * @return a Mono emitting true if the value was stored, false if the commands or value is null, or the key is empty/blank.
+     */
+    <T> Mono<Boolean> setCacheObject(RedisReactiveCommands<String, Object> commands, String key, T value);
+
+    /**
+     * Sets a cache object in Redis reactively, with an optional callback for handling exceptions.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key under which the value should be stored.
+     * @param value    The value to be cached.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the value being cached.
+     * @return a Mono emitting true if the value was stored; false otherwise or if an exception occurs.
+     */
+    <T> Mono<Boolean> setCacheObject(RedisReactiveCommands<String, Object> commands, String key, T value, Redis4jWrapCallback callback);
+
+    /**
+     * Sets a cache object in Redis reactively with an expiration, issued as a single SET PX command.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key under which the value should be stored.
+     * @param value    The value to be cached.
+     * @param timeout  The expiration timeout for the cached value.
+     * @param unit     The time unit of the timeout.
+     * @param <T>      The type of the value being cached.
+     * @return a Mono emitting true if the value was stored, false if the arguments are invalid.
+     */
+    <T> Mono<Boolean> setCacheObject(RedisReactiveCommands<String, Object> commands, String key, T value, long timeout, TimeUnit unit);
+
+    /**
+     * Sets a cache object in Redis reactively with an expiration, with an optional callback for handling exceptions.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key under which the value should be stored.
+     * @param value    The value to be cached.
+     * @param timeout  The expiration timeout for the cached value.
+     * @param unit     The time unit of the timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the value being cached.
+     * @return a Mono emitting true if the value was stored; false otherwise or if an exception occurs.
+     */
+    <T> Mono<Boolean> setCacheObject(RedisReactiveCommands<String, Object> commands, String key, T value, long timeout, TimeUnit unit, Redis4jWrapCallback callback);
+
+    /**
+     * Sets an expiration on a key reactively.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key to expire.
+     * @param timeout  The expiration timeout.
+     * @param unit     The time unit of the timeout.
+     * @return a Mono emitting true if the expiration was set, false if the key does not exist or the arguments are invalid.
+     */
+    Mono<Boolean> expire(RedisReactiveCommands<String, Object> commands, String key, long timeout, TimeUnit unit);
+
+    /**
+     * Sets an expiration on a key reactively, with an optional callback for handling exceptions.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key to expire.
+     * @param timeout  The expiration timeout.
+     * @param unit     The time unit of the timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a Mono emitting true if the expiration was set; false otherwise or if an exception occurs.
+     */
+    Mono<Boolean> expire(RedisReactiveCommands<String, Object> commands, String key, long timeout, TimeUnit unit, Redis4jWrapCallback callback);
+
+    /**
+     * Retrieves a cache object from Redis reactively.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the cache object to retrieve.
+     * @param <T>      The type of the value being retrieved.
+     * @return a Mono emitting the cached object, or empty if the key does not exist or is empty/blank.
+     */
+    <T> Mono<T> getCacheObject(RedisReactiveCommands<String, Object> commands, String key);
+
+    /**
+     * Retrieves a cache object from Redis reactively, with an optional callback for handling exceptions.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the cache object to retrieve.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the value being retrieved.
+     * @return a Mono emitting the cached object, or empty if the key does not exist or an exception occurs.
+     */
+    <T> Mono<T> getCacheObject(RedisReactiveCommands<String, Object> commands, String key, Redis4jWrapCallback callback);
+
+    /**
+     * Removes a cache object from Redis reactively.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the cache object to remove.
+     * @return a Mono emitting true if the key was removed; false otherwise.
+     */
+    Mono<Boolean> removeObject(RedisReactiveCommands<String, Object> commands, String key);
+
+    /**
+     * Removes a cache object from Redis reactively, with an optional callback for handling exceptions.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the cache object to remove.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a Mono emitting true if the key was removed; false otherwise or if an exception occurs.
+     */
+    Mono<Boolean> removeObject(RedisReactiveCommands<String, Object> commands, String key, Redis4jWrapCallback callback);
+
+    /**
+     * Appends the elements of a list to a Redis list reactively, using one variadic RPUSH.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the list.
+     * @param list     The elements to append.
+     * @param <T>      The type of the elements.
+     * @return a Mono emitting the length of the list after the push, or 0 if the list is empty or the key is empty/blank.
+     */
+    <T> Mono<Long> setCacheList(RedisReactiveCommands<String, Object> commands, String key, List<T> list);
+
+    /**
+     * Appends the elements of a list to a Redis list reactively, with an optional callback for handling exceptions.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the list.
+     * @param list     The elements to append.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the elements.
+     * @return a Mono emitting the length of the list after the push, or 0 if an exception occurs.
+     */
+    <T> Mono<Long> setCacheList(RedisReactiveCommands<String, Object> commands, String key, List<T> list, Redis4jWrapCallback callback);
+
+    /**
+     * Streams the elements of a Redis list reactively, one LRANGE page at a time.
+     * The next page is only requested once the subscriber has demanded the elements of the current one.
+     * Elements pushed or removed while the stream is in progress may be skipped or emitted twice.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the list.
+     * @param <T>      The type of the elements.
+     * @return a Flux emitting the elements in list order, empty if the key does not exist or is empty/blank.
+     */
+    <T> Flux<T> getCacheList(RedisReactiveCommands<String, Object> commands, String key);
+
+    /**
+     * Streams the elements of a Redis list reactively, with an optional callback for handling exceptions.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the list.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the elements.
+     * @return a Flux emitting the elements in list order, completing early without error if an exception occurs.
+     */
+    <T> Flux<T> getCacheList(RedisReactiveCommands<String, Object> commands, String key, Redis4jWrapCallback callback);
+
+    /**
+     * Adds the members of a set to a Redis set reactively, using one variadic SADD.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the set.
+     * @param dataSet  The members to add.
+     * @param <T>      The type of the members.
+     * @return a Mono emitting the number of members added, or 0 if the set is empty or the key is empty/blank.
+     */
+    <T> Mono<Long> setCacheSet(RedisReactiveCommands<String, Object> commands, String key, Set<T> dataSet);
+
+    /**
+     * Adds the members of a set to a Redis set reactively, with an optional callback for handling exceptions.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the set.
+     * @param dataSet  The members to add.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the members.
+     * @return a Mono emitting the number of members added, or 0 if an exception occurs.
+     */
+    <T> Mono<Long> setCacheSet(RedisReactiveCommands<String, Object> commands, String key, Set<T> dataSet, Redis4jWrapCallback callback);
+
+    /**
+     * Streams the members of a Redis set reactively using SSCAN, so that a large set is never read in one reply.
+     * As with any SCAN, a member added or removed during the iteration may or may not be emitted.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the set.
+     * @param <T>      The type of the members.
+     * @return a Flux emitting the members, empty if the key does not exist or is empty/blank.
+     */
+    <T> Flux<T> getCacheSet(RedisReactiveCommands<String, Object> commands, String key);
+
+    /**
+     * Streams the members of a Redis set reactively, with an optional callback for handling exceptions.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the set.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the members.
+     * @return a Flux emitting the members, completing early without error if an exception occurs.
+     */
+    <T> Flux<T> getCacheSet(RedisReactiveCommands<String, Object> commands, String key, Redis4jWrapCallback callback);
+
+    /**
+     * Stores the entries of a map in a Redis hash reactively.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the hash.
+     * @param map      The entries to store.
+     * @param <T>      The type of the values.
+     * @return a Mono emitting true if the entries were stored, false if the map is empty or the key is empty/blank.
+     */
+    <T> Mono<Boolean> setCacheMap(RedisReactiveCommands<String, Object> commands, String key, Map<String, T> map);
+
+    /**
+     * Stores the entries of a map in a Redis hash reactively, with an optional callback for handling exceptions.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the hash.
+     * @param map      The entries to store.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the values.
+     * @return a Mono emitting true if the entries were stored; false otherwise or if an exception occurs.
+     */
+    <T> Mono<Boolean> setCacheMap(RedisReactiveCommands<String, Object> commands, String key, Map<String, T> map, Redis4jWrapCallback callback);
+
+    /**
+     * Streams the entries of a Redis hash reactively using HSCAN, so that a large hash is never read in one reply.
+     * As with any SCAN, a field added or removed during the iteration may or may not be emitted.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the hash.
+     * @return a Flux emitting the entries, empty if the key does not exist or is empty/blank.
+     */
+    Flux<Map.Entry<String, Object>> getCacheMap(RedisReactiveCommands<String, Object> commands, String key);
+
+    /**
+     * Streams the entries of a Redis hash reactively, with an optional callback for handling exceptions.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the hash.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a Flux emitting the entries, completing early without error if an exception occurs.
+     */
+    Flux<Map.Entry<String, Object>> getCacheMap(RedisReactiveCommands<String, Object> commands, String key, Redis4jWrapCallback callback);
+
+    /**
+     * Sets a single field of a Redis hash reactively.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the hash.
+     * @param hKey     The field of the hash.
+     * @param value    The value to store.
+     * @param <T>      The type of the value.
+     * @return a Mono emitting true once the field is stored, false if the arguments are invalid.
+     */
+    <T> Mono<Boolean> setCacheMapValue(RedisReactiveCommands<String, Object> commands, String key, String hKey, T value);
+
+    /**
+     * Sets a single field of a Redis hash reactively, with an optional callback for handling exceptions.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the hash.
+     * @param hKey     The field of the hash.
+     * @param value    The value to store.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the value.
+     * @return a Mono emitting true once the field is stored; false otherwise or if an exception occurs.
+     */
+    <T> Mono<Boolean> setCacheMapValue(RedisReactiveCommands<String, Object> commands, String key, String hKey, T value, Redis4jWrapCallback callback);
+
+    /**
+     * Retrieves a single field of a Redis hash reactively.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the hash.
+     * @param hKey     The field of the hash.
+     * @param <T>      The type of the value.
+     * @return a Mono emitting the value, or empty if the field does not exist or the arguments are invalid.
+     */
+    <T> Mono<T> getCacheMapValue(RedisReactiveCommands<String, Object> commands, String key, String hKey);
+
+    /**
+     * Retrieves a single field of a Redis hash reactively, with an optional callback for handling exceptions.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the hash.
+     * @param hKey     The field of the hash.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the value.
+     * @return a Mono emitting the value, or empty if the field does not exist or an exception occurs.
+     */
+    <T> Mono<T> getCacheMapValue(RedisReactiveCommands<String, Object> commands, String key, String hKey, Redis4jWrapCallback callback);
+
+    /**
+     * Checks reactively whether a key exists.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key to check.
+     * @return a Mono emitting true if the key exists; false otherwise.
+     */
+    Mono<Boolean> containsKey(RedisReactiveCommands<String, Object> commands, String key);
+
+    /**
+     * Checks reactively whether a key exists, with an optional callback for handling exceptions.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key to check.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a Mono emitting true if the key exists; false otherwise or if an exception occurs.
+     */
+    Mono<Boolean> containsKey(RedisReactiveCommands<String, Object> commands, String key, Redis4jWrapCallback callback);
+
+    /**
+     * Increments a counter by one reactively.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the counter.
+     * @return a Mono emitting the value after the increment, or -1 if the key is empty/blank.
+     */
+    Mono<Long> increaseKey(RedisReactiveCommands<String, Object> commands, String key);
+
+    /**
+     * Increments a counter by one reactively, with an optional callback for handling exceptions.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the counter.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a Mono emitting the value after the increment, or -1 if an exception occurs.
+     */
+    Mono<Long> increaseKey(RedisReactiveCommands<String, Object> commands, String key, Redis4jWrapCallback callback);
+
+    /**
+     * Decrements a counter by one reactively.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the counter.
+     * @return a Mono emitting the value after the decrement, or -1 if the key is empty/blank.
+     */
+    Mono<Long> decreaseKey(RedisReactiveCommands<String, Object> commands, String key);
+
+    /**
+     * Decrements a counter by one reactively, with an optional callback for handling exceptions.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the counter.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a Mono emitting the value after the decrement, or -1 if an exception occurs.
+     */
+    Mono<Long> decreaseKey(RedisReactiveCommands<String, Object> commands, String key, Redis4jWrapCallback callback);
+
+    /**
+     * Increments a counter by the specified amount reactively.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to add.
+     * @return a Mono emitting the value after the increment, or -1 if the arguments are invalid.
+     */
+    Mono<Long> increaseKeyBy(RedisReactiveCommands<String, Object> commands, String key, long value);
+
+    /**
+     * Increments a counter by the specified amount reactively, with an optional callback for handling exceptions.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to add.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a Mono emitting the value after the increment, or -1 if an exception occurs.
+     */
+    Mono<Long> increaseKeyBy(RedisReactiveCommands<String, Object> commands, String key, long value, Redis4jWrapCallback callback);
+
+    /**
+     * Decrements a counter by the specified amount reactively.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to subtract.
+     * @return a Mono emitting the value after the decrement, or -1 if the arguments are invalid.
+     */
+    Mono<Long> decreaseKeyBy(RedisReactiveCommands<String, Object> commands, String key, long value);
+
+    /**
+     * Decrements a counter by the specified amount reactively, with an optional callback for handling exceptions.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to subtract.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a Mono emitting the value after the decrement, or -1 if an exception occurs.
+     */
+    Mono<Long> decreaseKeyBy(RedisReactiveCommands<String, Object> commands, String key, long value, Redis4jWrapCallback callback);
+
+    /**
+     * Increments a counter by one and sets its expiration reactively, in one atomic server-side step (a cached Lua script).
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the counter.
+     * @param timeout  The expiration timeout.
+     * @param unit     The time unit of the timeout.
+     * @return a Mono emitting the value after the increment, or -1 if the arguments are invalid.
+     */
+    Mono<Long> increaseKeyEx(RedisReactiveCommands<String, Object> commands, String key, long timeout, TimeUnit unit);
+
+    /**
+     * Increments a counter by one and sets its expiration reactively, with an optional callback for handling exceptions.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the counter.
+     * @param timeout  The expiration timeout.
+     * @param unit     The time unit of the timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a Mono emitting the value after the increment, or -1 if an exception occurs.
+     */
+    Mono<Long> increaseKeyEx(RedisReactiveCommands<String, Object> commands, String key, long timeout, TimeUnit unit, Redis4jWrapCallback callback);
+
+    /**
+     * Decrements a counter by one and sets its expiration reactively, in one atomic server-side step (a cached Lua script).
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the counter.
+     * @param timeout  The expiration timeout.
+     * @param unit     The time unit of the timeout.
+     * @return a Mono emitting the value after the decrement, or -1 if the arguments are invalid.
+     */
+    Mono<Long> decreaseKeyEx(RedisReactiveCommands<String, Object> commands, String key, long timeout, TimeUnit unit);
+
+    /**
+     * Decrements a counter by one and sets its expiration reactively, with an optional callback for handling exceptions.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the counter.
+     * @param timeout  The expiration timeout.
+     * @param unit     The time unit of the timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a Mono emitting the value after the decrement, or -1 if an exception occurs.
+     */
+    Mono<Long> decreaseKeyEx(RedisReactiveCommands<String, Object> commands, String key, long timeout, TimeUnit unit, Redis4jWrapCallback callback);
+
+    /**
+     * Increments a counter by the specified amount and sets its expiration reactively, in one atomic server-side step (a cached Lua script).
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to add.
+     * @param timeout  The expiration timeout.
+     * @param unit     The time unit of the timeout.
+     * @return a Mono emitting the value after the increment, or -1 if the arguments are invalid.
+     */
+    Mono<Long> increaseKeyByEx(RedisReactiveCommands<String, Object> commands, String key, long value, long timeout, TimeUnit unit);
+
+    /**
+     * Increments a counter by the specified amount and sets its expiration reactively, with an optional callback for handling exceptions.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to add.
+     * @param timeout  The expiration timeout.
+     * @param unit     The time unit of the timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a Mono emitting the value after the increment, or -1 if an exception occurs.
+     */
+    Mono<Long> increaseKeyByEx(RedisReactiveCommands<String, Object> commands, String key, long value, long timeout, TimeUnit unit, Redis4jWrapCallback callback);
+
+    /**
+     * Decrements a counter by the specified amount and sets its expiration reactively, in one atomic server-side step (a cached Lua script).
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to subtract.
+     * @param timeout  The expiration timeout.
+     * @param unit     The time unit of the timeout.
+     * @return a Mono emitting the value after the decrement, or -1 if the arguments are invalid.
+     */
+    Mono<Long> decreaseKeyByEx(RedisReactiveCommands<String, Object> commands, String key, long value, long timeout, TimeUnit unit);
+
+    /**
+     * Decrements a counter by the specified amount and sets its expiration reactively, with an optional callback for handling exceptions.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to subtract.
+     * @param timeout  The expiration timeout.
+     * @param unit     The time unit of the timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a Mono emitting the value after the decrement, or -1 if an exception occurs.
+     */
+    Mono<Long> decreaseKeyByEx(RedisReactiveCommands<String, Object> commands, String key, long value, long timeout, TimeUnit unit, Redis4jWrapCallback callback);
+
+    /**
+     * Increments a counter by one and sets its expiration reactively only if the key has none yet, i.e. when the counter is created,
+     * so that hot counters do not extend their time to live on every hit, in one atomic server-side step (a cached Lua script).
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the counter.
+     * @param timeout  The expiration timeout, applied when the key has no expiration.
+     * @param unit     The time unit of the timeout.
+     * @return a Mono emitting the value after the increment, or -1 if the arguments are invalid.
+     */
+    Mono<Long> increaseKeyExNx(RedisReactiveCommands<String, Object> commands, String key, long timeout, TimeUnit unit);
+
+    /**
+     * Increments a counter by one and sets its expiration reactively only if the key has none yet, with an optional callback for handling exceptions.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the counter.
+     * @param timeout  The expiration timeout, applied when the key has no expiration.
+     * @param unit     The time unit of the timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a Mono emitting the value after the increment, or -1 if an exception occurs.
+     */
+    Mono<Long> increaseKeyExNx(RedisReactiveCommands<String, Object> commands, String key, long timeout, TimeUnit unit, Redis4jWrapCallback callback);
+
+    /**
+     * Decrements a counter by one and sets its expiration reactively only if the key has none yet, i.e. when the counter is created,
+     * so that hot counters do not extend their time to live on every hit, in one atomic server-side step (a cached Lua script).
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the counter.
+     * @param timeout  The expiration timeout, applied when the key has no expiration.
+     * @param unit     The time unit of the timeout.
+     * @return a Mono emitting the value after the decrement, or -1 if the arguments are invalid.
+     */
+    Mono<Long> decreaseKeyExNx(RedisReactiveCommands<String, Object> commands, String key, long timeout, TimeUnit unit);
+
+    /**
+     * Decrements a counter by one and sets its expiration reactively only if the key has none yet, with an optional callback for handling exceptions.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the counter.
+     * @param timeout  The expiration timeout, applied when the key has no expiration.
+     * @param unit     The time unit of the timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a Mono emitting the value after the decrement, or -1 if an exception occurs.
+     */
+    Mono<Long> decreaseKeyExNx(RedisReactiveCommands<String, Object> commands, String key, long timeout, TimeUnit unit, Redis4jWrapCallback callback);
+
+    /**
+     * Increments a counter by the specified amount and sets its expiration reactively only if the key has none yet, i.e. when the counter is created,
+     * so that hot counters do not extend their time to live on every hit, in one atomic server-side step (a cached Lua script).
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to add.
+     * @param timeout  The expiration timeout, applied when the key has no expiration.
+     * @param unit     The time unit of the timeout.
+     * @return a Mono emitting the value after the increment, or -1 if the arguments are invalid.
+     */
+    Mono<Long> increaseKeyByExNx(RedisReactiveCommands<String, Object> commands, String key, long value, long timeout, TimeUnit unit);
+
+    /**
+     * Increments a counter by the specified amount and sets its expiration reactively only if the key has none yet, with an optional callback for handling exceptions.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to add.
+     * @param timeout  The expiration timeout, applied when the key has no expiration.
+     * @param unit     The time unit of the timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a Mono emitting the value after the increment, or -1 if an exception occurs.
+     */
+    Mono<Long> increaseKeyByExNx(RedisReactiveCommands<String, Object> commands, String key, long value, long timeout, TimeUnit unit, Redis4jWrapCallback callback);
+
+    /**
+     * Decrements a counter by the specified amount and sets its expiration reactively only if the key has none yet, i.e. when the counter is created,
+     * so that hot counters do not extend their time to live on every hit, in one atomic server-side step (a cached Lua script).
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to subtract.
+     * @param timeout  The expiration timeout, applied when the key has no expiration.
+     * @param unit     The time unit of the timeout.
+     * @return a Mono emitting the value after the decrement, or -1 if the arguments are invalid.
+     */
+    Mono<Long> decreaseKeyByExNx(RedisReactiveCommands<String, Object> commands, String key, long value, long timeout, TimeUnit unit);
+
+    /**
+     * Decrements a counter by the specified amount and sets its expiration reactively only if the key has none yet, with an optional callback for handling exceptions.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to subtract.
+     * @param timeout  The expiration timeout, applied when the key has no expiration.
+     * @param unit     The time unit of the timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a Mono emitting the value after the decrement, or -1 if an exception occurs.
+     */
+    Mono<Long> decreaseKeyByExNx(RedisReactiveCommands<String, Object> commands, String key, long value, long timeout, TimeUnit unit, Redis4jWrapCallback callback);
+}
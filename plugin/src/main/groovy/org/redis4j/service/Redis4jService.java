@@ -1,15 +1,19 @@
 package org.redis4j.service;
 
+import org.redis4j.model.Redis4jKey;
+import org.springframework.data.redis.connection.DataType;
 import org.springframework.data.redis.core.BoundSetOperations;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.listener.ChannelTopic;
 import org.unify4j.model.c.Pair;
 
+import java.lang.reflect.Type;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 public interface Redis4jService {
 
@@ -33,6 +37,31 @@ public interface Redis4jService {
      */
     Collection<String> keys(RedisTemplate<String, Object> dispatch, String pattern, Redis4jWrapCallback callback);
 
+    /**
+     * Iterates lazily over the keys matching the specified pattern using the cursor-based SCAN command,
+     * so that the Redis server is never blocked by a full KEYS traversal.
+     * The returned stream holds a server cursor and must be closed, e.g. using try-with-resources.
+     *
+     * @param dispatch the Redis template, an instance of {@link RedisTemplate}
+     * @param pattern  the glob-style pattern used to match keys, "*" when empty
+     * @param count    the COUNT hint, i.e. the number of keys fetched per page; the server default when not positive
+     * @return a lazy stream of keys matching the specified pattern, or an empty stream if the dispatch is null
+     */
+    Stream<String> scan(RedisTemplate<String, Object> dispatch, String pattern, long count);
+
+    /**
+     * Iterates lazily over the keys matching the specified pattern and data type using the cursor-based SCAN command,
+     * so that the Redis server is never blocked by a full KEYS traversal.
+     * The returned stream holds a server cursor and must be closed, e.g. using try-with-resources.
+     *
+     * @param dispatch the Redis template, an instance of {@link RedisTemplate}
+     * @param pattern  the glob-style pattern used to match keys, "*" when empty
+     * @param count    the COUNT hint, i.e. the number of keys fetched per page; the server default when not positive
+     * @param type     the optional TYPE filter, an instance of {@link DataType}; ignored when null
+     * @return a lazy stream of keys matching the specified pattern and type, or an empty stream if the dispatch is null
+     */
+    Stream<String> scan(RedisTemplate<String, Object> dispatch, String pattern, long count, DataType type);
+
     /**
      * Sets a cache object in Redis using the given RedisTemplate.
      * If the dispatch template or value is null, or if the key is empty or blank, the method returns without performing any operation.
@@ -137,6 +166,58 @@ public interface Redis4jService {
      */
     <T> T getCacheObject(RedisTemplate<String, Object> dispatch, String key, Redis4jWrapCallback callback);
 
+    /**
+     * Retrieves a cache object from Redis as a given type, decoding the stored bytes straight into the type
+     * instead of reading a map tree and converting it again.
+     * If the dispatch template is null, or if the key is empty or blank, the method returns null.
+     *
+     * @param dispatch The RedisTemplate used to retrieve the cache object.
+     * @param key      The key of the cache object to retrieve.
+     * @param type     The type to read the value as.
+     * @param <T>      The type of the value being retrieved.
+     * @return The cached object associated with the given key, or null if the dispatch template is null or the key is empty/blank.
+     */
+    <T> T getCacheObject(RedisTemplate<String, Object> dispatch, String key, Class<T> type);
+
+    /**
+     * Retrieves a cache object from Redis as a given type, with an optional callback for handling exceptions.
+     * If the dispatch template is null, or if the key is empty or blank, the method returns null.
+     *
+     * @param dispatch The RedisTemplate used to retrieve the cache object.
+     * @param key      The key of the cache object to retrieve.
+     * @param type     The type to read the value as.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the value being retrieved.
+     * @return The cached object associated with the given key, or null if the dispatch template is null or the key is empty/blank.
+     */
+    <T> T getCacheObject(RedisTemplate<String, Object> dispatch, String key, Class<T> type, Redis4jWrapCallback callback);
+
+    /**
+     * Retrieves a cache object from Redis as a generic type, e.g. a container class bound to the class of its content,
+     * decoding the stored bytes straight into the type.
+     * If the dispatch template is null, or if the key is empty or blank, the method returns null.
+     *
+     * @param dispatch The RedisTemplate used to retrieve the cache object.
+     * @param key      The key of the cache object to retrieve.
+     * @param type     The type to read the value as.
+     * @param <T>      The type of the value being retrieved.
+     * @return The cached object associated with the given key, or null if the dispatch template is null or the key is empty/blank.
+     */
+    <T> T getCacheObject(RedisTemplate<String, Object> dispatch, String key, Type type);
+
+    /**
+     * Retrieves a cache object from Redis as a generic type, with an optional callback for handling exceptions.
+     * If the dispatch template is null, or if the key is empty or blank, the method returns null.
+     *
+     * @param dispatch The RedisTemplate used to retrieve the cache object.
+     * @param key      The key of the cache object to retrieve.
+     * @param type     The type to read the value as.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the value being retrieved.
+     * @return The cached object associated with the given key, or null if the dispatch template is null or the key is empty/blank.
+     */
+    <T> T getCacheObject(RedisTemplate<String, Object> dispatch, String key, Type type, Redis4jWrapCallback callback);
+
     /**
      * Removes a cache object from Redis using the given RedisTemplate.
      * If the dispatch template is null, or if the key is empty or blank, the method returns false.
@@ -209,8 +290,34 @@ public interface Redis4jService {
      */
     <T> List<T> getCacheList(RedisTemplate<String, Object> dispatch, String key, Redis4jWrapCallback callback);
 
+    /**
+     * Retrieves a list of objects from Redis as a given element type, decoding each stored element straight into the type.
+     * If the dispatch template is null, or if the key is empty or blank, the method returns an empty list.
+     *
+     * @param dispatch The RedisTemplate used to retrieve the list.
+     * @param key      The key under which the list is stored.
+     * @param type     The type to read the elements as.
+     * @param <T>      The type of objects in the list.
+     * @return The list of objects stored under the given key; an empty list if the operation failed or the inputs were invalid.
+     */
+    <T> List<T> getCacheList(RedisTemplate<String, Object> dispatch, String key, Class<T> type);
+
+    /**
+     * Retrieves a list of objects from Redis as a given element type, with an optional callback for handling exceptions.
+     * If the dispatch template is null, or if the key is empty or blank, the method returns an empty list.
+     *
+     * @param dispatch The RedisTemplate used to retrieve the list.
+     * @param key      The key under which the list is stored.
+     * @param type     The type to read the elements as.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of objects in the list.
+     * @return The list of objects stored under the given key; an empty list if the operation failed or the inputs were invalid.
+     */
+    <T> List<T> getCacheList(RedisTemplate<String, Object> dispatch, String key, Class<T> type, Redis4jWrapCallback callback);
+
     /**
      * Stores a set of objects in Redis using the given RedisTemplate and returns the BoundSetOperations for further operations.
+     * Members are added with variadic SADD commands in bounded chunks, pipelined when more than one chunk is needed.
      * If the dispatch template is null, the dataSet is empty, or the key is empty or blank, the method returns null.
      *
      * @param dispatch The RedisTemplate used to store the set.
@@ -235,6 +342,41 @@ public interface Redis4jService {
      */
     <T> BoundSetOperations<String, T> setCacheSet(RedisTemplate<String, Object> dispatch, String key, Set<T> dataSet, Redis4jWrapCallback callback);
 
+    /**
+     * Replaces a set of objects in Redis with an expiration timeout using the given RedisTemplate.
+     * The previous members are dropped and the new ones are added with variadic SADD commands in bounded chunks,
+     * all inside one MULTI/EXEC transaction sent as a single pipeline, so that replacing the set is one network exchange.
+     * If the dispatch template or time unit is null, the dataSet is null or empty, the timeout is under one millisecond,
+     * or the key is empty or blank, the method returns null.
+     *
+     * @param dispatch The RedisTemplate used to store the set.
+     * @param key      The key under which the set is stored.
+     * @param dataSet  The set of data to be stored.
+     * @param timeout  The expiration timeout for the set.
+     * @param unit     The time unit for the expiration timeout.
+     * @param <T>      The type of objects in the set.
+     * @return The BoundSetOperations for the given key and set, or null if the operation failed or the inputs were invalid.
+     */
+    <T> BoundSetOperations<String, T> setCacheSet(RedisTemplate<String, Object> dispatch, String key, Set<T> dataSet, long timeout, TimeUnit unit);
+
+    /**
+     * Replaces a set of objects in Redis with an expiration timeout using the given RedisTemplate, with an optional callback
+     * for handling exceptions. The previous members are dropped and the new ones are added with variadic SADD commands
+     * in bounded chunks, all inside one MULTI/EXEC transaction sent as a single pipeline.
+     * If the dispatch template or time unit is null, the dataSet is null or empty, the timeout is under one millisecond,
+     * or the key is empty or blank, the method returns null.
+     *
+     * @param dispatch The RedisTemplate used to store the set.
+     * @param key      The key under which the set is stored.
+     * @param dataSet  The set of data to be stored.
+     * @param timeout  The expiration timeout for the set.
+     * @param unit     The time unit for the expiration timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of objects in the set.
+     * @return The BoundSetOperations for the given key and set, or null if the operation failed or the inputs were invalid.
+     */
+    <T> BoundSetOperations<String, T> setCacheSet(RedisTemplate<String, Object> dispatch, String key, Set<T> dataSet, long timeout, TimeUnit unit, Redis4jWrapCallback callback);
+
     /**
      * Retrieves a set of objects from Redis using the given RedisTemplate and key.
      * If the dispatch template is null or the key is empty or blank, the method returns an empty set.
@@ -334,6 +476,31 @@ public interface Redis4jService {
      */
     Map<Object, Object> getCacheMap(RedisTemplate<String, Object> dispatch, String key, Redis4jWrapCallback callback);
 
+    /**
+     * Retrieves a map from Redis as a given value type, decoding each stored hash value straight into the type.
+     * If the dispatch template is null or the key is empty or blank, the method returns an empty map.
+     *
+     * @param dispatch The RedisTemplate used to retrieve the map.
+     * @param key      The key under which the map is stored.
+     * @param type     The type to read the hash values as.
+     * @param <V>      The type of the hash values.
+     * @return A map of the hash keys to their values, or an empty map if the dispatch template or key is invalid.
+     */
+    <V> Map<String, V> getCacheMap(RedisTemplate<String, Object> dispatch, String key, Class<V> type);
+
+    /**
+     * Retrieves a map from Redis as a given value type, with an optional callback for handling exceptions.
+     * If the dispatch template is null or the key is empty or blank, the method returns an empty map.
+     *
+     * @param dispatch The RedisTemplate used to retrieve the map.
+     * @param key      The key under which the map is stored.
+     * @param type     The type to read the hash values as.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <V>      The type of the hash values.
+     * @return A map of the hash keys to their values, or an empty map if the dispatch template or key is invalid.
+     */
+    <V> Map<String, V> getCacheMap(RedisTemplate<String, Object> dispatch, String key, Class<V> type, Redis4jWrapCallback callback);
+
     /**
      * Sets a value in a Redis hash using the given RedisTemplate, key, and hash key.
      * If the dispatch template is null, the value is null, or the key or hash key is empty or blank,
@@ -457,6 +624,30 @@ public interface Redis4jService {
      */
     boolean containsKey(RedisTemplate<String, Object> dispatch, String key, Redis4jWrapCallback callback);
 
+    /**
+     * Checks the existence of several keys in a single pipelined round-trip using the given RedisTemplate.
+     * Empty or blank keys are skipped, and whitespace is trimmed from each key before checking.
+     *
+     * @param dispatch The RedisTemplate used to check the existence of the keys.
+     * @param keys     The keys to check for existence in the Redis store.
+     * @return A map (in iteration order of the given keys) from each key to true if it exists, false otherwise;
+     * an empty map if the dispatch template is null or no key is given.
+     */
+    Map<String, Boolean> existsMany(RedisTemplate<String, Object> dispatch, Collection<String> keys);
+
+    /**
+     * Checks the existence of several keys in a single pipelined round-trip using the given RedisTemplate,
+     * with an optional callback for handling exceptions.
+     * Empty or blank keys are skipped, and whitespace is trimmed from each key before checking.
+     *
+     * @param dispatch The RedisTemplate used to check the existence of the keys.
+     * @param keys     The keys to check for existence in the Redis store.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return A map (in iteration order of the given keys) from each key to true if it exists, false otherwise;
+     * an empty map if an exception occurs.
+     */
+    Map<String, Boolean> existsMany(RedisTemplate<String, Object> dispatch, Collection<String> keys, Redis4jWrapCallback callback);
+
     /**
      * Publishes data to a specified Redis topic using the given RedisTemplate.
      * If the dispatch template, topic, or data is null, the method returns without performing any action.
@@ -589,8 +780,8 @@ public interface Redis4jService {
 
     /**
      * Increases the value of a numeric key in Redis and sets an expiration time for the key.
-     * If the dispatch template, key, timeout, or time unit is invalid (null, empty, negative), returns -1 indicating failure.
-     * Uses the {@link #increaseKey} method to increment the key's value and then sets an expiration using the provided timeout and unit.
+     * If the dispatch template, key, timeout, or time unit is invalid (null, empty, negative, or a timeout under one millisecond), returns -1 indicating failure.
+     * Increments the key's value and sets the expiration in one atomic server-side step (a cached Lua script).
      *
      * @param dispatch The RedisTemplate used to execute the operation.
      * @param key      The key whose value is to be incremented and set with expiration.
@@ -602,8 +793,8 @@ public interface Redis4jService {
 
     /**
      * Increases the value of a numeric key in Redis and sets an expiration time for the key, with an optional callback for handling exceptions.
-     * If the dispatch template, key, timeout, or time unit is invalid (null, empty, negative), returns -1 indicating failure.
-     * Uses the {@link #increaseKey} method to increment the key's value and then sets an expiration using the provided timeout and unit.
+     * If the dispatch template, key, timeout, or time unit is invalid (null, empty, negative, or a timeout under one millisecond), returns -1 indicating failure.
+     * Increments the key's value and sets the expiration in one atomic server-side step (a cached Lua script).
      * Logs any exceptions that occur during the operation.
      *
      * @param dispatch The RedisTemplate used to execute the operation.
@@ -617,8 +808,8 @@ public interface Redis4jService {
 
     /**
      * Decreases the value of a numeric key in Redis and sets an expiration time for the key.
-     * If the dispatch template, key, timeout, or time unit is invalid (null, empty, negative), returns -1 indicating failure.
-     * Uses the {@link #decreaseKey} method to decrement the key's value and then sets an expiration using the provided timeout and unit.
+     * If the dispatch template, key, timeout, or time unit is invalid (null, empty, negative, or a timeout under one millisecond), returns -1 indicating failure.
+     * Decrements the key's value and sets the expiration in one atomic server-side step (a cached Lua script).
      *
      * @param dispatch The RedisTemplate used to execute the operation.
      * @param key      The key whose value is to be decremented and set with expiration.
@@ -630,8 +821,8 @@ public interface Redis4jService {
 
     /**
      * Decreases the value of a numeric key in Redis and sets an expiration time for the key, with an optional callback for handling exceptions.
-     * If the dispatch template, key, timeout, or time unit is invalid (null, empty, negative), returns -1 indicating failure.
-     * Uses the {@link #decreaseKey} method to decrement the key's value and then sets an expiration using the provided timeout and unit.
+     * If the dispatch template, key, timeout, or time unit is invalid (null, empty, negative, or a timeout under one millisecond), returns -1 indicating failure.
+     * Decrements the key's value and sets the expiration in one atomic server-side step (a cached Lua script).
      * Logs any exceptions that occur during the operation.
      *
      * @param dispatch The RedisTemplate used to execute the operation.
@@ -645,8 +836,8 @@ public interface Redis4jService {
 
     /**
      * Increases the value of a numeric key in Redis by a specified increment and sets an expiration time for the key.
-     * If the dispatch template, key, timeout, unit, or value is invalid (null, empty, negative), returns -1 indicating failure.
-     * Uses the {@link #increaseKeyBy} method to increment the key's value by the specified amount and then sets an expiration using the provided timeout and unit.
+     * If the dispatch template, key, timeout, unit, or value is invalid (null, empty, negative, or a timeout under one millisecond), returns -1 indicating failure.
+     * Increments the key's value by the specified amount and sets the expiration in one atomic server-side step (a cached Lua script).
      *
      * @param dispatch The RedisTemplate used to execute the operation.
      * @param key      The key whose value is to be incremented and set with expiration.
@@ -659,8 +850,8 @@ public interface Redis4jService {
 
     /**
      * Increases the value of a numeric key in Redis by a specified increment and sets an expiration time for the key, with an optional callback for handling exceptions.
-     * If the dispatch template, key, timeout, unit, or value is invalid (null, empty, negative), returns -1 indicating failure.
-     * Uses the {@link #increaseKeyBy} method to increment the key's value by the specified amount and then sets an expiration using the provided timeout and unit.
+     * If the dispatch template, key, timeout, unit, or value is invalid (null, empty, negative, or a timeout under one millisecond), returns -1 indicating failure.
+     * Increments the key's value by the specified amount and sets the expiration in one atomic server-side step (a cached Lua script).
      * Logs any exceptions that occur during the operation.
      *
      * @param dispatch The RedisTemplate used to execute the operation.
@@ -675,8 +866,8 @@ public interface Redis4jService {
 
     /**
      * Decreases the value of a numeric key in Redis by a specified decrement and sets an expiration time for the key.
-     * If the dispatch template, key, timeout, unit, or value is invalid (null, empty, negative), returns -1 indicating failure.
-     * Uses the {@link #decreaseKeyBy} method to decrement the key's value by the specified amount and then sets an expiration using the provided timeout and unit.
+     * If the dispatch template, key, timeout, unit, or value is invalid (null, empty, negative, or a timeout under one millisecond), returns -1 indicating failure.
+     * Decrements the key's value by the specified amount and sets the expiration in one atomic server-side step (a cached Lua script).
      *
      * @param dispatch The RedisTemplate used to execute the operation.
      * @param key      The key whose value is to be decremented and set with expiration.
@@ -689,8 +880,8 @@ public interface Redis4jService {
 
     /**
      * Decreases the value of a numeric key in Redis by a specified decrement and sets an expiration time for the key, with an optional callback for handling exceptions.
-     * If the dispatch template, key, timeout, unit, or value is invalid (null, empty, negative), returns -1 indicating failure.
-     * Uses the {@link #decreaseKeyBy} method to decrement the key's value by the specified amount and then sets an expiration using the provided timeout and unit.
+     * If the dispatch template, key, timeout, unit, or value is invalid (null, empty, negative, or a timeout under one millisecond), returns -1 indicating failure.
+     * Decrements the key's value by the specified amount and sets the expiration in one atomic server-side step (a cached Lua script).
      * Logs any exceptions that occur during the operation.
      *
      * @param dispatch The RedisTemplate used to execute the operation.
@@ -702,4 +893,335 @@ public interface Redis4jService {
      * @return The decremented value of the key, or -1 if an error occurs.
      */
     long decreaseKeyByEx(RedisTemplate<String, Object> dispatch, String key, long value, long timeout, TimeUnit unit, Redis4jWrapCallback callback);
+
+    /**
+     * Increases the value of a numeric key in Redis and sets an expiration time only if the key has none yet,
+     * i.e. when the counter is created, so that hot counters do not extend their time to live on every hit.
+     * The increment and the conditional expiration run in one atomic server-side step (a cached Lua script).
+     * If the key, timeout or time unit is invalid (null, empty, negative, or a timeout under one millisecond), returns -1 indicating failure.
+     *
+     * @param dispatch The RedisTemplate used to execute the operation.
+     * @param key      The key whose value is to be incremented.
+     * @param timeout  The duration after which the key should expire, applied when the key has no expiration.
+     * @param unit     The time unit of the expiration timeout.
+     * @return The incremented value of the key, or -1 if an error occurs.
+     */
+    long increaseKeyExNx(RedisTemplate<String, Object> dispatch, String key, long timeout, TimeUnit unit);
+
+    /**
+     * Increases the value of a numeric key in Redis and sets an expiration time only if the key has none yet, with an optional callback for handling exceptions.
+     * i.e. when the counter is created, so that hot counters do not extend their time to live on every hit.
+     * The increment and the conditional expiration run in one atomic server-side step (a cached Lua script).
+     * If the key, timeout or time unit is invalid (null, empty, negative, or a timeout under one millisecond), returns -1 indicating failure.
+     *
+     * @param dispatch The RedisTemplate used to execute the operation.
+     * @param key      The key whose value is to be incremented.
+     * @param timeout  The duration after which the key should expire, applied when the key has no expiration.
+     * @param unit     The time unit of the expiration timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return The incremented value of the key, or -1 if an error occurs.
+     */
+    long increaseKeyExNx(RedisTemplate<String, Object> dispatch, String key, long timeout, TimeUnit unit, Redis4jWrapCallback callback);
+
+    /**
+     * Decreases the value of a numeric key in Redis and sets an expiration time only if the key has none yet,
+     * i.e. when the counter is created, so that hot counters do not extend their time to live on every hit.
+     * The decrement and the conditional expiration run in one atomic server-side step (a cached Lua script).
+     * If the key, timeout or time unit is invalid (null, empty, negative, or a timeout under one millisecond), returns -1 indicating failure.
+     *
+     * @param dispatch The RedisTemplate used to execute the operation.
+     * @param key      The key whose value is to be decremented.
+     * @param timeout  The duration after which the key should expire, applied when the key has no expiration.
+     * @param unit     The time unit of the expiration timeout.
+     * @return The decremented value of the key, or -1 if an error occurs.
+     */
+    long decreaseKeyExNx(RedisTemplate<String, Object> dispatch, String key, long timeout, TimeUnit unit);
+
+    /**
+     * Decreases the value of a numeric key in Redis and sets an expiration time only if the key has none yet, with an optional callback for handling exceptions.
+     * i.e. when the counter is created, so that hot counters do not extend their time to live on every hit.
+     * The decrement and the conditional expiration run in one atomic server-side step (a cached Lua script).
+     * If the key, timeout or time unit is invalid (null, empty, negative, or a timeout under one millisecond), returns -1 indicating failure.
+     *
+     * @param dispatch The RedisTemplate used to execute the operation.
+     * @param key      The key whose value is to be decremented.
+     * @param timeout  The duration after which the key should expire, applied when the key has no expiration.
+     * @param unit     The time unit of the expiration timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return The decremented value of the key, or -1 if an error occurs.
+     */
+    long decreaseKeyExNx(RedisTemplate<String, Object> dispatch, String key, long timeout, TimeUnit unit, Redis4jWrapCallback callback);
+
+    /**
+     * Increases the value of a numeric key in Redis by a specified amount and sets an expiration time only if the key has none yet,
+     * i.e. when the counter is created, so that hot counters do not extend their time to live on every hit.
+     * The increment and the conditional expiration run in one atomic server-side step (a cached Lua script).
+     * If the key, timeout, value or time unit is invalid (null, empty, negative, or a timeout under one millisecond), returns -1 indicating failure.
+     *
+     * @param dispatch The RedisTemplate used to execute the operation.
+     * @param key      The key whose value is to be incremented.
+     * @param value    The amount by which to increment the key's value.
+     * @param timeout  The duration after which the key should expire, applied when the key has no expiration.
+     * @param unit     The time unit of the expiration timeout.
+     * @return The incremented value of the key, or -1 if an error occurs.
+     */
+    long increaseKeyByExNx(RedisTemplate<String, Object> dispatch, String key, long value, long timeout, TimeUnit unit);
+
+    /**
+     * Increases the value of a numeric key in Redis by a specified amount and sets an expiration time only if the key has none yet, with an optional callback for handling exceptions.
+     * i.e. when the counter is created, so that hot counters do not extend their time to live on every hit.
+     * The increment and the conditional expiration run in one atomic server-side step (a cached Lua script).
+     * If the key, timeout, value or time unit is invalid (null, empty, negative, or a timeout under one millisecond), returns -1 indicating failure.
+     *
+     * @param dispatch The RedisTemplate used to execute the operation.
+     * @param key      The key whose value is to be incremented.
+     * @param value    The amount by which to increment the key's value.
+     * @param timeout  The duration after which the key should expire, applied when the key has no expiration.
+     * @param unit     The time unit of the expiration timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return The incremented value of the key, or -1 if an error occurs.
+     */
+    long increaseKeyByExNx(RedisTemplate<String, Object> dispatch, String key, long value, long timeout, TimeUnit unit, Redis4jWrapCallback callback);
+
+    /**
+     * Decreases the value of a numeric key in Redis by a specified amount and sets an expiration time only if the key has none yet,
+     * i.e. when the counter is created, so that hot counters do not extend their time to live on every hit.
+     * The decrement and the conditional expiration run in one atomic server-side step (a cached Lua script).
+     * If the key, timeout, value or time unit is invalid (null, empty, negative, or a timeout under one millisecond), returns -1 indicating failure.
+     *
+     * @param dispatch The RedisTemplate used to execute the operation.
+     * @param key      The key whose value is to be decremented.
+     * @param value    The amount by which to decrement the key's value.
+     * @param timeout  The duration after which the key should expire, applied when the key has no expiration.
+     * @param unit     The time unit of the expiration timeout.
+     * @return The decremented value of the key, or -1 if an error occurs.
+     */
+    long decreaseKeyByExNx(RedisTemplate<String, Object> dispatch, String key, long value, long timeout, TimeUnit unit);
+
+    /**
+     * Decreases the value of a numeric key in Redis by a specified amount and sets an expiration time only if the key has none yet, with an optional callback for handling exceptions.
+     * i.e. when the counter is created, so that hot counters do not extend their time to live on every hit.
+     * The decrement and the conditional expiration run in one atomic server-side step (a cached Lua script).
+     * If the key, timeout, value or time unit is invalid (null, empty, negative, or a timeout under one millisecond), returns -1 indicating failure.
+     *
+     * @param dispatch The RedisTemplate used to execute the operation.
+     * @param key      The key whose value is to be decremented.
+     * @param value    The amount by which to decrement the key's value.
+     * @param timeout  The duration after which the key should expire, applied when the key has no expiration.
+     * @param unit     The time unit of the expiration timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return The decremented value of the key, or -1 if an error occurs.
+     */
+    long decreaseKeyByExNx(RedisTemplate<String, Object> dispatch, String key, long value, long timeout, TimeUnit unit, Redis4jWrapCallback callback);
+
+    /**
+     * Sets a cache object in Redis under a pre-encoded key, whose bytes are sent as they are.
+     * If the dispatch template, key, or value is null, the method returns without performing any operation.
+     *
+     * @param dispatch The RedisTemplate used to execute the operation.
+     * @param key      The pre-encoded key under which the object is stored.
+     * @param value    The value to be stored.
+     * @param <T>      The type of the value being stored.
+     */
+    <T> void setCacheObject(RedisTemplate<String, Object> dispatch, Redis4jKey key, T value);
+
+    /**
+     * Sets a cache object in Redis under a pre-encoded key, whose bytes are sent as they are, with an optional callback for handling exceptions.
+     * If the dispatch template, key, or value is null, the method returns without performing any operation.
+     *
+     * @param dispatch The RedisTemplate used to execute the operation.
+     * @param key      The pre-encoded key under which the object is stored.
+     * @param value    The value to be stored.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the value being stored.
+     */
+    <T> void setCacheObject(RedisTemplate<String, Object> dispatch, Redis4jKey key, T value, Redis4jWrapCallback callback);
+
+    /**
+     * Sets a cache object in Redis with an expiration timeout under a pre-encoded key, whose bytes are sent as they are.
+     * If the dispatch template, key, value, or time unit is null, or if the timeout is negative, the method returns without performing any operation.
+     *
+     * @param dispatch The RedisTemplate used to execute the operation.
+     * @param key      The pre-encoded key under which the object is stored.
+     * @param value    The value to be stored.
+     * @param timeout  The expiration timeout for the cache object.
+     * @param unit     The time unit for the expiration timeout.
+     * @param <T>      The type of the value being stored.
+     */
+    <T> void setCacheObject(RedisTemplate<String, Object> dispatch, Redis4jKey key, T value, long timeout, TimeUnit unit);
+
+    /**
+     * Sets a cache object in Redis with an expiration timeout under a pre-encoded key, whose bytes are sent as they are, with an optional callback for handling exceptions.
+     * If the dispatch template, key, value, or time unit is null, or if the timeout is negative, the method returns without performing any operation.
+     *
+     * @param dispatch The RedisTemplate used to execute the operation.
+     * @param key      The pre-encoded key under which the object is stored.
+     * @param value    The value to be stored.
+     * @param timeout  The expiration timeout for the cache object.
+     * @param unit     The time unit for the expiration timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the value being stored.
+     */
+    <T> void setCacheObject(RedisTemplate<String, Object> dispatch, Redis4jKey key, T value, long timeout, TimeUnit unit, Redis4jWrapCallback callback);
+
+    /**
+     * Retrieves a cache object from Redis under a pre-encoded key, whose bytes are sent as they are.
+     * If the dispatch template or the key is null, the method returns null.
+     *
+     * @param dispatch The RedisTemplate used to execute the operation.
+     * @param key      The pre-encoded key of the cache object to retrieve.
+     * @param <T>      The type of the value being retrieved.
+     * @return The cached object associated with the given key, or null if the dispatch template or the key is null.
+     */
+    <T> T getCacheObject(RedisTemplate<String, Object> dispatch, Redis4jKey key);
+
+    /**
+     * Retrieves a cache object from Redis under a pre-encoded key, whose bytes are sent as they are, with an optional callback for handling exceptions.
+     * If the dispatch template or the key is null, the method returns null.
+     *
+     * @param dispatch The RedisTemplate used to execute the operation.
+     * @param key      The pre-encoded key of the cache object to retrieve.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the value being retrieved.
+     * @return The cached object associated with the given key, or null if the dispatch template or the key is null.
+     */
+    <T> T getCacheObject(RedisTemplate<String, Object> dispatch, Redis4jKey key, Redis4jWrapCallback callback);
+
+    /**
+     * Retrieves a cache object from Redis as a given type under a pre-encoded key, decoding the stored bytes straight into the type.
+     * If the dispatch template, the key or the type is null, the method returns null.
+     *
+     * @param dispatch The RedisTemplate used to execute the operation.
+     * @param key      The pre-encoded key of the cache object to retrieve.
+     * @param type     The type to read the value as.
+     * @param <T>      The type of the value being retrieved.
+     * @return The cached object associated with the given key, or null if the dispatch template or the key is null.
+     */
+    <T> T getCacheObject(RedisTemplate<String, Object> dispatch, Redis4jKey key, Class<T> type);
+
+    /**
+     * Retrieves a cache object from Redis as a given type under a pre-encoded key, decoding the stored bytes straight into the type, with an optional callback for handling exceptions.
+     * If the dispatch template, the key or the type is null, the method returns null.
+     *
+     * @param dispatch The RedisTemplate used to execute the operation.
+     * @param key      The pre-encoded key of the cache object to retrieve.
+     * @param type     The type to read the value as.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the value being retrieved.
+     * @return The cached object associated with the given key, or null if the dispatch template or the key is null.
+     */
+    <T> T getCacheObject(RedisTemplate<String, Object> dispatch, Redis4jKey key, Class<T> type, Redis4jWrapCallback callback);
+
+    /**
+     * Removes a cache object from Redis under a pre-encoded key, whose bytes are sent as they are.
+     * If the dispatch template or the key is null, the method returns false.
+     *
+     * @param dispatch The RedisTemplate used to execute the operation.
+     * @param key      The pre-encoded key of the cache object to remove.
+     * @return true if the cache object was successfully removed; false otherwise.
+     */
+    boolean removeObject(RedisTemplate<String, Object> dispatch, Redis4jKey key);
+
+    /**
+     * Removes a cache object from Redis under a pre-encoded key, whose bytes are sent as they are, with an optional callback for handling exceptions.
+     * If the dispatch template or the key is null, the method returns false.
+     *
+     * @param dispatch The RedisTemplate used to execute the operation.
+     * @param key      The pre-encoded key of the cache object to remove.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return true if the cache object was successfully removed; false otherwise.
+     */
+    boolean removeObject(RedisTemplate<String, Object> dispatch, Redis4jKey key, Redis4jWrapCallback callback);
+
+    /**
+     * Checks if a pre-encoded key exists in the Redis store, its bytes being sent as they are.
+     * If the dispatch template or the key is null, the method returns false.
+     *
+     * @param dispatch The RedisTemplate used to execute the operation.
+     * @param key      The pre-encoded key to check for existence.
+     * @return true if the key exists in the Redis store; false otherwise.
+     */
+    boolean containsKey(RedisTemplate<String, Object> dispatch, Redis4jKey key);
+
+    /**
+     * Checks if a pre-encoded key exists in the Redis store, its bytes being sent as they are, with an optional callback for handling exceptions.
+     * If the dispatch template or the key is null, the method returns false.
+     *
+     * @param dispatch The RedisTemplate used to execute the operation.
+     * @param key      The pre-encoded key to check for existence.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return true if the key exists in the Redis store; false otherwise.
+     */
+    boolean containsKey(RedisTemplate<String, Object> dispatch, Redis4jKey key, Redis4jWrapCallback callback);
+
+    /**
+     * Sets an expiration timeout on a cache object in Redis under a pre-encoded key, whose bytes are sent as they are.
+     * If the dispatch template, key, or time unit is null, or if the timeout is negative, the method returns false.
+     *
+     * @param dispatch The RedisTemplate used to execute the operation.
+     * @param key      The pre-encoded key of the cache object on which the timeout should be set.
+     * @param timeout  The expiration timeout for the cache object.
+     * @param unit     The time unit for the expiration timeout.
+     * @return true if the expiration timeout was successfully set; false otherwise.
+     */
+    boolean expire(RedisTemplate<String, Object> dispatch, Redis4jKey key, long timeout, TimeUnit unit);
+
+    /**
+     * Sets an expiration timeout on a cache object in Redis under a pre-encoded key, whose bytes are sent as they are, with an optional callback for handling exceptions.
+     * If the dispatch template, key, or time unit is null, or if the timeout is negative, the method returns false.
+     *
+     * @param dispatch The RedisTemplate used to execute the operation.
+     * @param key      The pre-encoded key of the cache object on which the timeout should be set.
+     * @param timeout  The expiration timeout for the cache object.
+     * @param unit     The time unit for the expiration timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return true if the expiration timeout was successfully set; false otherwise.
+     */
+    boolean expire(RedisTemplate<String, Object> dispatch, Redis4jKey key, long timeout, TimeUnit unit, Redis4jWrapCallback callback);
+
+    /**
+     * Increases the value of a numeric key in Redis by a specified increment, under a pre-encoded key whose bytes are sent as they are.
+     * If the dispatch template or key is null, or the increment is negative, returns -1 indicating failure.
+     *
+     * @param dispatch The RedisTemplate used to execute the operation.
+     * @param key      The pre-encoded key whose value is to be incremented.
+     * @param value    The amount by which to increment the key's value.
+     * @return The incremented value of the key, or -1 if an error occurs.
+     */
+    long increaseKeyBy(RedisTemplate<String, Object> dispatch, Redis4jKey key, long value);
+
+    /**
+     * Increases the value of a numeric key in Redis by a specified increment, under a pre-encoded key whose bytes are sent as they are, with an optional callback for handling exceptions.
+     * If the dispatch template or key is null, or the increment is negative, returns -1 indicating failure.
+     *
+     * @param dispatch The RedisTemplate used to execute the operation.
+     * @param key      The pre-encoded key whose value is to be incremented.
+     * @param value    The amount by which to increment the key's value.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return The incremented value of the key, or -1 if an error occurs.
+     */
+    long increaseKeyBy(RedisTemplate<String, Object> dispatch, Redis4jKey key, long value, Redis4jWrapCallback callback);
+
+    /**
+     * Decreases the value of a numeric key in Redis by a specified decrement, under a pre-encoded key whose bytes are sent as they are.
+     * If the dispatch template or key is null, or the decrement is negative, returns -1 indicating failure.
+     *
+     * @param dispatch The RedisTemplate used to execute the operation.
+     * @param key      The pre-encoded key whose value is to be decremented.
+     * @param value    The amount by which to decrement the key's value.
+     * @return The decremented value of the key, or -1 if an error occurs.
+     */
+    long decreaseKeyBy(RedisTemplate<String, Object> dispatch, Redis4jKey key, long value);
+
+    /**
+     * Decreases the value of a numeric key in Redis by a specified decrement, under a pre-encoded key whose bytes are sent as they are, with an optional callback for handling exceptions.
+     * If the dispatch template or key is null, or the decrement is negative, returns -1 indicating failure.
+     *
+     * @param dispatch The RedisTemplate used to execute the operation.
+     * @param key      The pre-encoded key whose value is to be decremented.
+     * @param value    The amount by which to decrement the key's value.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return The decremented value of the key, or -1 if an error occurs.
+     */
+    long decreaseKeyBy(RedisTemplate<String, Object> dispatch, Redis4jKey key, long value, Redis4jWrapCallback callback);
 }
@@ -0,0 +1,1247 @@
+package org.redis4j.service.impl;
+
+import io.lettuce.core.KeyValue;
+import io.lettuce.core.SetArgs;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.output.ByteArrayOutput;
+import io.lettuce.core.output.IntegerOutput;
+import io.lettuce.core.output.MapOutput;
+import io.lettuce.core.output.ValueListOutput;
+import io.lettuce.core.protocol.CommandArgs;
+import io.lettuce.core.protocol.CommandType;
+import org.redis4j.codec.Redis4jScriptCodec;
+import org.redis4j.codec.Redis4jTypedSerializer;
+import org.redis4j.common.Redis4j;
+import org.redis4j.service.Redis4jAsyncService;
+import org.redis4j.service.Redis4jConfigService;
+import org.redis4j.service.Redis4jWrapCallback;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Service;
+import org.unify4j.common.Collection4j;
+import org.unify4j.common.String4j;
+import org.unify4j.model.builder.HttpStatusBuilder;
+import org.unify4j.model.builder.HttpWrapBuilder;
+import org.unify4j.model.enums.IconType;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+@SuppressWarnings({"unchecked", "DuplicatedCode"})
+@Service
+public class Redis4jAsyncServiceImpl implements Redis4jAsyncService {
+    protected static final Logger logger = LoggerFactory.getLogger(Redis4jAsyncServiceImpl.class);
+    // reads values as the raw bytes of the reply, so that typed reads decode them straight into the requested type
+    protected static final RedisCodec<String, Object> RAW_CODEC = (RedisCodec<String, Object>) (RedisCodec<String, ?>) RedisCodec.of(StringCodec.UTF8, ByteArrayCodec.INSTANCE);
+
+    protected final Redis4jConfigService redis4jConfigService;
+    protected volatile RedisSerializer<Object> serializer;
+
+    @Autowired
+    public Redis4jAsyncServiceImpl(Redis4jConfigService redis4jConfigService) {
+        this.redis4jConfigService = redis4jConfigService;
+    }
+
+    /**
+     * Sets a cache object in Redis asynchronously.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key under which the value should be stored.
+     * @param value    The value to be cached.
+     * @param <T>      The type of the value being cached.
+     * @return a future completed with true if the value was stored, false if the commands or value is null, or the key is empty/blank.
+     */
+    @Override
+    public <T> CompletableFuture<Boolean> setCacheObject(RedisAsyncCommands<String, Object> commands, String key, T value) {
+        if (commands == null || value == null || String4j.isEmpty(key) || String4j.isBlank(key)) {
+            return CompletableFuture.completedFuture(false);
+        }
+        String preKey = String4j.trimWhitespace(key);
+        if (redis4jConfigService.isDebugging()) {
+            logger.info("{} Setting Redis key asynchronously: '{}'", IconType.DEBUG.getCode(), preKey);
+        }
+        return this.submit(() -> commands.set(preKey, value)).thenApply(this::isOk);
+    }
+
+    /**
+     * Sets a cache object in Redis asynchronously, with an optional callback for handling exceptions.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key under which the value should be stored.
+     * @param value    The value to be cached.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the value being cached.
+     * @return a future completed with true if the value was stored; false otherwise or if an exception occurs.
+     */
+    @Override
+    public <T> CompletableFuture<Boolean> setCacheObject(RedisAsyncCommands<String, Object> commands, String key, T value, Redis4jWrapCallback callback) {
+        return this.recover(this.setCacheObject(commands, key, value), false, "setting redis value failed", key, callback);
+    }
+
+    /**
+     * Sets a cache object in Redis asynchronously with an expiration, issued as a single SET PX command.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key under which the value should be stored.
+     * @param value    The value to be cached.
+     * @param timeout  The expiration timeout for the cached value.
+     * @param unit     The time unit of the timeout.
+     * @param <T>      The type of the value being cached.
+     * @return a future completed with true if the value was stored, false if the arguments are invalid.
+     */
+    @Override
+    public <T> CompletableFuture<Boolean> setCacheObject(RedisAsyncCommands<String, Object> commands, String key, T value, long timeout, TimeUnit unit) {
+        if (commands == null || value == null || unit == null || timeout <= 0 || String4j.isEmpty(key) || String4j.isBlank(key)) {
+            return CompletableFuture.completedFuture(false);
+        }
+        String preKey = String4j.trimWhitespace(key);
+        if (redis4jConfigService.isDebugging()) {
+            logger.info("{} Setting Redis key asynchronously: '{}' with timeout: {} ({})", IconType.DEBUG.getCode(), preKey, timeout, unit);
+        }
+        return this.submit(() -> commands.set(preKey, value, SetArgs.Builder.px(unit.toMillis(timeout)))).thenApply(this::isOk);
+    }
+
+    /**
+     * Sets a cache object in Redis asynchronously with an expiration, with an optional callback for handling exceptions.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key under which the value should be stored.
+     * @param value    The value to be cached.
+     * @param timeout  The expiration timeout for the cached value.
+     * @param unit     The time unit of the timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the value being cached.
+     * @return a future completed with true if the value was stored; false otherwise or if an exception occurs.
+     */
+    @Override
+    public <T> CompletableFuture<Boolean> setCacheObject(RedisAsyncCommands<String, Object> commands, String key, T value, long timeout, TimeUnit unit, Redis4jWrapCallback callback) {
+        return this.recover(this.setCacheObject(commands, key, value, timeout, unit), false, "setting redis value with timeout failed", key, callback);
+    }
+
+    /**
+     * Sets an expiration on a key asynchronously.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key to expire.
+     * @param timeout  The expiration timeout.
+     * @param unit     The time unit of the timeout.
+     * @return a future completed with true if the expiration was set, false if the key does not exist or the arguments are invalid.
+     */
+    @Override
+    public CompletableFuture<Boolean> expire(RedisAsyncCommands<String, Object> commands, String key, long timeout, TimeUnit unit) {
+        if (commands == null || unit == null || timeout <= 0 || String4j.isEmpty(key) || String4j.isBlank(key)) {
+            return CompletableFuture.completedFuture(false);
+        }
+        String preKey = String4j.trimWhitespace(key);
+        return this.submit(() -> commands.pexpire(preKey, unit.toMillis(timeout))).thenApply(Boolean.TRUE::equals);
+    }
+
+    /**
+     * Sets an expiration on a key asynchronously, with an optional callback for handling exceptions.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key to expire.
+     * @param timeout  The expiration timeout.
+     * @param unit     The time unit of the timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a future completed with true if the expiration was set; false otherwise or if an exception occurs.
+     */
+    @Override
+    public CompletableFuture<Boolean> expire(RedisAsyncCommands<String, Object> commands, String key, long timeout, TimeUnit unit, Redis4jWrapCallback callback) {
+        return this.recover(this.expire(commands, key, timeout, unit), false, "setting redis expiration failed", key, callback);
+    }
+
+    /**
+     * Retrieves a cache object from Redis asynchronously.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the cache object to retrieve.
+     * @param <T>      The type of the value being retrieved.
+     * @return a future completed with the cached object, or null if the key does not exist or is empty/blank.
+     */
+    @Override
+    public <T> CompletableFuture<T> getCacheObject(RedisAsyncCommands<String, Object> commands, String key) {
+        if (commands == null || String4j.isEmpty(key) || String4j.isBlank(key)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        String preKey = String4j.trimWhitespace(key);
+        if (redis4jConfigService.isDebugging()) {
+            logger.info("{} Getting Redis key asynchronously: '{}'", IconType.DEBUG.getCode(), preKey);
+        }
+        return this.submit(() -> commands.get(preKey)).thenApply(value -> (T) value);
+    }
+
+    /**
+     * Retrieves a cache object from Redis asynchronously, with an optional callback for handling exceptions.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the cache object to retrieve.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the value being retrieved.
+     * @return a future completed with the cached object, or null if the key does not exist or an exception occurs.
+     */
+    @Override
+    public <T> CompletableFuture<T> getCacheObject(RedisAsyncCommands<String, Object> commands, String key, Redis4jWrapCallback callback) {
+        return this.recover(this.getCacheObject(commands, key), null, "getting redis value failed", key, callback);
+    }
+
+    /**
+     * Retrieves a cache object from Redis asynchronously as a given type. The value is read as raw bytes
+     * and decoded straight into the type by the value serializer, instead of reading a map tree and converting it again.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the cache object to retrieve.
+     * @param type     The type to read the value as.
+     * @param <T>      The type of the value being retrieved.
+     * @return a future completed with the cached object, or null if the key does not exist, the type is null or the key is empty/blank.
+     */
+    @Override
+    public <T> CompletableFuture<T> getCacheObject(RedisAsyncCommands<String, Object> commands, String key, Class<T> type) {
+        if (commands == null || type == null || String4j.isEmpty(key) || String4j.isBlank(key)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        String preKey = String4j.trimWhitespace(key);
+        if (redis4jConfigService.isDebugging()) {
+            logger.info("{} Getting Redis key asynchronously: '{}' as {}", IconType.DEBUG.getCode(), preKey, type.getSimpleName());
+        }
+        RedisSerializer<Object> serializer = this.serializer();
+        return this.submit(() -> commands.dispatch(CommandType.GET, new ByteArrayOutput<>(RAW_CODEC), new CommandArgs<>(RAW_CODEC).addKey(preKey)))
+                .thenApply(data -> Redis4jTypedSerializer.read(serializer, data, type));
+    }
+
+    /**
+     * Retrieves a cache object from Redis asynchronously as a given type, with an optional callback for handling exceptions.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the cache object to retrieve.
+     * @param type     The type to read the value as.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the value being retrieved.
+     * @return a future completed with the cached object, or null if the key does not exist or an exception occurs.
+     */
+    @Override
+    public <T> CompletableFuture<T> getCacheObject(RedisAsyncCommands<String, Object> commands, String key, Class<T> type, Redis4jWrapCallback callback) {
+        return this.recover(this.getCacheObject(commands, key, type), null, "getting redis value failed", key, callback);
+    }
+
+    /**
+     * Removes a cache object from Redis asynchronously.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the cache object to remove.
+     * @return a future completed with true if the key was removed; false otherwise.
+     */
+    @Override
+    public CompletableFuture<Boolean> removeObject(RedisAsyncCommands<String, Object> commands, String key) {
+        if (commands == null || String4j.isEmpty(key) || String4j.isBlank(key)) {
+            return CompletableFuture.completedFuture(false);
+        }
+        String preKey = String4j.trimWhitespace(key);
+        return this.submit(() -> commands.del(preKey)).thenApply(count -> count != null && count > 0);
+    }
+
+    /**
+     * Removes a cache object from Redis asynchronously, with an optional callback for handling exceptions.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the cache object to remove.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a future completed with true if the key was removed; false otherwise or if an exception occurs.
+     */
+    @Override
+    public CompletableFuture<Boolean> removeObject(RedisAsyncCommands<String, Object> commands, String key, Redis4jWrapCallback callback) {
+        return this.recover(this.removeObject(commands, key), false, "removing redis key failed", key, callback);
+    }
+
+    /**
+     * Appends the elements of a list to a Redis list asynchronously, using one variadic RPUSH.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the list.
+     * @param list     The elements to append.
+     * @param <T>      The type of the elements.
+     * @return a future completed with the length of the list after the push, or 0 if the list is empty or the key is empty/blank.
+     */
+    @Override
+    public <T> CompletableFuture<Long> setCacheList(RedisAsyncCommands<String, Object> commands, String key, List<T> list) {
+        if (commands == null || Collection4j.isEmpty(list) || String4j.isEmpty(key) || String4j.isBlank(key)) {
+            return CompletableFuture.completedFuture(0L);
+        }
+        String preKey = String4j.trimWhitespace(key);
+        return this.submit(() -> commands.rpush(preKey, list.toArray())).thenApply(this::asLong);
+    }
+
+    /**
+     * Appends the elements of a list to a Redis list asynchronously, with an optional callback for handling exceptions.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the list.
+     * @param list     The elements to append.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the elements.
+     * @return a future completed with the length of the list after the push, or 0 if an exception occurs.
+     */
+    @Override
+    public <T> CompletableFuture<Long> setCacheList(RedisAsyncCommands<String, Object> commands, String key, List<T> list, Redis4jWrapCallback callback) {
+        return this.recover(this.setCacheList(commands, key, list), 0L, "setting redis list failed", key, callback);
+    }
+
+    /**
+     * Retrieves all elements of a Redis list asynchronously.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the list.
+     * @param <T>      The type of the elements.
+     * @return a future completed with the elements, or an empty list if the key does not exist or is empty/blank.
+     */
+    @Override
+    public <T> CompletableFuture<List<T>> getCacheList(RedisAsyncCommands<String, Object> commands, String key) {
+        if (commands == null || String4j.isEmpty(key) || String4j.isBlank(key)) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+        String preKey = String4j.trimWhitespace(key);
+        return this.submit(() -> commands.lrange(preKey, 0, -1)).thenApply(list -> list == null ? Collections.emptyList() : (List<T>) list);
+    }
+
+    /**
+     * Retrieves all elements of a Redis list asynchronously, with an optional callback for handling exceptions.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the list.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the elements.
+     * @return a future completed with the elements, or an empty list if an exception occurs.
+     */
+    @Override
+    public <T> CompletableFuture<List<T>> getCacheList(RedisAsyncCommands<String, Object> commands, String key, Redis4jWrapCallback callback) {
+        return this.recover(this.getCacheList(commands, key), Collections.emptyList(), "getting redis list failed", key, callback);
+    }
+
+    /**
+     * Retrieves all elements of a Redis list asynchronously as a given type, each element being read as raw bytes
+     * and decoded straight into the type by the value serializer.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the list.
+     * @param type     The type to read the elements as.
+     * @param <T>      The type of the elements.
+     * @return a future completed with the elements, or an empty list if the key does not exist, the type is null or the key is empty/blank.
+     */
+    @Override
+    public <T> CompletableFuture<List<T>> getCacheList(RedisAsyncCommands<String, Object> commands, String key, Class<T> type) {
+        if (commands == null || type == null || String4j.isEmpty(key) || String4j.isBlank(key)) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+        String preKey = String4j.trimWhitespace(key);
+        RedisSerializer<Object> serializer = this.serializer();
+        return this.submit(() -> commands.dispatch(CommandType.LRANGE, new ValueListOutput<>(RAW_CODEC), new CommandArgs<>(RAW_CODEC).addKey(preKey).add(0).add(-1)))
+                .thenApply(values -> {
+                    if (values == null) {
+                        return Collections.emptyList();
+                    }
+                    List<T> list = new ArrayList<>(values.size());
+                    for (Object value : values) {
+                        list.add(Redis4jTypedSerializer.read(serializer, (byte[]) value, type));
+                    }
+                    return list;
+                });
+    }
+
+    /**
+     * Retrieves all elements of a Redis list asynchronously as a given type, with an optional callback for handling exceptions.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the list.
+     * @param type     The type to read the elements as.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the elements.
+     * @return a future completed with the elements, or an empty list if an exception occurs.
+     */
+    @Override
+    public <T> CompletableFuture<List<T>> getCacheList(RedisAsyncCommands<String, Object> commands, String key, Class<T> type, Redis4jWrapCallback callback) {
+        return this.recover(this.getCacheList(commands, key, type), Collections.emptyList(), "getting redis list failed", key, callback);
+    }
+
+    /**
+     * Adds the members of a set to a Redis set asynchronously, using one variadic SADD.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the set.
+     * @param dataSet  The members to add.
+     * @param <T>      The type of the members.
+     * @return a future completed with the number of members added, or 0 if the set is empty or the key is empty/blank.
+     */
+    @Override
+    public <T> CompletableFuture<Long> setCacheSet(RedisAsyncCommands<String, Object> commands, String key, Set<T> dataSet) {
+        if (commands == null || Collection4j.isEmpty(dataSet) || String4j.isEmpty(key) || String4j.isBlank(key)) {
+            return CompletableFuture.completedFuture(0L);
+        }
+        String preKey = String4j.trimWhitespace(key);
+        return this.submit(() -> commands.sadd(preKey, dataSet.toArray())).thenApply(this::asLong);
+    }
+
+    /**
+     * Adds the members of a set to a Redis set asynchronously, with an optional callback for handling exceptions.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the set.
+     * @param dataSet  The members to add.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the members.
+     * @return a future completed with the number of members added, or 0 if an exception occurs.
+     */
+    @Override
+    public <T> CompletableFuture<Long> setCacheSet(RedisAsyncCommands<String, Object> commands, String key, Set<T> dataSet, Redis4jWrapCallback callback) {
+        return this.recover(this.setCacheSet(commands, key, dataSet), 0L, "setting redis set failed", key, callback);
+    }
+
+    /**
+     * Retrieves all members of a Redis set asynchronously.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the set.
+     * @param <T>      The type of the members.
+     * @return a future completed with the members, or an empty set if the key does not exist or is empty/blank.
+     */
+    @Override
+    public <T> CompletableFuture<Set<T>> getCacheSet(RedisAsyncCommands<String, Object> commands, String key) {
+        if (commands == null || String4j.isEmpty(key) || String4j.isBlank(key)) {
+            return CompletableFuture.completedFuture(Collections.emptySet());
+        }
+        String preKey = String4j.trimWhitespace(key);
+        return this.submit(() -> commands.smembers(preKey)).thenApply(set -> set == null ? Collections.emptySet() : (Set<T>) set);
+    }
+
+    /**
+     * Retrieves all members of a Redis set asynchronously, with an optional callback for handling exceptions.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the set.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the members.
+     * @return a future completed with the members, or an empty set if an exception occurs.
+     */
+    @Override
+    public <T> CompletableFuture<Set<T>> getCacheSet(RedisAsyncCommands<String, Object> commands, String key, Redis4jWrapCallback callback) {
+        return this.recover(this.getCacheSet(commands, key), Collections.emptySet(), "getting redis set failed", key, callback);
+    }
+
+    /**
+     * Stores the entries of a map in a Redis hash asynchronously.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the hash.
+     * @param map      The entries to store.
+     * @param <T>      The type of the values.
+     * @return a future completed with true if the entries were stored, false if the map is empty or the key is empty/blank.
+     */
+    @Override
+    public <T> CompletableFuture<Boolean> setCacheMap(RedisAsyncCommands<String, Object> commands, String key, Map<String, T> map) {
+        if (commands == null || Collection4j.isEmptyMap(map) || String4j.isEmpty(key) || String4j.isBlank(key)) {
+            return CompletableFuture.completedFuture(false);
+        }
+        String preKey = String4j.trimWhitespace(key);
+        Map<String, Object> entries = new LinkedHashMap<>(map);
+        return this.submit(() -> commands.hmset(preKey, entries)).thenApply(this::isOk);
+    }
+
+    /**
+     * Stores the entries of a map in a Redis hash asynchronously, with an optional callback for handling exceptions.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the hash.
+     * @param map      The entries to store.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the values.
+     * @return a future completed with true if the entries were stored; false otherwise or if an exception occurs.
+     */
+    @Override
+    public <T> CompletableFuture<Boolean> setCacheMap(RedisAsyncCommands<String, Object> commands, String key, Map<String, T> map, Redis4jWrapCallback callback) {
+        return this.recover(this.setCacheMap(commands, key, map), false, "setting redis hash failed", key, callback);
+    }
+
+    /**
+     * Retrieves all entries of a Redis hash asynchronously.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the hash.
+     * @return a future completed with the entries, or an empty map if the key does not exist or is empty/blank.
+     */
+    @Override
+    public CompletableFuture<Map<String, Object>> getCacheMap(RedisAsyncCommands<String, Object> commands, String key) {
+        if (commands == null || String4j.isEmpty(key) || String4j.isBlank(key)) {
+            return CompletableFuture.completedFuture(Collections.emptyMap());
+        }
+        String preKey = String4j.trimWhitespace(key);
+        return this.submit(() -> commands.hgetall(preKey)).thenApply(map -> map == null ? Collections.emptyMap() : map);
+    }
+
+    /**
+     * Retrieves all entries of a Redis hash asynchronously, with an optional callback for handling exceptions.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the hash.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a future completed with the entries, or an empty map if an exception occurs.
+     */
+    @Override
+    public CompletableFuture<Map<String, Object>> getCacheMap(RedisAsyncCommands<String, Object> commands, String key, Redis4jWrapCallback callback) {
+        return this.recover(this.getCacheMap(commands, key), Collections.emptyMap(), "getting redis hash failed", key, callback);
+    }
+
+    /**
+     * Retrieves all entries of a Redis hash asynchronously, each value being read as raw bytes
+     * and decoded straight into a given type by the value serializer.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the hash.
+     * @param type     The type to read the values as.
+     * @param <V>      The type of the values.
+     * @return a future completed with the entries, or an empty map if the key does not exist, the type is null or the key is empty/blank.
+     */
+    @Override
+    public <V> CompletableFuture<Map<String, V>> getCacheMap(RedisAsyncCommands<String, Object> commands, String key, Class<V> type) {
+        if (commands == null || type == null || String4j.isEmpty(key) || String4j.isBlank(key)) {
+            return CompletableFuture.completedFuture(Collections.emptyMap());
+        }
+        String preKey = String4j.trimWhitespace(key);
+        RedisSerializer<Object> serializer = this.serializer();
+        return this.submit(() -> commands.dispatch(CommandType.HGETALL, new MapOutput<>(RAW_CODEC), new CommandArgs<>(RAW_CODEC).addKey(preKey)))
+                .thenApply(entries -> {
+                    if (entries == null) {
+                        return Collections.emptyMap();
+                    }
+                    Map<String, V> map = new LinkedHashMap<>(entries.size());
+                    entries.forEach((field, value) -> map.put(field, Redis4jTypedSerializer.read(serializer, (byte[]) value, type)));
+                    return map;
+                });
+    }
+
+    /**
+     * Retrieves all entries of a Redis hash asynchronously as a given type, with an optional callback for handling exceptions.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the hash.
+     * @param type     The type to read the values as.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <V>      The type of the values.
+     * @return a future completed with the entries, or an empty map if an exception occurs.
+     */
+    @Override
+    public <V> CompletableFuture<Map<String, V>> getCacheMap(RedisAsyncCommands<String, Object> commands, String key, Class<V> type, Redis4jWrapCallback callback) {
+        return this.recover(this.getCacheMap(commands, key, type), Collections.emptyMap(), "getting redis hash failed", key, callback);
+    }
+
+    /**
+     * Sets a single field of a Redis hash asynchronously.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the hash.
+     * @param hKey     The field of the hash.
+     * @param value    The value to store.
+     * @param <T>      The type of the value.
+     * @return a future completed with true once the field is stored, false if the arguments are invalid.
+     */
+    @Override
+    public <T> CompletableFuture<Boolean> setCacheMapValue(RedisAsyncCommands<String, Object> commands, String key, String hKey, T value) {
+        if (commands == null || value == null || String4j.isEmpty(key) || String4j.isBlank(key) || String4j.isEmpty(hKey) || String4j.isBlank(hKey)) {
+            return CompletableFuture.completedFuture(false);
+        }
+        String preKey = String4j.trimWhitespace(key);
+        return this.submit(() -> commands.hset(preKey, hKey, value)).thenApply(created -> true);
+    }
+
+    /**
+     * Sets a single field of a Redis hash asynchronously, with an optional callback for handling exceptions.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the hash.
+     * @param hKey     The field of the hash.
+     * @param value    The value to store.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the value.
+     * @return a future completed with true once the field is stored; false otherwise or if an exception occurs.
+     */
+    @Override
+    public <T> CompletableFuture<Boolean> setCacheMapValue(RedisAsyncCommands<String, Object> commands, String key, String hKey, T value, Redis4jWrapCallback callback) {
+        return this.recover(this.setCacheMapValue(commands, key, hKey, value), false, "setting redis hash value failed", key, callback);
+    }
+
+    /**
+     * Retrieves a single field of a Redis hash asynchronously.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the hash.
+     * @param hKey     The field of the hash.
+     * @param <T>      The type of the value.
+     * @return a future completed with the value, or null if the field does not exist or the arguments are invalid.
+     */
+    @Override
+    public <T> CompletableFuture<T> getCacheMapValue(RedisAsyncCommands<String, Object> commands, String key, String hKey) {
+        if (commands == null || String4j.isEmpty(key) || String4j.isBlank(key) || String4j.isEmpty(hKey) || String4j.isBlank(hKey)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        String preKey = String4j.trimWhitespace(key);
+        return this.submit(() -> commands.hget(preKey, hKey)).thenApply(value -> (T) value);
+    }
+
+    /**
+     * Retrieves a single field of a Redis hash asynchronously, with an optional callback for handling exceptions.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the hash.
+     * @param hKey     The field of the hash.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the value.
+     * @return a future completed with the value, or null if the field does not exist or an exception occurs.
+     */
+    @Override
+    public <T> CompletableFuture<T> getCacheMapValue(RedisAsyncCommands<String, Object> commands, String key, String hKey, Redis4jWrapCallback callback) {
+        return this.recover(this.getCacheMapValue(commands, key, hKey), null, "getting redis hash value failed", key, callback);
+    }
+
+    /**
+     * Retrieves multiple fields of a Redis hash asynchronously, using one HMGET.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the hash.
+     * @param hKeys    The fields of the hash.
+     * @param <T>      The type of the values.
+     * @return a future completed with the values in field order, null for missing fields; an empty list if the arguments are invalid.
+     */
+    @Override
+    public <T> CompletableFuture<List<T>> getMultiCacheMapValue(RedisAsyncCommands<String, Object> commands, String key, Collection<String> hKeys) {
+        if (commands == null || Collection4j.isEmpty(hKeys) || String4j.isEmpty(key) || String4j.isBlank(key)) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+        String preKey = String4j.trimWhitespace(key);
+        String[] fields = hKeys.toArray(new String[0]);
+        return this.submit(() -> commands.hmget(preKey, fields)).thenApply(values -> {
+            List<T> list = new ArrayList<>(values.size());
+            for (KeyValue<String, Object> value : values) {
+                list.add(value.hasValue() ? (T) value.getValue() : null);
+            }
+            return list;
+        });
+    }
+
+    /**
+     * Retrieves multiple fields of a Redis hash asynchronously, with an optional callback for handling exceptions.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the hash.
+     * @param hKeys    The fields of the hash.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the values.
+     * @return a future completed with the values in field order, or an empty list if an exception occurs.
+     */
+    @Override
+    public <T> CompletableFuture<List<T>> getMultiCacheMapValue(RedisAsyncCommands<String, Object> commands, String key, Collection<String> hKeys, Redis4jWrapCallback callback) {
+        return this.recover(this.getMultiCacheMapValue(commands, key, hKeys), Collections.emptyList(), "getting redis hash values failed", key, callback);
+    }
+
+    /**
+     * Checks asynchronously whether a key exists.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key to check.
+     * @return a future completed with true if the key exists; false otherwise.
+     */
+    @Override
+    public CompletableFuture<Boolean> containsKey(RedisAsyncCommands<String, Object> commands, String key) {
+        if (commands == null || String4j.isEmpty(key) || String4j.isBlank(key)) {
+            return CompletableFuture.completedFuture(false);
+        }
+        String preKey = String4j.trimWhitespace(key);
+        return this.submit(() -> commands.exists(preKey)).thenApply(count -> count != null && count > 0);
+    }
+
+    /**
+     * Checks asynchronously whether a key exists, with an optional callback for handling exceptions.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key to check.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a future completed with true if the key exists; false otherwise or if an exception occurs.
+     */
+    @Override
+    public CompletableFuture<Boolean> containsKey(RedisAsyncCommands<String, Object> commands, String key, Redis4jWrapCallback callback) {
+        return this.recover(this.containsKey(commands, key), false, "checking redis key failed", key, callback);
+    }
+
+    /**
+     * Checks asynchronously whether each of the keys exists. One EXISTS is dispatched per key without waiting,
+     * so all checks share the same round-trip on the connection.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param keys     The keys to check.
+     * @return a future completed with the existence of each key, in the iteration order of the keys.
+     */
+    @Override
+    public CompletableFuture<Map<String, Boolean>> existsMany(RedisAsyncCommands<String, Object> commands, Collection<String> keys) {
+        if (commands == null || Collection4j.isEmpty(keys)) {
+            return CompletableFuture.completedFuture(Collections.emptyMap());
+        }
+        Map<String, CompletableFuture<Boolean>> futures = new LinkedHashMap<>();
+        for (String key : keys) {
+            if (String4j.isEmpty(key) || String4j.isBlank(key)) {
+                continue;
+            }
+            futures.putIfAbsent(key, this.containsKey(commands, key));
+        }
+        return CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[0])).thenApply(ignored -> {
+            Map<String, Boolean> result = new LinkedHashMap<>(futures.size());
+            futures.forEach((key, future) -> result.put(key, future.join()));
+            return result;
+        });
+    }
+
+    /**
+     * Checks asynchronously whether each of the keys exists, with an optional callback for handling exceptions.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param keys     The keys to check.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a future completed with the existence of each key, or an empty map if an exception occurs.
+     */
+    @Override
+    public CompletableFuture<Map<String, Boolean>> existsMany(RedisAsyncCommands<String, Object> commands, Collection<String> keys, Redis4jWrapCallback callback) {
+        return this.recover(this.existsMany(commands, keys), Collections.emptyMap(), "checking redis keys failed", null, callback);
+    }
+
+    /**
+     * Publishes a message to a channel asynchronously.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param topic    The channel to publish to, class {@link ChannelTopic}
+     * @param data     The message to publish.
+     * @param <T>      The type of the message.
+     * @return a future completed with the number of subscribers which received the message.
+     */
+    @Override
+    public <T> CompletableFuture<Long> produce(RedisAsyncCommands<String, Object> commands, ChannelTopic topic, T data) {
+        if (commands == null || topic == null || data == null) {
+            return CompletableFuture.completedFuture(0L);
+        }
+        return this.submit(() -> commands.publish(topic.getTopic(), data)).thenApply(this::asLong);
+    }
+
+    /**
+     * Publishes a message to a channel asynchronously, with an optional callback for handling exceptions.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param topic    The channel to publish to, class {@link ChannelTopic}
+     * @param data     The message to publish.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the message.
+     * @return a future completed with the number of subscribers which received the message, or 0 if an exception occurs.
+     */
+    @Override
+    public <T> CompletableFuture<Long> produce(RedisAsyncCommands<String, Object> commands, ChannelTopic topic, T data, Redis4jWrapCallback callback) {
+        return this.recover(this.produce(commands, topic, data), 0L, "producing redis message failed", topic == null ? null : topic.getTopic(), callback);
+    }
+
+    /**
+     * Increments a counter by one asynchronously.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the counter.
+     * @return a future completed with the value after the increment, or -1 if the key is empty/blank.
+     */
+    @Override
+    public CompletableFuture<Long> increaseKey(RedisAsyncCommands<String, Object> commands, String key) {
+        if (commands == null || String4j.isEmpty(key) || String4j.isBlank(key)) {
+            return CompletableFuture.completedFuture(-1L);
+        }
+        String preKey = String4j.trimWhitespace(key);
+        return this.submit(() -> commands.incr(preKey)).thenApply(this::asLong);
+    }
+
+    /**
+     * Increments a counter by one asynchronously, with an optional callback for handling exceptions.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the counter.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a future completed with the value after the increment, or -1 if an exception occurs.
+     */
+    @Override
+    public CompletableFuture<Long> increaseKey(RedisAsyncCommands<String, Object> commands, String key, Redis4jWrapCallback callback) {
+        return this.recover(this.increaseKey(commands, key), -1L, "increasing redis key failed", key, callback);
+    }
+
+    /**
+     * Decrements a counter by one asynchronously.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the counter.
+     * @return a future completed with the value after the decrement, or -1 if the key is empty/blank.
+     */
+    @Override
+    public CompletableFuture<Long> decreaseKey(RedisAsyncCommands<String, Object> commands, String key) {
+        if (commands == null || String4j.isEmpty(key) || String4j.isBlank(key)) {
+            return CompletableFuture.completedFuture(-1L);
+        }
+        String preKey = String4j.trimWhitespace(key);
+        return this.submit(() -> commands.decr(preKey)).thenApply(this::asLong);
+    }
+
+    /**
+     * Decrements a counter by one asynchronously, with an optional callback for handling exceptions.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the counter.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a future completed with the value after the decrement, or -1 if an exception occurs.
+     */
+    @Override
+    public CompletableFuture<Long> decreaseKey(RedisAsyncCommands<String, Object> commands, String key, Redis4jWrapCallback callback) {
+        return this.recover(this.decreaseKey(commands, key), -1L, "decreasing redis key failed", key, callback);
+    }
+
+    /**
+     * Increments a counter by the specified amount asynchronously.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to add.
+     * @return a future completed with the value after the increment, or -1 if the arguments are invalid.
+     */
+    @Override
+    public CompletableFuture<Long> increaseKeyBy(RedisAsyncCommands<String, Object> commands, String key, long value) {
+        if (commands == null || value < 0 || String4j.isEmpty(key) || String4j.isBlank(key)) {
+            return CompletableFuture.completedFuture(-1L);
+        }
+        String preKey = String4j.trimWhitespace(key);
+        return this.submit(() -> commands.incrby(preKey, value)).thenApply(this::asLong);
+    }
+
+    /**
+     * Increments a counter by the specified amount asynchronously, with an optional callback for handling exceptions.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to add.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a future completed with the value after the increment, or -1 if an exception occurs.
+     */
+    @Override
+    public CompletableFuture<Long> increaseKeyBy(RedisAsyncCommands<String, Object> commands, String key, long value, Redis4jWrapCallback callback) {
+        return this.recover(this.increaseKeyBy(commands, key, value), -1L, "increasing redis key by value failed", key, callback);
+    }
+
+    /**
+     * Decrements a counter by the specified amount asynchronously.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to subtract.
+     * @return a future completed with the value after the decrement, or -1 if the arguments are invalid.
+     */
+    @Override
+    public CompletableFuture<Long> decreaseKeyBy(RedisAsyncCommands<String, Object> commands, String key, long value) {
+        if (commands == null || value < 0 || String4j.isEmpty(key) || String4j.isBlank(key)) {
+            return CompletableFuture.completedFuture(-1L);
+        }
+        String preKey = String4j.trimWhitespace(key);
+        return this.submit(() -> commands.decrby(preKey, value)).thenApply(this::asLong);
+    }
+
+    /**
+     * Decrements a counter by the specified amount asynchronously, with an optional callback for handling exceptions.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to subtract.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a future completed with the value after the decrement, or -1 if an exception occurs.
+     */
+    @Override
+    public CompletableFuture<Long> decreaseKeyBy(RedisAsyncCommands<String, Object> commands, String key, long value, Redis4jWrapCallback callback) {
+        return this.recover(this.decreaseKeyBy(commands, key, value), -1L, "decreasing redis key by value failed", key, callback);
+    }
+
+    /**
+     * Increments a counter by one and sets its expiration asynchronously, in one atomic server-side step (a cached Lua script).
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the counter.
+     * @param timeout  The expiration timeout.
+     * @param unit     The time unit of the timeout.
+     * @return a future completed with the value after the increment, or -1 if the arguments are invalid.
+     */
+    @Override
+    public CompletableFuture<Long> increaseKeyEx(RedisAsyncCommands<String, Object> commands, String key, long timeout, TimeUnit unit) {
+        return this.counter(commands, key, 1, timeout, unit, false);
+    }
+
+    /**
+     * Increments a counter by one and sets its expiration asynchronously, with an optional callback for handling exceptions.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the counter.
+     * @param timeout  The expiration timeout.
+     * @param unit     The time unit of the timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a future completed with the value after the increment, or -1 if an exception occurs.
+     */
+    @Override
+    public CompletableFuture<Long> increaseKeyEx(RedisAsyncCommands<String, Object> commands, String key, long timeout, TimeUnit unit, Redis4jWrapCallback callback) {
+        return this.recover(this.increaseKeyEx(commands, key, timeout, unit), -1L, "increasing redis key with timeout failed", key, callback);
+    }
+
+    /**
+     * Decrements a counter by one and sets its expiration asynchronously, in one atomic server-side step (a cached Lua script).
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the counter.
+     * @param timeout  The expiration timeout.
+     * @param unit     The time unit of the timeout.
+     * @return a future completed with the value after the decrement, or -1 if the arguments are invalid.
+     */
+    @Override
+    public CompletableFuture<Long> decreaseKeyEx(RedisAsyncCommands<String, Object> commands, String key, long timeout, TimeUnit unit) {
+        return this.counter(commands, key, -1, timeout, unit, false);
+    }
+
+    /**
+     * Decrements a counter by one and sets its expiration asynchronously, with an optional callback for handling exceptions.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the counter.
+     * @param timeout  The expiration timeout.
+     * @param unit     The time unit of the timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a future completed with the value after the decrement, or -1 if an exception occurs.
+     */
+    @Override
+    public CompletableFuture<Long> decreaseKeyEx(RedisAsyncCommands<String, Object> commands, String key, long timeout, TimeUnit unit, Redis4jWrapCallback callback) {
+        return this.recover(this.decreaseKeyEx(commands, key, timeout, unit), -1L, "decreasing redis key with timeout failed", key, callback);
+    }
+
+    /**
+     * Increments a counter by the specified amount and sets its expiration asynchronously, in one atomic server-side step (a cached Lua script).
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to add.
+     * @param timeout  The expiration timeout.
+     * @param unit     The time unit of the timeout.
+     * @return a future completed with the value after the increment, or -1 if the arguments are invalid.
+     */
+    @Override
+    public CompletableFuture<Long> increaseKeyByEx(RedisAsyncCommands<String, Object> commands, String key, long value, long timeout, TimeUnit unit) {
+        if (value < 0) {
+            return CompletableFuture.completedFuture(-1L);
+        }
+        return this.counter(commands, key, value, timeout, unit, false);
+    }
+
+    /**
+     * Increments a counter by the specified amount and sets its expiration asynchronously, with an optional callback for handling exceptions.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to add.
+     * @param timeout  The expiration timeout.
+     * @param unit     The time unit of the timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a future completed with the value after the increment, or -1 if an exception occurs.
+     */
+    @Override
+    public CompletableFuture<Long> increaseKeyByEx(RedisAsyncCommands<String, Object> commands, String key, long value, long timeout, TimeUnit unit, Redis4jWrapCallback callback) {
+        return this.recover(this.increaseKeyByEx(commands, key, value, timeout, unit), -1L, "increasing redis key by value with timeout failed", key, callback);
+    }
+
+    /**
+     * Decrements a counter by the specified amount and sets its expiration asynchronously, in one atomic server-side step (a cached Lua script).
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to subtract.
+     * @param timeout  The expiration timeout.
+     * @param unit     The time unit of the timeout.
+     * @return a future completed with the value after the decrement, or -1 if the arguments are invalid.
+     */
+    @Override
+    public CompletableFuture<Long> decreaseKeyByEx(RedisAsyncCommands<String, Object> commands, String key, long value, long timeout, TimeUnit unit) {
+        if (value < 0) {
+            return CompletableFuture.completedFuture(-1L);
+        }
+        return this.counter(commands, key, -value, timeout, unit, false);
+    }
+
+    /**
+     * Decrements a counter by the specified amount and sets its expiration asynchronously, with an optional callback for handling exceptions.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to subtract.
+     * @param timeout  The expiration timeout.
+     * @param unit     The time unit of the timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a future completed with the value after the decrement, or -1 if an exception occurs.
+     */
+    @Override
+    public CompletableFuture<Long> decreaseKeyByEx(RedisAsyncCommands<String, Object> commands, String key, long value, long timeout, TimeUnit unit, Redis4jWrapCallback callback) {
+        return this.recover(this.decreaseKeyByEx(commands, key, value, timeout, unit), -1L, "decreasing redis key by value with timeout failed", key, callback);
+    }
+
+    /**
+     * Increments a counter by one and sets its expiration asynchronously only if the key has none yet, i.e. when the counter is created,
+     * so that hot counters do not extend their time to live on every hit, in one atomic server-side step (a cached Lua script).
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the counter.
+     * @param timeout  The expiration timeout, applied when the key has no expiration.
+     * @param unit     The time unit of the timeout.
+     * @return a future completed with the value after the increment, or -1 if the arguments are invalid.
+     */
+    @Override
+    public CompletableFuture<Long> increaseKeyExNx(RedisAsyncCommands<String, Object> commands, String key, long timeout, TimeUnit unit) {
+        return this.counter(commands, key, 1, timeout, unit, true);
+    }
+
+    /**
+     * Increments a counter by one and sets its expiration asynchronously only if the key has none yet, with an optional callback for handling exceptions.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the counter.
+     * @param timeout  The expiration timeout, applied when the key has no expiration.
+     * @param unit     The time unit of the timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a future completed with the value after the increment, or -1 if an exception occurs.
+     */
+    @Override
+    public CompletableFuture<Long> increaseKeyExNx(RedisAsyncCommands<String, Object> commands, String key, long timeout, TimeUnit unit, Redis4jWrapCallback callback) {
+        return this.recover(this.increaseKeyExNx(commands, key, timeout, unit), -1L, "increasing redis key with timeout if absent failed", key, callback);
+    }
+
+    /**
+     * Decrements a counter by one and sets its expiration asynchronously only if the key has none yet, i.e. when the counter is created,
+     * so that hot counters do not extend their time to live on every hit, in one atomic server-side step (a cached Lua script).
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the counter.
+     * @param timeout  The expiration timeout, applied when the key has no expiration.
+     * @param unit     The time unit of the timeout.
+     * @return a future completed with the value after the decrement, or -1 if the arguments are invalid.
+     */
+    @Override
+    public CompletableFuture<Long> decreaseKeyExNx(RedisAsyncCommands<String, Object> commands, String key, long timeout, TimeUnit unit) {
+        return this.counter(commands, key, -1, timeout, unit, true);
+    }
+
+    /**
+     * Decrements a counter by one and sets its expiration asynchronously only if the key has none yet, with an optional callback for handling exceptions.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the counter.
+     * @param timeout  The expiration timeout, applied when the key has no expiration.
+     * @param unit     The time unit of the timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a future completed with the value after the decrement, or -1 if an exception occurs.
+     */
+    @Override
+    public CompletableFuture<Long> decreaseKeyExNx(RedisAsyncCommands<String, Object> commands, String key, long timeout, TimeUnit unit, Redis4jWrapCallback callback) {
+        return this.recover(this.decreaseKeyExNx(commands, key, timeout, unit), -1L, "decreasing redis key with timeout if absent failed", key, callback);
+    }
+
+    /**
+     * Increments a counter by the specified amount and sets its expiration asynchronously only if the key has none yet, i.e. when the counter is created,
+     * so that hot counters do not extend their time to live on every hit, in one atomic server-side step (a cached Lua script).
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to add.
+     * @param timeout  The expiration timeout, applied when the key has no expiration.
+     * @param unit     The time unit of the timeout.
+     * @return a future completed with the value after the increment, or -1 if the arguments are invalid.
+     */
+    @Override
+    public CompletableFuture<Long> increaseKeyByExNx(RedisAsyncCommands<String, Object> commands, String key, long value, long timeout, TimeUnit unit) {
+        if (value < 0) {
+            return CompletableFuture.completedFuture(-1L);
+        }
+        return this.counter(commands, key, value, timeout, unit, true);
+    }
+
+    /**
+     * Increments a counter by the specified amount and sets its expiration asynchronously only if the key has none yet, with an optional callback for handling exceptions.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to add.
+     * @param timeout  The expiration timeout, applied when the key has no expiration.
+     * @param unit     The time unit of the timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a future completed with the value after the increment, or -1 if an exception occurs.
+     */
+    @Override
+    public CompletableFuture<Long> increaseKeyByExNx(RedisAsyncCommands<String, Object> commands, String key, long value, long timeout, TimeUnit unit, Redis4jWrapCallback callback) {
+        return this.recover(this.increaseKeyByExNx(commands, key, value, timeout, unit), -1L, "increasing redis key by value with timeout if absent failed", key, callback);
+    }
+
+    /**
+     * Decrements a counter by the specified amount and sets its expiration asynchronously only if the key has none yet, i.e. when the counter is created,
+     * so that hot counters do not extend their time to live on every hit, in one atomic server-side step (a cached Lua script).
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to subtract.
+     * @param timeout  The expiration timeout, applied when the key has no expiration.
+     * @param unit     The time unit of the timeout.
+     * @return a future completed with the value after the decrement, or -1 if the arguments are invalid.
+     */
+    @Override
+    public CompletableFuture<Long> decreaseKeyByExNx(RedisAsyncCommands<String, Object> commands, String key, long value, long timeout, TimeUnit unit) {
+        if (value < 0) {
+            return CompletableFuture.completedFuture(-1L);
+        }
+        return this.counter(commands, key, -value, timeout, unit, true);
+    }
+
+    /**
+     * Decrements a counter by the specified amount and sets its expiration asynchronously only if the key has none yet, with an optional callback for handling exceptions.
+     *
+     * @param commands The asynchronous Lettuce commands, class {@link RedisAsyncCommands}
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to subtract.
+     * @param timeout  The expiration timeout, applied when the key has no expiration.
+     * @param unit     The time unit of the timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a future completed with the value after the decrement, or -1 if an exception occurs.
+     */
+    @Override
+    public CompletableFuture<Long> decreaseKeyByExNx(RedisAsyncCommands<String, Object> commands, String key, long value, long timeout, TimeUnit unit, Redis4jWrapCallback callback) {
+        return this.recover(this.decreaseKeyByExNx(commands, key, value, timeout, unit), -1L, "decreasing redis key by value with timeout if absent failed", key, callback);
+    }
+
+    /**
+     * Runs the counter script of {@link Redis4jServiceImpl} by its SHA1 digest, loading it with EVAL the first time
+     * the server replies NOSCRIPT. The arguments are sent as UTF-8 strings, as the synchronous counter does,
+     * since the value codec of the connection would encode them as values, e.g. as binary Smile or CBOR.
+     * A timeout under one millisecond is rejected, as by the synchronous counter, since PEXPIRE 0 would delete the key.
+     * With nx, the expiration is only set when the key has none, i.e. when the counter is created.
+     */
+    protected CompletableFuture<Long> counter(RedisAsyncCommands<String, Object> commands, String key, long delta, long timeout, TimeUnit unit, boolean nx) {
+        if (commands == null || unit == null || unit.toMillis(timeout) <= 0 || String4j.isEmpty(key) || String4j.isBlank(key)) {
+            return CompletableFuture.completedFuture(-1L);
+        }
+        String counter = String4j.trimWhitespace(key);
+        long millis = unit.toMillis(timeout);
+        String sha1 = Redis4jServiceImpl.COUNTER_EX_SCRIPT.getSha1();
+        String script = Redis4jServiceImpl.COUNTER_EX_SCRIPT.getScriptAsString();
+        return this.<Long>submit(() -> commands.dispatch(CommandType.EVALSHA, new IntegerOutput<>(Redis4jScriptCodec.INSTANCE), this.counterArgs(sha1, counter, delta, millis, nx)))
+                .handle((value, e) -> {
+                    if (e == null) {
+                        return CompletableFuture.completedFuture(value);
+                    }
+                    Throwable cause = this.unwrap(e);
+                    if (cause.getMessage() != null && cause.getMessage().startsWith("NOSCRIPT")) {
+                        return this.<Long>submit(() -> commands.dispatch(CommandType.EVAL, new IntegerOutput<>(Redis4jScriptCodec.INSTANCE), this.counterArgs(script, counter, delta, millis, nx)));
+                    }
+                    CompletableFuture<Long> failed = new CompletableFuture<>();
+                    failed.completeExceptionally(cause);
+                    return failed;
+                })
+                .thenCompose(future -> future)
+                .thenApply(this::asLong);
+    }
+
+    /**
+     * @return the arguments of EVALSHA or EVAL running the counter script on one key, every argument being a UTF-8 string
+     */
+    protected CommandArgs<String, Object> counterArgs(String script, String key, long delta, long millis, boolean nx) {
+        return new CommandArgs<>(Redis4jScriptCodec.INSTANCE)
+                .add(script)
+                .add(1)
+                .addKey(key)
+                .add(delta)
+                .add(millis)
+                .add(nx ? "1" : "0");
+    }
+
+    /**
+     * @return the value serializer of the Redis dispatch template, created on the first typed read
+     */
+    protected RedisSerializer<Object> serializer() {
+        RedisSerializer<Object> s = serializer;
+        if (s == null) {
+            synchronized (this) {
+                if (serializer == null) {
+                    serializer = redis4jConfigService.createValueSerializer();
+                }
+                s = serializer;
+            }
+        }
+        return s;
+    }
+
+    /**
+     * Dispatches a command, turning a synchronous failure, e.g. a closed connection, into a failed future.
+     */
+    protected <T> CompletableFuture<T> submit(Supplier<? extends CompletionStage<T>> command) {
+        try {
+            return command.get().toCompletableFuture();
+        } catch (Exception e) {
+            CompletableFuture<T> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            return failed;
+        }
+    }
+
+    /**
+     * Completes with the fallback value instead of an exception, and reports the outcome to the callback.
+     * The request id is captured on the calling thread, since the future may complete on an I/O thread,
+     * and only when there is a callback to report to; the response is built only for the callback.
+     */
+    protected <T> CompletableFuture<T> recover(CompletableFuture<T> future, T fallback, String message, String key, Redis4jWrapCallback callback) {
+        final String requestId = callback != null ? Redis4j.getCurrentSessionId() : null;
+        return future.handle((value, e) -> {
+            T data = value;
+            HttpWrapBuilder<?> response = null;
+            if (e != null) {
+                Throwable cause = this.unwrap(e);
+                if (redis4jConfigService.isDebugging()) {
+                    logger.error("Redis4j, {} with an exception: {} by key: {}", message, cause.getMessage(), key, cause);
+                }
+                if (callback != null) {
+                    response = new HttpWrapBuilder<>().ok(null).requestId(requestId)
+                            .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
+                            .message(message)
+                            .debug("cause", cause.getMessage())
+                            .errors(cause)
+                            .customFields("redis_key", key);
+                }
+                data = fallback;
+            }
+            if (callback != null) {
+                callback.onCallback(response != null ? response.build() : new HttpWrapBuilder<>().ok(null).requestId(requestId).build());
+            }
+            return data;
+        });
+    }
+
+    protected Throwable unwrap(Throwable e) {
+        return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+    }
+
+    protected boolean isOk(String reply) {
+        return "OK".equals(reply);
+    }
+
+    protected long asLong(Long value) {
+        return value == null ? -1 : value;
+    }
+}
@@ -1,23 +1,56 @@
 package org.redis4j.service.impl;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import io.lettuce.core.RedisClient;
 import io.lettuce.core.RedisURI;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.event.DefaultEventPublisherOptions;
+import io.lettuce.core.metrics.CommandLatencyCollector;
+import io.lettuce.core.metrics.CommandLatencyCollectorOptions;
+import io.lettuce.core.metrics.CommandLatencyRecorder;
+import io.lettuce.core.metrics.DefaultCommandLatencyCollector;
+import io.lettuce.core.metrics.DefaultCommandLatencyCollectorOptions;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.resource.DefaultClientResources;
+import org.redis4j.cache.Redis4jJitterCacheWriter;
+import org.redis4j.cache.Redis4jTwoLevelCacheManager;
+import org.redis4j.codec.Redis4jCodec;
+import org.redis4j.codec.Redis4jCodecSerializer;
+import org.redis4j.codec.Redis4jCompressingSerializer;
+import org.redis4j.codec.Redis4jCompressionCounters;
+import org.redis4j.codec.Redis4jCompressor;
+import org.redis4j.codec.Redis4jDeflateCompressor;
+import org.redis4j.codec.Redis4jDictionaryCompressor;
+import org.redis4j.codec.Redis4jDictionaryStore;
+import org.redis4j.codec.Redis4jLazyCompressor;
+import org.redis4j.codec.Redis4jRedisDictionaryStore;
+import org.redis4j.codec.Redis4jJacksonCodec;
+import org.redis4j.codec.Redis4jSerializerCodec;
+import org.redis4j.codec.Redis4jValueCodec;
+import org.redis4j.config.props.Redis4jCacheProperties;
 import org.redis4j.config.props.Redis4jProperties;
+import org.redis4j.model.Redis4jCompressionStats;
 import org.redis4j.service.Redis4jConfigService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
 import org.springframework.cache.CacheManager;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.RedisConnection;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisPassword;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
@@ -25,8 +58,11 @@ import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactor
 import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.stereotype.Service;
 import org.unify4j.common.Object4j;
 import org.unify4j.common.String4j;
@@ -37,7 +73,10 @@ import redis.clients.jedis.JedisPoolConfig;
 import redis.clients.jedis.exceptions.JedisException;
 
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
 
 @SuppressWarnings({"FieldCanBeLocal", "DuplicatedCode"})
 @Service
@@ -46,12 +85,20 @@ public class Redis4jConfigServiceImpl implements Redis4jConfigService {
 
     protected final Redis4jProperties properties;
     protected final RedisProperties redisProperties;
+    protected final ObjectProvider<RedisConnectionFactory> connectionFactories;
+    protected final ObjectProvider<ClientResources> clientResources;
+    protected final Redis4jCompressionCounters compressionCounters = new Redis4jCompressionCounters();
+    protected Redis4jDictionaryCompressor dictionaryCompressor; // guarded by this
 
     @Autowired
     public Redis4jConfigServiceImpl(Redis4jProperties properties,
-                                    RedisProperties redisProperties) {
+                                    RedisProperties redisProperties,
+                                    ObjectProvider<RedisConnectionFactory> connectionFactories,
+                                    ObjectProvider<ClientResources> clientResources) {
         this.properties = properties;
         this.redisProperties = redisProperties;
+        this.connectionFactories = connectionFactories;
+        this.clientResources = clientResources;
     }
 
     @PostConstruct
@@ -61,6 +108,30 @@ public class Redis4jConfigServiceImpl implements Redis4jConfigService {
         }
     }
 
+    @PreDestroy
+    public void destroy() {
+        synchronized (this) {
+            if (dictionaryCompressor != null) {
+                dictionaryCompressor.close();
+            }
+        }
+    }
+
+    /**
+     * Starts loading the compression dictionaries in the background once every bean, the connection factory included,
+     * is created, so that the value serializers never read them from Redis themselves. The dictionary algorithm exists
+     * at this point only when values are compressed with it, i.e. compression_algorithm is dictionary; other nodes
+     * start it on the first value compressed with a dictionary they read, see {@link #startDictionaryCompressor()}.
+     */
+    @EventListener(ContextRefreshedEvent.class)
+    public void onContextRefreshed() {
+        synchronized (this) {
+            if (dictionaryCompressor != null) {
+                dictionaryCompressor.start();
+            }
+        }
+    }
+
     /**
      * @return true if the Redis4J enabled, false otherwise
      */
@@ -77,6 +148,14 @@ public class Redis4jConfigServiceImpl implements Redis4jConfigService {
         return properties.isDebugging();
     }
 
+    /**
+     * @return the Redis4j configuration properties, class {@link Redis4jProperties}
+     */
+    @Override
+    public Redis4jProperties getProperties() {
+        return properties;
+    }
+
     /**
      * Creates and configures a JedisPoolConfig object based on application.yml properties.
      * Retrieves Redis connection and pooling settings from RedisProperties and Redis4jProperties.
@@ -161,7 +240,7 @@ public class Redis4jConfigServiceImpl implements Redis4jConfigService {
 
     /**
      * Constructs a RedisStandaloneConfiguration instance based on the Redis connection properties.
-     * Configures host name, port, and optional password for standalone Redis server connection.
+     * Configures host name, port, database, and optional username and password for standalone Redis server connection.
      *
      * @param properties the Redis properties configuration, class {@link RedisProperties}
      * @return RedisStandaloneConfiguration object with configured connection details, class {@link RedisStandaloneConfiguration}
@@ -174,6 +253,8 @@ public class Redis4jConfigServiceImpl implements Redis4jConfigService {
         RedisStandaloneConfiguration config = new RedisStandaloneConfiguration();
         config.setHostName(properties.getHost());
         config.setPort(properties.getPort());
+        config.setDatabase(properties.getDatabase());
+        config.setUsername(properties.getUsername());
         config.setPassword(RedisPassword.of(properties.getPassword()));
         return config;
     }
@@ -188,12 +269,81 @@ public class Redis4jConfigServiceImpl implements Redis4jConfigService {
     @Override
     public LettucePoolingClientConfiguration createLettucePoolingClientConfig(JedisPoolConfig pool) {
         Duration commandTimeout = properties.getExecutionCommandTimeout() != null ? properties.getExecutionCommandTimeout() : Duration.ofSeconds(100);
-        return LettucePoolingClientConfiguration.builder()
+        LettucePoolingClientConfiguration.LettucePoolingClientConfigurationBuilder builder = LettucePoolingClientConfiguration.builder()
                 .poolConfig(pool)
-                .commandTimeout(commandTimeout)
+                .commandTimeout(commandTimeout);
+        if (redisProperties.isSsl()) {
+            builder.useSsl();
+        }
+        return builder.build();
+    }
+
+    /**
+     * Creates the Lettuce client resources shared by the clients and connection factories of Redis4j.
+     * When command_latency_enabled is set, the resources record the latency of every command per server endpoint
+     * and command type, at the percentiles of command_latency_percentiles, and publish them on the event bus
+     * every command_latency_emit_interval as a CommandLatencyEvent, resetting them afterward.
+     * The latencies are recorded from the time a command is written to the connection, so that they tell
+     * the server and network apart from the queueing in the client, see {@link org.redis4j.metrics.Redis4jMetrics}.
+     *
+     * @return the client resources, class {@link ClientResources}
+     */
+    @Override
+    public ClientResources createClientResources() {
+        if (!properties.isCommandLatencyEnabled()) {
+            return DefaultClientResources.builder()
+                    .commandLatencyRecorder(CommandLatencyRecorder.disabled())
+                    .build();
+        }
+        if (!DefaultCommandLatencyCollector.isAvailable()) {
+            logger.warn("{} Redis4j command latencies are not collected, HdrHistogram and LatencyUtils are missing from the classpath", IconType.WARN.getCode());
+            return DefaultClientResources.create();
+        }
+        List<Double> percentiles = properties.getCommandLatencyPercentiles();
+        double[] targets = percentiles != null && !percentiles.isEmpty()
+                ? percentiles.stream().filter(Objects::nonNull).mapToDouble(Double::doubleValue).toArray()
+                : DefaultCommandLatencyCollectorOptions.DEFAULT_TARGET_PERCENTILES;
+        Duration interval = properties.getCommandLatencyEmitInterval();
+        if (interval == null || interval.isNegative() || interval.isZero()) {
+            interval = Duration.ofSeconds(10);
+        }
+        CommandLatencyCollectorOptions options = DefaultCommandLatencyCollectorOptions.builder()
+                .enable()
+                .targetUnit(TimeUnit.MICROSECONDS)
+                .targetPercentiles(targets)
+                .resetLatenciesAfterEvent(true)
+                .localDistinction(false)
+                .build();
+        return DefaultClientResources.builder()
+                .commandLatencyRecorder(CommandLatencyCollector.create(options))
+                .commandLatencyPublisherOptions(DefaultEventPublisherOptions.builder().eventEmitInterval(interval).build())
                 .build();
     }
 
+    /**
+     * Creates a LettucePoolingClientConfiguration instance that shares the given client resources,
+     * so that the connection factory publishes its connection events on the same event bus.
+     *
+     * @param pool      The configured JedisPoolConfig instance for Lettuce client pooling, class {@link JedisPoolConfig}
+     * @param resources The Lettuce client resources to be used by the connection factory, class {@link ClientResources}
+     * @return Initialized LettucePoolingClientConfiguration object with specified pooling, timeout settings and client resources, class {@link LettucePoolingClientConfiguration}
+     */
+    @Override
+    public LettucePoolingClientConfiguration createLettucePoolingClientConfig(JedisPoolConfig pool, ClientResources resources) {
+        if (resources == null) {
+            return this.createLettucePoolingClientConfig(pool);
+        }
+        Duration commandTimeout = properties.getExecutionCommandTimeout() != null ? properties.getExecutionCommandTimeout() : Duration.ofSeconds(100);
+        LettucePoolingClientConfiguration.LettucePoolingClientConfigurationBuilder builder = LettucePoolingClientConfiguration.builder()
+                .poolConfig(pool)
+                .commandTimeout(commandTimeout)
+                .clientResources(resources);
+        if (redisProperties.isSsl()) {
+            builder.useSsl();
+        }
+        return builder.build();
+    }
+
     /**
      * Creates a LettuceConnectionFactory instance for establishing a connection to a Redis server.
      * Uses the provided RedisStandaloneConfiguration and LettucePoolingClientConfiguration to configure the connection factory.
@@ -219,15 +369,179 @@ public class Redis4jConfigServiceImpl implements Redis4jConfigService {
     @Override
     public Jackson2JsonRedisSerializer<Object> createJsonRedisSerializer() {
         Jackson2JsonRedisSerializer<Object> serializer = new Jackson2JsonRedisSerializer<>(Object.class);
+        serializer.setObjectMapper(this.createJsonMapper());
+        return serializer;
+    }
+
+    /**
+     * Creates the object mapper of the JSON values of the Redis dispatch template, accepting single quotes,
+     * (de)serializing every field whatever its visibility and ignoring unknown properties.
+     *
+     * @return Initialized object mapper, class {@link ObjectMapper}
+     */
+    protected ObjectMapper createJsonMapper() {
         JsonFactory factory = new JsonFactory();
         factory.enable(JsonParser.Feature.ALLOW_SINGLE_QUOTES);
 
         ObjectMapper mapper = new ObjectMapper(factory);
         mapper.setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.ANY);
         mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES); // Disable deserialization feature for unknown properties
+        return mapper;
+    }
 
-        serializer.setObjectMapper(mapper);
-        return serializer;
+    /**
+     * Creates the value format registered under a name: json, smile, cbor, or a custom {@link Redis4jCodec}
+     * registered through the service loader.
+     *
+     * @param name  The codec name
+     * @param typed true to record the type of the values, as needed by Spring caches to read them back;
+     *              false to read them back as maps, lists and scalars like the Redis dispatch template
+     * @return the codec, class {@link Redis4jCodec}, or null if no codec has the name
+     */
+    @Override
+    public Redis4jCodec createCodec(String name, boolean typed) {
+        if (String4j.isEmpty(name)) {
+            return null;
+        }
+        switch (name.trim().toLowerCase()) {
+            case "json":
+                if (typed) {
+                    return new Redis4jSerializerCodec("json", Redis4jCodec.UNMARKED, new GenericJackson2JsonRedisSerializer());
+                }
+                return new Redis4jJacksonCodec("json", Redis4jCodec.UNMARKED, this.createJsonMapper());
+            case "smile":
+                return new Redis4jJacksonCodec("smile", Redis4jCodec.SMILE, this.createBinaryMapper(new SmileFactory(), typed));
+            case "cbor":
+                return new Redis4jJacksonCodec("cbor", Redis4jCodec.CBOR, this.createBinaryMapper(new CBORFactory(), typed));
+            default:
+                for (Redis4jCodec codec : this.loadCodecs()) {
+                    if (codec.name().equalsIgnoreCase(name.trim())) {
+                        return codec;
+                    }
+                }
+                return null;
+        }
+    }
+
+    /**
+     * Creates the value serializer of the Redis dispatch template and native connections, writing with the codec
+     * of value_codec and reading every known codec, see {@link Redis4jCodecSerializer}.
+     *
+     * @return Initialized value serializer, class {@link RedisSerializer}
+     */
+    @Override
+    public RedisSerializer<Object> createValueSerializer() {
+        return this.createCompressingSerializer(this.createCodecSerializer(properties.getValueCodec(), false));
+    }
+
+    /**
+     * Creates the compression algorithm registered under a name: deflate, dictionary, or a custom {@link Redis4jCompressor}
+     * registered through the service loader. The dictionary algorithm is shared by every serializer, so that they
+     * sample values into, and compress with, the same dictionary.
+     *
+     * @param name The algorithm name
+     * @return the algorithm, class {@link Redis4jCompressor}, or null if no algorithm has the name
+     */
+    @Override
+    public Redis4jCompressor createCompressor(String name) {
+        if (String4j.isEmpty(name)) {
+            return null;
+        }
+        if ("deflate".equalsIgnoreCase(name.trim())) {
+            return new Redis4jDeflateCompressor(properties.getCompressionLevel());
+        }
+        if ("dictionary".equalsIgnoreCase(name.trim())) {
+            return this.createDictionaryCompressor();
+        }
+        for (Redis4jCompressor compressor : this.loadCompressors()) {
+            if (compressor.name().equalsIgnoreCase(name.trim())) {
+                return compressor;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Wraps a serializer so that its values of compression_threshold bytes or more are compressed with
+     * compression_algorithm when compression_enabled is set. Compressed values are read back whatever the settings,
+     * so that compression can be enabled or disabled on live data.
+     *
+     * @param serializer The serializer of the values, class {@link RedisSerializer}
+     * @param <T>        The type of the values
+     * @return Initialized compressing serializer, class {@link Redis4jCompressingSerializer}
+     */
+    @Override
+    public <T> RedisSerializer<T> createCompressingSerializer(RedisSerializer<T> serializer) {
+        Redis4jCompressor writer = null;
+        if (properties.isCompressionEnabled()) {
+            writer = this.createCompressor(properties.getCompressionAlgorithm());
+            if (writer == null) {
+                logger.warn("{} Redis4j, unknown compression algorithm '{}', falling back to deflate", IconType.WARN.getCode(), properties.getCompressionAlgorithm());
+                writer = this.createCompressor("deflate");
+            }
+            if (this.isDebugging()) {
+                logger.info("{} Redis4j, values of {} bytes or more compressed with {}", IconType.DEBUG.getCode(), properties.getCompressionThreshold(), writer.name());
+            }
+        }
+        List<Redis4jCompressor> readers = new ArrayList<>();
+        readers.add(this.createCompressor("deflate"));
+        if (writer == null || writer.marker() != Redis4jCompressor.DICTIONARY) {
+            readers.add(new Redis4jLazyCompressor("dictionary", Redis4jCompressor.DICTIONARY, this::startDictionaryCompressor));
+        }
+        readers.addAll(this.loadCompressors());
+        return new Redis4jCompressingSerializer<>(serializer, writer, properties.getCompressionThreshold(), readers, compressionCounters);
+    }
+
+    /**
+     * Retrieves a snapshot of the compression counters of the serializers created by this service,
+     * i.e. values compressed, skipped and decompressed, bytes before and after compression, and CPU time spent.
+     *
+     * @return the snapshot, class {@link Redis4jCompressionStats}
+     */
+    @Override
+    public Redis4jCompressionStats compressionStats() {
+        return compressionCounters.snapshot();
+    }
+
+    /**
+     * Creates, once, the dictionary compression algorithm, whose dictionaries are kept in Redis under
+     * compression_dictionary_key, see {@link Redis4jRedisDictionaryStore}. Its dictionaries start loading
+     * once the application context is refreshed, see {@link #onContextRefreshed()}, or on first use when it only reads values.
+     *
+     * @return the dictionary compression algorithm, class {@link Redis4jDictionaryCompressor}
+     */
+    protected synchronized Redis4jDictionaryCompressor createDictionaryCompressor() {
+        if (dictionaryCompressor == null) {
+            Redis4jDictionaryStore store = new Redis4jRedisDictionaryStore(connectionFactories::getObject, properties.getCompressionDictionaryKey());
+            dictionaryCompressor = new Redis4jDictionaryCompressor(store, properties.getCompressionLevel(), properties.getCompressionDictionarySize(),
+                    properties.getCompressionDictionarySamples(), properties.getCompressionDictionaryRefreshInterval(),
+                    properties.getCompressionDictionaryLoadTimeout());
+        }
+        return dictionaryCompressor;
+    }
+
+    /**
+     * Creates the dictionary compression algorithm, when not created yet, and starts loading its dictionaries.
+     * Called on the first value compressed with a dictionary read by a node which does not compress with dictionaries,
+     * so that such nodes run no dictionary loader until they meet such a value.
+     *
+     * @return the started dictionary compression algorithm, class {@link Redis4jDictionaryCompressor}
+     */
+    protected synchronized Redis4jDictionaryCompressor startDictionaryCompressor() {
+        Redis4jDictionaryCompressor compressor = this.createDictionaryCompressor();
+        compressor.start();
+        return compressor;
+    }
+
+    /**
+     * Creates a Lettuce codec encoding keys as UTF-8 strings and values with the serializer of {@link #createValueSerializer()},
+     * so that native Lettuce connections share the value format of the Redis dispatch template.
+     *
+     * @return Initialized codec for String keys and Object values, class {@link RedisCodec}
+     */
+    @Override
+    public RedisCodec<String, Object> createValueCodec() {
+        return new Redis4jValueCodec(this.createValueSerializer());
     }
 
     /**
@@ -235,12 +549,12 @@ public class Redis4jConfigServiceImpl implements Redis4jConfigService {
      * Configures connection factory, serializers for keys and values, and enables transaction support.
      *
      * @param factory           The LettuceConnectionFactory used to create Redis connections, class {@link LettuceConnectionFactory}
-     * @param jacksonSerializer The Jackson2JsonRedisSerializer used to serialize/deserialize values to/from JSON, class {@link Jackson2JsonRedisSerializer}
+     * @param jacksonSerializer The RedisSerializer used to serialize/deserialize values, e.g. {@link #createValueSerializer()}, class {@link RedisSerializer}
      * @param serializer        The RedisSerializer used for serializing Redis keys, class {@link RedisSerializer}
      * @return Initialized RedisTemplate configured with specified connection factory and serializers, class {@link RedisTemplate}
      */
     @Override
-    public RedisTemplate<String, Object> createRedisDispatch(LettuceConnectionFactory factory, Jackson2JsonRedisSerializer<Object> jacksonSerializer, RedisSerializer<String> serializer) {
+    public RedisTemplate<String, Object> createRedisDispatch(LettuceConnectionFactory factory, RedisSerializer<Object> jacksonSerializer, RedisSerializer<String> serializer) {
         RedisTemplate<String, Object> template = new RedisTemplate<>();
         template.setConnectionFactory(factory);
         template.setKeySerializer(serializer); // Serializer for Redis keys
@@ -257,12 +571,13 @@ public class Redis4jConfigServiceImpl implements Redis4jConfigService {
      * Configures connection factory, serializers for keys and values, and enables transaction support.
      *
      * @param factory           The LettuceConnectionFactory used to create Redis connections, class {@link LettuceConnectionFactory}
-     * @param jacksonSerializer The Jackson2JsonRedisSerializer used to serialize/deserialize values to/from JSON, class {@link Jackson2JsonRedisSerializer}
+     * @param jacksonSerializer The RedisSerializer used to serialize/deserialize values to/from JSON, e.g. {@link #createJsonRedisSerializer()}
+     *                          wrapped by {@link #createCompressingSerializer(RedisSerializer)}, class {@link RedisSerializer}
      * @param serializer        The RedisSerializer used for serializing Redis keys, class {@link RedisSerializer}
      * @return Initialized StringRedisTemplate configured with specified connection factory and serializers, class {@link StringRedisTemplate}
      */
     @Override
-    public StringRedisTemplate createStringRedisDispatch(LettuceConnectionFactory factory, Jackson2JsonRedisSerializer<Object> jacksonSerializer, RedisSerializer<String> serializer) {
+    public StringRedisTemplate createStringRedisDispatch(LettuceConnectionFactory factory, RedisSerializer<Object> jacksonSerializer, RedisSerializer<String> serializer) {
         StringRedisTemplate template = new StringRedisTemplate(factory);
         template.setKeySerializer(serializer); // Serializer for Redis keys
         template.setValueSerializer(jacksonSerializer); // Serializer for Redis values
@@ -276,17 +591,182 @@ public class Redis4jConfigServiceImpl implements Redis4jConfigService {
     /**
      * Creates a CacheManager instance for managing caches backed by Redis using Spring Data Redis.
      * Configures the cache configuration and Redis cache writer.
+     * The defaults cache_ttl, cache_ttl_jitter, cache_null_values and cache_codec apply to every cache,
+     * and the entries of spring.redis4j.caches override them per cache name.
+     * When cache_local_enabled is set, the Redis caches are fronted by a bounded in-process L1,
+     * see {@link Redis4jTwoLevelCacheManager}.
      *
      * @param factory The LettuceConnectionFactory used to create Redis connections, class {@link LettuceConnectionFactory}
      * @return Initialized CacheManager configured with the specified connection factory, class {@link CacheManager}
      */
     @Override
     public CacheManager createCacheManager(LettuceConnectionFactory factory) {
-        RedisCacheConfiguration cacheConfig = RedisCacheConfiguration.defaultCacheConfig();
-        return RedisCacheManager.builder(
-                        RedisCacheWriter.nonLockingRedisCacheWriter(factory))
+        RedisCacheConfiguration cacheConfig = this.createCacheConfiguration(null);
+        Map<String, RedisCacheConfiguration> configs = new LinkedHashMap<>();
+        Map<String, Duration> jitters = new HashMap<>();
+        if (properties.getCaches() != null) {
+            properties.getCaches().forEach((name, spec) -> {
+                configs.put(name, this.createCacheConfiguration(spec));
+                if (spec != null && spec.getTtlJitter() != null) {
+                    jitters.put(name, spec.getTtlJitter());
+                }
+            });
+        }
+        RedisCacheWriter writer = RedisCacheWriter.nonLockingRedisCacheWriter(factory);
+        if ((properties.getCacheTtlJitter() != null && !properties.getCacheTtlJitter().isZero()) || !jitters.isEmpty()) {
+            writer = new Redis4jJitterCacheWriter(writer, jitters, properties.getCacheTtlJitter());
+        }
+        RedisCacheManager manager = RedisCacheManager.builder(writer)
                 .cacheDefaults(cacheConfig)
+                .withInitialCacheConfigurations(configs)
                 .build();
+        if (this.isDebugging()) {
+            logger.info("{} Redis4j, cache manager created with caches: {}", IconType.DEBUG.getCode(), configs.keySet());
+        }
+        if (!properties.isCacheLocalEnabled()) {
+            return manager;
+        }
+        return new Redis4jTwoLevelCacheManager(manager, factory, properties);
+    }
+
+    /**
+     * Creates the configuration of a Redis cache from its settings, falling back to the defaults
+     * cache_ttl, cache_null_values and cache_codec for every unset field.
+     *
+     * @param spec The settings of the cache name, class {@link Redis4jCacheProperties}, or null for the defaults
+     * @return Initialized cache configuration, class {@link RedisCacheConfiguration}
+     */
+    @Override
+    public RedisCacheConfiguration createCacheConfiguration(Redis4jCacheProperties spec) {
+        Duration ttl = spec != null && spec.getTtl() != null ? spec.getTtl() : properties.getCacheTtl();
+        boolean nullValues = spec != null && spec.getCacheNullValues() != null ? spec.getCacheNullValues() : properties.isCacheNullValues();
+        String codec = spec != null && String4j.isNotEmpty(spec.getCodec()) ? spec.getCodec() : properties.getCacheCodec();
+        RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(this.createCacheValueSerializer(codec)));
+        if (ttl != null && !ttl.isNegative() && !ttl.isZero()) {
+            config = config.entryTtl(ttl);
+        }
+        if (!nullValues) {
+            config = config.disableCachingNullValues();
+        }
+        if (spec != null && spec.getKeyPrefix() != null) {
+            String prefix = spec.getKeyPrefix();
+            config = config.computePrefixWith(name -> prefix);
+        }
+        return config;
+    }
+
+    /**
+     * Creates the serializer of the values of a Redis cache by codec name:
+     * jdk (Java serialization), json, smile or cbor (Jackson, with the type information needed to read the values back),
+     * string (UTF-8, for caches of strings only), or a custom {@link Redis4jCodec}. An unknown name falls back to jdk.
+     * The json, smile and cbor serializers read each other's values, so that a cache can switch between them live.
+     *
+     * @param codec The codec name
+     * @return Initialized value serializer, class {@link RedisSerializer}
+     */
+    @Override
+    public RedisSerializer<?> createCacheValueSerializer(String codec) {
+        String name = String4j.isEmpty(codec) ? "jdk" : codec.trim().toLowerCase();
+        switch (name) {
+            case "string":
+                return StringRedisSerializer.UTF_8;
+            case "jdk":
+                return RedisSerializer.java();
+            default:
+                if (this.createCodec(name, true) != null) {
+                    return this.createCodecSerializer(name, true);
+                }
+                logger.warn("{} Redis4j, unknown cache codec '{}', falling back to jdk", IconType.WARN.getCode(), codec);
+                return RedisSerializer.java();
+        }
+    }
+
+    /**
+     * Creates a serializer writing with a codec and reading json, smile, cbor and the custom codecs.
+     * An unknown codec name falls back to json.
+     *
+     * @param name  The codec name
+     * @param typed true to record the type of the values, see {@link #createCodec(String, boolean)}
+     * @return Initialized serializer, class {@link Redis4jCodecSerializer}
+     */
+    protected Redis4jCodecSerializer createCodecSerializer(String name, boolean typed) {
+        Redis4jCodec json = this.createCodec("json", typed);
+        Redis4jCodec writer = this.createCodec(name, typed);
+        if (writer == null) {
+            logger.warn("{} Redis4j, unknown value codec '{}', falling back to json", IconType.WARN.getCode(), name);
+            writer = json;
+        }
+        List<Redis4jCodec> readers = new ArrayList<>();
+        readers.add(this.createCodec("smile", typed));
+        readers.add(this.createCodec("cbor", typed));
+        for (Redis4jCodec codec : this.loadCodecs()) {
+            if (codec.marker() == Redis4jCodec.UNMARKED || codec.marker() == Redis4jCodec.SMILE || codec.marker() == Redis4jCodec.CBOR
+                    || (codec.marker() >= Redis4jCompressor.RESERVED_FIRST && codec.marker() <= Redis4jCompressor.RESERVED_LAST)) {
+                logger.warn("{} Redis4j, codec '{}' uses the reserved marker {}, it can be written but is not recognized on reads", IconType.WARN.getCode(), codec.name(), codec.marker());
+                continue;
+            }
+            readers.add(codec);
+        }
+        if (this.isDebugging()) {
+            logger.info("{} Redis4j, values written as {} (typed: {})", IconType.DEBUG.getCode(), writer.name(), typed);
+        }
+        return new Redis4jCodecSerializer(writer, json, readers);
+    }
+
+    /**
+     * Creates the object mapper of a binary Jackson format.
+     * Untyped mappers mirror the settings of {@link #createJsonRedisSerializer()}; typed mappers record the class
+     * of the values like {@link GenericJackson2JsonRedisSerializer}.
+     *
+     * @param factory The Jackson factory of the format, class {@link JsonFactory}
+     * @param typed   true to record the type of the values
+     * @return Initialized object mapper, class {@link ObjectMapper}
+     */
+    protected ObjectMapper createBinaryMapper(JsonFactory factory, boolean typed) {
+        ObjectMapper mapper = new ObjectMapper(factory);
+        mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        if (typed) {
+            mapper.activateDefaultTyping(mapper.getPolymorphicTypeValidator(), ObjectMapper.DefaultTyping.NON_FINAL, JsonTypeInfo.As.PROPERTY);
+        } else {
+            mapper.setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.ANY);
+        }
+        return mapper;
+    }
+
+    /**
+     * @return the custom compression algorithms registered through META-INF/services/org.redis4j.codec.Redis4jCompressor,
+     * those whose marker is outside the range reserved for compression or is the one of deflate being ignored
+     */
+    protected List<Redis4jCompressor> loadCompressors() {
+        List<Redis4jCompressor> compressors = new ArrayList<>();
+        try {
+            for (Redis4jCompressor compressor : ServiceLoader.load(Redis4jCompressor.class)) {
+                if (compressor.marker() < Redis4jCompressor.RESERVED_FIRST || compressor.marker() > Redis4jCompressor.RESERVED_LAST || compressor.marker() == Redis4jCompressor.DEFLATE || compressor.marker() == Redis4jCompressor.DICTIONARY) {
+                    logger.warn("{} Redis4j, compression algorithm '{}' uses the marker {} outside of the free reserved range, ignored", IconType.WARN.getCode(), compressor.name(), compressor.marker());
+                    continue;
+                }
+                compressors.add(compressor);
+            }
+        } catch (ServiceConfigurationError e) {
+            logger.error("{} Redis4j, loading the custom compression algorithms got an exception: {}", IconType.ERROR.getCode(), e.getMessage(), e);
+        }
+        return compressors;
+    }
+
+    /**
+     * @return the custom codecs registered through META-INF/services/org.redis4j.codec.Redis4jCodec
+     */
+    protected List<Redis4jCodec> loadCodecs() {
+        List<Redis4jCodec> codecs = new ArrayList<>();
+        try {
+            for (Redis4jCodec codec : ServiceLoader.load(Redis4jCodec.class)) {
+                codecs.add(codec);
+            }
+        } catch (ServiceConfigurationError e) {
+            logger.error("{} Redis4j, loading the custom value codecs got an exception: {}", IconType.ERROR.getCode(), e.getMessage(), e);
+        }
+        return codecs;
     }
 
     /**
@@ -302,8 +782,8 @@ public class Redis4jConfigServiceImpl implements Redis4jConfigService {
         if (factory == null) {
             return false;
         }
-        try {
-            String status = factory.getConnection().ping();
+        try (RedisConnection connection = factory.getConnection()) {
+            String status = connection.ping();
             if (this.isDebugging()) {
                 logger.info("{} Verifying Redis Server ping: {}", IconType.DEBUG.getCode(), status);
             }
@@ -332,16 +812,34 @@ public class Redis4jConfigServiceImpl implements Redis4jConfigService {
 
     /**
      * Provides a Redis client configured with the connection details specified in the application properties.
+     * The client connects to the same database, with the same credentials and SSL setting, as the connection factory,
+     * so that native connections, e.g. the near cache tracking connection, see the data written by the dispatch templates.
+     * It shares the client resources of the connection factory, so that its command latencies and connection events
+     * are published on the same event bus, and it runs on the same event loops.
      *
      * @return a configured instance of {@link RedisClient} ready to connect to the Redis server.
      */
     @Override
     public RedisClient clientProvider() {
-        RedisURI uri = RedisURI.builder()
+        RedisURI.Builder builder = RedisURI.builder()
                 .withHost(redisProperties.getHost())
                 .withPort(redisProperties.getPort())
-                .withPassword(redisProperties.getPassword().toCharArray())
-                .build();
-        return RedisClient.create(uri);
+                .withDatabase(redisProperties.getDatabase())
+                .withSsl(redisProperties.isSsl());
+        if (redisProperties.getPassword() != null) {
+            if (String4j.isNotEmpty(redisProperties.getUsername())) {
+                builder.withAuthentication(redisProperties.getUsername(), redisProperties.getPassword());
+            } else {
+                builder.withPassword(redisProperties.getPassword().toCharArray());
+            }
+        }
+        if (redisProperties.getTimeout() != null) {
+            builder.withTimeout(redisProperties.getTimeout());
+        }
+        ClientResources resources = clientResources.getIfAvailable();
+        if (resources == null) {
+            return RedisClient.create(builder.build());
+        }
+        return RedisClient.create(resources, builder.build());
     }
 }
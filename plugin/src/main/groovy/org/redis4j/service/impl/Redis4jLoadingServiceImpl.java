@@ -0,0 +1,727 @@
+package org.redis4j.service.impl;
+
+import org.redis4j.common.Redis4j;
+import org.redis4j.config.props.Redis4jProperties;
+import org.redis4j.model.Redis4jCacheEntry;
+import org.redis4j.model.Redis4jLoadingStats;
+import org.redis4j.service.Redis4jConfigService;
+import org.redis4j.service.Redis4jLoadingService;
+import org.redis4j.service.Redis4jService;
+import org.redis4j.service.Redis4jWrapCallback;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.ResolvableType;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.stereotype.Service;
+import org.unify4j.common.String4j;
+import org.unify4j.model.builder.HttpStatusBuilder;
+import org.unify4j.model.builder.HttpWrapBuilder;
+import org.unify4j.model.enums.IconType;
+
+import javax.annotation.PreDestroy;
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+@SuppressWarnings({"unchecked", "DuplicatedCode"})
+@Service
+public class Redis4jLoadingServiceImpl implements Redis4jLoadingService {
+    protected static final Logger logger = LoggerFactory.getLogger(Redis4jLoadingServiceImpl.class);
+
+    /**
+     * Suffix of the key holding the lease of a key being loaded.
+     */
+    protected static final String LEASE_SUFFIX = ":redis4j:lease";
+
+    /**
+     * Deletes the lease only while it still holds the token of the caller, so that a holder whose lease expired
+     * cannot release the lease acquired by another node meanwhile.
+     */
+    protected static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+                    "return redis.call('DEL', KEYS[1]) " +
+                    "end " +
+                    "return 0", Long.class);
+
+    protected final Redis4jConfigService redis4jConfigService;
+    protected final Redis4jService redis4jService;
+    protected final ConcurrentMap<String, CompletableFuture<Object>> flights = new ConcurrentHashMap<>();
+    protected final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    protected final Map<Class<?>, Type> entryTypes = new ConcurrentHashMap<>();
+    protected volatile ThreadPoolExecutor executor;
+    protected final LongAdder hits = new LongAdder();
+    protected final LongAdder misses = new LongAdder();
+    protected final LongAdder staleServes = new LongAdder();
+    protected final LongAdder refreshes = new LongAdder();
+    protected final LongAdder refreshSuccesses = new LongAdder();
+    protected final LongAdder refreshFailures = new LongAdder();
+    protected final LongAdder refreshSkips = new LongAdder();
+    protected final LongAdder refreshDrops = new LongAdder();
+
+    @Autowired
+    public Redis4jLoadingServiceImpl(Redis4jConfigService redis4jConfigService,
+                                     Redis4jService redis4jService) {
+        this.redis4jConfigService = redis4jConfigService;
+        this.redis4jService = redis4jService;
+    }
+
+    @PreDestroy
+    public void destroy() {
+        ThreadPoolExecutor e = executor;
+        executor = null;
+        if (e != null) {
+            e.shutdownNow();
+        }
+    }
+
+    /**
+     * Retrieves a cache object, or loads, stores and returns it when the key is missing.
+     * A null result of the loader is returned but not stored.
+     * If the dispatch template is null, the loader is invoked directly, without caching.
+     *
+     * @param dispatch The RedisTemplate used to read and write the cache object.
+     * @param key      The key of the cache object.
+     * @param type     The type to read the cached value as.
+     * @param timeout  The expiration timeout of the stored object, 0 for no expiration.
+     * @param unit     The time unit for the expiration timeout.
+     * @param loader   The function computing the value on a miss, class {@link Supplier}
+     * @param <T>      The type of the value.
+     * @return the cached or loaded value, or null if the key is empty/blank, the loader is null or returned null.
+     */
+    @Override
+    public <T> T getOrLoad(RedisTemplate<String, Object> dispatch, String key, Class<T> type, long timeout, TimeUnit unit, Supplier<T> loader) {
+        if (loader == null || type == null || unit == null || timeout < 0) {
+            return null;
+        }
+        if (String4j.isEmpty(key) || String4j.isBlank(key)) {
+            return null;
+        }
+        if (dispatch == null) {
+            return loader.get();
+        }
+        String preKey = String4j.trimWhitespace(key);
+        T value = redis4jService.getCacheObject(dispatch, preKey, type);
+        if (value != null) {
+            hits.increment();
+            return value;
+        }
+        misses.increment();
+        return type.cast(this.fly(preKey, () -> this.load(dispatch, preKey, type, timeout, timeout, unit, loader, false)));
+    }
+
+    /**
+     * Retrieves a cache object, or loads, stores and returns it when the key is missing,
+     * with an optional callback for handling exceptions, including those thrown by the loader.
+     *
+     * @param dispatch The RedisTemplate used to read and write the cache object.
+     * @param key      The key of the cache object.
+     * @param type     The type to read the cached value as.
+     * @param timeout  The expiration timeout of the stored object, 0 for no expiration.
+     * @param unit     The time unit for the expiration timeout.
+     * @param loader   The function computing the value on a miss, class {@link Supplier}
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the value.
+     * @return the cached or loaded value, or null if an exception occurs.
+     */
+    @Override
+    public <T> T getOrLoad(RedisTemplate<String, Object> dispatch, String key, Class<T> type, long timeout, TimeUnit unit, Supplier<T> loader, Redis4jWrapCallback callback) {
+        HttpWrapBuilder<?> response = null;
+        T data = null;
+        try {
+            data = this.getOrLoad(dispatch, key, type, timeout, unit, loader);
+        } catch (Exception e) {
+            if (callback != null) {
+                response = Redis4j.wrap()
+                        .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
+                        .message("getting or loading redis value failed")
+                        .debug("cause", e.getMessage())
+                        .errors(e)
+                        .customFields("redis_key", key);
+            }
+        }
+        if (callback != null) {
+            callback.onCallback(response != null ? response.build() : Redis4j.success());
+        }
+        return data;
+    }
+
+    /**
+     * Sets a cache object together with its compute time and expiration instant, see {@link Redis4jCacheEntry},
+     * so that {@link #getRefreshableObject(RedisTemplate, String, Class, long, TimeUnit, Supplier)} can refresh it early.
+     * If the dispatch template, value, or time unit is null, or if the timeout is negative,
+     * or if the key is empty or blank, the method returns without performing any operation.
+     *
+     * @param dispatch The RedisTemplate used to set the cache object.
+     * @param key      The key under which the value should be stored.
+     * @param value    The value to be cached.
+     * @param delta    The time it took to compute the value, in milliseconds.
+     * @param timeout  The expiration timeout for the cached object, 0 for no expiration (and no early refresh).
+     * @param unit     The time unit for the expiration timeout.
+     * @param <T>      The type of the value being cached.
+     */
+    @Override
+    public <T> void setRefreshableObject(RedisTemplate<String, Object> dispatch, String key, T value, long delta, long timeout, TimeUnit unit) {
+        if (dispatch == null || value == null || timeout < 0 || unit == null) {
+            return;
+        }
+        if (String4j.isEmpty(key) || String4j.isBlank(key)) {
+            return;
+        }
+        this.store(dispatch, String4j.trimWhitespace(key), value, delta, timeout, timeout, unit);
+    }
+
+    /**
+     * Retrieves a cache object written by {@link #setRefreshableObject(RedisTemplate, String, Object, long, long, TimeUnit)},
+     * or loads, stores and returns it when the key is missing, like
+     * {@link #getOrLoad(RedisTemplate, String, Class, long, TimeUnit, Supplier)}.
+     * <p>
+     * On a hit, the value is recomputed in the background before it expires with a probability growing as the expiry
+     * approaches, scaled by the compute time and early_refresh_beta (XFetch), while the caller gets the current value.
+     * A plain object written by setCacheObject is returned as is and never refreshed early.
+     *
+     * @param dispatch The RedisTemplate used to read and write the cache object.
+     * @param key      The key of the cache object.
+     * @param type     The type to read the cached value as.
+     * @param timeout  The expiration timeout of the stored object, 0 for no expiration.
+     * @param unit     The time unit for the expiration timeout.
+     * @param loader   The function computing the value, class {@link Supplier}
+     * @param <T>      The type of the value.
+     * @return the cached or loaded value, or null if the key is empty/blank, the loader is null or returned null.
+     */
+    @Override
+    public <T> T getRefreshableObject(RedisTemplate<String, Object> dispatch, String key, Class<T> type, long timeout, TimeUnit unit, Supplier<T> loader) {
+        if (loader == null || type == null || unit == null || timeout < 0) {
+            return null;
+        }
+        if (String4j.isEmpty(key) || String4j.isBlank(key)) {
+            return null;
+        }
+        if (dispatch == null) {
+            return loader.get();
+        }
+        String preKey = String4j.trimWhitespace(key);
+        Redis4jCacheEntry<T> entry = this.entry(dispatch, preKey, type);
+        if (entry != null) {
+            hits.increment();
+            if (entry.getValue() == null) {
+                return redis4jService.getCacheObject(dispatch, preKey, type);
+            }
+            if (this.isRefreshDue(entry)) {
+                this.refresh(dispatch, preKey, timeout, timeout, unit, loader);
+            }
+            return entry.getValue();
+        }
+        misses.increment();
+        return type.cast(this.fly(preKey, () -> this.load(dispatch, preKey, type, timeout, timeout, unit, loader, true)));
+    }
+
+    /**
+     * Retrieves a refreshable cache object, or loads, stores and returns it when the key is missing,
+     * with an optional callback for handling exceptions, including those thrown by the loader.
+     *
+     * @param dispatch The RedisTemplate used to read and write the cache object.
+     * @param key      The key of the cache object.
+     * @param type     The type to read the cached value as.
+     * @param timeout  The expiration timeout of the stored object, 0 for no expiration.
+     * @param unit     The time unit for the expiration timeout.
+     * @param loader   The function computing the value, class {@link Supplier}
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the value.
+     * @return the cached or loaded value, or null if an exception occurs.
+     */
+    @Override
+    public <T> T getRefreshableObject(RedisTemplate<String, Object> dispatch, String key, Class<T> type, long timeout, TimeUnit unit, Supplier<T> loader, Redis4jWrapCallback callback) {
+        HttpWrapBuilder<?> response = null;
+        T data = null;
+        try {
+            data = this.getRefreshableObject(dispatch, key, type, timeout, unit, loader);
+        } catch (Exception e) {
+            if (callback != null) {
+                response = Redis4j.wrap()
+                        .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
+                        .message("getting or loading refreshable redis value failed")
+                        .debug("cause", e.getMessage())
+                        .errors(e)
+                        .customFields("redis_key", key);
+            }
+        }
+        if (callback != null) {
+            callback.onCallback(response != null ? response.build() : Redis4j.success());
+        }
+        return data;
+    }
+
+    /**
+     * Retrieves a cache object with stale-while-revalidate semantics, or loads, stores and returns it when the key is missing.
+     * The object is stored with a soft and a hard expiration: before the soft one it is served as is; between both,
+     * the stale value is served at once and a single background reload is triggered; after the hard one Redis drops it,
+     * and the next read loads it like {@link #getOrLoad(RedisTemplate, String, Class, long, TimeUnit, Supplier)}.
+     * A plain object written by setCacheObject is returned as is and never reloaded.
+     *
+     * @param dispatch    The RedisTemplate used to read and write the cache object.
+     * @param key         The key of the cache object.
+     * @param type        The type to read the cached value as.
+     * @param softTimeout The time after which the stored object is stale and reloaded in the background.
+     * @param hardTimeout The expiration timeout of the stored object, not lower than softTimeout, 0 for no expiration.
+     * @param unit        The time unit for both timeouts.
+     * @param loader      The function computing the value, class {@link Supplier}
+     * @param <T>         The type of the value.
+     * @return the cached, stale or loaded value, or null if the key is empty/blank, the loader is null or returned null.
+     */
+    @Override
+    public <T> T getOrRevalidate(RedisTemplate<String, Object> dispatch, String key, Class<T> type, long softTimeout, long hardTimeout, TimeUnit unit, Supplier<T> loader) {
+        if (loader == null || type == null || unit == null || softTimeout <= 0 || hardTimeout < 0) {
+            return null;
+        }
+        if (hardTimeout > 0 && hardTimeout < softTimeout) {
+            return null;
+        }
+        if (String4j.isEmpty(key) || String4j.isBlank(key)) {
+            return null;
+        }
+        if (dispatch == null) {
+            return loader.get();
+        }
+        String preKey = String4j.trimWhitespace(key);
+        Redis4jCacheEntry<T> entry = this.entry(dispatch, preKey, type);
+        if (entry != null) {
+            if (entry.getValue() == null) {
+                hits.increment();
+                return redis4jService.getCacheObject(dispatch, preKey, type);
+            }
+            if (entry.getExpiry() > 0 && System.currentTimeMillis() >= entry.getExpiry()) {
+                staleServes.increment();
+                this.refresh(dispatch, preKey, softTimeout, hardTimeout, unit, loader);
+            } else {
+                hits.increment();
+            }
+            return entry.getValue();
+        }
+        misses.increment();
+        return type.cast(this.fly(preKey, () -> this.load(dispatch, preKey, type, softTimeout, hardTimeout, unit, loader, true)));
+    }
+
+    /**
+     * Retrieves a cache object with stale-while-revalidate semantics, or loads, stores and returns it when the key is missing,
+     * with an optional callback for handling exceptions, including those thrown by the loader.
+     *
+     * @param dispatch    The RedisTemplate used to read and write the cache object.
+     * @param key         The key of the cache object.
+     * @param type        The type to read the cached value as.
+     * @param softTimeout The time after which the stored object is stale and reloaded in the background.
+     * @param hardTimeout The expiration timeout of the stored object, not lower than softTimeout, 0 for no expiration.
+     * @param unit        The time unit for both timeouts.
+     * @param loader      The function computing the value, class {@link Supplier}
+     * @param callback    An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>         The type of the value.
+     * @return the cached, stale or loaded value, or null if an exception occurs.
+     */
+    @Override
+    public <T> T getOrRevalidate(RedisTemplate<String, Object> dispatch, String key, Class<T> type, long softTimeout, long hardTimeout, TimeUnit unit, Supplier<T> loader, Redis4jWrapCallback callback) {
+        HttpWrapBuilder<?> response = null;
+        T data = null;
+        try {
+            data = this.getOrRevalidate(dispatch, key, type, softTimeout, hardTimeout, unit, loader);
+        } catch (Exception e) {
+            if (callback != null) {
+                response = Redis4j.wrap()
+                        .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
+                        .message("getting or revalidating redis value failed")
+                        .debug("cause", e.getMessage())
+                        .errors(e)
+                        .customFields("redis_key", key);
+            }
+        }
+        if (callback != null) {
+            callback.onCallback(response != null ? response.build() : Redis4j.success());
+        }
+        return data;
+    }
+
+    /**
+     * @return a snapshot of the hit, miss, stale serve and background refresh counters, class {@link Redis4jLoadingStats}
+     */
+    @Override
+    public Redis4jLoadingStats stats() {
+        return new Redis4jLoadingStats(hits.sum(), misses.sum(), staleServes.sum(), refreshes.sum(),
+                refreshSuccesses.sum(), refreshFailures.sum(), refreshSkips.sum(), refreshDrops.sum());
+    }
+
+    /**
+     * Runs a load on behalf of every caller of the JVM waiting for the same key: the first caller runs it,
+     * the others wait for its result, or its failure.
+     *
+     * @param key  the key of the cache object
+     * @param work the load
+     * @return the loaded value
+     */
+    protected Object fly(String key, Supplier<Object> work) {
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> leader = flights.putIfAbsent(key, flight);
+        if (leader != null) {
+            if (redis4jConfigService.isDebugging()) {
+                logger.info("{} Joining the in-flight load of Redis key: '{}'", IconType.DEBUG.getCode(), key);
+            }
+            return this.join(leader);
+        }
+        try {
+            Object value = work.get();
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            flights.remove(key, flight);
+        }
+    }
+
+    /**
+     * Loads a missing key. The cache is read again first, since the previous flight of the key may have completed
+     * between the miss of the caller and the registration of this flight.
+     *
+     * @param dispatch    the Redis template, an instance of {@link RedisTemplate}
+     * @param key         the key of the cache object
+     * @param type        the type to read the cached value as
+     * @param soft        the time after which the stored value is due for a refresh, equal to timeout unless stale-while-revalidate
+     * @param timeout     the expiration timeout of the stored object, 0 for no expiration
+     * @param unit        the time unit for the expiration timeout
+     * @param loader      the function computing the value
+     * @param refreshable true to store the value as a {@link Redis4jCacheEntry}, false to store it as is
+     * @param <T>         the type of the value
+     * @return the cached or loaded value
+     */
+    protected <T> T load(RedisTemplate<String, Object> dispatch, String key, Class<T> type, long soft, long timeout, TimeUnit unit, Supplier<T> loader, boolean refreshable) {
+        T value = this.read(dispatch, key, type, refreshable);
+        if (value != null) {
+            return value;
+        }
+        Redis4jProperties properties = redis4jConfigService.getProperties();
+        if (properties == null || !properties.isLoadLeaseEnabled()) {
+            return this.compute(dispatch, key, soft, timeout, unit, loader, refreshable);
+        }
+        Duration ttl = this.leaseTtl(properties);
+        String lease = key + LEASE_SUFFIX;
+        String token = UUID.randomUUID().toString();
+        if (this.acquire(dispatch, lease, token, ttl)) {
+            try {
+                return this.compute(dispatch, key, soft, timeout, unit, loader, refreshable);
+            } finally {
+                this.release(dispatch, lease, token);
+            }
+        }
+        value = this.await(dispatch, key, type, ttl, properties.getLoadLeasePollInterval(), refreshable);
+        if (value != null) {
+            return value;
+        }
+        logger.warn("{} Redis4j, the lease of Redis key: '{}' was not honored within {}, loading locally", IconType.WARN.getCode(), key, ttl);
+        return this.compute(dispatch, key, soft, timeout, unit, loader, refreshable);
+    }
+
+    /**
+     * Invokes the loader and stores a non-null result.
+     *
+     * @param dispatch    the Redis template, an instance of {@link RedisTemplate}
+     * @param key         the key of the cache object
+     * @param soft        the time after which the stored value is due for a refresh, equal to timeout unless stale-while-revalidate
+     * @param timeout     the expiration timeout of the stored object, 0 for no expiration
+     * @param unit        the time unit for the expiration timeout
+     * @param loader      the function computing the value
+     * @param refreshable true to store the value as a {@link Redis4jCacheEntry}, false to store it as is
+     * @param <T>         the type of the value
+     * @return the loaded value
+     */
+    protected <T> T compute(RedisTemplate<String, Object> dispatch, String key, long soft, long timeout, TimeUnit unit, Supplier<T> loader, boolean refreshable) {
+        if (redis4jConfigService.isDebugging()) {
+            logger.info("{} Loading Redis key: '{}'", IconType.DEBUG.getCode(), key);
+        }
+        long started = System.nanoTime();
+        T value = loader.get();
+        if (value == null) {
+            return null;
+        }
+        if (refreshable) {
+            this.store(dispatch, key, value, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started), soft, timeout, unit);
+        } else if (timeout > 0) {
+            redis4jService.setCacheObject(dispatch, key, value, timeout, unit);
+        } else {
+            redis4jService.setCacheObject(dispatch, key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Stores a value as a {@link Redis4jCacheEntry} that is due for a refresh after the soft timeout,
+     * and expires from Redis after the (hard) timeout.
+     *
+     * @param dispatch the Redis template, an instance of {@link RedisTemplate}
+     * @param key      the key of the cache object
+     * @param value    the value to be cached
+     * @param delta    the time it took to compute the value, in milliseconds
+     * @param soft     the time after which the stored value is due for a refresh
+     * @param timeout  the expiration timeout of the stored object, 0 for no expiration
+     * @param unit     the time unit for both timeouts
+     * @param <T>      the type of the value
+     */
+    protected <T> void store(RedisTemplate<String, Object> dispatch, String key, T value, long delta, long soft, long timeout, TimeUnit unit) {
+        long expiry = soft > 0 ? System.currentTimeMillis() + unit.toMillis(soft) : 0;
+        Redis4jCacheEntry<T> entry = new Redis4jCacheEntry<>(value, Math.max(0, delta), expiry);
+        if (timeout > 0) {
+            redis4jService.setCacheObject(dispatch, key, entry, timeout, unit);
+        } else {
+            redis4jService.setCacheObject(dispatch, key, entry);
+        }
+    }
+
+    /**
+     * Reads a cache object as a type, unwrapping it when stored as a {@link Redis4jCacheEntry}.
+     *
+     * @param dispatch    the Redis template, an instance of {@link RedisTemplate}
+     * @param key         the key of the cache object
+     * @param type        the type to read the value as
+     * @param refreshable true if the value may be stored as a {@link Redis4jCacheEntry}
+     * @param <T>         the type of the value
+     * @return the value, or null if the key is missing
+     */
+    protected <T> T read(RedisTemplate<String, Object> dispatch, String key, Class<T> type, boolean refreshable) {
+        if (!refreshable) {
+            return redis4jService.getCacheObject(dispatch, key, type);
+        }
+        Redis4jCacheEntry<T> entry = this.entry(dispatch, key, type);
+        if (entry == null) {
+            return null;
+        }
+        return entry.getValue() != null ? entry.getValue() : redis4jService.getCacheObject(dispatch, key, type);
+    }
+
+    /**
+     * Reads a cache object as a {@link Redis4jCacheEntry} whose value is bound straight to a type,
+     * so that the value is decoded once instead of being read as a map tree and converted again.
+     *
+     * @param dispatch the Redis template, an instance of {@link RedisTemplate}
+     * @param key      the key of the cache object
+     * @param type     the type to read the value of the entry as
+     * @param <T>      the type of the value
+     * @return the entry; an entry without value when the key holds a plain object written by setCacheObject,
+     * which is then read as the type by the caller; or null if the key is missing
+     */
+    protected <T> Redis4jCacheEntry<T> entry(RedisTemplate<String, Object> dispatch, String key, Class<T> type) {
+        Type entryType = entryTypes.computeIfAbsent(type, t -> ResolvableType.forClassWithGenerics(Redis4jCacheEntry.class, t).getType());
+        try {
+            return redis4jService.getCacheObject(dispatch, key, entryType);
+        } catch (SerializationException e) {
+            return new Redis4jCacheEntry<>(); // a plain object which is no entry, e.g. a scalar or a list
+        }
+    }
+
+    /**
+     * Decides whether a value is recomputed now, i.e. whether now - delta * beta * ln(random) reaches its expiry (XFetch).
+     * The closer the expiry and the longer the compute time, the likelier the refresh.
+     *
+     * @param entry the cache entry, class {@link Redis4jCacheEntry}
+     * @return true if the value should be refreshed, false otherwise
+     */
+    protected boolean isRefreshDue(Redis4jCacheEntry<?> entry) {
+        if (entry.getExpiry() <= 0 || entry.getDelta() <= 0) {
+            return false;
+        }
+        Redis4jProperties properties = redis4jConfigService.getProperties();
+        double beta = properties != null && properties.getEarlyRefreshBeta() > 0 ? properties.getEarlyRefreshBeta() : 1.0;
+        double random = 1.0 - ThreadLocalRandom.current().nextDouble(); // (0, 1], so that the logarithm is finite
+        return System.currentTimeMillis() - entry.getDelta() * beta * Math.log(random) >= entry.getExpiry();
+    }
+
+    /**
+     * Recomputes a value in the background, at most once at a time per key within the JVM and, with load_lease_enabled,
+     * across nodes. A refresh is dropped when the refresh queue is full, the current value then keeps being served.
+     * Only a refresh that stored a new value counts as a success; one skipped for the lease of another node, or whose
+     * loader returned null, leaves the current value in place.
+     *
+     * @param dispatch the Redis template, an instance of {@link RedisTemplate}
+     * @param key      the key of the cache object
+     * @param soft     the time after which the stored value is due for a refresh, equal to timeout unless stale-while-revalidate
+     * @param timeout  the expiration timeout of the stored object, 0 for no expiration
+     * @param unit     the time unit for the expiration timeout
+     * @param loader   the function computing the value
+     * @param <T>      the type of the value
+     */
+    protected <T> void refresh(RedisTemplate<String, Object> dispatch, String key, long soft, long timeout, TimeUnit unit, Supplier<T> loader) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+        try {
+            this.executor().execute(() -> {
+                try {
+                    if (this.recompute(dispatch, key, soft, timeout, unit, loader) != null) {
+                        refreshSuccesses.increment();
+                    }
+                } catch (Exception e) {
+                    refreshFailures.increment();
+                    logger.error("{} Redis4j, refreshing Redis key '{}' got an exception: {}", IconType.ERROR.getCode(), key, e.getMessage(), e);
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+            refreshes.increment();
+            if (redis4jConfigService.isDebugging()) {
+                logger.info("{} Refreshing Redis key in the background: '{}'", IconType.DEBUG.getCode(), key);
+            }
+        } catch (RejectedExecutionException e) {
+            refreshDrops.increment();
+            refreshing.remove(key);
+        }
+    }
+
+    /**
+     * Recomputes and stores a value that is still cached, unless another node holds the lease of the key.
+     *
+     * @param dispatch the Redis template, an instance of {@link RedisTemplate}
+     * @param key      the key of the cache object
+     * @param soft     the time after which the stored value is due for a refresh, equal to timeout unless stale-while-revalidate
+     * @param timeout  the expiration timeout of the stored object, 0 for no expiration
+     * @param unit     the time unit for the expiration timeout
+     * @param loader   the function computing the value
+     * @param <T>      the type of the value
+     * @return the recomputed value, or null if another node is recomputing it, counted as a skip, or the loader returned null
+     */
+    protected <T> T recompute(RedisTemplate<String, Object> dispatch, String key, long soft, long timeout, TimeUnit unit, Supplier<T> loader) {
+        Redis4jProperties properties = redis4jConfigService.getProperties();
+        if (properties == null || !properties.isLoadLeaseEnabled()) {
+            return this.compute(dispatch, key, soft, timeout, unit, loader, true);
+        }
+        String lease = key + LEASE_SUFFIX;
+        String token = UUID.randomUUID().toString();
+        if (!this.acquire(dispatch, lease, token, this.leaseTtl(properties))) {
+            refreshSkips.increment();
+            return null;
+        }
+        try {
+            return this.compute(dispatch, key, soft, timeout, unit, loader, true);
+        } finally {
+            this.release(dispatch, lease, token);
+        }
+    }
+
+    /**
+     * @return the executor running early refreshes, created on first use with early_refresh_threads daemon threads
+     * and a queue bounded by early_refresh_queue_size
+     */
+    protected ThreadPoolExecutor executor() {
+        ThreadPoolExecutor e = executor;
+        if (e != null) {
+            return e;
+        }
+        synchronized (this) {
+            if (executor == null) {
+                Redis4jProperties properties = redis4jConfigService.getProperties();
+                int threads = properties != null && properties.getEarlyRefreshThreads() > 0 ? properties.getEarlyRefreshThreads() : 2;
+                int capacity = properties != null && properties.getEarlyRefreshQueueSize() > 0 ? properties.getEarlyRefreshQueueSize() : 1000;
+                AtomicInteger sequence = new AtomicInteger();
+                executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(capacity), runnable -> {
+                    Thread thread = new Thread(runnable, "redis4j-refresh-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+            }
+            return executor;
+        }
+    }
+
+    /**
+     * @param properties the Redis4j configuration properties, class {@link Redis4jProperties}
+     * @return the lease time to live, load_lease_ttl or 10 seconds when unset
+     */
+    protected Duration leaseTtl(Redis4jProperties properties) {
+        return properties.getLoadLeaseTtl() != null ? properties.getLoadLeaseTtl() : Duration.ofSeconds(10);
+    }
+
+    /**
+     * Acquires a lease with SET NX PX.
+     *
+     * @param dispatch the Redis template, an instance of {@link RedisTemplate}
+     * @param lease    the key of the lease
+     * @param token    the token identifying the holder
+     * @param ttl      the lease time to live
+     * @return true if the lease was acquired, false if another holder has it
+     */
+    protected boolean acquire(RedisTemplate<String, Object> dispatch, String lease, String token, Duration ttl) {
+        return Boolean.TRUE.equals(dispatch.opsForValue().setIfAbsent(lease, token, ttl.toMillis(), TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * Polls the cache until the lease holder wrote the value, or the lease time to live elapsed.
+     *
+     * @param dispatch    the Redis template, an instance of {@link RedisTemplate}
+     * @param key         the key of the cache object
+     * @param type        the type to read the value as
+     * @param ttl         the lease time to live
+     * @param interval    the polling interval
+     * @param refreshable true if the value may be stored as a {@link Redis4jCacheEntry}
+     * @param <T>         the type of the value
+     * @return the value written by the lease holder, or null if none appeared in time or the thread was interrupted
+     */
+    protected <T> T await(RedisTemplate<String, Object> dispatch, String key, Class<T> type, Duration ttl, Duration interval, boolean refreshable) {
+        long pause = interval != null && interval.toMillis() > 0 ? interval.toMillis() : 50;
+        long deadline = System.nanoTime() + ttl.toNanos();
+        while (System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(pause);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            T value = this.read(dispatch, key, type, refreshable);
+            if (value != null) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Releases a lease held by the caller; a failure is logged only, the lease then expires by itself.
+     *
+     * @param dispatch the Redis template, an instance of {@link RedisTemplate}
+     * @param lease    the key of the lease
+     * @param token    the token written when acquiring the lease
+     */
+    protected void release(RedisTemplate<String, Object> dispatch, String lease, String token) {
+        try {
+            dispatch.execute(RELEASE_SCRIPT, Collections.singletonList(lease), token);
+        } catch (Exception e) {
+            logger.error("{} Redis4j, releasing lease '{}' got an exception: {}", IconType.ERROR.getCode(), lease, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Waits for the flight led by another thread, rethrowing its failure as is.
+     *
+     * @param flight the future of the flight
+     * @return the value loaded by the flight
+     */
+    protected Object join(CompletableFuture<Object> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,457 @@
+package org.redis4j.service.impl;
+
+import io.lettuce.core.LettuceFutures;
+import io.lettuce.core.RedisChannelHandler;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisConnectionStateAdapter;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.TrackingArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.api.push.PushMessage;
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.codec.StringCodec;
+import org.redis4j.codec.Redis4jTypedSerializer;
+import org.redis4j.config.props.Redis4jProperties;
+import org.redis4j.model.Redis4jNearCacheStats;
+import org.redis4j.service.Redis4jConfigService;
+import org.redis4j.service.Redis4jNearCacheService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Service;
+import org.unify4j.common.String4j;
+import org.unify4j.model.enums.IconType;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.lang.reflect.Type;
+import java.net.SocketAddress;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+@SuppressWarnings({"unchecked"})
+@Service
+public class Redis4jNearCacheServiceImpl implements Redis4jNearCacheService {
+    protected static final Logger logger = LoggerFactory.getLogger(Redis4jNearCacheServiceImpl.class);
+    protected static final char FIELD_SEPARATOR = '\u0000';
+    protected static final int EVICTION_SAMPLES = 8; // entries compared to pick the least recently used one to evict
+
+    protected final Redis4jConfigService redis4jConfigService;
+    protected final ConcurrentHashMap<String, Entry> store = new ConcurrentHashMap<>();
+    protected final ConcurrentHashMap<String, Set<String>> fields = new ConcurrentHashMap<>(); // hash key to the ids of its cached fields, sets only changed inside compute
+    protected final LongAdder hits = new LongAdder();
+    protected final LongAdder misses = new LongAdder();
+    protected final LongAdder invalidations = new LongAdder();
+    protected final LongAdder evictions = new LongAdder();
+    protected final AtomicLong weight = new AtomicLong();
+    protected final ReentrantLock evictionLock = new ReentrantLock();
+    protected Iterator<Map.Entry<String, Entry>> evictionHand; // guarded by evictionLock
+    protected int maxSize;
+    protected long maxWeight;
+    protected RedisSerializer<Object> serializer;
+    protected RedisClient client;
+    protected StatefulRedisConnection<String, byte[]> connection;
+    protected volatile boolean active = false;
+
+    @Autowired
+    public Redis4jNearCacheServiceImpl(Redis4jConfigService redis4jConfigService) {
+        this.redis4jConfigService = redis4jConfigService;
+    }
+
+    @PostConstruct
+    public void initiate() {
+        Redis4jProperties properties = redis4jConfigService.getProperties();
+        if (properties == null || !properties.isEnabled() || !properties.isNearCacheEnabled()) {
+            return;
+        }
+        this.maxSize = properties.getNearCacheMaxSize() > 0 ? properties.getNearCacheMaxSize() : 10000;
+        this.maxWeight = Math.max(0, properties.getNearCacheMaxWeight());
+        try {
+            this.serializer = redis4jConfigService.createValueSerializer();
+            this.client = redis4jConfigService.clientProvider(); // a dedicated client, so that its state listener only sees the tracking connection
+            this.client.addListener(new RedisConnectionStateAdapter() {
+                @Override
+                public void onRedisConnected(RedisChannelHandler<?, ?> channel, SocketAddress address) {
+                    onReconnected();
+                }
+
+                @Override
+                public void onRedisDisconnected(RedisChannelHandler<?, ?> channel) {
+                    onDisconnected();
+                }
+            });
+            this.connection = client.connect(RedisCodec.of(StringCodec.UTF8, ByteArrayCodec.INSTANCE));
+            this.connection.addListener(this::onPush);
+            this.connection.sync().clientTracking(TrackingArgs.Builder.enabled());
+            this.active = true;
+            logger.info("{} Redis4j near cache, tracking enabled (max_size: {}, max_weight: {})", IconType.SUCCESS.getCode(), maxSize, maxWeight);
+        } catch (Exception e) {
+            logger.error("{} Redis4j near cache, enabling CLIENT TRACKING failed, the near cache stays inactive: {}", IconType.ERROR.getCode(), e.getMessage(), e);
+            this.destroy();
+        }
+    }
+
+    @PreDestroy
+    public void destroy() {
+        this.active = false;
+        this.invalidateAll();
+        if (connection != null) {
+            try {
+                connection.close();
+            } catch (Exception ignored) {
+
+            }
+            connection = null;
+        }
+        if (client != null) {
+            try {
+                client.shutdown();
+            } catch (Exception ignored) {
+
+            }
+            client = null;
+        }
+    }
+
+    /**
+     * @return true if the near cache is enabled and the tracking connection is established, false otherwise
+     */
+    @Override
+    public boolean isActive() {
+        return active;
+    }
+
+    /**
+     * Retrieves a cache object, from the near cache when present, otherwise from Redis through the tracking connection.
+     *
+     * @param key The key of the cache object to retrieve.
+     * @param <T> The type of the value being retrieved.
+     * @return The cached object associated with the given key, or null if the key does not exist.
+     */
+    @Override
+    public <T> T getCacheObject(String key) {
+        if (String4j.isEmpty(key) || String4j.isBlank(key)) {
+            return null;
+        }
+        return (T) this.deserialize(this.load(key, key, null));
+    }
+
+    /**
+     * Retrieves a cache object as a given type, from the near cache when present, otherwise from Redis through
+     * the tracking connection, decoding the cached bytes straight into the type.
+     *
+     * @param key  The key of the cache object to retrieve.
+     * @param type The type to read the value as.
+     * @param <T>  The type of the value being retrieved.
+     * @return The cached object associated with the given key, or null if the key does not exist.
+     */
+    @Override
+    public <T> T getCacheObject(String key, Class<T> type) {
+        if (String4j.isEmpty(key) || String4j.isBlank(key)) {
+            return null;
+        }
+        byte[] data = this.load(key, key, null);
+        if (data == null || serializer == null) {
+            return null;
+        }
+        return Redis4jTypedSerializer.read(serializer, data, type);
+    }
+
+    /**
+     * Retrieves a cache object as a generic type, from the near cache when present, otherwise from Redis through
+     * the tracking connection, decoding the cached bytes straight into the type.
+     *
+     * @param key  The key of the cache object to retrieve.
+     * @param type The type to read the value as, e.g. a container class bound to the class of its content.
+     * @param <T>  The type of the value being retrieved.
+     * @return The cached object associated with the given key, or null if the key does not exist.
+     */
+    @Override
+    public <T> T getCacheObject(String key, Type type) {
+        if (String4j.isEmpty(key) || String4j.isBlank(key)) {
+            return null;
+        }
+        byte[] data = this.load(key, key, null);
+        if (data == null || serializer == null) {
+            return null;
+        }
+        return Redis4jTypedSerializer.read(serializer, data, type);
+    }
+
+    /**
+     * Retrieves a hash value, from the near cache when present, otherwise from Redis through the tracking connection.
+     *
+     * @param key  The key under which the hash is stored.
+     * @param hKey The hash key whose value is to be retrieved.
+     * @param <T>  The type of the value being retrieved.
+     * @return The value associated with the given hash key, or null if the field does not exist.
+     */
+    @Override
+    public <T> T getCacheMapValue(String key, String hKey) {
+        if (String4j.isEmpty(key) || String4j.isBlank(key) || String4j.isEmpty(hKey) || String4j.isBlank(hKey)) {
+            return null;
+        }
+        return (T) this.deserialize(this.load(key + FIELD_SEPARATOR + hKey, key, hKey));
+    }
+
+    /**
+     * Drops the entries of a key, i.e. the object and every hash value cached for it.
+     *
+     * @param key The key to invalidate.
+     */
+    @Override
+    public void invalidate(String key) {
+        if (key == null || store.isEmpty()) {
+            return;
+        }
+        this.discard(key, store.remove(key), true, false);
+        Set<String> ids = fields.remove(key);
+        if (ids != null) {
+            for (String id : ids) {
+                this.discard(id, store.remove(id), true, false);
+            }
+        }
+    }
+
+    /**
+     * Drops every entry of the near cache.
+     */
+    @Override
+    public void invalidateAll() {
+        for (String id : store.keySet()) {
+            this.discard(id, store.remove(id), true, false);
+        }
+        fields.clear();
+    }
+
+    /**
+     * @return a snapshot of the hit, miss, invalidation and eviction counters, class {@link Redis4jNearCacheStats}
+     */
+    @Override
+    public Redis4jNearCacheStats stats() {
+        return new Redis4jNearCacheStats(hits.sum(), misses.sum(), invalidations.sum(), evictions.sum(), store.size(), weight.get());
+    }
+
+    /**
+     * Returns the serialized value of the entry, loading it from Redis on a miss.
+     * A hit takes no lock, so that readers of the same hot key do not contend with each other;
+     * it only records the time of the access, at most once per millisecond, for the eviction.
+     * A pending entry is registered before the read is sent; if an invalidation removes it while the read is in flight,
+     * the value read is returned to the caller but not cached, since it may already be stale.
+     */
+    protected byte[] load(String id, String key, String hKey) {
+        long now = System.currentTimeMillis();
+        Entry current = store.get(id);
+        if (current != null && current.data != null) {
+            if (!current.isExpired(now)) {
+                current.touch(now);
+                hits.increment();
+                return current.data;
+            }
+            if (store.remove(id, current)) {
+                this.discard(id, current, false, true);
+            }
+        }
+        StatefulRedisConnection<String, byte[]> c = connection;
+        if (c == null) {
+            return null;
+        }
+        Entry pending = new Entry(hKey != null ? key : null, null, 0);
+        if (hKey != null) {
+            fields.compute(key, (k, ids) -> {
+                Set<String> set = ids != null ? ids : new HashSet<>();
+                set.add(id);
+                return set;
+            });
+        }
+        this.discard(id, store.put(id, pending), false, false);
+        misses.increment();
+        byte[] data = null;
+        Long ttl = null;
+        try {
+            RedisAsyncCommands<String, byte[]> commands = c.async();
+            RedisFuture<byte[]> value = hKey == null ? commands.get(key) : commands.hget(key, hKey);
+            RedisFuture<Long> pttl = commands.pttl(key);
+            Duration timeout = c.getTimeout();
+            long nanos = (timeout != null ? timeout : Duration.ofSeconds(60)).toNanos();
+            data = LettuceFutures.awaitOrCancel(value, nanos, TimeUnit.NANOSECONDS);
+            ttl = LettuceFutures.awaitOrCancel(pttl, nanos, TimeUnit.NANOSECONDS);
+            return data;
+        } finally {
+            if (data != null && ttl != null && ttl != -2) {
+                long loadedAt = System.currentTimeMillis();
+                Entry loaded = new Entry(pending.key, data, ttl > 0 ? loadedAt + ttl : 0);
+                loaded.touch(loadedAt);
+                if (store.replace(id, pending, loaded)) {
+                    weight.addAndGet(data.length);
+                    this.evict();
+                }
+            } else if (store.remove(id, pending)) {
+                this.discard(id, pending, false, true);
+            }
+        }
+    }
+
+    protected Object deserialize(byte[] data) {
+        if (data == null || serializer == null) {
+            return null;
+        }
+        return serializer.deserialize(data);
+    }
+
+    /**
+     * Accounts for an entry already removed from the store, and drops it from the index of its hash key when unindex is set.
+     */
+    protected void discard(String id, Entry entry, boolean invalidated, boolean unindex) {
+        if (entry == null) {
+            return;
+        }
+        if (entry.data != null) {
+            weight.addAndGet(-entry.data.length);
+            if (invalidated) {
+                invalidations.increment();
+            }
+        }
+        if (unindex && entry.key != null) {
+            fields.computeIfPresent(entry.key, (k, ids) -> {
+                ids.remove(id);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    /**
+     * Evicts entries until the size and weight bounds hold. Each victim is the least recently used of a sample of
+     * entries read by a hand going round the store, which approximates LRU without ordering the entries on every read.
+     * Pending entries are skipped, since their read is still in flight. A single thread evicts at a time;
+     * the others go on, as it evicts until the bounds hold.
+     */
+    protected void evict() {
+        if (!this.isOverflowing() || !evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            while (this.isOverflowing()) {
+                String victimId = null;
+                Entry victim = null;
+                int sampled = 0;
+                int limit = store.size() + EVICTION_SAMPLES;
+                for (int scanned = 0; sampled < EVICTION_SAMPLES && scanned < limit; scanned++) {
+                    if (evictionHand == null || !evictionHand.hasNext()) {
+                        evictionHand = store.entrySet().iterator();
+                        if (!evictionHand.hasNext()) {
+                            break;
+                        }
+                    }
+                    Map.Entry<String, Entry> candidate = evictionHand.next();
+                    Entry entry = candidate.getValue();
+                    if (entry.data == null) {
+                        continue;
+                    }
+                    sampled++;
+                    if (victim == null || entry.accessedAt < victim.accessedAt) {
+                        victimId = candidate.getKey();
+                        victim = entry;
+                    }
+                }
+                if (victim == null) {
+                    return;
+                }
+                if (store.remove(victimId, victim)) {
+                    this.discard(victimId, victim, false, true);
+                    evictions.increment();
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    protected boolean isOverflowing() {
+        return store.size() > maxSize || (maxWeight > 0 && weight.get() > maxWeight);
+    }
+
+    /**
+     * Handles the invalidation messages pushed by the server: a list of keys, or null when the server flushed its tracking table.
+     */
+    protected void onPush(PushMessage message) {
+        if (!"invalidate".equals(message.getType())) {
+            return;
+        }
+        List<Object> content = message.getContent(StringCodec.UTF8::decodeKey);
+        Object keys = content.size() > 1 ? content.get(1) : null;
+        if (keys instanceof Collection) {
+            for (Object key : (Collection<?>) keys) {
+                this.invalidate(String.valueOf(key));
+            }
+            return;
+        }
+        this.invalidateAll();
+    }
+
+    /**
+     * Tracking state lives on the server connection, so the near cache stops serving reads as soon as it is lost.
+     */
+    protected void onDisconnected() {
+        if (!active) {
+            return;
+        }
+        active = false;
+        this.invalidateAll();
+        logger.warn("{} Redis4j near cache, tracking connection lost, near cache inactive", IconType.WARN.getCode());
+    }
+
+    /**
+     * Re-enables tracking after Lettuce re-established the connection. The command is sent asynchronously,
+     * since this callback runs on the I/O thread of the connection.
+     */
+    protected void onReconnected() {
+        StatefulRedisConnection<String, byte[]> c = connection;
+        if (c == null || active) {
+            return;
+        }
+        c.async().clientTracking(TrackingArgs.Builder.enabled()).whenComplete((reply, e) -> {
+            if (e != null) {
+                logger.error("{} Redis4j near cache, re-enabling CLIENT TRACKING failed: {}", IconType.ERROR.getCode(), e.getMessage(), e);
+                return;
+            }
+            this.invalidateAll();
+            active = true;
+            logger.info("{} Redis4j near cache, tracking re-enabled", IconType.SUCCESS.getCode());
+        });
+    }
+
+    protected static final class Entry {
+        private final String key; // the hash key for a hash value entry, null for an object entry
+        private final byte[] data; // null while the read is pending
+        private final long expireAt; // epoch millis, 0 when the key has no expiration
+        private volatile long accessedAt; // epoch millis of the last read, for the eviction
+
+        Entry(String key, byte[] data, long expireAt) {
+            this.key = key;
+            this.data = data;
+            this.expireAt = expireAt;
+        }
+
+        private boolean isExpired(long now) {
+            return expireAt > 0 && now >= expireAt;
+        }
+
+        /**
+         * Records a read, writing the shared field only when the millisecond changed, so that hot entries stay cheap to read.
+         */
+        private void touch(long now) {
+            if (accessedAt != now) {
+                accessedAt = now;
+            }
+        }
+    }
+}
@@ -0,0 +1,981 @@
+package org.redis4j.service.impl;
+
+import io.lettuce.core.ScanArgs;
+import io.lettuce.core.ScanStream;
+import io.lettuce.core.SetArgs;
+import io.lettuce.core.api.reactive.RedisReactiveCommands;
+import io.lettuce.core.output.IntegerOutput;
+import io.lettuce.core.protocol.CommandArgs;
+import io.lettuce.core.protocol.CommandType;
+import org.redis4j.codec.Redis4jScriptCodec;
+import org.redis4j.common.Redis4j;
+import org.redis4j.config.props.Redis4jProperties;
+import org.redis4j.service.Redis4jConfigService;
+import org.redis4j.service.Redis4jReactiveService;
+import org.redis4j.service.Redis4jWrapCallback;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.unify4j.common.Collection4j;
+import org.unify4j.common.String4j;
+import org.unify4j.model.builder.HttpStatusBuilder;
+import org.unify4j.model.builder.HttpWrapBuilder;
+import org.unify4j.model.enums.IconType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.AbstractMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@SuppressWarnings({"unchecked", "DuplicatedCode"})
+@Service
+public class Redis4jReactiveServiceImpl implements Redis4jReactiveService {
+    protected static final Logger logger = LoggerFactory.getLogger(Redis4jReactiveServiceImpl.class);
+
+    protected final Redis4jConfigService redis4jConfigService;
+
+    @Autowired
+    public Redis4jReactiveServiceImpl(Redis4jConfigService redis4jConfigService) {
+        this.redis4jConfigService = redis4jConfigService;
+    }
+
+    /**
+     * Sets a cache object in Redis reactively.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key under which the value should be stored.
+     * @param value    The value to be cached.
+     * @param <T>      The type of the value being cached.
+     * @return a Mono emitting true if the value was stored, false if the commands or value is null, or the key is empty/blank.
+     */
+    @Override
+    public <T> Mono<Boolean> setCacheObject(RedisReactiveCommands<String, Object> commands, String key, T value) {
+        if (commands == null || value == null || String4j.isEmpty(key) || String4j.isBlank(key)) {
+            return Mono.just(false);
+        }
+        String preKey = String4j.trimWhitespace(key);
+        if (redis4jConfigService.isDebugging()) {
+            logger.info("{} Setting Redis key reactively: '{}'", IconType.DEBUG.getCode(), preKey);
+        }
+        return commands.set(preKey, value).map("OK"::equals);
+    }
+
+    /**
+     * Sets a cache object in Redis reactively, with an optional callback for handling exceptions.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key under which the value should be stored.
+     * @param value    The value to be cached.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the value being cached.
+     * @return a Mono emitting true if the value was stored; false otherwise or if an exception occurs.
+     */
+    @Override
+    public <T> Mono<Boolean> setCacheObject(RedisReactiveCommands<String, Object> commands, String key, T value, Redis4jWrapCallback callback) {
+        return this.recover(this.setCacheObject(commands, key, value), false, "setting redis value failed", key, callback);
+    }
+
+    /**
+     * Sets a cache object in Redis reactively with an expiration, issued as a single SET PX command.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key under which the value should be stored.
+     * @param value    The value to be cached.
+     * @param timeout  The expiration timeout for the cached value.
+     * @param unit     The time unit of the timeout.
+     * @param <T>      The type of the value being cached.
+     * @return a Mono emitting true if the value was stored, false if the arguments are invalid.
+     */
+    @Override
+    public <T> Mono<Boolean> setCacheObject(RedisReactiveCommands<String, Object> commands, String key, T value, long timeout, TimeUnit unit) {
+        if (commands == null || value == null || unit == null || timeout <= 0 || String4j.isEmpty(key) || String4j.isBlank(key)) {
+            return Mono.just(false);
+        }
+        String preKey = String4j.trimWhitespace(key);
+        if (redis4jConfigService.isDebugging()) {
+            logger.info("{} Setting Redis key reactively: '{}' with timeout: {} ({})", IconType.DEBUG.getCode(), preKey, timeout, unit);
+        }
+        return commands.set(preKey, value, SetArgs.Builder.px(unit.toMillis(timeout))).map("OK"::equals);
+    }
+
+    /**
+     * Sets a cache object in Redis reactively with an expiration, with an optional callback for handling exceptions.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key under which the value should be stored.
+     * @param value    The value to be cached.
+     * @param timeout  The expiration timeout for the cached value.
+     * @param unit     The time unit of the timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the value being cached.
+     * @return a Mono emitting true if the value was stored; false otherwise or if an exception occurs.
+     */
+    @Override
+    public <T> Mono<Boolean> setCacheObject(RedisReactiveCommands<String, Object> commands, String key, T value, long timeout, TimeUnit unit, Redis4jWrapCallback callback) {
+        return this.recover(this.setCacheObject(commands, key, value, timeout, unit), false, "setting redis value with timeout failed", key, callback);
+    }
+
+    /**
+     * Sets an expiration on a key reactively.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key to expire.
+     * @param timeout  The expiration timeout.
+     * @param unit     The time unit of the timeout.
+     * @return a Mono emitting true if the expiration was set, false if the key does not exist or the arguments are invalid.
+     */
+    @Override
+    public Mono<Boolean> expire(RedisReactiveCommands<String, Object> commands, String key, long timeout, TimeUnit unit) {
+        if (commands == null || unit == null || timeout <= 0 || String4j.isEmpty(key) || String4j.isBlank(key)) {
+            return Mono.just(false);
+        }
+        String preKey = String4j.trimWhitespace(key);
+        return commands.pexpire(preKey, unit.toMillis(timeout)).defaultIfEmpty(false);
+    }
+
+    /**
+     * Sets an expiration on a key reactively, with an optional callback for handling exceptions.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key to expire.
+     * @param timeout  The expiration timeout.
+     * @param unit     The time unit of the timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a Mono emitting true if the expiration was set; false otherwise or if an exception occurs.
+     */
+    @Override
+    public Mono<Boolean> expire(RedisReactiveCommands<String, Object> commands, String key, long timeout, TimeUnit unit, Redis4jWrapCallback callback) {
+        return this.recover(this.expire(commands, key, timeout, unit), false, "setting redis expiration failed", key, callback);
+    }
+
+    /**
+     * Retrieves a cache object from Redis reactively.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the cache object to retrieve.
+     * @param <T>      The type of the value being retrieved.
+     * @return a Mono emitting the cached object, or empty if the key does not exist or is empty/blank.
+     */
+    @Override
+    public <T> Mono<T> getCacheObject(RedisReactiveCommands<String, Object> commands, String key) {
+        if (commands == null || String4j.isEmpty(key) || String4j.isBlank(key)) {
+            return Mono.empty();
+        }
+        String preKey = String4j.trimWhitespace(key);
+        if (redis4jConfigService.isDebugging()) {
+            logger.info("{} Getting Redis key reactively: '{}'", IconType.DEBUG.getCode(), preKey);
+        }
+        return commands.get(preKey).map(value -> (T) value);
+    }
+
+    /**
+     * Retrieves a cache object from Redis reactively, with an optional callback for handling exceptions.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the cache object to retrieve.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the value being retrieved.
+     * @return a Mono emitting the cached object, or empty if the key does not exist or an exception occurs.
+     */
+    @Override
+    public <T> Mono<T> getCacheObject(RedisReactiveCommands<String, Object> commands, String key, Redis4jWrapCallback callback) {
+        return this.recover(this.getCacheObject(commands, key), null, "getting redis value failed", key, callback);
+    }
+
+    /**
+     * Removes a cache object from Redis reactively.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the cache object to remove.
+     * @return a Mono emitting true if the key was removed; false otherwise.
+     */
+    @Override
+    public Mono<Boolean> removeObject(RedisReactiveCommands<String, Object> commands, String key) {
+        if (commands == null || String4j.isEmpty(key) || String4j.isBlank(key)) {
+            return Mono.just(false);
+        }
+        String preKey = String4j.trimWhitespace(key);
+        return commands.del(preKey).map(count -> count > 0);
+    }
+
+    /**
+     * Removes a cache object from Redis reactively, with an optional callback for handling exceptions.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the cache object to remove.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a Mono emitting true if the key was removed; false otherwise or if an exception occurs.
+     */
+    @Override
+    public Mono<Boolean> removeObject(RedisReactiveCommands<String, Object> commands, String key, Redis4jWrapCallback callback) {
+        return this.recover(this.removeObject(commands, key), false, "removing redis key failed", key, callback);
+    }
+
+    /**
+     * Appends the elements of a list to a Redis list reactively, using one variadic RPUSH.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the list.
+     * @param list     The elements to append.
+     * @param <T>      The type of the elements.
+     * @return a Mono emitting the length of the list after the push, or 0 if the list is empty or the key is empty/blank.
+     */
+    @Override
+    public <T> Mono<Long> setCacheList(RedisReactiveCommands<String, Object> commands, String key, List<T> list) {
+        if (commands == null || Collection4j.isEmpty(list) || String4j.isEmpty(key) || String4j.isBlank(key)) {
+            return Mono.just(0L);
+        }
+        String preKey = String4j.trimWhitespace(key);
+        return commands.rpush(preKey, list.toArray());
+    }
+
+    /**
+     * Appends the elements of a list to a Redis list reactively, with an optional callback for handling exceptions.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the list.
+     * @param list     The elements to append.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the elements.
+     * @return a Mono emitting the length of the list after the push, or 0 if an exception occurs.
+     */
+    @Override
+    public <T> Mono<Long> setCacheList(RedisReactiveCommands<String, Object> commands, String key, List<T> list, Redis4jWrapCallback callback) {
+        return this.recover(this.setCacheList(commands, key, list), 0L, "setting redis list failed", key, callback);
+    }
+
+    /**
+     * Streams the elements of a Redis list reactively, one LRANGE page at a time.
+     * The next page is only requested once the subscriber has demanded the elements of the current one.
+     * Elements pushed or removed while the stream is in progress may be skipped or emitted twice.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the list.
+     * @param <T>      The type of the elements.
+     * @return a Flux emitting the elements in list order, empty if the key does not exist or is empty/blank.
+     */
+    @Override
+    public <T> Flux<T> getCacheList(RedisReactiveCommands<String, Object> commands, String key) {
+        if (commands == null || String4j.isEmpty(key) || String4j.isBlank(key)) {
+            return Flux.empty();
+        }
+        String preKey = String4j.trimWhitespace(key);
+        long size = this.pageSize();
+        return commands.llen(preKey)
+                .flatMapMany(length -> Flux.range(0, (int) ((length + size - 1) / size))
+                        .concatMap(page -> commands.lrange(preKey, page * size, page * size + size - 1), 1))
+                .map(value -> (T) value);
+    }
+
+    /**
+     * Streams the elements of a Redis list reactively, with an optional callback for handling exceptions.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the list.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the elements.
+     * @return a Flux emitting the elements in list order, completing early without error if an exception occurs.
+     */
+    @Override
+    public <T> Flux<T> getCacheList(RedisReactiveCommands<String, Object> commands, String key, Redis4jWrapCallback callback) {
+        return this.recover(this.getCacheList(commands, key), "getting redis list failed", key, callback);
+    }
+
+    /**
+     * Adds the members of a set to a Redis set reactively, using one variadic SADD.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the set.
+     * @param dataSet  The members to add.
+     * @param <T>      The type of the members.
+     * @return a Mono emitting the number of members added, or 0 if the set is empty or the key is empty/blank.
+     */
+    @Override
+    public <T> Mono<Long> setCacheSet(RedisReactiveCommands<String, Object> commands, String key, Set<T> dataSet) {
+        if (commands == null || Collection4j.isEmpty(dataSet) || String4j.isEmpty(key) || String4j.isBlank(key)) {
+            return Mono.just(0L);
+        }
+        String preKey = String4j.trimWhitespace(key);
+        return commands.sadd(preKey, dataSet.toArray());
+    }
+
+    /**
+     * Adds the members of a set to a Redis set reactively, with an optional callback for handling exceptions.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the set.
+     * @param dataSet  The members to add.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the members.
+     * @return a Mono emitting the number of members added, or 0 if an exception occurs.
+     */
+    @Override
+    public <T> Mono<Long> setCacheSet(RedisReactiveCommands<String, Object> commands, String key, Set<T> dataSet, Redis4jWrapCallback callback) {
+        return this.recover(this.setCacheSet(commands, key, dataSet), 0L, "setting redis set failed", key, callback);
+    }
+
+    /**
+     * Streams the members of a Redis set reactively using SSCAN, so that a large set is never read in one reply.
+     * As with any SCAN, a member added or removed during the iteration may or may not be emitted.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the set.
+     * @param <T>      The type of the members.
+     * @return a Flux emitting the members, empty if the key does not exist or is empty/blank.
+     */
+    @Override
+    public <T> Flux<T> getCacheSet(RedisReactiveCommands<String, Object> commands, String key) {
+        if (commands == null || String4j.isEmpty(key) || String4j.isBlank(key)) {
+            return Flux.empty();
+        }
+        String preKey = String4j.trimWhitespace(key);
+        return ScanStream.sscan(commands, preKey, ScanArgs.Builder.limit(this.pageSize())).map(value -> (T) value);
+    }
+
+    /**
+     * Streams the members of a Redis set reactively, with an optional callback for handling exceptions.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the set.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the members.
+     * @return a Flux emitting the members, completing early without error if an exception occurs.
+     */
+    @Override
+    public <T> Flux<T> getCacheSet(RedisReactiveCommands<String, Object> commands, String key, Redis4jWrapCallback callback) {
+        return this.recover(this.getCacheSet(commands, key), "getting redis set failed", key, callback);
+    }
+
+    /**
+     * Stores the entries of a map in a Redis hash reactively.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the hash.
+     * @param map      The entries to store.
+     * @param <T>      The type of the values.
+     * @return a Mono emitting true if the entries were stored, false if the map is empty or the key is empty/blank.
+     */
+    @Override
+    public <T> Mono<Boolean> setCacheMap(RedisReactiveCommands<String, Object> commands, String key, Map<String, T> map) {
+        if (commands == null || Collection4j.isEmptyMap(map) || String4j.isEmpty(key) || String4j.isBlank(key)) {
+            return Mono.just(false);
+        }
+        String preKey = String4j.trimWhitespace(key);
+        return commands.hmset(preKey, new LinkedHashMap<>(map)).map("OK"::equals);
+    }
+
+    /**
+     * Stores the entries of a map in a Redis hash reactively, with an optional callback for handling exceptions.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the hash.
+     * @param map      The entries to store.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the values.
+     * @return a Mono emitting true if the entries were stored; false otherwise or if an exception occurs.
+     */
+    @Override
+    public <T> Mono<Boolean> setCacheMap(RedisReactiveCommands<String, Object> commands, String key, Map<String, T> map, Redis4jWrapCallback callback) {
+        return this.recover(this.setCacheMap(commands, key, map), false, "setting redis hash failed", key, callback);
+    }
+
+    /**
+     * Streams the entries of a Redis hash reactively using HSCAN, so that a large hash is never read in one reply.
+     * As with any SCAN, a field added or removed during the iteration may or may not be emitted.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the hash.
+     * @return a Flux emitting the entries, empty if the key does not exist or is empty/blank.
+     */
+    @Override
+    public Flux<Map.Entry<String, Object>> getCacheMap(RedisReactiveCommands<String, Object> commands, String key) {
+        if (commands == null || String4j.isEmpty(key) || String4j.isBlank(key)) {
+            return Flux.empty();
+        }
+        String preKey = String4j.trimWhitespace(key);
+        return ScanStream.hscan(commands, preKey, ScanArgs.Builder.limit(this.pageSize()))
+                .<Map.Entry<String, Object>>map(entry -> new AbstractMap.SimpleImmutableEntry<>(entry.getKey(), entry.getValue()));
+    }
+
+    /**
+     * Streams the entries of a Redis hash reactively, with an optional callback for handling exceptions.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the hash.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a Flux emitting the entries, completing early without error if an exception occurs.
+     */
+    @Override
+    public Flux<Map.Entry<String, Object>> getCacheMap(RedisReactiveCommands<String, Object> commands, String key, Redis4jWrapCallback callback) {
+        return this.recover(this.getCacheMap(commands, key), "getting redis hash failed", key, callback);
+    }
+
+    /**
+     * Sets a single field of a Redis hash reactively.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the hash.
+     * @param hKey     The field of the hash.
+     * @param value    The value to store.
+     * @param <T>      The type of the value.
+     * @return a Mono emitting true once the field is stored, false if the arguments are invalid.
+     */
+    @Override
+    public <T> Mono<Boolean> setCacheMapValue(RedisReactiveCommands<String, Object> commands, String key, String hKey, T value) {
+        if (commands == null || value == null || String4j.isEmpty(key) || String4j.isBlank(key) || String4j.isEmpty(hKey) || String4j.isBlank(hKey)) {
+            return Mono.just(false);
+        }
+        String preKey = String4j.trimWhitespace(key);
+        return commands.hset(preKey, hKey, value).thenReturn(true);
+    }
+
+    /**
+     * Sets a single field of a Redis hash reactively, with an optional callback for handling exceptions.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the hash.
+     * @param hKey     The field of the hash.
+     * @param value    The value to store.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the value.
+     * @return a Mono emitting true once the field is stored; false otherwise or if an exception occurs.
+     */
+    @Override
+    public <T> Mono<Boolean> setCacheMapValue(RedisReactiveCommands<String, Object> commands, String key, String hKey, T value, Redis4jWrapCallback callback) {
+        return this.recover(this.setCacheMapValue(commands, key, hKey, value), false, "setting redis hash value failed", key, callback);
+    }
+
+    /**
+     * Retrieves a single field of a Redis hash reactively.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the hash.
+     * @param hKey     The field of the hash.
+     * @param <T>      The type of the value.
+     * @return a Mono emitting the value, or empty if the field does not exist or the arguments are invalid.
+     */
+    @Override
+    public <T> Mono<T> getCacheMapValue(RedisReactiveCommands<String, Object> commands, String key, String hKey) {
+        if (commands == null || String4j.isEmpty(key) || String4j.isBlank(key) || String4j.isEmpty(hKey) || String4j.isBlank(hKey)) {
+            return Mono.empty();
+        }
+        String preKey = String4j.trimWhitespace(key);
+        return commands.hget(preKey, hKey).map(value -> (T) value);
+    }
+
+    /**
+     * Retrieves a single field of a Redis hash reactively, with an optional callback for handling exceptions.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the hash.
+     * @param hKey     The field of the hash.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the value.
+     * @return a Mono emitting the value, or empty if the field does not exist or an exception occurs.
+     */
+    @Override
+    public <T> Mono<T> getCacheMapValue(RedisReactiveCommands<String, Object> commands, String key, String hKey, Redis4jWrapCallback callback) {
+        return this.recover(this.getCacheMapValue(commands, key, hKey), null, "getting redis hash value failed", key, callback);
+    }
+
+    /**
+     * Checks reactively whether a key exists.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key to check.
+     * @return a Mono emitting true if the key exists; false otherwise.
+     */
+    @Override
+    public Mono<Boolean> containsKey(RedisReactiveCommands<String, Object> commands, String key) {
+        if (commands == null || String4j.isEmpty(key) || String4j.isBlank(key)) {
+            return Mono.just(false);
+        }
+        String preKey = String4j.trimWhitespace(key);
+        return commands.exists(preKey).map(count -> count > 0);
+    }
+
+    /**
+     * Checks reactively whether a key exists, with an optional callback for handling exceptions.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key to check.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a Mono emitting true if the key exists; false otherwise or if an exception occurs.
+     */
+    @Override
+    public Mono<Boolean> containsKey(RedisReactiveCommands<String, Object> commands, String key, Redis4jWrapCallback callback) {
+        return this.recover(this.containsKey(commands, key), false, "checking redis key failed", key, callback);
+    }
+
+    /**
+     * Increments a counter by one reactively.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the counter.
+     * @return a Mono emitting the value after the increment, or -1 if the key is empty/blank.
+     */
+    @Override
+    public Mono<Long> increaseKey(RedisReactiveCommands<String, Object> commands, String key) {
+        if (commands == null || String4j.isEmpty(key) || String4j.isBlank(key)) {
+            return Mono.just(-1L);
+        }
+        return commands.incr(String4j.trimWhitespace(key));
+    }
+
+    /**
+     * Increments a counter by one reactively, with an optional callback for handling exceptions.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the counter.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a Mono emitting the value after the increment, or -1 if an exception occurs.
+     */
+    @Override
+    public Mono<Long> increaseKey(RedisReactiveCommands<String, Object> commands, String key, Redis4jWrapCallback callback) {
+        return this.recover(this.increaseKey(commands, key), -1L, "increasing redis key failed", key, callback);
+    }
+
+    /**
+     * Decrements a counter by one reactively.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the counter.
+     * @return a Mono emitting the value after the decrement, or -1 if the key is empty/blank.
+     */
+    @Override
+    public Mono<Long> decreaseKey(RedisReactiveCommands<String, Object> commands, String key) {
+        if (commands == null || String4j.isEmpty(key) || String4j.isBlank(key)) {
+            return Mono.just(-1L);
+        }
+        return commands.decr(String4j.trimWhitespace(key));
+    }
+
+    /**
+     * Decrements a counter by one reactively, with an optional callback for handling exceptions.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the counter.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a Mono emitting the value after the decrement, or -1 if an exception occurs.
+     */
+    @Override
+    public Mono<Long> decreaseKey(RedisReactiveCommands<String, Object> commands, String key, Redis4jWrapCallback callback) {
+        return this.recover(this.decreaseKey(commands, key), -1L, "decreasing redis key failed", key, callback);
+    }
+
+    /**
+     * Increments a counter by the specified amount reactively.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to add.
+     * @return a Mono emitting the value after the increment, or -1 if the arguments are invalid.
+     */
+    @Override
+    public Mono<Long> increaseKeyBy(RedisReactiveCommands<String, Object> commands, String key, long value) {
+        if (commands == null || value < 0 || String4j.isEmpty(key) || String4j.isBlank(key)) {
+            return Mono.just(-1L);
+        }
+        return commands.incrby(String4j.trimWhitespace(key), value);
+    }
+
+    /**
+     * Increments a counter by the specified amount reactively, with an optional callback for handling exceptions.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to add.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a Mono emitting the value after the increment, or -1 if an exception occurs.
+     */
+    @Override
+    public Mono<Long> increaseKeyBy(RedisReactiveCommands<String, Object> commands, String key, long value, Redis4jWrapCallback callback) {
+        return this.recover(this.increaseKeyBy(commands, key, value), -1L, "increasing redis key by value failed", key, callback);
+    }
+
+    /**
+     * Decrements a counter by the specified amount reactively.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to subtract.
+     * @return a Mono emitting the value after the decrement, or -1 if the arguments are invalid.
+     */
+    @Override
+    public Mono<Long> decreaseKeyBy(RedisReactiveCommands<String, Object> commands, String key, long value) {
+        if (commands == null || value < 0 || String4j.isEmpty(key) || String4j.isBlank(key)) {
+            return Mono.just(-1L);
+        }
+        return commands.decrby(String4j.trimWhitespace(key), value);
+    }
+
+    /**
+     * Decrements a counter by the specified amount reactively, with an optional callback for handling exceptions.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to subtract.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a Mono emitting the value after the decrement, or -1 if an exception occurs.
+     */
+    @Override
+    public Mono<Long> decreaseKeyBy(RedisReactiveCommands<String, Object> commands, String key, long value, Redis4jWrapCallback callback) {
+        return this.recover(this.decreaseKeyBy(commands, key, value), -1L, "decreasing redis key by value failed", key, callback);
+    }
+
+    /**
+     * Increments a counter by one and sets its expiration reactively, in one atomic server-side step (a cached Lua script).
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the counter.
+     * @param timeout  The expiration timeout.
+     * @param unit     The time unit of the timeout.
+     * @return a Mono emitting the value after the increment, or -1 if the arguments are invalid.
+     */
+    @Override
+    public Mono<Long> increaseKeyEx(RedisReactiveCommands<String, Object> commands, String key, long timeout, TimeUnit unit) {
+        return this.counter(commands, key, 1, timeout, unit, false);
+    }
+
+    /**
+     * Increments a counter by one and sets its expiration reactively, with an optional callback for handling exceptions.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the counter.
+     * @param timeout  The expiration timeout.
+     * @param unit     The time unit of the timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a Mono emitting the value after the increment, or -1 if an exception occurs.
+     */
+    @Override
+    public Mono<Long> increaseKeyEx(RedisReactiveCommands<String, Object> commands, String key, long timeout, TimeUnit unit, Redis4jWrapCallback callback) {
+        return this.recover(this.increaseKeyEx(commands, key, timeout, unit), -1L, "increasing redis key with timeout failed", key, callback);
+    }
+
+    /**
+     * Decrements a counter by one and sets its expiration reactively, in one atomic server-side step (a cached Lua script).
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the counter.
+     * @param timeout  The expiration timeout.
+     * @param unit     The time unit of the timeout.
+     * @return a Mono emitting the value after the decrement, or -1 if the arguments are invalid.
+     */
+    @Override
+    public Mono<Long> decreaseKeyEx(RedisReactiveCommands<String, Object> commands, String key, long timeout, TimeUnit unit) {
+        return this.counter(commands, key, -1, timeout, unit, false);
+    }
+
+    /**
+     * Decrements a counter by one and sets its expiration reactively, with an optional callback for handling exceptions.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the counter.
+     * @param timeout  The expiration timeout.
+     * @param unit     The time unit of the timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a Mono emitting the value after the decrement, or -1 if an exception occurs.
+     */
+    @Override
+    public Mono<Long> decreaseKeyEx(RedisReactiveCommands<String, Object> commands, String key, long timeout, TimeUnit unit, Redis4jWrapCallback callback) {
+        return this.recover(this.decreaseKeyEx(commands, key, timeout, unit), -1L, "decreasing redis key with timeout failed", key, callback);
+    }
+
+    /**
+     * Increments a counter by the specified amount and sets its expiration reactively, in one atomic server-side step (a cached Lua script).
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to add.
+     * @param timeout  The expiration timeout.
+     * @param unit     The time unit of the timeout.
+     * @return a Mono emitting the value after the increment, or -1 if the arguments are invalid.
+     */
+    @Override
+    public Mono<Long> increaseKeyByEx(RedisReactiveCommands<String, Object> commands, String key, long value, long timeout, TimeUnit unit) {
+        if (value < 0) {
+            return Mono.just(-1L);
+        }
+        return this.counter(commands, key, value, timeout, unit, false);
+    }
+
+    /**
+     * Increments a counter by the specified amount and sets its expiration reactively, with an optional callback for handling exceptions.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to add.
+     * @param timeout  The expiration timeout.
+     * @param unit     The time unit of the timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a Mono emitting the value after the increment, or -1 if an exception occurs.
+     */
+    @Override
+    public Mono<Long> increaseKeyByEx(RedisReactiveCommands<String, Object> commands, String key, long value, long timeout, TimeUnit unit, Redis4jWrapCallback callback) {
+        return this.recover(this.increaseKeyByEx(commands, key, value, timeout, unit), -1L, "increasing redis key by value with timeout failed", key, callback);
+    }
+
+    /**
+     * Decrements a counter by the specified amount and sets its expiration reactively, in one atomic server-side step (a cached Lua script).
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to subtract.
+     * @param timeout  The expiration timeout.
+     * @param unit     The time unit of the timeout.
+     * @return a Mono emitting the value after the decrement, or -1 if the arguments are invalid.
+     */
+    @Override
+    public Mono<Long> decreaseKeyByEx(RedisReactiveCommands<String, Object> commands, String key, long value, long timeout, TimeUnit unit) {
+        if (value < 0) {
+            return Mono.just(-1L);
+        }
+        return this.counter(commands, key, -value, timeout, unit, false);
+    }
+
+    /**
+     * Decrements a counter by the specified amount and sets its expiration reactively, with an optional callback for handling exceptions.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to subtract.
+     * @param timeout  The expiration timeout.
+     * @param unit     The time unit of the timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a Mono emitting the value after the decrement, or -1 if an exception occurs.
+     */
+    @Override
+    public Mono<Long> decreaseKeyByEx(RedisReactiveCommands<String, Object> commands, String key, long value, long timeout, TimeUnit unit, Redis4jWrapCallback callback) {
+        return this.recover(this.decreaseKeyByEx(commands, key, value, timeout, unit), -1L, "decreasing redis key by value with timeout failed", key, callback);
+    }
+
+    /**
+     * Increments a counter by one and sets its expiration reactively only if the key has none yet, i.e. when the counter is created,
+     * so that hot counters do not extend their time to live on every hit, in one atomic server-side step (a cached Lua script).
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the counter.
+     * @param timeout  The expiration timeout, applied when the key has no expiration.
+     * @param unit     The time unit of the timeout.
+     * @return a Mono emitting the value after the increment, or -1 if the arguments are invalid.
+     */
+    @Override
+    public Mono<Long> increaseKeyExNx(RedisReactiveCommands<String, Object> commands, String key, long timeout, TimeUnit unit) {
+        return this.counter(commands, key, 1, timeout, unit, true);
+    }
+
+    /**
+     * Increments a counter by one and sets its expiration reactively only if the key has none yet, with an optional callback for handling exceptions.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the counter.
+     * @param timeout  The expiration timeout, applied when the key has no expiration.
+     * @param unit     The time unit of the timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a Mono emitting the value after the increment, or -1 if an exception occurs.
+     */
+    @Override
+    public Mono<Long> increaseKeyExNx(RedisReactiveCommands<String, Object> commands, String key, long timeout, TimeUnit unit, Redis4jWrapCallback callback) {
+        return this.recover(this.increaseKeyExNx(commands, key, timeout, unit), -1L, "increasing redis key with timeout if absent failed", key, callback);
+    }
+
+    /**
+     * Decrements a counter by one and sets its expiration reactively only if the key has none yet, i.e. when the counter is created,
+     * so that hot counters do not extend their time to live on every hit, in one atomic server-side step (a cached Lua script).
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the counter.
+     * @param timeout  The expiration timeout, applied when the key has no expiration.
+     * @param unit     The time unit of the timeout.
+     * @return a Mono emitting the value after the decrement, or -1 if the arguments are invalid.
+     */
+    @Override
+    public Mono<Long> decreaseKeyExNx(RedisReactiveCommands<String, Object> commands, String key, long timeout, TimeUnit unit) {
+        return this.counter(commands, key, -1, timeout, unit, true);
+    }
+
+    /**
+     * Decrements a counter by one and sets its expiration reactively only if the key has none yet, with an optional callback for handling exceptions.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the counter.
+     * @param timeout  The expiration timeout, applied when the key has no expiration.
+     * @param unit     The time unit of the timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a Mono emitting the value after the decrement, or -1 if an exception occurs.
+     */
+    @Override
+    public Mono<Long> decreaseKeyExNx(RedisReactiveCommands<String, Object> commands, String key, long timeout, TimeUnit unit, Redis4jWrapCallback callback) {
+        return this.recover(this.decreaseKeyExNx(commands, key, timeout, unit), -1L, "decreasing redis key with timeout if absent failed", key, callback);
+    }
+
+    /**
+     * Increments a counter by the specified amount and sets its expiration reactively only if the key has none yet, i.e. when the counter is created,
+     * so that hot counters do not extend their time to live on every hit, in one atomic server-side step (a cached Lua script).
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to add.
+     * @param timeout  The expiration timeout, applied when the key has no expiration.
+     * @param unit     The time unit of the timeout.
+     * @return a Mono emitting the value after the increment, or -1 if the arguments are invalid.
+     */
+    @Override
+    public Mono<Long> increaseKeyByExNx(RedisReactiveCommands<String, Object> commands, String key, long value, long timeout, TimeUnit unit) {
+        if (value < 0) {
+            return Mono.just(-1L);
+        }
+        return this.counter(commands, key, value, timeout, unit, true);
+    }
+
+    /**
+     * Increments a counter by the specified amount and sets its expiration reactively only if the key has none yet, with an optional callback for handling exceptions.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to add.
+     * @param timeout  The expiration timeout, applied when the key has no expiration.
+     * @param unit     The time unit of the timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a Mono emitting the value after the increment, or -1 if an exception occurs.
+     */
+    @Override
+    public Mono<Long> increaseKeyByExNx(RedisReactiveCommands<String, Object> commands, String key, long value, long timeout, TimeUnit unit, Redis4jWrapCallback callback) {
+        return this.recover(this.increaseKeyByExNx(commands, key, value, timeout, unit), -1L, "increasing redis key by value with timeout if absent failed", key, callback);
+    }
+
+    /**
+     * Decrements a counter by the specified amount and sets its expiration reactively only if the key has none yet, i.e. when the counter is created,
+     * so that hot counters do not extend their time to live on every hit, in one atomic server-side step (a cached Lua script).
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to subtract.
+     * @param timeout  The expiration timeout, applied when the key has no expiration.
+     * @param unit     The time unit of the timeout.
+     * @return a Mono emitting the value after the decrement, or -1 if the arguments are invalid.
+     */
+    @Override
+    public Mono<Long> decreaseKeyByExNx(RedisReactiveCommands<String, Object> commands, String key, long value, long timeout, TimeUnit unit) {
+        if (value < 0) {
+            return Mono.just(-1L);
+        }
+        return this.counter(commands, key, -value, timeout, unit, true);
+    }
+
+    /**
+     * Decrements a counter by the specified amount and sets its expiration reactively only if the key has none yet, with an optional callback for handling exceptions.
+     *
+     * @param commands The reactive Lettuce commands, class {@link RedisReactiveCommands}
+     * @param key      The key of the counter.
+     * @param value    The non-negative amount to subtract.
+     * @param timeout  The expiration timeout, applied when the key has no expiration.
+     * @param unit     The time unit of the timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return a Mono emitting the value after the decrement, or -1 if an exception occurs.
+     */
+    @Override
+    public Mono<Long> decreaseKeyByExNx(RedisReactiveCommands<String, Object> commands, String key, long value, long timeout, TimeUnit unit, Redis4jWrapCallback callback) {
+        return this.recover(this.decreaseKeyByExNx(commands, key, value, timeout, unit), -1L, "decreasing redis key by value with timeout if absent failed", key, callback);
+    }
+
+    /**
+     * Runs the counter script of {@link Redis4jServiceImpl} by its SHA1 digest, loading it with EVAL the first time
+     * the server replies NOSCRIPT. The arguments are sent as UTF-8 strings, as the synchronous counter does,
+     * since the value codec of the connection would encode them as values, e.g. as binary Smile or CBOR.
+     * A timeout under one millisecond is rejected, as by the synchronous counter, since PEXPIRE 0 would delete the key.
+     * With nx, the expiration is only set when the key has none, i.e. when the counter is created.
+     */
+    protected Mono<Long> counter(RedisReactiveCommands<String, Object> commands, String key, long delta, long timeout, TimeUnit unit, boolean nx) {
+        if (commands == null || unit == null || unit.toMillis(timeout) <= 0 || String4j.isEmpty(key) || String4j.isBlank(key)) {
+            return Mono.just(-1L);
+        }
+        String counter = String4j.trimWhitespace(key);
+        long millis = unit.toMillis(timeout);
+        String sha1 = Redis4jServiceImpl.COUNTER_EX_SCRIPT.getSha1();
+        String script = Redis4jServiceImpl.COUNTER_EX_SCRIPT.getScriptAsString();
+        return commands.<Long>dispatch(CommandType.EVALSHA, new IntegerOutput<>(Redis4jScriptCodec.INSTANCE), this.counterArgs(sha1, counter, delta, millis, nx))
+                .next()
+                .onErrorResume(e -> e.getMessage() != null && e.getMessage().startsWith("NOSCRIPT"),
+                        e -> commands.<Long>dispatch(CommandType.EVAL, new IntegerOutput<>(Redis4jScriptCodec.INSTANCE), this.counterArgs(script, counter, delta, millis, nx)).next());
+    }
+
+    /**
+     * @return the arguments of EVALSHA or EVAL running the counter script on one key, every argument being a UTF-8 string
+     */
+    protected CommandArgs<String, Object> counterArgs(String script, String key, long delta, long millis, boolean nx) {
+        return new CommandArgs<>(Redis4jScriptCodec.INSTANCE)
+                .add(script)
+                .add(1)
+                .addKey(key)
+                .add(delta)
+                .add(millis)
+                .add(nx ? "1" : "0");
+    }
+
+    /**
+     * @return the number of elements per LRANGE page, also used as the COUNT hint of SSCAN and HSCAN
+     */
+    protected int pageSize() {
+        Redis4jProperties properties = redis4jConfigService.getProperties();
+        int size = properties != null ? properties.getStreamPageSize() : 0;
+        return size > 0 ? size : 500;
+    }
+
+    /**
+     * Completes with the fallback value (empty when null) instead of an error, and reports the outcome to the callback.
+     * The request id is captured at assembly time, since the publisher may complete on an I/O thread,
+     * and only when there is a callback to report to.
+     */
+    protected <T> Mono<T> recover(Mono<T> mono, T fallback, String message, String key, Redis4jWrapCallback callback) {
+        final String requestId = callback != null ? Redis4j.getCurrentSessionId() : null;
+        if (callback != null) {
+            mono = mono.doOnSuccess(value -> this.report(requestId, null, message, key, callback));
+        }
+        return mono
+                .onErrorResume(e -> {
+                    this.report(requestId, e, message, key, callback);
+                    return fallback == null ? Mono.empty() : Mono.just(fallback);
+                });
+    }
+
+    /**
+     * Completes the stream instead of signalling an error, and reports the outcome to the callback.
+     * Elements emitted before the error are kept.
+     */
+    protected <T> Flux<T> recover(Flux<T> flux, String message, String key, Redis4jWrapCallback callback) {
+        final String requestId = callback != null ? Redis4j.getCurrentSessionId() : null;
+        if (callback != null) {
+            flux = flux.doOnComplete(() -> this.report(requestId, null, message, key, callback));
+        }
+        return flux
+                .onErrorResume(e -> {
+                    this.report(requestId, e, message, key, callback);
+                    return Flux.empty();
+                });
+    }
+
+    protected void report(String requestId, Throwable e, String message, String key, Redis4jWrapCallback callback) {
+        if (e != null && redis4jConfigService.isDebugging()) {
+            logger.error("Redis4j, {} with an exception: {} by key: {}", message, e.getMessage(), key, e);
+        }
+        if (callback == null) {
+            return;
+        }
+        HttpWrapBuilder<?> response = new HttpWrapBuilder<>().ok(null).requestId(requestId);
+        if (e != null) {
+            response
+                    .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
+                    .message(message)
+                    .debug("cause", e.getMessage())
+                    .errors(e)
+                    .customFields("redis_key", key);
+        }
+        callback.onCallback(response.build());
+    }
+}
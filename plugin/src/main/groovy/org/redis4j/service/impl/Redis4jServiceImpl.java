@@ -1,16 +1,27 @@
 package org.redis4j.service.impl;
 
 import org.jetbrains.annotations.NotNull;
+import org.redis4j.codec.Redis4jTypedSerializer;
 import org.redis4j.common.Redis4j;
+import org.redis4j.config.props.Redis4jProperties;
+import org.redis4j.model.Redis4jKey;
 import org.redis4j.service.Redis4jConfigService;
+import org.redis4j.service.Redis4jNearCacheService;
 import org.redis4j.service.Redis4jService;
 import org.redis4j.service.Redis4jWrapCallback;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.DataType;
 import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStringCommands;
 import org.springframework.data.redis.core.*;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.core.types.Expiration;
 import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Service;
 import org.unify4j.common.*;
 import org.unify4j.model.builder.HttpStatusBuilder;
@@ -18,19 +29,37 @@ import org.unify4j.model.builder.HttpWrapBuilder;
 import org.unify4j.model.c.Pair;
 import org.unify4j.model.enums.IconType;
 
+import java.lang.reflect.Type;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 @SuppressWarnings({"FieldCanBeLocal", "DuplcatedCode"})
 @Service
 public class Redis4jServiceImpl implements Redis4jService {
     protected static final Logger logger = LoggerFactory.getLogger(Redis4jServiceImpl.class);
 
+    /**
+     * INCRBY followed by PEXPIRE, where ARGV[3] = "1" only sets the expiration when the key has none (PTTL = -1).
+     */
+    protected static final RedisScript<Long> COUNTER_EX_SCRIPT = new DefaultRedisScript<>(
+            "local value = redis.call('INCRBY', KEYS[1], ARGV[1]) " +
+                    "if ARGV[3] == '0' or redis.call('PTTL', KEYS[1]) == -1 then " +
+                    "redis.call('PEXPIRE', KEYS[1], ARGV[2]) " +
+                    "end " +
+                    "return value", Long.class);
+    protected static final RedisSerializer<Long> COUNTER_RESULT_SERIALIZER = new GenericToStringSerializer<>(Long.class);
+
     protected final Redis4jConfigService redis4jConfigService;
+    protected final Redis4jNearCacheService redis4jNearCacheService;
 
     @Autowired
-    public Redis4jServiceImpl(Redis4jConfigService redis4jConfigService) {
+    public Redis4jServiceImpl(Redis4jConfigService redis4jConfigService,
+                              Redis4jNearCacheService redis4jNearCacheService) {
         this.redis4jConfigService = redis4jConfigService;
+        this.redis4jNearCacheService = redis4jNearCacheService;
     }
 
     /**
@@ -45,6 +74,12 @@ public class Redis4jServiceImpl implements Redis4jService {
         if (dispatch == null) {
             return Collections.emptyList();
         }
+        Redis4jProperties properties = redis4jConfigService.getProperties();
+        if (properties != null && properties.isKeysScanEnabled()) {
+            try (Stream<String> stream = this.scan(dispatch, pattern, properties.getKeysScanCount())) {
+                return stream.collect(Collectors.toCollection(LinkedHashSet::new));
+            }
+        }
         return dispatch.keys(pattern);
     }
 
@@ -59,7 +94,7 @@ public class Redis4jServiceImpl implements Redis4jService {
      */
     @Override
     public Collection<String> keys(RedisTemplate<String, Object> dispatch, String pattern, Redis4jWrapCallback callback) {
-        HttpWrapBuilder<?> response = new HttpWrapBuilder<>().ok(null).requestId(Redis4j.getCurrentSessionId());
+        HttpWrapBuilder<?> response = null;
         Collection<String> keys = new ArrayList<>();
         try {
             keys = this.keys(dispatch, pattern);
@@ -67,19 +102,67 @@ public class Redis4jServiceImpl implements Redis4jService {
             if (redis4jConfigService.isDebugging()) {
                 logger.error("Redis4j, getting all keys got an exception: {} by pattern: {}", e.getMessage(), pattern, e);
             }
-            response
-                    .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
-                    .message("getting all redis keys failed")
-                    .debug("cause", e.getMessage())
-                    .errors(e)
-                    .customFields("redis_key_pattern", pattern);
+            if (callback != null) {
+                response = Redis4j.wrap()
+                        .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
+                        .message("getting all redis keys failed")
+                        .debug("cause", e.getMessage())
+                        .errors(e)
+                        .customFields("redis_key_pattern", pattern);
+            }
         }
         if (callback != null) {
-            callback.onCallback(response.build());
+            callback.onCallback(response != null ? response.build() : Redis4j.success());
         }
         return keys;
     }
 
+    /**
+     * Iterates lazily over the keys matching the specified pattern using the cursor-based SCAN command,
+     * so that the Redis server is never blocked by a full KEYS traversal.
+     * The returned stream holds a server cursor and must be closed, e.g. using try-with-resources.
+     *
+     * @param dispatch the Redis template, an instance of {@link RedisTemplate}
+     * @param pattern  the glob-style pattern used to match keys, "*" when empty
+     * @param count    the COUNT hint, i.e. the number of keys fetched per page; the server default when not positive
+     * @return a lazy stream of keys matching the specified pattern, or an empty stream if the dispatch is null
+     */
+    @Override
+    public Stream<String> scan(RedisTemplate<String, Object> dispatch, String pattern, long count) {
+        return this.scan(dispatch, pattern, count, null);
+    }
+
+    /**
+     * Iterates lazily over the keys matching the specified pattern and data type using the cursor-based SCAN command,
+     * so that the Redis server is never blocked by a full KEYS traversal.
+     * The returned stream holds a server cursor and must be closed, e.g. using try-with-resources.
+     *
+     * @param dispatch the Redis template, an instance of {@link RedisTemplate}
+     * @param pattern  the glob-style pattern used to match keys, "*" when empty
+     * @param count    the COUNT hint, i.e. the number of keys fetched per page; the server default when not positive
+     * @param type     the optional TYPE filter, an instance of {@link DataType}; ignored when null
+     * @return a lazy stream of keys matching the specified pattern and type, or an empty stream if the dispatch is null
+     */
+    @Override
+    public Stream<String> scan(RedisTemplate<String, Object> dispatch, String pattern, long count, DataType type) {
+        if (dispatch == null) {
+            return Stream.empty();
+        }
+        ScanOptions.ScanOptionsBuilder builder = ScanOptions.scanOptions().match(String4j.isEmpty(pattern) ? "*" : pattern);
+        if (count > 0) {
+            builder.count(count);
+        }
+        if (type != null) {
+            builder.type(type);
+        }
+        Cursor<String> cursor = dispatch.scan(builder.build());
+        if (redis4jConfigService.isDebugging()) {
+            logger.info("{} Scanning Redis keys by pattern: '{}', count: {}, type: {}", IconType.DEBUG.getCode(), pattern, count, type);
+        }
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(cursor, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(cursor::close);
+    }
+
     /**
      * Sets a cache object in Redis using the given RedisTemplate.
      * If the dispatch template or value is null, or if the key is empty or blank, the method returns without performing any operation.
@@ -99,6 +182,7 @@ public class Redis4jServiceImpl implements Redis4jService {
         }
         key = String4j.trimWhitespace(key);
         dispatch.opsForValue().set(key, value);
+        this.invalidateNearCache(key);
         if (redis4jConfigService.isDebugging()) {
             logger.info("{} Setting Redis key: '{}', value: {}", IconType.DEBUG.getCode(), key, Class4j.isPrimitive(value.getClass()) ? value.toString() : Json4j.toJson(value));
         }
@@ -117,20 +201,22 @@ public class Redis4jServiceImpl implements Redis4jService {
      */
     @Override
     public <T> void setCacheObject(RedisTemplate<String, Object> dispatch, String key, T value, Redis4jWrapCallback callback) {
-        HttpWrapBuilder<?> response = new HttpWrapBuilder<>().ok(null).requestId(Redis4j.getCurrentSessionId());
+        HttpWrapBuilder<?> response = null;
         try {
             this.setCacheObject(dispatch, key, value);
         } catch (Exception e) {
-            response
-                    .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
-                    .message("setting redis key failed")
-                    .debug("cause", e.getMessage())
-                    .errors(e)
-                    .customFields("redis_key", key)
-                    .customFields("redis_value", value);
+            if (callback != null) {
+                response = Redis4j.wrap()
+                        .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
+                        .message("setting redis key failed")
+                        .debug("cause", e.getMessage())
+                        .errors(e)
+                        .customFields("redis_key", key)
+                        .customFields("redis_value", value);
+            }
         }
         if (callback != null) {
-            callback.onCallback(response.build());
+            callback.onCallback(response != null ? response.build() : Redis4j.success());
         }
     }
 
@@ -156,6 +242,7 @@ public class Redis4jServiceImpl implements Redis4jService {
         }
         key = String4j.trimWhitespace(key);
         dispatch.opsForValue().set(key, value, timeout, unit);
+        this.invalidateNearCache(key);
         if (redis4jConfigService.isDebugging()) {
             logger.info("{} Setting Redis key: '{}', value: {} with timeout: {} ({})", IconType.DEBUG.getCode(), key, Class4j.isPrimitive(value.getClass()) ? value.toString() : Json4j.toJson(value), timeout, unit.toString());
         }
@@ -176,21 +263,23 @@ public class Redis4jServiceImpl implements Redis4jService {
      */
     @Override
     public <T> void setCacheObject(RedisTemplate<String, Object> dispatch, String key, T value, long timeout, TimeUnit unit, Redis4jWrapCallback callback) {
-        HttpWrapBuilder<?> response = new HttpWrapBuilder<>().ok(null).requestId(Redis4j.getCurrentSessionId());
+        HttpWrapBuilder<?> response = null;
         try {
             this.setCacheObject(dispatch, key, value, timeout, unit);
         } catch (Exception e) {
-            response
-                    .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
-                    .message("setting redis key failed")
-                    .debug("cause", e.getMessage())
-                    .errors(e)
-                    .customFields("redis_key", key)
-                    .customFields("redis_value", value)
-                    .customFields("redis_timeout", timeout);
+            if (callback != null) {
+                response = Redis4j.wrap()
+                        .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
+                        .message("setting redis key failed")
+                        .debug("cause", e.getMessage())
+                        .errors(e)
+                        .customFields("redis_key", key)
+                        .customFields("redis_value", value)
+                        .customFields("redis_timeout", timeout);
+            }
         }
         if (callback != null) {
-            callback.onCallback(response.build());
+            callback.onCallback(response != null ? response.build() : Redis4j.success());
         }
     }
 
@@ -217,6 +306,7 @@ public class Redis4jServiceImpl implements Redis4jService {
         if (redis4jConfigService.isDebugging()) {
             logger.info("{} Setting expiration for Redis key: '{}' by timeout: {}({})", IconType.DEBUG.getCode(), key, timeout, unit.toString());
         }
+        this.invalidateNearCache(key);
         return Boolean.TRUE.equals(dispatch.expire(key, timeout, unit));
     }
 
@@ -234,21 +324,23 @@ public class Redis4jServiceImpl implements Redis4jService {
      */
     @Override
     public boolean expire(RedisTemplate<String, Object> dispatch, String key, long timeout, TimeUnit unit, Redis4jWrapCallback callback) {
-        HttpWrapBuilder<?> response = new HttpWrapBuilder<>().ok(null).requestId(Redis4j.getCurrentSessionId());
+        HttpWrapBuilder<?> response = null;
         boolean isExpired = false;
         try {
             isExpired = this.expire(dispatch, key, timeout, unit);
         } catch (Exception e) {
-            response
-                    .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
-                    .message("setting redis key expiration failed")
-                    .debug("cause", e.getMessage())
-                    .errors(e)
-                    .customFields("redis_key", key)
-                    .customFields("redis_timeout", timeout);
+            if (callback != null) {
+                response = Redis4j.wrap()
+                        .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
+                        .message("setting redis key expiration failed")
+                        .debug("cause", e.getMessage())
+                        .errors(e)
+                        .customFields("redis_key", key)
+                        .customFields("redis_timeout", timeout);
+            }
         }
         if (callback != null) {
-            callback.onCallback(response.build());
+            callback.onCallback(response != null ? response.build() : Redis4j.success());
         }
         return isExpired;
     }
@@ -274,6 +366,9 @@ public class Redis4jServiceImpl implements Redis4jService {
         if (redis4jConfigService.isDebugging()) {
             logger.info("{} Getting Redis key: '{}'", IconType.DEBUG.getCode(), key);
         }
+        if (this.isNearCacheActive(dispatch)) {
+            return redis4jNearCacheService.getCacheObject(key);
+        }
         ValueOperations<String, Object> operation = dispatch.opsForValue();
         return (T) operation.get(key);
     }
@@ -291,20 +386,148 @@ public class Redis4jServiceImpl implements Redis4jService {
      */
     @Override
     public <T> T getCacheObject(RedisTemplate<String, Object> dispatch, String key, Redis4jWrapCallback callback) {
-        HttpWrapBuilder<?> response = new HttpWrapBuilder<>().ok(null).requestId(Redis4j.getCurrentSessionId());
+        HttpWrapBuilder<?> response = null;
         T data = null;
         try {
             data = this.getCacheObject(dispatch, key);
         } catch (Exception e) {
-            response
-                    .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
-                    .message("getting redis value failed")
-                    .debug("cause", e.getMessage())
-                    .errors(e)
-                    .customFields("redis_key", key);
+            if (callback != null) {
+                response = Redis4j.wrap()
+                        .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
+                        .message("getting redis value failed")
+                        .debug("cause", e.getMessage())
+                        .errors(e)
+                        .customFields("redis_key", key);
+            }
+        }
+        if (callback != null) {
+            callback.onCallback(response != null ? response.build() : Redis4j.success());
+        }
+        return data;
+    }
+
+    /**
+     * Retrieves a cache object from Redis as a given type, decoding the stored bytes straight into the type
+     * instead of reading a map tree and converting it again.
+     * If the dispatch template is null, or if the key is empty or blank, the method returns null.
+     *
+     * @param dispatch The RedisTemplate used to retrieve the cache object.
+     * @param key      The key of the cache object to retrieve.
+     * @param type     The type to read the value as.
+     * @param <T>      The type of the value being retrieved.
+     * @return The cached object associated with the given key, or null if the dispatch template is null or the key is empty/blank.
+     */
+    @Override
+    public <T> T getCacheObject(RedisTemplate<String, Object> dispatch, String key, Class<T> type) {
+        if (dispatch == null || type == null) {
+            return null;
+        }
+        if (String4j.isEmpty(key) || String4j.isBlank(key)) {
+            return null;
+        }
+        if (redis4jConfigService.isDebugging()) {
+            logger.info("{} Getting Redis key: '{}' as {}", IconType.DEBUG.getCode(), key, type.getSimpleName());
+        }
+        if (this.isNearCacheActive(dispatch)) {
+            return redis4jNearCacheService.getCacheObject(key, type);
+        }
+        final String preKey = key;
+        byte[] data = dispatch.execute((RedisCallback<byte[]>) connection -> connection.stringCommands().get(dispatch.getStringSerializer().serialize(preKey)));
+        return Redis4jTypedSerializer.read(dispatch.getValueSerializer(), data, type);
+    }
+
+    /**
+     * Retrieves a cache object from Redis as a given type, with an optional callback for handling exceptions.
+     * If the dispatch template is null, or if the key is empty or blank, the method returns null.
+     *
+     * @param dispatch The RedisTemplate used to retrieve the cache object.
+     * @param key      The key of the cache object to retrieve.
+     * @param type     The type to read the value as.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the value being retrieved.
+     * @return The cached object associated with the given key, or null if the dispatch template is null or the key is empty/blank.
+     */
+    @Override
+    public <T> T getCacheObject(RedisTemplate<String, Object> dispatch, String key, Class<T> type, Redis4jWrapCallback callback) {
+        HttpWrapBuilder<?> response = null;
+        T data = null;
+        try {
+            data = this.getCacheObject(dispatch, key, type);
+        } catch (Exception e) {
+            if (callback != null) {
+                response = Redis4j.wrap()
+                        .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
+                        .message("getting redis value failed")
+                        .debug("cause", e.getMessage())
+                        .errors(e)
+                        .customFields("redis_key", key);
+            }
+        }
+        if (callback != null) {
+            callback.onCallback(response != null ? response.build() : Redis4j.success());
+        }
+        return data;
+    }
+
+    /**
+     * Retrieves a cache object from Redis as a generic type, e.g. a container class bound to the class of its content,
+     * decoding the stored bytes straight into the type.
+     * If the dispatch template is null, or if the key is empty or blank, the method returns null.
+     *
+     * @param dispatch The RedisTemplate used to retrieve the cache object.
+     * @param key      The key of the cache object to retrieve.
+     * @param type     The type to read the value as.
+     * @param <T>      The type of the value being retrieved.
+     * @return The cached object associated with the given key, or null if the dispatch template is null or the key is empty/blank.
+     */
+    @Override
+    public <T> T getCacheObject(RedisTemplate<String, Object> dispatch, String key, Type type) {
+        if (dispatch == null || type == null) {
+            return null;
+        }
+        if (String4j.isEmpty(key) || String4j.isBlank(key)) {
+            return null;
+        }
+        if (redis4jConfigService.isDebugging()) {
+            logger.info("{} Getting Redis key: '{}' as {}", IconType.DEBUG.getCode(), key, type.getTypeName());
+        }
+        if (this.isNearCacheActive(dispatch)) {
+            return redis4jNearCacheService.getCacheObject(key, type);
+        }
+        final String preKey = key;
+        byte[] data = dispatch.execute((RedisCallback<byte[]>) connection -> connection.stringCommands().get(dispatch.getStringSerializer().serialize(preKey)));
+        return Redis4jTypedSerializer.read(dispatch.getValueSerializer(), data, type);
+    }
+
+    /**
+     * Retrieves a cache object from Redis as a generic type, with an optional callback for handling exceptions.
+     * If the dispatch template is null, or if the key is empty or blank, the method returns null.
+     *
+     * @param dispatch The RedisTemplate used to retrieve the cache object.
+     * @param key      The key of the cache object to retrieve.
+     * @param type     The type to read the value as.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the value being retrieved.
+     * @return The cached object associated with the given key, or null if the dispatch template is null or the key is empty/blank.
+     */
+    @Override
+    public <T> T getCacheObject(RedisTemplate<String, Object> dispatch, String key, Type type, Redis4jWrapCallback callback) {
+        HttpWrapBuilder<?> response = null;
+        T data = null;
+        try {
+            data = this.getCacheObject(dispatch, key, type);
+        } catch (Exception e) {
+            if (callback != null) {
+                response = Redis4j.wrap()
+                        .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
+                        .message("getting redis value failed")
+                        .debug("cause", e.getMessage())
+                        .errors(e)
+                        .customFields("redis_key", key);
+            }
         }
         if (callback != null) {
-            callback.onCallback(response.build());
+            callback.onCallback(response != null ? response.build() : Redis4j.success());
         }
         return data;
     }
@@ -329,6 +552,7 @@ public class Redis4jServiceImpl implements Redis4jService {
         if (redis4jConfigService.isDebugging()) {
             logger.info("{} Removing Redis key: '{}'", IconType.DEBUG.getCode(), key);
         }
+        this.invalidateNearCache(key);
         return Boolean.TRUE.equals(dispatch.delete(key));
     }
 
@@ -344,20 +568,22 @@ public class Redis4jServiceImpl implements Redis4jService {
      */
     @Override
     public boolean removeObject(RedisTemplate<String, Object> dispatch, String key, Redis4jWrapCallback callback) {
-        HttpWrapBuilder<?> response = new HttpWrapBuilder<>().ok(null).requestId(Redis4j.getCurrentSessionId());
+        HttpWrapBuilder<?> response = null;
         boolean isRemoved = false;
         try {
             isRemoved = this.removeObject(dispatch, key);
         } catch (Exception e) {
-            response
-                    .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
-                    .message("removing redis key failed")
-                    .debug("cause", e.getMessage())
-                    .errors(e)
-                    .customFields("redis_key", key);
+            if (callback != null) {
+                response = Redis4j.wrap()
+                        .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
+                        .message("removing redis key failed")
+                        .debug("cause", e.getMessage())
+                        .errors(e)
+                        .customFields("redis_key", key);
+            }
         }
         if (callback != null) {
-            callback.onCallback(response.build());
+            callback.onCallback(response != null ? response.build() : Redis4j.success());
         }
         return isRemoved;
     }
@@ -402,20 +628,22 @@ public class Redis4jServiceImpl implements Redis4jService {
      */
     @Override
     public <T> long setCacheList(RedisTemplate<String, Object> dispatch, String key, List<T> list, Redis4jWrapCallback callback) {
-        HttpWrapBuilder<?> response = new HttpWrapBuilder<>().ok(null).requestId(Redis4j.getCurrentSessionId());
+        HttpWrapBuilder<?> response = null;
         long affected = 0;
         try {
             affected = this.setCacheList(dispatch, key, list);
         } catch (Exception e) {
-            response
-                    .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
-                    .message("setting redis key list failed")
-                    .debug("cause", e.getMessage())
-                    .errors(e)
-                    .customFields("redis_key", key);
+            if (callback != null) {
+                response = Redis4j.wrap()
+                        .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
+                        .message("setting redis key list failed")
+                        .debug("cause", e.getMessage())
+                        .errors(e)
+                        .customFields("redis_key", key);
+            }
         }
         if (callback != null) {
-            callback.onCallback(response.build());
+            callback.onCallback(response != null ? response.build() : Redis4j.success());
         }
         return affected;
     }
@@ -455,20 +683,86 @@ public class Redis4jServiceImpl implements Redis4jService {
      */
     @Override
     public <T> List<T> getCacheList(RedisTemplate<String, Object> dispatch, String key, Redis4jWrapCallback callback) {
-        HttpWrapBuilder<?> response = new HttpWrapBuilder<>().ok(null).requestId(Redis4j.getCurrentSessionId());
+        HttpWrapBuilder<?> response = null;
         List<T> list = new ArrayList<>();
         try {
             list = this.getCacheList(dispatch, key);
         } catch (Exception e) {
-            response
-                    .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
-                    .message("getting redis key list failed")
-                    .debug("cause", e.getMessage())
-                    .errors(e)
-                    .customFields("redis_key", key);
+            if (callback != null) {
+                response = Redis4j.wrap()
+                        .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
+                        .message("getting redis key list failed")
+                        .debug("cause", e.getMessage())
+                        .errors(e)
+                        .customFields("redis_key", key);
+            }
+        }
+        if (callback != null) {
+            callback.onCallback(response != null ? response.build() : Redis4j.success());
+        }
+        return list;
+    }
+
+    /**
+     * Retrieves a list of objects from Redis as a given element type, decoding each stored element straight into the type.
+     * If the dispatch template is null, or if the key is empty or blank, the method returns an empty list.
+     *
+     * @param dispatch The RedisTemplate used to retrieve the list.
+     * @param key      The key under which the list is stored.
+     * @param type     The type to read the elements as.
+     * @param <T>      The type of objects in the list.
+     * @return The list of objects stored under the given key; an empty list if the operation failed or the inputs were invalid.
+     */
+    @Override
+    public <T> List<T> getCacheList(RedisTemplate<String, Object> dispatch, String key, Class<T> type) {
+        if (dispatch == null || type == null) {
+            return Collections.emptyList();
+        }
+        if (String4j.isEmpty(key) || String4j.isBlank(key)) {
+            return Collections.emptyList();
+        }
+        final String preKey = String4j.trimWhitespace(key);
+        List<byte[]> values = dispatch.execute((RedisCallback<List<byte[]>>) connection -> connection.listCommands().lRange(dispatch.getStringSerializer().serialize(preKey), 0, -1));
+        if (Collection4j.isEmpty(values)) {
+            return Collections.emptyList();
+        }
+        RedisSerializer<?> serializer = dispatch.getValueSerializer();
+        List<T> list = new ArrayList<>(values.size());
+        for (byte[] value : values) {
+            list.add(Redis4jTypedSerializer.read(serializer, value, type));
+        }
+        return list;
+    }
+
+    /**
+     * Retrieves a list of objects from Redis as a given element type, with an optional callback for handling exceptions.
+     * If the dispatch template is null, or if the key is empty or blank, the method returns an empty list.
+     *
+     * @param dispatch The RedisTemplate used to retrieve the list.
+     * @param key      The key under which the list is stored.
+     * @param type     The type to read the elements as.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of objects in the list.
+     * @return The list of objects stored under the given key; an empty list if the operation failed or the inputs were invalid.
+     */
+    @Override
+    public <T> List<T> getCacheList(RedisTemplate<String, Object> dispatch, String key, Class<T> type, Redis4jWrapCallback callback) {
+        HttpWrapBuilder<?> response = null;
+        List<T> list = new ArrayList<>();
+        try {
+            list = this.getCacheList(dispatch, key, type);
+        } catch (Exception e) {
+            if (callback != null) {
+                response = Redis4j.wrap()
+                        .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
+                        .message("getting redis key list failed")
+                        .debug("cause", e.getMessage())
+                        .errors(e)
+                        .customFields("redis_key", key);
+            }
         }
         if (callback != null) {
-            callback.onCallback(response.build());
+            callback.onCallback(response != null ? response.build() : Redis4j.success());
         }
         return list;
     }
@@ -493,13 +787,24 @@ public class Redis4jServiceImpl implements Redis4jService {
             return null;
         }
         key = String4j.trimWhitespace(key);
-        BoundSetOperations<String, Object> ops = dispatch.boundSetOps(key);
-        Iterator<T> iterator = dataSet.iterator();
-        if (iterator.hasNext()) {
-            do {
-                ops.add(iterator.next());
-            } while (iterator.hasNext());
+        final String preKey = key;
+        List<Object[]> chunks = this.chunks(dataSet, redis4jConfigService.getProperties().getSetWriteChunkSize());
+        if (chunks.size() == 1) {
+            dispatch.opsForSet().add(preKey, chunks.get(0));
+        } else {
+            dispatch.executePipelined(new SessionCallback<Object>() {
+                @SuppressWarnings({"unchecked"})
+                @Override
+                public <K, V> Object execute(@NotNull RedisOperations<K, V> operations) {
+                    RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                    for (Object[] chunk : chunks) {
+                        ops.opsForSet().add(preKey, chunk);
+                    }
+                    return null;
+                }
+            });
         }
+        BoundSetOperations<String, Object> ops = dispatch.boundSetOps(key);
         if (redis4jConfigService.isDebugging()) {
             logger.info("{} Setting Set by Redis key: '{}', value: {}", IconType.DEBUG.getCode(), key,
                     Class4j.isPrimitive(dataSet.getClass()) ? dataSet.toString() : Json4j.toJson(dataSet));
@@ -521,20 +826,113 @@ public class Redis4jServiceImpl implements Redis4jService {
      */
     @Override
     public <T> BoundSetOperations<String, T> setCacheSet(RedisTemplate<String, Object> dispatch, String key, Set<T> dataSet, Redis4jWrapCallback callback) {
-        HttpWrapBuilder<?> response = new HttpWrapBuilder<>().ok(null).requestId(Redis4j.getCurrentSessionId());
+        HttpWrapBuilder<?> response = null;
         BoundSetOperations<String, T> data = null;
         try {
             data = this.setCacheSet(dispatch, key, dataSet);
         } catch (Exception e) {
-            response
-                    .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
-                    .message("setting redis key set failed")
-                    .debug("cause", e.getMessage())
-                    .errors(e)
-                    .customFields("redis_key", key);
+            if (callback != null) {
+                response = Redis4j.wrap()
+                        .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
+                        .message("setting redis key set failed")
+                        .debug("cause", e.getMessage())
+                        .errors(e)
+                        .customFields("redis_key", key);
+            }
+        }
+        if (callback != null) {
+            callback.onCallback(response != null ? response.build() : Redis4j.success());
+        }
+        return data;
+    }
+
+    /**
+     * Replaces a set of objects in Redis with an expiration timeout using the given RedisTemplate.
+     * The previous members are dropped and the new ones are added with variadic SADD commands in bounded chunks,
+     * all inside one MULTI/EXEC transaction sent as a single pipeline, so that replacing the set is one network exchange.
+     * A null or empty dataSet returns null before the transaction is opened, so that the previous members are kept,
+     * as does a timeout under one millisecond, which EXPIRE would turn into a deletion of the new set.
+     * If the dispatch template or time unit is null, or the key is empty or blank, the method returns null too.
+     *
+     * @param dispatch The RedisTemplate used to store the set.
+     * @param key      The key under which the set is stored.
+     * @param dataSet  The set of data to be stored.
+     * @param timeout  The expiration timeout for the set.
+     * @param unit     The time unit for the expiration timeout.
+     * @param <T>      The type of objects in the set.
+     * @return The BoundSetOperations for the given key and set, or null if the operation failed or the inputs were invalid.
+     */
+    @SuppressWarnings({"unchecked"})
+    @Override
+    public <T> BoundSetOperations<String, T> setCacheSet(RedisTemplate<String, Object> dispatch, String key, Set<T> dataSet, long timeout, TimeUnit unit) {
+        if (Collection4j.isEmpty(dataSet)) {
+            return null;
+        }
+        if (dispatch == null || unit == null || unit.toMillis(timeout) <= 0) {
+            return null;
+        }
+        if (String4j.isEmpty(key) || String4j.isBlank(key)) {
+            return null;
+        }
+        key = String4j.trimWhitespace(key);
+        final String preKey = key;
+        List<Object[]> chunks = this.chunks(dataSet, redis4jConfigService.getProperties().getSetWriteChunkSize());
+        dispatch.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public <K, V> Object execute(@NotNull RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                ops.multi();
+                ops.delete(preKey);
+                for (Object[] chunk : chunks) {
+                    ops.opsForSet().add(preKey, chunk);
+                }
+                ops.expire(preKey, timeout, unit);
+                ops.exec();
+                return null;
+            }
+        });
+        if (redis4jConfigService.isDebugging()) {
+            logger.info("{} Replacing Set by Redis key: '{}', value: {} with timeout: {} ({})", IconType.DEBUG.getCode(), key,
+                    Class4j.isPrimitive(dataSet.getClass()) ? dataSet.toString() : Json4j.toJson(dataSet), timeout, unit.toString());
+        }
+        return (BoundSetOperations<String, T>) dispatch.boundSetOps(key);
+    }
+
+    /**
+     * Replaces a set of objects in Redis with an expiration timeout using the given RedisTemplate, with an optional callback
+     * for handling exceptions. The previous members are dropped and the new ones are added with variadic SADD commands
+     * in bounded chunks, all inside one MULTI/EXEC transaction sent as a single pipeline.
+     * If the dispatch template or time unit is null, the dataSet is null or empty, the timeout is under one millisecond,
+     * or the key is empty or blank, the method returns null.
+     *
+     * @param dispatch The RedisTemplate used to store the set.
+     * @param key      The key under which the set is stored.
+     * @param dataSet  The set of data to be stored.
+     * @param timeout  The expiration timeout for the set.
+     * @param unit     The time unit for the expiration timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of objects in the set.
+     * @return The BoundSetOperations for the given key and set, or null if the operation failed or the inputs were invalid.
+     */
+    @Override
+    public <T> BoundSetOperations<String, T> setCacheSet(RedisTemplate<String, Object> dispatch, String key, Set<T> dataSet, long timeout, TimeUnit unit, Redis4jWrapCallback callback) {
+        HttpWrapBuilder<?> response = null;
+        BoundSetOperations<String, T> data = null;
+        try {
+            data = this.setCacheSet(dispatch, key, dataSet, timeout, unit);
+        } catch (Exception e) {
+            if (callback != null) {
+                response = Redis4j.wrap()
+                        .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
+                        .message("setting redis key set failed")
+                        .debug("cause", e.getMessage())
+                        .errors(e)
+                        .customFields("redis_key", key)
+                        .customFields("redis_timeout", timeout);
+            }
         }
         if (callback != null) {
-            callback.onCallback(response.build());
+            callback.onCallback(response != null ? response.build() : Redis4j.success());
         }
         return data;
     }
@@ -573,20 +971,22 @@ public class Redis4jServiceImpl implements Redis4jService {
      */
     @Override
     public <T> Set<T> getCacheSet(RedisTemplate<String, Object> dispatch, String key, Redis4jWrapCallback callback) {
-        HttpWrapBuilder<?> response = new HttpWrapBuilder<>().ok(null).requestId(Redis4j.getCurrentSessionId());
+        HttpWrapBuilder<?> response = null;
         Set<T> set = new HashSet<>();
         try {
             set = this.getCacheSet(dispatch, key);
         } catch (Exception e) {
-            response
-                    .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
-                    .message("getting redis key set failed")
-                    .debug("cause", e.getMessage())
-                    .errors(e)
-                    .customFields("redis_key", key);
+            if (callback != null) {
+                response = Redis4j.wrap()
+                        .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
+                        .message("getting redis key set failed")
+                        .debug("cause", e.getMessage())
+                        .errors(e)
+                        .customFields("redis_key", key);
+            }
         }
         if (callback != null) {
-            callback.onCallback(response.build());
+            callback.onCallback(response != null ? response.build() : Redis4j.success());
         }
         return set;
     }
@@ -611,6 +1011,7 @@ public class Redis4jServiceImpl implements Redis4jService {
         }
         key = String4j.trimWhitespace(key);
         dispatch.opsForHash().putAll(key, map);
+        this.invalidateNearCache(key);
         if (redis4jConfigService.isDebugging()) {
             logger.info("{} Setting Map by Redis key: '{}', value: {}", IconType.DEBUG.getCode(), key,
                     Class4j.isPrimitive(map.getClass()) ? map.toString() : Json4j.toJson(map));
@@ -630,20 +1031,22 @@ public class Redis4jServiceImpl implements Redis4jService {
      */
     @Override
     public <T> void setCacheMap(RedisTemplate<String, Object> dispatch, String key, Map<String, T> map, Redis4jWrapCallback callback) {
-        HttpWrapBuilder<?> response = new HttpWrapBuilder<>().ok(null).requestId(Redis4j.getCurrentSessionId());
+        HttpWrapBuilder<?> response = null;
         try {
             this.setCacheMap(dispatch, key, map);
         } catch (Exception e) {
-            response
-                    .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
-                    .message("setting redis key map failed")
-                    .debug("cause", e.getMessage())
-                    .errors(e)
-                    .customFields("redis_key", key)
-                    .customFields("redis_value", map);
+            if (callback != null) {
+                response = Redis4j.wrap()
+                        .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
+                        .message("setting redis key map failed")
+                        .debug("cause", e.getMessage())
+                        .errors(e)
+                        .customFields("redis_key", key)
+                        .customFields("redis_value", map);
+            }
         }
         if (callback != null) {
-            callback.onCallback(response.build());
+            callback.onCallback(response != null ? response.build() : Redis4j.success());
         }
     }
 
@@ -680,20 +1083,22 @@ public class Redis4jServiceImpl implements Redis4jService {
     @SafeVarargs
     @Override
     public final <T> void setCacheMapSafe(RedisTemplate<String, Object> dispatch, String key, Redis4jWrapCallback callback, Pair<String, T>... map) {
-        HttpWrapBuilder<?> response = new HttpWrapBuilder<>().ok(null).requestId(Redis4j.getCurrentSessionId());
+        HttpWrapBuilder<?> response = null;
         try {
             this.setCacheMapSafe(dispatch, key, map);
         } catch (Exception e) {
-            response
-                    .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
-                    .message("setting redis key map safe failed")
-                    .debug("cause", e.getMessage())
-                    .errors(e)
-                    .customFields("redis_key", key)
-                    .customFields("redis_value", map);
+            if (callback != null) {
+                response = Redis4j.wrap()
+                        .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
+                        .message("setting redis key map safe failed")
+                        .debug("cause", e.getMessage())
+                        .errors(e)
+                        .customFields("redis_key", key)
+                        .customFields("redis_value", map);
+            }
         }
         if (callback != null) {
-            callback.onCallback(response.build());
+            callback.onCallback(response != null ? response.build() : Redis4j.success());
         }
     }
 
@@ -730,20 +1135,86 @@ public class Redis4jServiceImpl implements Redis4jService {
      */
     @Override
     public Map<Object, Object> getCacheMap(RedisTemplate<String, Object> dispatch, String key, Redis4jWrapCallback callback) {
-        HttpWrapBuilder<?> response = new HttpWrapBuilder<>().ok(null).requestId(Redis4j.getCurrentSessionId());
+        HttpWrapBuilder<?> response = null;
         Map<Object, Object> map = new HashMap<>();
         try {
             map = this.getCacheMap(dispatch, key);
         } catch (Exception e) {
-            response
-                    .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
-                    .message("getting redis key map failed")
-                    .debug("cause", e.getMessage())
-                    .errors(e)
-                    .customFields("redis_key", key);
+            if (callback != null) {
+                response = Redis4j.wrap()
+                        .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
+                        .message("getting redis key map failed")
+                        .debug("cause", e.getMessage())
+                        .errors(e)
+                        .customFields("redis_key", key);
+            }
+        }
+        if (callback != null) {
+            callback.onCallback(response != null ? response.build() : Redis4j.success());
+        }
+        return map;
+    }
+
+    /**
+     * Retrieves a map from Redis as a given value type, decoding each stored hash value straight into the type.
+     * If the dispatch template is null or the key is empty or blank, the method returns an empty map.
+     *
+     * @param dispatch The RedisTemplate used to retrieve the map.
+     * @param key      The key under which the map is stored.
+     * @param type     The type to read the hash values as.
+     * @param <V>      The type of the hash values.
+     * @return A map of the hash keys to their values, or an empty map if the dispatch template or key is invalid.
+     */
+    @Override
+    public <V> Map<String, V> getCacheMap(RedisTemplate<String, Object> dispatch, String key, Class<V> type) {
+        if (dispatch == null || type == null) {
+            return Collections.emptyMap();
+        }
+        if (String4j.isEmpty(key) || String4j.isBlank(key)) {
+            return Collections.emptyMap();
+        }
+        final String preKey = String4j.trimWhitespace(key);
+        Map<byte[], byte[]> entries = dispatch.execute((RedisCallback<Map<byte[], byte[]>>) connection -> connection.hashCommands().hGetAll(dispatch.getStringSerializer().serialize(preKey)));
+        if (entries == null || entries.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        RedisSerializer<?> serializer = dispatch.getHashValueSerializer();
+        Map<String, V> map = new LinkedHashMap<>(entries.size() * 4 / 3 + 1);
+        for (Map.Entry<byte[], byte[]> entry : entries.entrySet()) {
+            map.put(dispatch.getStringSerializer().deserialize(entry.getKey()), Redis4jTypedSerializer.read(serializer, entry.getValue(), type));
+        }
+        return map;
+    }
+
+    /**
+     * Retrieves a map from Redis as a given value type, with an optional callback for handling exceptions.
+     * If the dispatch template is null or the key is empty or blank, the method returns an empty map.
+     *
+     * @param dispatch The RedisTemplate used to retrieve the map.
+     * @param key      The key under which the map is stored.
+     * @param type     The type to read the hash values as.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <V>      The type of the hash values.
+     * @return A map of the hash keys to their values, or an empty map if the dispatch template or key is invalid.
+     */
+    @Override
+    public <V> Map<String, V> getCacheMap(RedisTemplate<String, Object> dispatch, String key, Class<V> type, Redis4jWrapCallback callback) {
+        HttpWrapBuilder<?> response = null;
+        Map<String, V> map = new HashMap<>();
+        try {
+            map = this.getCacheMap(dispatch, key, type);
+        } catch (Exception e) {
+            if (callback != null) {
+                response = Redis4j.wrap()
+                        .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
+                        .message("getting redis key map failed")
+                        .debug("cause", e.getMessage())
+                        .errors(e)
+                        .customFields("redis_key", key);
+            }
         }
         if (callback != null) {
-            callback.onCallback(response.build());
+            callback.onCallback(response != null ? response.build() : Redis4j.success());
         }
         return map;
     }
@@ -771,6 +1242,7 @@ public class Redis4jServiceImpl implements Redis4jService {
         }
         key = String4j.trimWhitespace(key);
         dispatch.opsForHash().put(key, hKey, value);
+        this.invalidateNearCache(key);
         if (redis4jConfigService.isDebugging()) {
             logger.info("{} Setting Map-Value by Redis key: '{}', value: {}", IconType.DEBUG.getCode(), key,
                     Class4j.isPrimitive(value.getClass()) ? value.toString() : Json4j.toJson(value));
@@ -791,21 +1263,23 @@ public class Redis4jServiceImpl implements Redis4jService {
      */
     @Override
     public <T> void setCacheMapValue(RedisTemplate<String, Object> dispatch, String key, String hKey, T value, Redis4jWrapCallback callback) {
-        HttpWrapBuilder<?> response = new HttpWrapBuilder<>().ok(null).requestId(Redis4j.getCurrentSessionId());
+        HttpWrapBuilder<?> response = null;
         try {
             this.setCacheMapValue(dispatch, key, hKey, value);
         } catch (Exception e) {
-            response
-                    .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
-                    .message("setting redis key map failed")
-                    .debug("cause", e.getMessage())
-                    .errors(e)
-                    .customFields("redis_key", key)
-                    .customFields("redis_value", value)
-                    .customFields("redis_hash_key", hKey);
+            if (callback != null) {
+                response = Redis4j.wrap()
+                        .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
+                        .message("setting redis key map failed")
+                        .debug("cause", e.getMessage())
+                        .errors(e)
+                        .customFields("redis_key", key)
+                        .customFields("redis_value", value)
+                        .customFields("redis_hash_key", hKey);
+            }
         }
         if (callback != null) {
-            callback.onCallback(response.build());
+            callback.onCallback(response != null ? response.build() : Redis4j.success());
         }
     }
 
@@ -832,6 +1306,9 @@ public class Redis4jServiceImpl implements Redis4jService {
             return null;
         }
         key = String4j.trimWhitespace(key);
+        if (this.isNearCacheActive(dispatch)) {
+            return redis4jNearCacheService.getCacheMapValue(key, hKey);
+        }
         HashOperations<String, String, T> ops = dispatch.opsForHash();
         return ops.get(key, hKey);
     }
@@ -850,21 +1327,23 @@ public class Redis4jServiceImpl implements Redis4jService {
      */
     @Override
     public <T> T getCacheMapValue(RedisTemplate<String, Object> dispatch, String key, String hKey, Redis4jWrapCallback callback) {
-        HttpWrapBuilder<?> response = new HttpWrapBuilder<>().ok(null).requestId(Redis4j.getCurrentSessionId());
+        HttpWrapBuilder<?> response = null;
         T data = null;
         try {
             data = this.getCacheMapValue(dispatch, key, hKey);
         } catch (Exception e) {
-            response
-                    .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
-                    .message("getting redis key map failed")
-                    .debug("cause", e.getMessage())
-                    .errors(e)
-                    .customFields("redis_key", key)
-                    .customFields("redis_hash_key", hKey);
+            if (callback != null) {
+                response = Redis4j.wrap()
+                        .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
+                        .message("getting redis key map failed")
+                        .debug("cause", e.getMessage())
+                        .errors(e)
+                        .customFields("redis_key", key)
+                        .customFields("redis_hash_key", hKey);
+            }
         }
         if (callback != null) {
-            callback.onCallback(response.build());
+            callback.onCallback(response != null ? response.build() : Redis4j.success());
         }
         return data;
     }
@@ -907,21 +1386,23 @@ public class Redis4jServiceImpl implements Redis4jService {
      */
     @Override
     public <T> List<T> getMultiCacheMapValue(RedisTemplate<String, Object> dispatch, String key, Collection<Object> hKeys, Redis4jWrapCallback callback) {
-        HttpWrapBuilder<?> response = new HttpWrapBuilder<>().ok(null).requestId(Redis4j.getCurrentSessionId());
+        HttpWrapBuilder<?> response = null;
         List<T> data = new ArrayList<>();
         try {
             data = this.getMultiCacheMapValue(dispatch, key, hKeys);
         } catch (Exception e) {
-            response
-                    .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
-                    .message("getting redis multiple keys map failed")
-                    .debug("cause", e.getMessage())
-                    .errors(e)
-                    .customFields("redis_key", key)
-                    .customFields("redis_hash_keys", hKeys);
+            if (callback != null) {
+                response = Redis4j.wrap()
+                        .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
+                        .message("getting redis multiple keys map failed")
+                        .debug("cause", e.getMessage())
+                        .errors(e)
+                        .customFields("redis_key", key)
+                        .customFields("redis_hash_keys", hKeys);
+            }
         }
         if (callback != null) {
-            callback.onCallback(response.build());
+            callback.onCallback(response != null ? response.build() : Redis4j.success());
         }
         return data;
     }
@@ -948,20 +1429,22 @@ public class Redis4jServiceImpl implements Redis4jService {
      */
     @Override
     public Collection<String> defaultKeys(RedisTemplate<String, Object> dispatch, Redis4jWrapCallback callback) {
-        HttpWrapBuilder<?> response = new HttpWrapBuilder<>().ok(null).requestId(Redis4j.getCurrentSessionId());
+        HttpWrapBuilder<?> response = null;
         Collection<String> list = new ArrayList<>();
         try {
             list = this.defaultKeys(dispatch);
         } catch (Exception e) {
-            response
-                    .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
-                    .message("getting redis all keys failed")
-                    .debug("cause", e.getMessage())
-                    .errors(e)
-                    .customFields("redis_keys", "*");
+            if (callback != null) {
+                response = Redis4j.wrap()
+                        .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
+                        .message("getting redis all keys failed")
+                        .debug("cause", e.getMessage())
+                        .errors(e)
+                        .customFields("redis_keys", "*");
+            }
         }
         if (callback != null) {
-            callback.onCallback(response.build());
+            callback.onCallback(response != null ? response.build() : Redis4j.success());
         }
         return list;
     }
@@ -984,8 +1467,7 @@ public class Redis4jServiceImpl implements Redis4jService {
             return false;
         }
         key = String4j.trimWhitespace(key);
-        Collection<String> collection = this.defaultKeys(dispatch);
-        return Collection4j.isNotEmpty(collection) && collection.contains(key);
+        return Boolean.TRUE.equals(dispatch.hasKey(key));
     }
 
     /**
@@ -1001,38 +1483,114 @@ public class Redis4jServiceImpl implements Redis4jService {
      */
     @Override
     public boolean containsKey(RedisTemplate<String, Object> dispatch, String key, Redis4jWrapCallback callback) {
-        HttpWrapBuilder<?> response = new HttpWrapBuilder<>().ok(null).requestId(Redis4j.getCurrentSessionId());
+        HttpWrapBuilder<?> response = null;
         boolean exists = false;
         try {
             exists = this.containsKey(dispatch, key);
         } catch (Exception e) {
-            response
-                    .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
-                    .message("checking exists redis key failed")
-                    .debug("cause", e.getMessage())
-                    .errors(e)
-                    .customFields("redis_key", key);
+            if (callback != null) {
+                response = Redis4j.wrap()
+                        .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
+                        .message("checking exists redis key failed")
+                        .debug("cause", e.getMessage())
+                        .errors(e)
+                        .customFields("redis_key", key);
+            }
         }
         if (callback != null) {
-            callback.onCallback(response.build());
+            callback.onCallback(response != null ? response.build() : Redis4j.success());
         }
         return exists;
     }
 
     /**
-     * Publishes data to a specified Redis topic using the given RedisTemplate.
-     * If the dispatch template, topic, or data is null, the method returns without performing any action.
-     * Attempts to send the data to the specified topic, and logs any exceptions that occur during the operation.
+     * Checks the existence of several keys in a single pipelined round-trip using the given RedisTemplate.
+     * Empty or blank keys are skipped, and whitespace is trimmed from each key before checking.
      *
-     * @param dispatch The RedisTemplate used to send the data.
-     * @param topic    The Redis topic to which the data is to be sent.
-     * @param data     The data to be sent to the topic.
-     * @param <T>      The type of data being sent.
+     * @param dispatch The RedisTemplate used to check the existence of the keys.
+     * @param keys     The keys to check for existence in the Redis store.
+     * @return A map (in iteration order of the given keys) from each key to true if it exists, false otherwise;
+     * an empty map if the dispatch template is null or no key is given.
      */
     @Override
-    public <T> void produce(RedisTemplate<String, Object> dispatch, ChannelTopic topic, T data) {
-        if (dispatch == null || topic == null || data == null) {
-            return;
+    public Map<String, Boolean> existsMany(RedisTemplate<String, Object> dispatch, Collection<String> keys) {
+        if (dispatch == null || Collection4j.isEmpty(keys)) {
+            return Collections.emptyMap();
+        }
+        List<String> list = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            if (String4j.isEmpty(key) || String4j.isBlank(key)) {
+                continue;
+            }
+            list.add(String4j.trimWhitespace(key));
+        }
+        if (list.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        RedisSerializer<String> serializer = dispatch.getStringSerializer();
+        List<Object> results = dispatch.executePipelined((RedisCallback<Object>) connection -> {
+            for (String key : list) {
+                connection.keyCommands().exists(serializer.serialize(key));
+            }
+            return null;
+        });
+        Map<String, Boolean> exists = new LinkedHashMap<>(list.size());
+        for (int i = 0; i < list.size(); i++) {
+            exists.put(list.get(i), i < results.size() && Boolean.TRUE.equals(results.get(i)));
+        }
+        if (redis4jConfigService.isDebugging()) {
+            logger.info("{} Checking existence of {} Redis keys in one pipeline", IconType.DEBUG.getCode(), list.size());
+        }
+        return exists;
+    }
+
+    /**
+     * Checks the existence of several keys in a single pipelined round-trip using the given RedisTemplate,
+     * with an optional callback for handling exceptions.
+     * Empty or blank keys are skipped, and whitespace is trimmed from each key before checking.
+     *
+     * @param dispatch The RedisTemplate used to check the existence of the keys.
+     * @param keys     The keys to check for existence in the Redis store.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return A map (in iteration order of the given keys) from each key to true if it exists, false otherwise;
+     * an empty map if an exception occurs.
+     */
+    @Override
+    public Map<String, Boolean> existsMany(RedisTemplate<String, Object> dispatch, Collection<String> keys, Redis4jWrapCallback callback) {
+        HttpWrapBuilder<?> response = null;
+        Map<String, Boolean> exists = new LinkedHashMap<>();
+        try {
+            exists = this.existsMany(dispatch, keys);
+        } catch (Exception e) {
+            if (callback != null) {
+                response = Redis4j.wrap()
+                        .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
+                        .message("checking exists redis keys failed")
+                        .debug("cause", e.getMessage())
+                        .errors(e)
+                        .customFields("redis_keys", keys);
+            }
+        }
+        if (callback != null) {
+            callback.onCallback(response != null ? response.build() : Redis4j.success());
+        }
+        return exists;
+    }
+
+    /**
+     * Publishes data to a specified Redis topic using the given RedisTemplate.
+     * If the dispatch template, topic, or data is null, the method returns without performing any action.
+     * Attempts to send the data to the specified topic, and logs any exceptions that occur during the operation.
+     *
+     * @param dispatch The RedisTemplate used to send the data.
+     * @param topic    The Redis topic to which the data is to be sent.
+     * @param data     The data to be sent to the topic.
+     * @param <T>      The type of data being sent.
+     */
+    @Override
+    public <T> void produce(RedisTemplate<String, Object> dispatch, ChannelTopic topic, T data) {
+        if (dispatch == null || topic == null || data == null) {
+            return;
         }
         try {
             dispatch.convertAndSend(topic.getTopic(), data);
@@ -1060,19 +1618,21 @@ public class Redis4jServiceImpl implements Redis4jService {
      */
     @Override
     public <T> void produce(RedisTemplate<String, Object> dispatch, ChannelTopic topic, T data, Redis4jWrapCallback callback) {
-        HttpWrapBuilder<?> response = new HttpWrapBuilder<>().ok(null).requestId(Redis4j.getCurrentSessionId());
+        HttpWrapBuilder<?> response = null;
         try {
             this.produce(dispatch, topic, data);
         } catch (Exception e) {
-            response
-                    .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
-                    .message("producing redis topic failed")
-                    .debug("cause", e.getMessage())
-                    .errors(e)
-                    .customFields("redis_topic", topic.getTopic());
+            if (callback != null) {
+                response = Redis4j.wrap()
+                        .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
+                        .message("producing redis topic failed")
+                        .debug("cause", e.getMessage())
+                        .errors(e)
+                        .customFields("redis_topic", topic.getTopic());
+            }
         }
         if (callback != null) {
-            callback.onCallback(response.build());
+            callback.onCallback(response != null ? response.build() : Redis4j.success());
         }
     }
 
@@ -1095,6 +1655,7 @@ public class Redis4jServiceImpl implements Redis4jService {
         if (String4j.isEmpty(key) || String4j.isBlank(key)) {
             return -1;
         }
+        this.invalidateNearCache(key);
         try {
             return (long) dispatch.execute((RedisCallback) connection -> {
                 byte[] b = dispatch.getStringSerializer().serialize(key);
@@ -1119,20 +1680,22 @@ public class Redis4jServiceImpl implements Redis4jService {
      */
     @Override
     public long increaseKey(RedisTemplate<String, Object> dispatch, String key, Redis4jWrapCallback callback) {
-        HttpWrapBuilder<?> response = new HttpWrapBuilder<>().ok(null).requestId(Redis4j.getCurrentSessionId());
+        HttpWrapBuilder<?> response = null;
         long value = 0;
         try {
             value = this.increaseKey(dispatch, key);
         } catch (Exception e) {
-            response
-                    .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
-                    .message("increasing redis key failed")
-                    .debug("cause", e.getMessage())
-                    .errors(e)
-                    .customFields("redis_key", key);
+            if (callback != null) {
+                response = Redis4j.wrap()
+                        .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
+                        .message("increasing redis key failed")
+                        .debug("cause", e.getMessage())
+                        .errors(e)
+                        .customFields("redis_key", key);
+            }
         }
         if (callback != null) {
-            callback.onCallback(response.build());
+            callback.onCallback(response != null ? response.build() : Redis4j.success());
         }
         return value;
     }
@@ -1156,6 +1719,7 @@ public class Redis4jServiceImpl implements Redis4jService {
         if (String4j.isEmpty(key) || String4j.isBlank(key)) {
             return -1;
         }
+        this.invalidateNearCache(key);
         try {
             return (long) dispatch.execute((RedisCallback) connection -> {
                 byte[] b = dispatch.getStringSerializer().serialize(key);
@@ -1180,20 +1744,22 @@ public class Redis4jServiceImpl implements Redis4jService {
      */
     @Override
     public long decreaseKey(RedisTemplate<String, Object> dispatch, String key, Redis4jWrapCallback callback) {
-        HttpWrapBuilder<?> response = new HttpWrapBuilder<>().ok(null).requestId(Redis4j.getCurrentSessionId());
+        HttpWrapBuilder<?> response = null;
         long value = 0;
         try {
             value = this.decreaseKey(dispatch, key);
         } catch (Exception e) {
-            response
-                    .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
-                    .message("decreasing redis key failed")
-                    .debug("cause", e.getMessage())
-                    .errors(e)
-                    .customFields("redis_key", key);
+            if (callback != null) {
+                response = Redis4j.wrap()
+                        .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
+                        .message("decreasing redis key failed")
+                        .debug("cause", e.getMessage())
+                        .errors(e)
+                        .customFields("redis_key", key);
+            }
         }
         if (callback != null) {
-            callback.onCallback(response.build());
+            callback.onCallback(response != null ? response.build() : Redis4j.success());
         }
         return value;
     }
@@ -1218,6 +1784,7 @@ public class Redis4jServiceImpl implements Redis4jService {
         if (String4j.isEmpty(key) || String4j.isBlank(key)) {
             return -1;
         }
+        this.invalidateNearCache(key);
         try {
             final String preKey = key;
             final long preValue = value;
@@ -1247,21 +1814,23 @@ public class Redis4jServiceImpl implements Redis4jService {
      */
     @Override
     public long increaseKeyBy(RedisTemplate<String, Object> dispatch, String key, long value, Redis4jWrapCallback callback) {
-        HttpWrapBuilder<?> response = new HttpWrapBuilder<>().ok(null).requestId(Redis4j.getCurrentSessionId());
+        HttpWrapBuilder<?> response = null;
         long val = 0;
         try {
             val = this.increaseKeyBy(dispatch, key, value);
         } catch (Exception e) {
-            response
-                    .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
-                    .message("increasing redis key failed")
-                    .debug("cause", e.getMessage())
-                    .errors(e)
-                    .customFields("redis_key", key)
-                    .customFields("redis_value", value);
+            if (callback != null) {
+                response = Redis4j.wrap()
+                        .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
+                        .message("increasing redis key failed")
+                        .debug("cause", e.getMessage())
+                        .errors(e)
+                        .customFields("redis_key", key)
+                        .customFields("redis_value", value);
+            }
         }
         if (callback != null) {
-            callback.onCallback(response.build());
+            callback.onCallback(response != null ? response.build() : Redis4j.success());
         }
         return val;
     }
@@ -1286,6 +1855,7 @@ public class Redis4jServiceImpl implements Redis4jService {
         if (String4j.isEmpty(key) || String4j.isBlank(key)) {
             return -1;
         }
+        this.invalidateNearCache(key);
         try {
             final String preKey = key;
             final long preValue = value;
@@ -1315,29 +1885,31 @@ public class Redis4jServiceImpl implements Redis4jService {
      */
     @Override
     public long decreaseKeyBy(RedisTemplate<String, Object> dispatch, String key, long value, Redis4jWrapCallback callback) {
-        HttpWrapBuilder<?> response = new HttpWrapBuilder<>().ok(null).requestId(Redis4j.getCurrentSessionId());
+        HttpWrapBuilder<?> response = null;
         long val = 0;
         try {
             val = this.decreaseKeyBy(dispatch, key, value);
         } catch (Exception e) {
-            response
-                    .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
-                    .message("decreasing redis key failed")
-                    .debug("cause", e.getMessage())
-                    .errors(e)
-                    .customFields("redis_key", key)
-                    .customFields("redis_value", value);
+            if (callback != null) {
+                response = Redis4j.wrap()
+                        .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
+                        .message("decreasing redis key failed")
+                        .debug("cause", e.getMessage())
+                        .errors(e)
+                        .customFields("redis_key", key)
+                        .customFields("redis_value", value);
+            }
         }
         if (callback != null) {
-            callback.onCallback(response.build());
+            callback.onCallback(response != null ? response.build() : Redis4j.success());
         }
         return val;
     }
 
     /**
      * Increases the value of a numeric key in Redis and sets an expiration time for the key.
-     * If the dispatch template, key, timeout, or time unit is invalid (null, empty, negative), returns -1 indicating failure.
-     * Uses the {@link #increaseKey} method to increment the key's value and then sets an expiration using the provided timeout and unit.
+     * If the dispatch template, key, timeout, or time unit is invalid (null, empty, negative, or a timeout under one millisecond), returns -1 indicating failure.
+     * Increments the key's value and sets the expiration in one atomic server-side step (a cached Lua script).
      *
      * @param dispatch The RedisTemplate used to execute the operation.
      * @param key      The key whose value is to be incremented and set with expiration.
@@ -1353,15 +1925,13 @@ public class Redis4jServiceImpl implements Redis4jService {
         if (String4j.isEmpty(key) || String4j.isBlank(key)) {
             return -1;
         }
-        long value = this.increaseKey(dispatch, key);
-        dispatch.expire(key, timeout, unit);
-        return value;
+        return this.counter(dispatch, key, 1, timeout, unit, false);
     }
 
     /**
      * Increases the value of a numeric key in Redis and sets an expiration time for the key, with an optional callback for handling exceptions.
-     * If the dispatch template, key, timeout, or time unit is invalid (null, empty, negative), returns -1 indicating failure.
-     * Uses the {@link #increaseKey} method to increment the key's value and then sets an expiration using the provided timeout and unit.
+     * If the dispatch template, key, timeout, or time unit is invalid (null, empty, negative, or a timeout under one millisecond), returns -1 indicating failure.
+     * Increments the key's value and sets the expiration in one atomic server-side step (a cached Lua script).
      * Logs any exceptions that occur during the operation.
      *
      * @param dispatch The RedisTemplate used to execute the operation.
@@ -1373,29 +1943,31 @@ public class Redis4jServiceImpl implements Redis4jService {
      */
     @Override
     public long increaseKeyEx(RedisTemplate<String, Object> dispatch, String key, long timeout, TimeUnit unit, Redis4jWrapCallback callback) {
-        HttpWrapBuilder<?> response = new HttpWrapBuilder<>().ok(null).requestId(Redis4j.getCurrentSessionId());
+        HttpWrapBuilder<?> response = null;
         long val = 0;
         try {
             val = this.increaseKeyEx(dispatch, key, timeout, unit);
         } catch (Exception e) {
-            response
-                    .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
-                    .message("increasing redis key expiration failed")
-                    .debug("cause", e.getMessage())
-                    .errors(e)
-                    .customFields("redis_key", key)
-                    .customFields("redis_timeout", timeout);
+            if (callback != null) {
+                response = Redis4j.wrap()
+                        .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
+                        .message("increasing redis key expiration failed")
+                        .debug("cause", e.getMessage())
+                        .errors(e)
+                        .customFields("redis_key", key)
+                        .customFields("redis_timeout", timeout);
+            }
         }
         if (callback != null) {
-            callback.onCallback(response.build());
+            callback.onCallback(response != null ? response.build() : Redis4j.success());
         }
         return val;
     }
 
     /**
      * Decreases the value of a numeric key in Redis and sets an expiration time for the key.
-     * If the dispatch template, key, timeout, or time unit is invalid (null, empty, negative), returns -1 indicating failure.
-     * Uses the {@link #decreaseKey} method to decrement the key's value and then sets an expiration using the provided timeout and unit.
+     * If the dispatch template, key, timeout, or time unit is invalid (null, empty, negative, or a timeout under one millisecond), returns -1 indicating failure.
+     * Decrements the key's value and sets the expiration in one atomic server-side step (a cached Lua script).
      *
      * @param dispatch The RedisTemplate used to execute the operation.
      * @param key      The key whose value is to be decremented and set with expiration.
@@ -1411,15 +1983,13 @@ public class Redis4jServiceImpl implements Redis4jService {
         if (String4j.isEmpty(key) || String4j.isBlank(key)) {
             return -1;
         }
-        long value = this.decreaseKey(dispatch, key);
-        dispatch.expire(key, timeout, unit);
-        return value;
+        return this.counter(dispatch, key, -1, timeout, unit, false);
     }
 
     /**
      * Decreases the value of a numeric key in Redis and sets an expiration time for the key, with an optional callback for handling exceptions.
-     * If the dispatch template, key, timeout, or time unit is invalid (null, empty, negative), returns -1 indicating failure.
-     * Uses the {@link #decreaseKey} method to decrement the key's value and then sets an expiration using the provided timeout and unit.
+     * If the dispatch template, key, timeout, or time unit is invalid (null, empty, negative, or a timeout under one millisecond), returns -1 indicating failure.
+     * Decrements the key's value and sets the expiration in one atomic server-side step (a cached Lua script).
      * Logs any exceptions that occur during the operation.
      *
      * @param dispatch The RedisTemplate used to execute the operation.
@@ -1431,29 +2001,31 @@ public class Redis4jServiceImpl implements Redis4jService {
      */
     @Override
     public long decreaseKeyEx(RedisTemplate<String, Object> dispatch, String key, long timeout, TimeUnit unit, Redis4jWrapCallback callback) {
-        HttpWrapBuilder<?> response = new HttpWrapBuilder<>().ok(null).requestId(Redis4j.getCurrentSessionId());
+        HttpWrapBuilder<?> response = null;
         long val = 0;
         try {
             val = this.decreaseKeyEx(dispatch, key, timeout, unit);
         } catch (Exception e) {
-            response
-                    .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
-                    .message("decreasing redis key expiration failed")
-                    .debug("cause", e.getMessage())
-                    .errors(e)
-                    .customFields("redis_key", key)
-                    .customFields("redis_timeout", timeout);
+            if (callback != null) {
+                response = Redis4j.wrap()
+                        .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
+                        .message("decreasing redis key expiration failed")
+                        .debug("cause", e.getMessage())
+                        .errors(e)
+                        .customFields("redis_key", key)
+                        .customFields("redis_timeout", timeout);
+            }
         }
         if (callback != null) {
-            callback.onCallback(response.build());
+            callback.onCallback(response != null ? response.build() : Redis4j.success());
         }
         return val;
     }
 
     /**
      * Increases the value of a numeric key in Redis by a specified increment and sets an expiration time for the key.
-     * If the dispatch template, key, timeout, unit, or value is invalid (null, empty, negative), returns -1 indicating failure.
-     * Uses the {@link #increaseKeyBy} method to increment the key's value by the specified amount and then sets an expiration using the provided timeout and unit.
+     * If the dispatch template, key, timeout, unit, or value is invalid (null, empty, negative, or a timeout under one millisecond), returns -1 indicating failure.
+     * Increments the key's value by the specified amount and sets the expiration in one atomic server-side step (a cached Lua script).
      *
      * @param dispatch The RedisTemplate used to execute the operation.
      * @param key      The key whose value is to be incremented and set with expiration.
@@ -1470,15 +2042,13 @@ public class Redis4jServiceImpl implements Redis4jService {
         if (String4j.isEmpty(key) || String4j.isBlank(key)) {
             return -1;
         }
-        long _value = this.increaseKeyBy(dispatch, key, value);
-        dispatch.expire(key, timeout, unit);
-        return _value;
+        return this.counter(dispatch, key, value, timeout, unit, false);
     }
 
     /**
      * Increases the value of a numeric key in Redis by a specified increment and sets an expiration time for the key, with an optional callback for handling exceptions.
-     * If the dispatch template, key, timeout, unit, or value is invalid (null, empty, negative), returns -1 indicating failure.
-     * Uses the {@link #increaseKeyBy} method to increment the key's value by the specified amount and then sets an expiration using the provided timeout and unit.
+     * If the dispatch template, key, timeout, unit, or value is invalid (null, empty, negative, or a timeout under one millisecond), returns -1 indicating failure.
+     * Increments the key's value by the specified amount and sets the expiration in one atomic server-side step (a cached Lua script).
      * Logs any exceptions that occur during the operation.
      *
      * @param dispatch The RedisTemplate used to execute the operation.
@@ -1491,30 +2061,32 @@ public class Redis4jServiceImpl implements Redis4jService {
      */
     @Override
     public long increaseKeyByEx(RedisTemplate<String, Object> dispatch, String key, long value, long timeout, TimeUnit unit, Redis4jWrapCallback callback) {
-        HttpWrapBuilder<?> response = new HttpWrapBuilder<>().ok(null).requestId(Redis4j.getCurrentSessionId());
+        HttpWrapBuilder<?> response = null;
         long val = 0;
         try {
             val = this.increaseKeyByEx(dispatch, key, value, timeout, unit);
         } catch (Exception e) {
-            response
-                    .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
-                    .message("increasing redis key expiration failed")
-                    .debug("cause", e.getMessage())
-                    .errors(e)
-                    .customFields("redis_key", key)
-                    .customFields("redis_timeout", timeout)
-                    .customFields("redis_value", value);
+            if (callback != null) {
+                response = Redis4j.wrap()
+                        .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
+                        .message("increasing redis key expiration failed")
+                        .debug("cause", e.getMessage())
+                        .errors(e)
+                        .customFields("redis_key", key)
+                        .customFields("redis_timeout", timeout)
+                        .customFields("redis_value", value);
+            }
         }
         if (callback != null) {
-            callback.onCallback(response.build());
+            callback.onCallback(response != null ? response.build() : Redis4j.success());
         }
         return val;
     }
 
     /**
      * Decreases the value of a numeric key in Redis by a specified decrement and sets an expiration time for the key.
-     * If the dispatch template, key, timeout, unit, or value is invalid (null, empty, negative), returns -1 indicating failure.
-     * Uses the {@link #decreaseKeyBy} method to decrement the key's value by the specified amount and then sets an expiration using the provided timeout and unit.
+     * If the dispatch template, key, timeout, unit, or value is invalid (null, empty, negative, or a timeout under one millisecond), returns -1 indicating failure.
+     * Decrements the key's value by the specified amount and sets the expiration in one atomic server-side step (a cached Lua script).
      *
      * @param dispatch The RedisTemplate used to execute the operation.
      * @param key      The key whose value is to be decremented and set with expiration.
@@ -1531,15 +2103,13 @@ public class Redis4jServiceImpl implements Redis4jService {
         if (String4j.isEmpty(key) || String4j.isBlank(key)) {
             return -1;
         }
-        long _value = this.decreaseKeyBy(dispatch, key, value);
-        dispatch.expire(key, timeout, unit);
-        return _value;
+        return this.counter(dispatch, key, -value, timeout, unit, false);
     }
 
     /**
      * Decreases the value of a numeric key in Redis by a specified decrement and sets an expiration time for the key, with an optional callback for handling exceptions.
-     * If the dispatch template, key, timeout, unit, or value is invalid (null, empty, negative), returns -1 indicating failure.
-     * Uses the {@link #decreaseKeyBy} method to decrement the key's value by the specified amount and then sets an expiration using the provided timeout and unit.
+     * If the dispatch template, key, timeout, unit, or value is invalid (null, empty, negative, or a timeout under one millisecond), returns -1 indicating failure.
+     * Decrements the key's value by the specified amount and sets the expiration in one atomic server-side step (a cached Lua script).
      * Logs any exceptions that occur during the operation.
      *
      * @param dispatch The RedisTemplate used to execute the operation.
@@ -1552,23 +2122,872 @@ public class Redis4jServiceImpl implements Redis4jService {
      */
     @Override
     public long decreaseKeyByEx(RedisTemplate<String, Object> dispatch, String key, long value, long timeout, TimeUnit unit, Redis4jWrapCallback callback) {
-        HttpWrapBuilder<?> response = new HttpWrapBuilder<>().ok(null).requestId(Redis4j.getCurrentSessionId());
+        HttpWrapBuilder<?> response = null;
         long val = 0;
         try {
             val = this.decreaseKeyByEx(dispatch, key, value, timeout, unit);
         } catch (Exception e) {
-            response
-                    .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
-                    .message("decreasing redis key expiration failed")
-                    .debug("cause", e.getMessage())
-                    .errors(e)
-                    .customFields("redis_key", key)
-                    .customFields("redis_timeout", timeout)
-                    .customFields("redis_value", value);
+            if (callback != null) {
+                response = Redis4j.wrap()
+                        .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
+                        .message("decreasing redis key expiration failed")
+                        .debug("cause", e.getMessage())
+                        .errors(e)
+                        .customFields("redis_key", key)
+                        .customFields("redis_timeout", timeout)
+                        .customFields("redis_value", value);
+            }
+        }
+        if (callback != null) {
+            callback.onCallback(response != null ? response.build() : Redis4j.success());
+        }
+        return val;
+    }
+
+    /**
+     * Increases the value of a numeric key in Redis and sets an expiration time only if the key has none yet,
+     * i.e. when the counter is created, so that hot counters do not extend their time to live on every hit.
+     * The increment and the conditional expiration run in one atomic server-side step (a cached Lua script).
+     * If the key, timeout or time unit is invalid (null, empty, negative, or a timeout under one millisecond), returns -1 indicating failure.
+     *
+     * @param dispatch The RedisTemplate used to execute the operation.
+     * @param key      The key whose value is to be incremented.
+     * @param timeout  The duration after which the key should expire, applied when the key has no expiration.
+     * @param unit     The time unit of the expiration timeout.
+     * @return The incremented value of the key, or -1 if an error occurs.
+     */
+    @Override
+    public long increaseKeyExNx(RedisTemplate<String, Object> dispatch, String key, long timeout, TimeUnit unit) {
+        if (dispatch == null || timeout < 0 || unit == null) {
+            return -1;
+        }
+        if (String4j.isEmpty(key) || String4j.isBlank(key)) {
+            return -1;
+        }
+        return this.counter(dispatch, key, 1, timeout, unit, true);
+    }
+
+    /**
+     * Increases the value of a numeric key in Redis and sets an expiration time only if the key has none yet, with an optional callback for handling exceptions.
+     * i.e. when the counter is created, so that hot counters do not extend their time to live on every hit.
+     * The increment and the conditional expiration run in one atomic server-side step (a cached Lua script).
+     * If the key, timeout or time unit is invalid (null, empty, negative, or a timeout under one millisecond), returns -1 indicating failure.
+     *
+     * @param dispatch The RedisTemplate used to execute the operation.
+     * @param key      The key whose value is to be incremented.
+     * @param timeout  The duration after which the key should expire, applied when the key has no expiration.
+     * @param unit     The time unit of the expiration timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return The incremented value of the key, or -1 if an error occurs.
+     */
+    @Override
+    public long increaseKeyExNx(RedisTemplate<String, Object> dispatch, String key, long timeout, TimeUnit unit, Redis4jWrapCallback callback) {
+        HttpWrapBuilder<?> response = null;
+        long val = 0;
+        try {
+            val = this.increaseKeyExNx(dispatch, key, timeout, unit);
+        } catch (Exception e) {
+            if (callback != null) {
+                response = Redis4j.wrap()
+                        .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
+                        .message("increasing redis key expiration failed")
+                        .debug("cause", e.getMessage())
+                        .errors(e)
+                        .customFields("redis_key", key)
+                        .customFields("redis_timeout", timeout);
+            }
+        }
+        if (callback != null) {
+            callback.onCallback(response != null ? response.build() : Redis4j.success());
+        }
+        return val;
+    }
+
+    /**
+     * Decreases the value of a numeric key in Redis and sets an expiration time only if the key has none yet,
+     * i.e. when the counter is created, so that hot counters do not extend their time to live on every hit.
+     * The decrement and the conditional expiration run in one atomic server-side step (a cached Lua script).
+     * If the key, timeout or time unit is invalid (null, empty, negative, or a timeout under one millisecond), returns -1 indicating failure.
+     *
+     * @param dispatch The RedisTemplate used to execute the operation.
+     * @param key      The key whose value is to be decremented.
+     * @param timeout  The duration after which the key should expire, applied when the key has no expiration.
+     * @param unit     The time unit of the expiration timeout.
+     * @return The decremented value of the key, or -1 if an error occurs.
+     */
+    @Override
+    public long decreaseKeyExNx(RedisTemplate<String, Object> dispatch, String key, long timeout, TimeUnit unit) {
+        if (dispatch == null || timeout < 0 || unit == null) {
+            return -1;
+        }
+        if (String4j.isEmpty(key) || String4j.isBlank(key)) {
+            return -1;
+        }
+        return this.counter(dispatch, key, -1, timeout, unit, true);
+    }
+
+    /**
+     * Decreases the value of a numeric key in Redis and sets an expiration time only if the key has none yet, with an optional callback for handling exceptions.
+     * i.e. when the counter is created, so that hot counters do not extend their time to live on every hit.
+     * The decrement and the conditional expiration run in one atomic server-side step (a cached Lua script).
+     * If the key, timeout or time unit is invalid (null, empty, negative, or a timeout under one millisecond), returns -1 indicating failure.
+     *
+     * @param dispatch The RedisTemplate used to execute the operation.
+     * @param key      The key whose value is to be decremented.
+     * @param timeout  The duration after which the key should expire, applied when the key has no expiration.
+     * @param unit     The time unit of the expiration timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return The decremented value of the key, or -1 if an error occurs.
+     */
+    @Override
+    public long decreaseKeyExNx(RedisTemplate<String, Object> dispatch, String key, long timeout, TimeUnit unit, Redis4jWrapCallback callback) {
+        HttpWrapBuilder<?> response = null;
+        long val = 0;
+        try {
+            val = this.decreaseKeyExNx(dispatch, key, timeout, unit);
+        } catch (Exception e) {
+            if (callback != null) {
+                response = Redis4j.wrap()
+                        .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
+                        .message("decreasing redis key expiration failed")
+                        .debug("cause", e.getMessage())
+                        .errors(e)
+                        .customFields("redis_key", key)
+                        .customFields("redis_timeout", timeout);
+            }
+        }
+        if (callback != null) {
+            callback.onCallback(response != null ? response.build() : Redis4j.success());
+        }
+        return val;
+    }
+
+    /**
+     * Increases the value of a numeric key in Redis by a specified amount and sets an expiration time only if the key has none yet,
+     * i.e. when the counter is created, so that hot counters do not extend their time to live on every hit.
+     * The increment and the conditional expiration run in one atomic server-side step (a cached Lua script).
+     * If the key, timeout, value or time unit is invalid (null, empty, negative, or a timeout under one millisecond), returns -1 indicating failure.
+     *
+     * @param dispatch The RedisTemplate used to execute the operation.
+     * @param key      The key whose value is to be incremented.
+     * @param value    The amount by which to increment the key's value.
+     * @param timeout  The duration after which the key should expire, applied when the key has no expiration.
+     * @param unit     The time unit of the expiration timeout.
+     * @return The incremented value of the key, or -1 if an error occurs.
+     */
+    @Override
+    public long increaseKeyByExNx(RedisTemplate<String, Object> dispatch, String key, long value, long timeout, TimeUnit unit) {
+        if (dispatch == null || unit == null || timeout < 0 || value < 0) {
+            return -1;
+        }
+        if (String4j.isEmpty(key) || String4j.isBlank(key)) {
+            return -1;
+        }
+        return this.counter(dispatch, key, value, timeout, unit, true);
+    }
+
+    /**
+     * Increases the value of a numeric key in Redis by a specified amount and sets an expiration time only if the key has none yet, with an optional callback for handling exceptions.
+     * i.e. when the counter is created, so that hot counters do not extend their time to live on every hit.
+     * The increment and the conditional expiration run in one atomic server-side step (a cached Lua script).
+     * If the key, timeout, value or time unit is invalid (null, empty, negative, or a timeout under one millisecond), returns -1 indicating failure.
+     *
+     * @param dispatch The RedisTemplate used to execute the operation.
+     * @param key      The key whose value is to be incremented.
+     * @param value    The amount by which to increment the key's value.
+     * @param timeout  The duration after which the key should expire, applied when the key has no expiration.
+     * @param unit     The time unit of the expiration timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return The incremented value of the key, or -1 if an error occurs.
+     */
+    @Override
+    public long increaseKeyByExNx(RedisTemplate<String, Object> dispatch, String key, long value, long timeout, TimeUnit unit, Redis4jWrapCallback callback) {
+        HttpWrapBuilder<?> response = null;
+        long val = 0;
+        try {
+            val = this.increaseKeyByExNx(dispatch, key, value, timeout, unit);
+        } catch (Exception e) {
+            if (callback != null) {
+                response = Redis4j.wrap()
+                        .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
+                        .message("increasing redis key expiration failed")
+                        .debug("cause", e.getMessage())
+                        .errors(e)
+                        .customFields("redis_key", key)
+                        .customFields("redis_timeout", timeout)
+                        .customFields("redis_value", value);
+            }
+        }
+        if (callback != null) {
+            callback.onCallback(response != null ? response.build() : Redis4j.success());
+        }
+        return val;
+    }
+
+    /**
+     * Decreases the value of a numeric key in Redis by a specified amount and sets an expiration time only if the key has none yet,
+     * i.e. when the counter is created, so that hot counters do not extend their time to live on every hit.
+     * The decrement and the conditional expiration run in one atomic server-side step (a cached Lua script).
+     * If the key, timeout, value or time unit is invalid (null, empty, negative, or a timeout under one millisecond), returns -1 indicating failure.
+     *
+     * @param dispatch The RedisTemplate used to execute the operation.
+     * @param key      The key whose value is to be decremented.
+     * @param value    The amount by which to decrement the key's value.
+     * @param timeout  The duration after which the key should expire, applied when the key has no expiration.
+     * @param unit     The time unit of the expiration timeout.
+     * @return The decremented value of the key, or -1 if an error occurs.
+     */
+    @Override
+    public long decreaseKeyByExNx(RedisTemplate<String, Object> dispatch, String key, long value, long timeout, TimeUnit unit) {
+        if (dispatch == null || unit == null || timeout < 0 || value < 0) {
+            return -1;
+        }
+        if (String4j.isEmpty(key) || String4j.isBlank(key)) {
+            return -1;
+        }
+        return this.counter(dispatch, key, -value, timeout, unit, true);
+    }
+
+    /**
+     * Decreases the value of a numeric key in Redis by a specified amount and sets an expiration time only if the key has none yet, with an optional callback for handling exceptions.
+     * i.e. when the counter is created, so that hot counters do not extend their time to live on every hit.
+     * The decrement and the conditional expiration run in one atomic server-side step (a cached Lua script).
+     * If the key, timeout, value or time unit is invalid (null, empty, negative, or a timeout under one millisecond), returns -1 indicating failure.
+     *
+     * @param dispatch The RedisTemplate used to execute the operation.
+     * @param key      The key whose value is to be decremented.
+     * @param value    The amount by which to decrement the key's value.
+     * @param timeout  The duration after which the key should expire, applied when the key has no expiration.
+     * @param unit     The time unit of the expiration timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return The decremented value of the key, or -1 if an error occurs.
+     */
+    @Override
+    public long decreaseKeyByExNx(RedisTemplate<String, Object> dispatch, String key, long value, long timeout, TimeUnit unit, Redis4jWrapCallback callback) {
+        HttpWrapBuilder<?> response = null;
+        long val = 0;
+        try {
+            val = this.decreaseKeyByExNx(dispatch, key, value, timeout, unit);
+        } catch (Exception e) {
+            if (callback != null) {
+                response = Redis4j.wrap()
+                        .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
+                        .message("decreasing redis key expiration failed")
+                        .debug("cause", e.getMessage())
+                        .errors(e)
+                        .customFields("redis_key", key)
+                        .customFields("redis_timeout", timeout)
+                        .customFields("redis_value", value);
+            }
         }
         if (callback != null) {
-            callback.onCallback(response.build());
+            callback.onCallback(response != null ? response.build() : Redis4j.success());
         }
         return val;
     }
+
+    /**
+     * Adds the given delta to a numeric key and sets its expiration in one atomic server-side step,
+     * using a Lua script which is loaded once and then invoked by its SHA1 digest.
+     * A timeout under one millisecond is rejected, since PEXPIRE 0 would delete the key.
+     *
+     * @param dispatch The RedisTemplate used to execute the operation.
+     * @param key      The key whose value is to be changed.
+     * @param delta    The signed amount to add to the key's value.
+     * @param timeout  The duration after which the key should expire.
+     * @param unit     The time unit of the expiration timeout.
+     * @param nx       true to set the expiration only if the key has none yet, false to always reset it.
+     * @return The new value of the key, or -1 if an error occurs.
+     */
+    protected long counter(RedisTemplate<String, Object> dispatch, String key, long delta, long timeout, TimeUnit unit, boolean nx) {
+        long millis = unit.toMillis(timeout);
+        if (millis <= 0) {
+            return -1;
+        }
+        this.invalidateNearCache(key);
+        try {
+            Long value = dispatch.execute(COUNTER_EX_SCRIPT, dispatch.getStringSerializer(), COUNTER_RESULT_SERIALIZER,
+                    Collections.singletonList(key), String.valueOf(delta), String.valueOf(millis), nx ? "1" : "0");
+            if (redis4jConfigService.isDebugging()) {
+                logger.info("{} Changing counter Redis key: '{}' by: {} with timeout: {} ({}), nx: {}", IconType.DEBUG.getCode(), key, delta, timeout, unit.toString(), nx);
+            }
+            return value == null ? -1 : value;
+        } catch (Exception e) {
+            logger.error("{} Redis4j, changing counter key '{}' got an exception: {}", IconType.ERROR.getCode(), key, e.getMessage(), e);
+            return -1;
+        }
+    }
+
+    /**
+     * Sets a cache object in Redis under a pre-encoded key, whose bytes are sent as they are.
+     * If the dispatch template, key, or value is null, the method returns without performing any operation.
+     *
+     * @param dispatch The RedisTemplate used to execute the operation.
+     * @param key      The pre-encoded key under which the object is stored.
+     * @param value    The value to be stored.
+     * @param <T>      The type of the value being stored.
+     */
+    @Override
+    public <T> void setCacheObject(RedisTemplate<String, Object> dispatch, Redis4jKey key, T value) {
+        if (dispatch == null || key == null || value == null) {
+            return;
+        }
+        final byte[] data = this.serializeValue(dispatch, value);
+        dispatch.execute((RedisCallback<Object>) connection -> connection.stringCommands().set(key.getBytes(), data));
+        this.invalidateNearCache(key);
+        if (redis4jConfigService.isDebugging()) {
+            logger.info("{} Setting Redis key: '{}', value: {}", IconType.DEBUG.getCode(), key, Class4j.isPrimitive(value.getClass()) ? value.toString() : Json4j.toJson(value));
+        }
+    }
+
+    /**
+     * Sets a cache object in Redis under a pre-encoded key, whose bytes are sent as they are, with an optional callback for handling exceptions.
+     * If the dispatch template, key, or value is null, the method returns without performing any operation.
+     *
+     * @param dispatch The RedisTemplate used to execute the operation.
+     * @param key      The pre-encoded key under which the object is stored.
+     * @param value    The value to be stored.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the value being stored.
+     */
+    @Override
+    public <T> void setCacheObject(RedisTemplate<String, Object> dispatch, Redis4jKey key, T value, Redis4jWrapCallback callback) {
+        HttpWrapBuilder<?> response = null;
+        try {
+            this.setCacheObject(dispatch, key, value);
+        } catch (Exception e) {
+            if (callback != null) {
+                response = Redis4j.wrap()
+                        .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
+                        .message("setting redis key failed")
+                        .debug("cause", e.getMessage())
+                        .errors(e)
+                        .customFields("redis_key", String.valueOf(key));
+            }
+        }
+        if (callback != null) {
+            callback.onCallback(response != null ? response.build() : Redis4j.success());
+        }
+    }
+
+    /**
+     * Sets a cache object in Redis with an expiration timeout under a pre-encoded key, whose bytes are sent as they are.
+     * If the dispatch template, key, value, or time unit is null, or if the timeout is negative, the method returns without performing any operation.
+     *
+     * @param dispatch The RedisTemplate used to execute the operation.
+     * @param key      The pre-encoded key under which the object is stored.
+     * @param value    The value to be stored.
+     * @param timeout  The expiration timeout for the cache object.
+     * @param unit     The time unit for the expiration timeout.
+     * @param <T>      The type of the value being stored.
+     */
+    @Override
+    public <T> void setCacheObject(RedisTemplate<String, Object> dispatch, Redis4jKey key, T value, long timeout, TimeUnit unit) {
+        if (dispatch == null || key == null || value == null || timeout < 0 || unit == null) {
+            return;
+        }
+        final byte[] data = this.serializeValue(dispatch, value);
+        dispatch.execute((RedisCallback<Object>) connection -> connection.stringCommands().set(key.getBytes(), data, Expiration.from(timeout, unit), RedisStringCommands.SetOption.upsert()));
+        this.invalidateNearCache(key);
+        if (redis4jConfigService.isDebugging()) {
+            logger.info("{} Setting Redis key: '{}', value: {} with timeout: {} ({})", IconType.DEBUG.getCode(), key, Class4j.isPrimitive(value.getClass()) ? value.toString() : Json4j.toJson(value), timeout, unit.toString());
+        }
+    }
+
+    /**
+     * Sets a cache object in Redis with an expiration timeout under a pre-encoded key, whose bytes are sent as they are, with an optional callback for handling exceptions.
+     * If the dispatch template, key, value, or time unit is null, or if the timeout is negative, the method returns without performing any operation.
+     *
+     * @param dispatch The RedisTemplate used to execute the operation.
+     * @param key      The pre-encoded key under which the object is stored.
+     * @param value    The value to be stored.
+     * @param timeout  The expiration timeout for the cache object.
+     * @param unit     The time unit for the expiration timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the value being stored.
+     */
+    @Override
+    public <T> void setCacheObject(RedisTemplate<String, Object> dispatch, Redis4jKey key, T value, long timeout, TimeUnit unit, Redis4jWrapCallback callback) {
+        HttpWrapBuilder<?> response = null;
+        try {
+            this.setCacheObject(dispatch, key, value, timeout, unit);
+        } catch (Exception e) {
+            if (callback != null) {
+                response = Redis4j.wrap()
+                        .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
+                        .message("setting redis key failed")
+                        .debug("cause", e.getMessage())
+                        .errors(e)
+                        .customFields("redis_key", String.valueOf(key));
+            }
+        }
+        if (callback != null) {
+            callback.onCallback(response != null ? response.build() : Redis4j.success());
+        }
+    }
+
+    /**
+     * Retrieves a cache object from Redis under a pre-encoded key, whose bytes are sent as they are.
+     * If the dispatch template or the key is null, the method returns null.
+     *
+     * @param dispatch The RedisTemplate used to execute the operation.
+     * @param key      The pre-encoded key of the cache object to retrieve.
+     * @param <T>      The type of the value being retrieved.
+     * @return The cached object associated with the given key, or null if the dispatch template or the key is null.
+     */
+    @SuppressWarnings({"unchecked"})
+    @Override
+    public <T> T getCacheObject(RedisTemplate<String, Object> dispatch, Redis4jKey key) {
+        if (dispatch == null || key == null) {
+            return null;
+        }
+        if (redis4jConfigService.isDebugging()) {
+            logger.info("{} Getting Redis key: '{}'", IconType.DEBUG.getCode(), key);
+        }
+        if (this.isNearCacheActive(dispatch)) {
+            return redis4jNearCacheService.getCacheObject(key.toString());
+        }
+        byte[] data = dispatch.execute((RedisCallback<byte[]>) connection -> connection.stringCommands().get(key.getBytes()));
+        return data == null ? null : (T) dispatch.getValueSerializer().deserialize(data);
+    }
+
+    /**
+     * Retrieves a cache object from Redis under a pre-encoded key, whose bytes are sent as they are, with an optional callback for handling exceptions.
+     * If the dispatch template or the key is null, the method returns null.
+     *
+     * @param dispatch The RedisTemplate used to execute the operation.
+     * @param key      The pre-encoded key of the cache object to retrieve.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the value being retrieved.
+     * @return The cached object associated with the given key, or null if the dispatch template or the key is null.
+     */
+    @Override
+    public <T> T getCacheObject(RedisTemplate<String, Object> dispatch, Redis4jKey key, Redis4jWrapCallback callback) {
+        HttpWrapBuilder<?> response = null;
+        T data = null;
+        try {
+            data = this.getCacheObject(dispatch, key);
+        } catch (Exception e) {
+            if (callback != null) {
+                response = Redis4j.wrap()
+                        .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
+                        .message("getting redis value failed")
+                        .debug("cause", e.getMessage())
+                        .errors(e)
+                        .customFields("redis_key", String.valueOf(key));
+            }
+        }
+        if (callback != null) {
+            callback.onCallback(response != null ? response.build() : Redis4j.success());
+        }
+        return data;
+    }
+
+    /**
+     * Retrieves a cache object from Redis as a given type under a pre-encoded key, decoding the stored bytes straight into the type.
+     * If the dispatch template, the key or the type is null, the method returns null.
+     *
+     * @param dispatch The RedisTemplate used to execute the operation.
+     * @param key      The pre-encoded key of the cache object to retrieve.
+     * @param type     The type to read the value as.
+     * @param <T>      The type of the value being retrieved.
+     * @return The cached object associated with the given key, or null if the dispatch template or the key is null.
+     */
+    @Override
+    public <T> T getCacheObject(RedisTemplate<String, Object> dispatch, Redis4jKey key, Class<T> type) {
+        if (dispatch == null || key == null || type == null) {
+            return null;
+        }
+        if (redis4jConfigService.isDebugging()) {
+            logger.info("{} Getting Redis key: '{}' as {}", IconType.DEBUG.getCode(), key, type.getSimpleName());
+        }
+        if (this.isNearCacheActive(dispatch)) {
+            return redis4jNearCacheService.getCacheObject(key.toString(), type);
+        }
+        byte[] data = dispatch.execute((RedisCallback<byte[]>) connection -> connection.stringCommands().get(key.getBytes()));
+        return Redis4jTypedSerializer.read(dispatch.getValueSerializer(), data, type);
+    }
+
+    /**
+     * Retrieves a cache object from Redis as a given type under a pre-encoded key, decoding the stored bytes straight into the type, with an optional callback for handling exceptions.
+     * If the dispatch template, the key or the type is null, the method returns null.
+     *
+     * @param dispatch The RedisTemplate used to execute the operation.
+     * @param key      The pre-encoded key of the cache object to retrieve.
+     * @param type     The type to read the value as.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @param <T>      The type of the value being retrieved.
+     * @return The cached object associated with the given key, or null if the dispatch template or the key is null.
+     */
+    @Override
+    public <T> T getCacheObject(RedisTemplate<String, Object> dispatch, Redis4jKey key, Class<T> type, Redis4jWrapCallback callback) {
+        HttpWrapBuilder<?> response = null;
+        T data = null;
+        try {
+            data = this.getCacheObject(dispatch, key, type);
+        } catch (Exception e) {
+            if (callback != null) {
+                response = Redis4j.wrap()
+                        .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
+                        .message("getting redis value failed")
+                        .debug("cause", e.getMessage())
+                        .errors(e)
+                        .customFields("redis_key", String.valueOf(key));
+            }
+        }
+        if (callback != null) {
+            callback.onCallback(response != null ? response.build() : Redis4j.success());
+        }
+        return data;
+    }
+
+    /**
+     * Removes a cache object from Redis under a pre-encoded key, whose bytes are sent as they are.
+     * If the dispatch template or the key is null, the method returns false.
+     *
+     * @param dispatch The RedisTemplate used to execute the operation.
+     * @param key      The pre-encoded key of the cache object to remove.
+     * @return true if the cache object was successfully removed; false otherwise.
+     */
+    @Override
+    public boolean removeObject(RedisTemplate<String, Object> dispatch, Redis4jKey key) {
+        if (dispatch == null || key == null) {
+            return false;
+        }
+        if (redis4jConfigService.isDebugging()) {
+            logger.info("{} Removing Redis key: '{}'", IconType.DEBUG.getCode(), key);
+        }
+        this.invalidateNearCache(key);
+        Long removed = dispatch.execute((RedisCallback<Long>) connection -> connection.keyCommands().del(key.getBytes()));
+        return removed != null && removed > 0;
+    }
+
+    /**
+     * Removes a cache object from Redis under a pre-encoded key, whose bytes are sent as they are, with an optional callback for handling exceptions.
+     * If the dispatch template or the key is null, the method returns false.
+     *
+     * @param dispatch The RedisTemplate used to execute the operation.
+     * @param key      The pre-encoded key of the cache object to remove.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return true if the cache object was successfully removed; false otherwise.
+     */
+    @Override
+    public boolean removeObject(RedisTemplate<String, Object> dispatch, Redis4jKey key, Redis4jWrapCallback callback) {
+        HttpWrapBuilder<?> response = null;
+        boolean data = false;
+        try {
+            data = this.removeObject(dispatch, key);
+        } catch (Exception e) {
+            if (callback != null) {
+                response = Redis4j.wrap()
+                        .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
+                        .message("removing redis key failed")
+                        .debug("cause", e.getMessage())
+                        .errors(e)
+                        .customFields("redis_key", String.valueOf(key));
+            }
+        }
+        if (callback != null) {
+            callback.onCallback(response != null ? response.build() : Redis4j.success());
+        }
+        return data;
+    }
+
+    /**
+     * Checks if a pre-encoded key exists in the Redis store, its bytes being sent as they are.
+     * If the dispatch template or the key is null, the method returns false.
+     *
+     * @param dispatch The RedisTemplate used to execute the operation.
+     * @param key      The pre-encoded key to check for existence.
+     * @return true if the key exists in the Redis store; false otherwise.
+     */
+    @Override
+    public boolean containsKey(RedisTemplate<String, Object> dispatch, Redis4jKey key) {
+        if (dispatch == null || key == null) {
+            return false;
+        }
+        return Boolean.TRUE.equals(dispatch.execute((RedisCallback<Boolean>) connection -> connection.keyCommands().exists(key.getBytes())));
+    }
+
+    /**
+     * Checks if a pre-encoded key exists in the Redis store, its bytes being sent as they are, with an optional callback for handling exceptions.
+     * If the dispatch template or the key is null, the method returns false.
+     *
+     * @param dispatch The RedisTemplate used to execute the operation.
+     * @param key      The pre-encoded key to check for existence.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return true if the key exists in the Redis store; false otherwise.
+     */
+    @Override
+    public boolean containsKey(RedisTemplate<String, Object> dispatch, Redis4jKey key, Redis4jWrapCallback callback) {
+        HttpWrapBuilder<?> response = null;
+        boolean data = false;
+        try {
+            data = this.containsKey(dispatch, key);
+        } catch (Exception e) {
+            if (callback != null) {
+                response = Redis4j.wrap()
+                        .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
+                        .message("checking exists redis key failed")
+                        .debug("cause", e.getMessage())
+                        .errors(e)
+                        .customFields("redis_key", String.valueOf(key));
+            }
+        }
+        if (callback != null) {
+            callback.onCallback(response != null ? response.build() : Redis4j.success());
+        }
+        return data;
+    }
+
+    /**
+     * Sets an expiration timeout on a cache object in Redis under a pre-encoded key, whose bytes are sent as they are.
+     * If the dispatch template, key, or time unit is null, or if the timeout is negative, the method returns false.
+     *
+     * @param dispatch The RedisTemplate used to execute the operation.
+     * @param key      The pre-encoded key of the cache object on which the timeout should be set.
+     * @param timeout  The expiration timeout for the cache object.
+     * @param unit     The time unit for the expiration timeout.
+     * @return true if the expiration timeout was successfully set; false otherwise.
+     */
+    @Override
+    public boolean expire(RedisTemplate<String, Object> dispatch, Redis4jKey key, long timeout, TimeUnit unit) {
+        if (dispatch == null || key == null || unit == null || timeout < 0) {
+            return false;
+        }
+        if (redis4jConfigService.isDebugging()) {
+            logger.info("{} Setting expiration for Redis key: '{}' by timeout: {}({})", IconType.DEBUG.getCode(), key, timeout, unit.toString());
+        }
+        this.invalidateNearCache(key);
+        return Boolean.TRUE.equals(dispatch.execute((RedisCallback<Boolean>) connection -> connection.keyCommands().pExpire(key.getBytes(), unit.toMillis(timeout))));
+    }
+
+    /**
+     * Sets an expiration timeout on a cache object in Redis under a pre-encoded key, whose bytes are sent as they are, with an optional callback for handling exceptions.
+     * If the dispatch template, key, or time unit is null, or if the timeout is negative, the method returns false.
+     *
+     * @param dispatch The RedisTemplate used to execute the operation.
+     * @param key      The pre-encoded key of the cache object on which the timeout should be set.
+     * @param timeout  The expiration timeout for the cache object.
+     * @param unit     The time unit for the expiration timeout.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return true if the expiration timeout was successfully set; false otherwise.
+     */
+    @Override
+    public boolean expire(RedisTemplate<String, Object> dispatch, Redis4jKey key, long timeout, TimeUnit unit, Redis4jWrapCallback callback) {
+        HttpWrapBuilder<?> response = null;
+        boolean data = false;
+        try {
+            data = this.expire(dispatch, key, timeout, unit);
+        } catch (Exception e) {
+            if (callback != null) {
+                response = Redis4j.wrap()
+                        .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
+                        .message("setting redis key expiration failed")
+                        .debug("cause", e.getMessage())
+                        .errors(e)
+                        .customFields("redis_key", String.valueOf(key));
+            }
+        }
+        if (callback != null) {
+            callback.onCallback(response != null ? response.build() : Redis4j.success());
+        }
+        return data;
+    }
+
+    /**
+     * Increases the value of a numeric key in Redis by a specified increment, under a pre-encoded key whose bytes are sent as they are.
+     * If the dispatch template or key is null, or the increment is negative, returns -1 indicating failure.
+     *
+     * @param dispatch The RedisTemplate used to execute the operation.
+     * @param key      The pre-encoded key whose value is to be incremented.
+     * @param value    The amount by which to increment the key's value.
+     * @return The incremented value of the key, or -1 if an error occurs.
+     */
+    @Override
+    public long increaseKeyBy(RedisTemplate<String, Object> dispatch, Redis4jKey key, long value) {
+        if (dispatch == null || key == null || value < 0) {
+            return -1;
+        }
+        this.invalidateNearCache(key);
+        try {
+            Long result = dispatch.execute((RedisCallback<Long>) connection -> connection.stringCommands().incrBy(key.getBytes(), value), true);
+            return result == null ? -1 : result;
+        } catch (Exception e) {
+            logger.error("{} Redis4j, increasing key '{}' got an exception: {}", IconType.ERROR.getCode(), key, e.getMessage(), e);
+            return -1;
+        }
+    }
+
+    /**
+     * Increases the value of a numeric key in Redis by a specified increment, under a pre-encoded key whose bytes are sent as they are, with an optional callback for handling exceptions.
+     * If the dispatch template or key is null, or the increment is negative, returns -1 indicating failure.
+     *
+     * @param dispatch The RedisTemplate used to execute the operation.
+     * @param key      The pre-encoded key whose value is to be incremented.
+     * @param value    The amount by which to increment the key's value.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return The incremented value of the key, or -1 if an error occurs.
+     */
+    @Override
+    public long increaseKeyBy(RedisTemplate<String, Object> dispatch, Redis4jKey key, long value, Redis4jWrapCallback callback) {
+        HttpWrapBuilder<?> response = null;
+        long data = 0;
+        try {
+            data = this.increaseKeyBy(dispatch, key, value);
+        } catch (Exception e) {
+            if (callback != null) {
+                response = Redis4j.wrap()
+                        .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
+                        .message("increasing redis key failed")
+                        .debug("cause", e.getMessage())
+                        .errors(e)
+                        .customFields("redis_key", String.valueOf(key))
+                        .customFields("redis_value", value);
+            }
+        }
+        if (callback != null) {
+            callback.onCallback(response != null ? response.build() : Redis4j.success());
+        }
+        return data;
+    }
+
+    /**
+     * Decreases the value of a numeric key in Redis by a specified decrement, under a pre-encoded key whose bytes are sent as they are.
+     * If the dispatch template or key is null, or the decrement is negative, returns -1 indicating failure.
+     *
+     * @param dispatch The RedisTemplate used to execute the operation.
+     * @param key      The pre-encoded key whose value is to be decremented.
+     * @param value    The amount by which to decrement the key's value.
+     * @return The decremented value of the key, or -1 if an error occurs.
+     */
+    @Override
+    public long decreaseKeyBy(RedisTemplate<String, Object> dispatch, Redis4jKey key, long value) {
+        if (dispatch == null || key == null || value < 0) {
+            return -1;
+        }
+        this.invalidateNearCache(key);
+        try {
+            Long result = dispatch.execute((RedisCallback<Long>) connection -> connection.stringCommands().decrBy(key.getBytes(), value), true);
+            return result == null ? -1 : result;
+        } catch (Exception e) {
+            logger.error("{} Redis4j, decreasing key '{}' got an exception: {}", IconType.ERROR.getCode(), key, e.getMessage(), e);
+            return -1;
+        }
+    }
+
+    /**
+     * Decreases the value of a numeric key in Redis by a specified decrement, under a pre-encoded key whose bytes are sent as they are, with an optional callback for handling exceptions.
+     * If the dispatch template or key is null, or the decrement is negative, returns -1 indicating failure.
+     *
+     * @param dispatch The RedisTemplate used to execute the operation.
+     * @param key      The pre-encoded key whose value is to be decremented.
+     * @param value    The amount by which to decrement the key's value.
+     * @param callback An optional callback for handling exceptions, an instance of {@link Redis4jWrapCallback}.
+     * @return The decremented value of the key, or -1 if an error occurs.
+     */
+    @Override
+    public long decreaseKeyBy(RedisTemplate<String, Object> dispatch, Redis4jKey key, long value, Redis4jWrapCallback callback) {
+        HttpWrapBuilder<?> response = null;
+        long data = 0;
+        try {
+            data = this.decreaseKeyBy(dispatch, key, value);
+        } catch (Exception e) {
+            if (callback != null) {
+                response = Redis4j.wrap()
+                        .statusCode(HttpStatusBuilder.INTERNAL_SERVER_ERROR)
+                        .message("decreasing redis key failed")
+                        .debug("cause", e.getMessage())
+                        .errors(e)
+                        .customFields("redis_key", String.valueOf(key))
+                        .customFields("redis_value", value);
+            }
+        }
+        if (callback != null) {
+            callback.onCallback(response != null ? response.build() : Redis4j.success());
+        }
+        return data;
+    }
+
+    /**
+     * @return true if reads of objects and hash values are served by the near cache, false otherwise
+     */
+    protected boolean isNearCacheActive() {
+        return redis4jNearCacheService != null && redis4jNearCacheService.isActive();
+    }
+
+    /**
+     * The near cache mirrors the Redis dispatch template of the facade, i.e. its server, database and value serializer,
+     * so that a read through any other template, e.g. of another database or with another serializer, goes to that template.
+     *
+     * @param dispatch the Redis template of the read, an instance of {@link RedisTemplate}
+     * @return true if the read is served by the near cache, false otherwise
+     */
+    protected boolean isNearCacheActive(RedisTemplate<String, Object> dispatch) {
+        return this.isNearCacheActive() && dispatch == Redis4j.dispatch();
+    }
+
+    /**
+     * Drops the near cache entries of a pre-encoded key written through this instance, decoding the key only
+     * when the near cache is active.
+     *
+     * @param key the key being written
+     */
+    protected void invalidateNearCache(Redis4jKey key) {
+        if (this.isNearCacheActive()) {
+            redis4jNearCacheService.invalidate(key.toString());
+        }
+    }
+
+    /**
+     * Serializes a value with the value serializer of the dispatch template, as its value operations would.
+     *
+     * @param dispatch the Redis template, an instance of {@link RedisTemplate}
+     * @param value    the value
+     * @return the serialized value
+     */
+    @SuppressWarnings({"unchecked"})
+    protected byte[] serializeValue(RedisTemplate<String, Object> dispatch, Object value) {
+        return ((RedisSerializer<Object>) dispatch.getValueSerializer()).serialize(value);
+    }
+
+    /**
+     * Drops the near cache entries of a key written through this instance, so that it reads its own writes
+     * without waiting for the invalidation message of the server.
+     *
+     * @param key the key being written
+     */
+    protected void invalidateNearCache(String key) {
+        if (this.isNearCacheActive()) {
+            redis4jNearCacheService.invalidate(key);
+        }
+    }
+
+    /**
+     * Splits the given collection into arrays of at most the given size, used as arguments of variadic commands.
+     *
+     * @param collection the collection to split
+     * @param size       the maximum number of elements per chunk; the whole collection when not positive
+     * @return the list of chunks, in iteration order of the collection
+     */
+    protected List<Object[]> chunks(Collection<?> collection, int size) {
+        if (size <= 0 || collection.size() <= size) {
+            return Collections.singletonList(collection.toArray());
+        }
+        List<Object[]> chunks = new ArrayList<>((collection.size() + size - 1) / size);
+        Object[] chunk = new Object[size];
+        int index = 0;
+        for (Object element : collection) {
+            chunk[index++] = element;
+            if (index == size) {
+                chunks.add(chunk);
+                chunk = new Object[size];
+                index = 0;
+            }
+        }
+        if (index > 0) {
+            chunks.add(Arrays.copyOf(chunk, index));
+        }
+        return chunks;
+    }
 }
@@ -0,0 +1,104 @@
+package org.redis4j.cache
+
+import org.springframework.cache.support.SimpleValueWrapper
+import spock.lang.Specification
+
+import java.util.concurrent.TimeUnit
+
+class Redis4jLocalCacheStoreTest extends Specification {
+
+    def "stored values are read back"() {
+        given:
+        def store = new Redis4jLocalCacheStore(10, 0)
+
+        when:
+        store.put("a", new SimpleValueWrapper("value"))
+
+        then:
+        store.get("a").get() == "value"
+        store.get("b") == null
+    }
+
+    def "the least recently used entry is evicted once full"() {
+        given:
+        def store = new Redis4jLocalCacheStore(2, 0)
+        store.put("a", new SimpleValueWrapper(1))
+        store.put("b", new SimpleValueWrapper(2))
+
+        when:
+        store.get("a")
+        store.put("c", new SimpleValueWrapper(3))
+
+        then:
+        store.size() == 2
+        store.get("a").get() == 1
+        store.get("b") == null
+        store.get("c").get() == 3
+    }
+
+    def "entries older than their time to live are dropped on access"() {
+        given:
+        def store = new Redis4jLocalCacheStore(10, TimeUnit.MILLISECONDS.toNanos(1))
+        store.put("a", new SimpleValueWrapper(1))
+
+        when:
+        Thread.sleep(5)
+
+        then:
+        store.get("a") == null
+        store.size() == 0
+    }
+
+    def "a load is kept when the store did not change while it ran"() {
+        given:
+        def store = new Redis4jLocalCacheStore(10, 0)
+        long epoch = store.epoch()
+
+        expect:
+        store.put("a", new SimpleValueWrapper("loaded"), epoch)
+        store.get("a").get() == "loaded"
+        store.epoch() == epoch
+    }
+
+    def "a load racing a change of the store is dropped"() {
+        given:
+        def store = new Redis4jLocalCacheStore(10, 0)
+        long epoch = store.epoch()
+
+        when:
+        change(store)
+        boolean kept = store.put("a", new SimpleValueWrapper("stale"), epoch)
+
+        then:
+        !kept
+        store.epoch() == epoch + 1
+        store.get("a")?.get() != "stale"
+
+        where:
+        change << [
+                { Redis4jLocalCacheStore s -> s.invalidate("a") },
+                { Redis4jLocalCacheStore s -> s.put("a", new SimpleValueWrapper("written")) },
+                { Redis4jLocalCacheStore s -> s.clear() }
+        ]
+    }
+
+    def "invalidating drops the entry"() {
+        given:
+        def store = new Redis4jLocalCacheStore(10, 0)
+        store.put("a", new SimpleValueWrapper(1))
+        store.put("b", new SimpleValueWrapper(2))
+
+        when:
+        store.invalidate("a")
+
+        then:
+        store.get("a") == null
+        store.get("b").get() == 2
+
+        when:
+        store.clear()
+
+        then:
+        store.size() == 0
+    }
+}
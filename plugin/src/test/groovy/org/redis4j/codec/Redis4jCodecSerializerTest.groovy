@@ -0,0 +1,124 @@
+package org.redis4j.codec
+
+import com.fasterxml.jackson.databind.DeserializationFeature
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory
+import com.fasterxml.jackson.dataformat.smile.SmileFactory
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer
+import org.springframework.data.redis.serializer.SerializationException
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.nio.ByteBuffer
+import java.nio.charset.StandardCharsets
+
+class Redis4jCodecSerializerTest extends Specification {
+    static final Map<String, Object> ORDER = [order_id: 42, customer_name: "redis4j", items: [[sku: "sku-1", quantity: 2]], shipped: true]
+
+    @Shared
+    def json = new Redis4jJacksonCodec("json", Redis4jCodec.UNMARKED, mapper(new ObjectMapper()))
+    @Shared
+    def smile = new Redis4jJacksonCodec("smile", Redis4jCodec.SMILE, mapper(new ObjectMapper(new SmileFactory())))
+    @Shared
+    def cbor = new Redis4jJacksonCodec("cbor", Redis4jCodec.CBOR, mapper(new ObjectMapper(new CBORFactory())))
+
+    def "unmarked json values are written as the plain json of the legacy serializer"() {
+        given:
+        def serializer = newSerializer(json)
+        def legacy = new Jackson2JsonRedisSerializer<Object>(Object)
+
+        when:
+        byte[] bytes = serializer.serialize(ORDER)
+
+        then:
+        new String(bytes, StandardCharsets.UTF_8).startsWith('{')
+        legacy.deserialize(bytes) == ORDER
+    }
+
+    def "legacy values written by the Jackson serializer are read back"() {
+        given:
+        def serializer = newSerializer(writer)
+        byte[] legacy = new Jackson2JsonRedisSerializer<Object>(Object).serialize(ORDER)
+
+        expect:
+        serializer.deserialize(legacy) == ORDER
+        serializer.deserialize(ByteBuffer.wrap(legacy)) == ORDER
+        serializer.deserialize(legacy, Map) == ORDER
+
+        where:
+        writer << [json, smile, cbor]
+    }
+
+    def "values written behind a marker are read by a node writing another codec"() {
+        given:
+        def writer = newSerializer(from)
+        def reader = newSerializer(to)
+
+        when:
+        byte[] bytes = writer.serialize(ORDER)
+
+        then:
+        bytes[0] == from.marker()
+        reader.deserialize(bytes) == ORDER
+        reader.deserialize(ByteBuffer.wrap(bytes)) == ORDER
+
+        where:
+        from  | to
+        smile | json
+        cbor  | json
+        json  | smile
+        json  | cbor
+        smile | cbor
+    }
+
+    def "values are read straight into a type"() {
+        given:
+        def serializer = newSerializer(writer)
+        byte[] bytes = serializer.serialize(new Item(sku: "sku-1", quantity: 2))
+
+        when:
+        Item item = serializer.deserialize(bytes, Item)
+
+        then:
+        item.sku == "sku-1"
+        item.quantity == 2
+        serializer.deserialize(bytes, Map) == [sku: "sku-1", quantity: 2]
+
+        where:
+        writer << [json, smile, cbor]
+    }
+
+    def "a value that does not match the type fails to read"() {
+        given:
+        def serializer = newSerializer(json)
+
+        when:
+        serializer.deserialize(serializer.serialize([1, 2, 3]), Item)
+
+        then:
+        thrown(SerializationException)
+    }
+
+    def "null and empty values are read as null"() {
+        given:
+        def serializer = newSerializer(smile)
+
+        expect:
+        serializer.serialize(null).length == 0
+        serializer.deserialize(new byte[0]) == null
+        serializer.deserialize(new byte[0], Item) == null
+    }
+
+    protected Redis4jCodecSerializer newSerializer(Redis4jCodec writer) {
+        return new Redis4jCodecSerializer(writer, json, [smile, cbor])
+    }
+
+    protected static ObjectMapper mapper(ObjectMapper mapper) {
+        return mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+    }
+
+    static class Item {
+        String sku
+        int quantity
+    }
+}
@@ -0,0 +1,78 @@
+package org.redis4j.codec
+
+import org.springframework.data.redis.serializer.StringRedisSerializer
+import spock.lang.Specification
+
+import java.nio.ByteBuffer
+import java.nio.charset.StandardCharsets
+
+class Redis4jCompressingSerializerTest extends Specification {
+    static final String LARGE = '{"name":"redis4j","tags":["cache","cache","cache"],"description":"' + ("compressible " * 64) + '"}'
+
+    def counters = new Redis4jCompressionCounters()
+    def deflate = new Redis4jDeflateCompressor(-1)
+
+    def "values reaching the threshold are written behind the marker of the algorithm"() {
+        given:
+        def serializer = new Redis4jCompressingSerializer<String>(StringRedisSerializer.UTF_8, deflate, 128, [], counters)
+
+        when:
+        byte[] bytes = serializer.serialize(LARGE)
+
+        then:
+        bytes[0] == Redis4jCompressor.DEFLATE
+        bytes.length < LARGE.length()
+        serializer.deserialize(bytes) == LARGE
+        serializer.deserialize(bytes, String) == LARGE
+        serializer.deserialize(ByteBuffer.wrap(bytes)) == LARGE
+        counters.snapshot().compressed == 1
+        counters.snapshot().decompressed == 3
+    }
+
+    def "values below the threshold are written as the delegate serialized them"() {
+        given:
+        def serializer = new Redis4jCompressingSerializer<String>(StringRedisSerializer.UTF_8, deflate, 128, [], counters)
+
+        when:
+        byte[] bytes = serializer.serialize('{"name":"redis4j"}')
+
+        then:
+        bytes == '{"name":"redis4j"}'.getBytes(StandardCharsets.UTF_8)
+        serializer.deserialize(bytes) == '{"name":"redis4j"}'
+        counters.snapshot().compressed == 0
+    }
+
+    def "values that do not shrink are written as the delegate serialized them"() {
+        given:
+        def serializer = new Redis4jCompressingSerializer<String>(StringRedisSerializer.UTF_8, deflate, 1, [], counters)
+
+        when:
+        byte[] bytes = serializer.serialize("ab")
+
+        then:
+        bytes == "ab".getBytes(StandardCharsets.UTF_8)
+        serializer.deserialize(bytes) == "ab"
+        counters.snapshot().skipped == 1
+    }
+
+    def "legacy values written without compression are read back as they are"() {
+        given:
+        def serializer = new Redis4jCompressingSerializer<String>(StringRedisSerializer.UTF_8, deflate, 128, [], counters)
+        byte[] legacy = StringRedisSerializer.UTF_8.serialize(LARGE)
+
+        expect:
+        serializer.deserialize(legacy) == LARGE
+        serializer.deserialize(ByteBuffer.wrap(legacy)) == LARGE
+        counters.snapshot().decompressed == 0
+    }
+
+    def "a node with compression disabled writes plain values and reads compressed ones"() {
+        given:
+        def writer = new Redis4jCompressingSerializer<String>(StringRedisSerializer.UTF_8, deflate, 128, [], counters)
+        def reader = new Redis4jCompressingSerializer<String>(StringRedisSerializer.UTF_8, null, 128, [deflate], counters)
+
+        expect:
+        reader.serialize(LARGE) == LARGE.getBytes(StandardCharsets.UTF_8)
+        reader.deserialize(writer.serialize(LARGE)) == LARGE
+    }
+}
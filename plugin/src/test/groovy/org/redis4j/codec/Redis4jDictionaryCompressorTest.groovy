@@ -0,0 +1,221 @@
+package org.redis4j.codec
+
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.nio.ByteBuffer
+import java.nio.charset.StandardCharsets
+import java.time.Duration
+
+class Redis4jDictionaryCompressorTest extends Specification {
+    def conditions = new PollingConditions(timeout: 5)
+    def store = new MemoryDictionaryStore()
+    List<Redis4jDictionaryCompressor> compressors = []
+
+    def cleanup() {
+        compressors*.close()
+    }
+
+    def "the trained dictionary is made of the content the samples share"() {
+        when:
+        byte[] dictionary = Redis4jDictionaryTrainer.train(samples(50), 1024)
+
+        then:
+        dictionary.length > 0
+        dictionary.length <= 1024
+        new String(dictionary, StandardCharsets.UTF_8).contains('"customer_name":')
+    }
+
+    def "samples sharing nothing train an empty dictionary"() {
+        expect:
+        Redis4jDictionaryTrainer.train([sample(1)], 1024).length == 0
+    }
+
+    def "values compressed with the dictionary of the store are read back"() {
+        given:
+        int id = store.save(Redis4jDictionaryTrainer.train(samples(50), 1024))
+        def compressor = newCompressor(Duration.ofMinutes(1))
+        def plain = newCompressor(Duration.ofMinutes(1))
+        byte[] value = sample(1000)
+
+        when:
+        compressor.start()
+
+        then:
+        conditions.eventually {
+            assert compressor.current == id
+        }
+
+        when:
+        byte[] payload = compressor.compress(value)
+
+        then:
+        ByteBuffer.wrap(payload).getInt() == id
+        compressor.decompress(payload, 0, payload.length) == value
+        payload.length < plain.compress(value).length
+    }
+
+    def "a value compressed with a dictionary not loaded yet is read by loading the dictionary"() {
+        given: "a reader which never adopts the current dictionary of the store, so it only loads those it misses"
+        def reader = newCompressor([current: { null }, load: { int i -> store.load(i) }, save: { byte[] d -> store.save(d) }] as Redis4jDictionaryStore, Duration.ofHours(1))
+        reader.start()
+        int id = store.save(Redis4jDictionaryTrainer.train(samples(50), 1024))
+        def writer = newCompressor(Duration.ofHours(1))
+        writer.start()
+        conditions.eventually {
+            assert writer.current == id
+        }
+        byte[] payload = writer.compress(sample(1000))
+
+        expect:
+        reader.decompress(payload, 0, payload.length) == sample(1000)
+        reader.current == 0
+    }
+
+    def "a node reads the values compressed with a dictionary another node trained since it last checked the store"() {
+        given: "two nodes sharing the store, the reader having not checked the store since the dictionary was trained"
+        def trainer = newCompressor(Duration.ofHours(1))
+        def reader = newCompressor(Duration.ofHours(1))
+
+        when: "the first node trains a dictionary from the values it writes"
+        samples(20).each { trainer.compress(it) }
+
+        then:
+        conditions.eventually {
+            assert trainer.current != 0
+        }
+
+        when:
+        byte[] payload = trainer.compress(sample(1000))
+
+        then: "the other node loads the dictionary on its first read"
+        ByteBuffer.wrap(payload).getInt() == trainer.current
+        reader.current == 0
+        reader.decompress(payload, 0, payload.length) == sample(1000)
+    }
+
+    def "a value compressed with a dictionary missing from the store fails to read"() {
+        given:
+        store.save(Redis4jDictionaryTrainer.train(samples(50), 1024))
+        def writer = newCompressor(Duration.ofHours(1))
+        writer.start()
+        conditions.eventually {
+            assert writer.current != 0
+        }
+        byte[] payload = writer.compress(sample(1000))
+        def reader = newCompressor(new MemoryDictionaryStore(), Duration.ofHours(1))
+
+        when:
+        reader.decompress(payload, 0, payload.length)
+
+        then:
+        thrown(IOException)
+    }
+
+    def "a read waiting for a dictionary longer than the load timeout fails, and the load goes on"() {
+        given: "a store answering slower than the load timeout"
+        int id = store.save(Redis4jDictionaryTrainer.train(samples(50), 1024))
+        def slow = [current: { null }, load: { int i -> Thread.sleep(300); store.load(i) }, save: { byte[] d -> store.save(d) }] as Redis4jDictionaryStore
+        def reader = newCompressor(slow, Duration.ofHours(1), Duration.ofMillis(50))
+        def writer = newCompressor(Duration.ofHours(1))
+        writer.start()
+        conditions.eventually {
+            assert writer.current == id
+        }
+        byte[] payload = writer.compress(sample(1000))
+
+        when:
+        reader.decompress(payload, 0, payload.length)
+
+        then:
+        thrown(IOException)
+        conditions.eventually {
+            assert reader.decompress(payload, 0, payload.length) == sample(1000)
+        }
+    }
+
+    def "a dictionary is trained in the background from the sampled values"() {
+        given:
+        def compressor = newCompressor(Duration.ofMinutes(1))
+
+        when:
+        samples(20).each { compressor.compress(it) }
+
+        then:
+        conditions.eventually {
+            assert compressor.current != 0
+            assert store.current() == compressor.current
+        }
+
+        when:
+        byte[] value = sample(1000)
+        byte[] payload = compressor.compress(value)
+
+        then:
+        compressor.decompress(payload, 0, payload.length) == value
+    }
+
+    def "values compressed before retraining remain readable"() {
+        given:
+        int id = store.save(Redis4jDictionaryTrainer.train(samples(50), 1024))
+        def compressor = newCompressor(Duration.ofMinutes(1))
+        compressor.start()
+        conditions.eventually {
+            assert compressor.current == id
+        }
+        byte[] payload = compressor.compress(sample(1000))
+
+        when:
+        compressor.retrain()
+
+        then:
+        compressor.current == 0
+        compressor.decompress(payload, 0, payload.length) == sample(1000)
+    }
+
+    protected Redis4jDictionaryCompressor newCompressor(Duration refreshInterval) {
+        return newCompressor(store, refreshInterval)
+    }
+
+    protected Redis4jDictionaryCompressor newCompressor(Redis4jDictionaryStore store, Duration refreshInterval) {
+        return newCompressor(store, refreshInterval, Duration.ofSeconds(5))
+    }
+
+    protected Redis4jDictionaryCompressor newCompressor(Redis4jDictionaryStore store, Duration refreshInterval, Duration loadTimeout) {
+        def compressor = new Redis4jDictionaryCompressor(store, -1, 1024, 10, refreshInterval, loadTimeout)
+        compressors << compressor
+        return compressor
+    }
+
+    protected static List<byte[]> samples(int count) {
+        return (1..count).collect { sample(it) }
+    }
+
+    protected static byte[] sample(int i) {
+        return ('{"order_id":' + i + ',"customer_name":"customer ' + (i * 7919) + '","status":"' + (i % 2 == 0 ? 'shipped' : 'pending') +
+                '","items":[{"sku":"sku-' + (i % 13) + '","quantity":' + (i % 5 + 1) + '}]}').getBytes(StandardCharsets.UTF_8)
+    }
+
+    static class MemoryDictionaryStore implements Redis4jDictionaryStore {
+        final Map<Integer, byte[]> dictionaries = [:]
+        Integer last
+
+        @Override
+        synchronized Integer current() {
+            return last
+        }
+
+        @Override
+        synchronized byte[] load(int id) {
+            return dictionaries[id]
+        }
+
+        @Override
+        synchronized int save(byte[] dictionary) {
+            int id = dictionaries.size() + 1
+            dictionaries[id] = dictionary
+            last = id
+            return id
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package org.redis4j.common
+
+import org.redis4j.model.Redis4jKey
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+
+class Redis4jKeySpaceTest extends Specification {
+
+    def "numeric ids are written as their decimal form"() {
+        given:
+        def space = Redis4jKeySpace.of("user", "profile")
+
+        when:
+        Redis4jKey key = space.key(id)
+
+        then:
+        key.toString() == "user:profile:" + id
+        key.bytes == ("user:profile:" + id).getBytes(StandardCharsets.UTF_8)
+        key.length() == ("user:profile:" + id).length()
+
+        where:
+        id << [0L, 7L, -7L, 9L, 10L, -10L, 99L, 100L, 1_234_567_890L, -1_234_567_890L, Long.MAX_VALUE, Long.MIN_VALUE, Long.MIN_VALUE + 1]
+    }
+
+    def "the digits of an id count its sign"() {
+        expect:
+        Redis4jKeySpace.digits(id) == String.valueOf(id).length()
+
+        where:
+        id << [0L, 1L, -1L, 9L, 10L, -10L, Long.MAX_VALUE, Long.MIN_VALUE]
+    }
+
+    def "string ids are appended as UTF-8"() {
+        expect:
+        Redis4jKeySpace.of("user").key("é1").bytes == "user:é1".getBytes(StandardCharsets.UTF_8)
+    }
+
+    def "keys of the same id are equal whatever their origin"() {
+        expect:
+        Redis4jKeySpace.of("user").key(42L) == Redis4jKey.of("user:42")
+        Redis4jKeySpace.of("user").key(42L) == Redis4jKeySpace.of("user").key("42")
+    }
+
+    def "segments are trimmed and joined"() {
+        when:
+        def space = Redis4jKeySpace.of(" user ", "profile").child("avatar")
+
+        then:
+        space.namespace == "user:profile:avatar"
+        space.pattern() == "user:profile:avatar:*"
+    }
+
+    def "empty segments are rejected"() {
+        when:
+        Redis4jKeySpace.of(segments as String[])
+
+        then:
+        thrown(IllegalArgumentException)
+
+        where:
+        segments << [[], ["user", ""], ["user", "  "]]
+    }
+}
@@ -0,0 +1,81 @@
+package org.redis4j.metrics
+
+import spock.lang.Specification
+
+class Redis4jLatencyHistogramTest extends Specification {
+
+    def "values below 64 have a bucket each"() {
+        expect:
+        (0..63).every { Redis4jLatencyHistogram.index(it) == it && Redis4jLatencyHistogram.highestEquivalent(it) == it }
+    }
+
+    def "every bucket starts right after the highest value of the previous one"() {
+        expect:
+        (0..<Redis4jLatencyHistogram.BUCKETS).every { int i ->
+            long highest = Redis4jLatencyHistogram.highestEquivalent(i)
+            Redis4jLatencyHistogram.index(highest) == i &&
+                    (i == Redis4jLatencyHistogram.BUCKETS - 1 || Redis4jLatencyHistogram.index(highest + 1) == i + 1)
+        }
+    }
+
+    def "the last bucket ends at the highest recordable value"() {
+        expect:
+        Redis4jLatencyHistogram.index(Redis4jLatencyHistogram.MAX_VALUE) == Redis4jLatencyHistogram.BUCKETS - 1
+        Redis4jLatencyHistogram.highestEquivalent(Redis4jLatencyHistogram.BUCKETS - 1) == Redis4jLatencyHistogram.MAX_VALUE
+    }
+
+    def "a value is known within about 3%"() {
+        expect:
+        long highest = Redis4jLatencyHistogram.highestEquivalent(Redis4jLatencyHistogram.index(value))
+        highest >= value
+        highest - value <= value / 32
+
+        where:
+        value << [64L, 65L, 100L, 1_000L, 12_345L, 1_000_000L, 987_654_321L, Redis4jLatencyHistogram.MAX_VALUE]
+    }
+
+    def "percentiles are read from the recorded values"() {
+        given:
+        def histogram = new Redis4jLatencyHistogram()
+
+        when:
+        (1..50).each { histogram.record(it) }
+
+        then:
+        histogram.count == 50
+        histogram.totalNanos == 1275
+        histogram.maxNanos == 50
+        histogram.percentile(0.5) == 25
+        histogram.percentiles(0.0, 0.9, 1.0) == [1L, 45L, 50L] as long[]
+    }
+
+    def "percentiles never exceed the highest recorded value"() {
+        given:
+        def histogram = new Redis4jLatencyHistogram()
+
+        when:
+        histogram.record(1_000_001)
+
+        then:
+        histogram.percentile(0.99) == 1_000_001
+    }
+
+    def "negative and oversized values are clamped"() {
+        given:
+        def histogram = new Redis4jLatencyHistogram()
+
+        when:
+        histogram.record(-5)
+        histogram.record(Long.MAX_VALUE)
+
+        then:
+        histogram.count == 2
+        histogram.percentile(0.5) == 0
+        histogram.maxNanos == Redis4jLatencyHistogram.MAX_VALUE
+    }
+
+    def "an empty histogram reports 0"() {
+        expect:
+        new Redis4jLatencyHistogram().percentiles(0.5, 0.99) == [0L, 0L] as long[]
+    }
+}